@@ -0,0 +1,169 @@
+package com.bestvike.linq;
+
+import com.bestvike.function.Action0;
+import com.bestvike.function.Func0;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+
+import java.util.Arrays;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+public abstract class ArrayPool {
+    // Only set while run or call executes and removed right after, so no thread keeps a pool, or this class, reachable.
+    private static final ThreadLocal<ArrayPool> scoped = new ThreadLocal<>();
+    private static volatile ArrayPool shared = create(1 << 12, 1);
+
+    protected ArrayPool() {
+    }
+
+    // The pool that toArray, toList, orderBy, reverse and the other buffering operators take scratch arrays from.
+    public static ArrayPool getShared() {
+        return shared;
+    }
+
+    public static void setShared(ArrayPool pool) {
+        if (pool == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.pool);
+        shared = pool;
+    }
+
+    // The pool of the innermost run or call on this thread, otherwise the shared pool.
+    public static ArrayPool current() {
+        ArrayPool pool = scoped.get();
+        return pool == null ? shared : pool;
+    }
+
+    // Runs action with pool as the current pool of this thread, so the queries it enumerates rent from pool.
+    public static void run(ArrayPool pool, Action0 action) {
+        if (pool == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.pool);
+        if (action == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.action);
+
+        ArrayPool previous = scoped.get();
+        scoped.set(pool);
+        try {
+            action.apply();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    // Calls func with pool as the current pool of this thread. A query returned lazily rents from the pool current when
+    // it is enumerated, so enumerate it inside func.
+    public static <T> T call(ArrayPool pool, Func0<T> func) {
+        if (pool == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.pool);
+        if (func == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.func);
+
+        ArrayPool previous = scoped.get();
+        scoped.set(pool);
+        try {
+            return func.apply();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    private static void restore(ArrayPool previous) {
+        if (previous == null)
+            scoped.remove();
+        else
+            scoped.set(previous);
+    }
+
+    // Keeps up to maxArraysPerLength arrays of every power of two length from 16 to maxArrayLength in each of a few
+    // stripes, at most 16, that threads share. Everything kept is reachable from the pool only, so dropping the pool frees it.
+    public static ArrayPool create(int maxArrayLength, int maxArraysPerLength) {
+        if (maxArrayLength < 0)
+            ThrowHelper.throwArgumentOutOfRangeException(ExceptionArgument.maxArrayLength);
+        if (maxArraysPerLength < 0)
+            ThrowHelper.throwArgumentOutOfRangeException(ExceptionArgument.maxArraysPerLength);
+        return new StripedArrayPool(maxArrayLength, maxArraysPerLength);
+    }
+
+    // Returns an array of exactly length elements, all null.
+    public abstract Object[] rent(int length);
+
+    // Takes back an array nobody references anymore, rented or not. The pool may keep it for a later rent.
+    public abstract void release(Object[] array);
+}
+
+
+// Threads pick a stripe by id, so a thread always hits the same stripe and contention stays low without thread locals.
+final class StripedArrayPool extends ArrayPool {
+    private static final int MIN_LENGTH = 16;
+    private static final int MAX_STRIPES = 16;
+    private final int maxArrayLength;
+    private final int maxArraysPerLength;
+    private final Bucket[][] stripes;
+
+    StripedArrayPool(int maxArrayLength, int maxArraysPerLength) {
+        this.maxArrayLength = maxArrayLength;
+        this.maxArraysPerLength = maxArraysPerLength;
+        int bucketCount = maxArrayLength < MIN_LENGTH ? 0 : Integer.numberOfTrailingZeros(Integer.highestOneBit(maxArrayLength)) - Integer.numberOfTrailingZeros(MIN_LENGTH) + 1;
+        int stripeCount = Math.min(MAX_STRIPES, Integer.highestOneBit(Runtime.getRuntime().availableProcessors()));
+        this.stripes = new Bucket[stripeCount][];
+        for (int i = 0; i < stripeCount; i++) {
+            Bucket[] buckets = new Bucket[bucketCount];
+            for (int j = 0; j < bucketCount; j++)
+                buckets[j] = new Bucket(maxArraysPerLength);
+            this.stripes[i] = buckets;
+        }
+    }
+
+    // Only power of two lengths are pooled, others are neither kept nor served.
+    private int bucketIndex(int length) {
+        if (length < MIN_LENGTH || length > this.maxArrayLength || (length & (length - 1)) != 0)
+            return -1;
+        return Integer.numberOfTrailingZeros(length) - Integer.numberOfTrailingZeros(MIN_LENGTH);
+    }
+
+    private Bucket bucket(int index) {
+        return this.stripes[(int) Thread.currentThread().getId() & (this.stripes.length - 1)][index];
+    }
+
+    @Override
+    public Object[] rent(int length) {
+        int index = this.bucketIndex(length);
+        if (index == -1 || this.maxArraysPerLength == 0)
+            return new Object[length];
+        Object[] array = this.bucket(index).take();
+        return array == null ? new Object[length] : array;
+    }
+
+    @Override
+    public void release(Object[] array) {
+        int index = this.bucketIndex(array.length);
+        if (index == -1 || this.maxArraysPerLength == 0)
+            return;
+        Arrays.fill(array, null);
+        this.bucket(index).put(array);
+    }
+
+
+    private static final class Bucket {
+        private final Object[][] arrays;
+        private int count;
+
+        Bucket(int capacity) {
+            this.arrays = new Object[capacity][];
+        }
+
+        synchronized Object[] take() {
+            if (this.count == 0)
+                return null;
+            Object[] array = this.arrays[--this.count];
+            this.arrays[this.count] = null;
+            return array;
+        }
+
+        synchronized void put(Object[] array) {
+            if (this.count < this.arrays.length)
+                this.arrays[this.count++] = array;
+        }
+    }
+}
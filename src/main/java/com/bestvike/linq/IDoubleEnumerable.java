@@ -0,0 +1,64 @@
+package com.bestvike.linq;
+
+import com.bestvike.linq.enumerable.DoubleEnumerable;
+
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+public interface IDoubleEnumerable {
+    IDoubleEnumerator enumerator();
+
+    default double average() {
+        return DoubleEnumerable.average(this);
+    }
+
+    default IEnumerable<Double> boxed() {
+        return DoubleEnumerable.boxed(this);
+    }
+
+    default int count() {
+        return DoubleEnumerable.count(this);
+    }
+
+    default void forEach(DoubleConsumer action) {
+        DoubleEnumerable.forEach(this, action);
+    }
+
+    default double max() {
+        return DoubleEnumerable.max(this);
+    }
+
+    default double min() {
+        return DoubleEnumerable.min(this);
+    }
+
+    default IDoubleEnumerable select(DoubleUnaryOperator selector) {
+        return DoubleEnumerable.select(this, selector);
+    }
+
+    default IIntEnumerable selectInt(DoubleToIntFunction selector) {
+        return DoubleEnumerable.selectInt(this, selector);
+    }
+
+    default ILongEnumerable selectLong(DoubleToLongFunction selector) {
+        return DoubleEnumerable.selectLong(this, selector);
+    }
+
+    default double sum() {
+        return DoubleEnumerable.sum(this);
+    }
+
+    default double[] toArray() {
+        return DoubleEnumerable.toArray(this);
+    }
+
+    default IDoubleEnumerable where(DoublePredicate predicate) {
+        return DoubleEnumerable.where(this, predicate);
+    }
+}
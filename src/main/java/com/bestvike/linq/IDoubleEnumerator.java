@@ -0,0 +1,15 @@
+package com.bestvike.linq;
+
+import com.bestvike.IDisposable;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+public interface IDoubleEnumerator extends IDisposable {
+    boolean moveNext();
+
+    double current();
+
+    @Override
+    void close();
+}
@@ -21,30 +21,40 @@ import com.bestvike.function.Predicate1;
 import com.bestvike.linq.enumerable.Aggregate;
 import com.bestvike.linq.enumerable.AnyAll;
 import com.bestvike.linq.enumerable.AppendPrepend;
+import com.bestvike.linq.enumerable.AsParallel;
 import com.bestvike.linq.enumerable.Average;
 import com.bestvike.linq.enumerable.Cast;
+import com.bestvike.linq.enumerable.Compile;
 import com.bestvike.linq.enumerable.Concat;
 import com.bestvike.linq.enumerable.Contains;
 import com.bestvike.linq.enumerable.Count;
 import com.bestvike.linq.enumerable.DefaultIfEmpty;
 import com.bestvike.linq.enumerable.Distinct;
 import com.bestvike.linq.enumerable.DistinctBy;
+import com.bestvike.linq.enumerable.DoubleEnumerable;
 import com.bestvike.linq.enumerable.ElementAt;
 import com.bestvike.linq.enumerable.Except;
 import com.bestvike.linq.enumerable.ExceptBy;
 import com.bestvike.linq.enumerable.FindIndex;
 import com.bestvike.linq.enumerable.First;
+import com.bestvike.linq.enumerable.ForEach;
 import com.bestvike.linq.enumerable.Format;
 import com.bestvike.linq.enumerable.GroupBy;
 import com.bestvike.linq.enumerable.GroupJoin;
 import com.bestvike.linq.enumerable.IndexOf;
+import com.bestvike.linq.enumerable.IntEnumerable;
 import com.bestvike.linq.enumerable.Intersect;
 import com.bestvike.linq.enumerable.IntersectBy;
 import com.bestvike.linq.enumerable.Join;
 import com.bestvike.linq.enumerable.Joining;
 import com.bestvike.linq.enumerable.Last;
+import com.bestvike.linq.enumerable.LongEnumerable;
 import com.bestvike.linq.enumerable.Max;
 import com.bestvike.linq.enumerable.MaxBy;
+import com.bestvike.linq.enumerable.MergeExcept;
+import com.bestvike.linq.enumerable.MergeIntersect;
+import com.bestvike.linq.enumerable.MergeJoin;
+import com.bestvike.linq.enumerable.MergeUnion;
 import com.bestvike.linq.enumerable.Min;
 import com.bestvike.linq.enumerable.MinBy;
 import com.bestvike.linq.enumerable.OrderBy;
@@ -56,6 +66,9 @@ import com.bestvike.linq.enumerable.SequenceEqual;
 import com.bestvike.linq.enumerable.Shuffle;
 import com.bestvike.linq.enumerable.Single;
 import com.bestvike.linq.enumerable.Skip;
+import com.bestvike.linq.enumerable.SpillGroupBy;
+import com.bestvike.linq.enumerable.SpillJoin;
+import com.bestvike.linq.enumerable.SpillOrderBy;
 import com.bestvike.linq.enumerable.Sum;
 import com.bestvike.linq.enumerable.Take;
 import com.bestvike.linq.enumerable.ToCollection;
@@ -96,12 +109,7 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
     }
 
     default void forEach(Consumer<? super TSource> action) {
-        if (action == null)
-            ThrowHelper.throwArgumentNullException(ExceptionArgument.action);
-        try (IEnumerator<TSource> e = this.enumerator()) {
-            while (e.moveNext())
-                action.accept(e.current());
-        }
+        ForEach.forEach(this, (Consumer<TSource>) action);
     }
 
     default Spliterator<TSource> spliterator() {
@@ -152,6 +160,10 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return (IEnumerable<TResult>) this;
     }
 
+    default IParallelEnumerable<TSource> asParallel() {
+        return AsParallel.asParallel(this);
+    }
+
     default double averageInt() {
         return Average.averageInt((IEnumerable<Integer>) this);
     }
@@ -236,6 +248,10 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return Cast.cast(this, clazz);
     }
 
+    default IEnumerable<TSource> compile() {
+        return Compile.compile(this);
+    }
+
     default IEnumerable<TSource> concat(IEnumerable<? extends TSource> second) {
         return Concat.concat(this, (IEnumerable<TSource>) second);
     }
@@ -388,6 +404,22 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return GroupBy.groupBy(this, (Func1<TSource, TKey>) keySelector, (Func1<TSource, TElement>) elementSelector, (Func2<TKey, IEnumerable<TElement>, TResult>) resultSelector, (IEqualityComparer<TKey>) comparer);
     }
 
+    default IEnumerable<IGrouping<Integer, TSource>> groupByInt(IntFunc1<? super TSource> keySelector) {
+        return GroupBy.groupByInt(this, (IntFunc1<TSource>) keySelector);
+    }
+
+    default <TElement> IEnumerable<IGrouping<Integer, TElement>> groupByInt(IntFunc1<? super TSource> keySelector, Func1<? super TSource, ? extends TElement> elementSelector) {
+        return GroupBy.groupByInt(this, (IntFunc1<TSource>) keySelector, (Func1<TSource, TElement>) elementSelector);
+    }
+
+    default IEnumerable<IGrouping<Long, TSource>> groupByLong(LongFunc1<? super TSource> keySelector) {
+        return GroupBy.groupByLong(this, (LongFunc1<TSource>) keySelector);
+    }
+
+    default <TElement> IEnumerable<IGrouping<Long, TElement>> groupByLong(LongFunc1<? super TSource> keySelector, Func1<? super TSource, ? extends TElement> elementSelector) {
+        return GroupBy.groupByLong(this, (LongFunc1<TSource>) keySelector, (Func1<TSource, TElement>) elementSelector);
+    }
+
     default <TInner, TKey, TResult> IEnumerable<TResult> groupJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super IEnumerable<TInner>, ? extends TResult> resultSelector) {
         return GroupJoin.groupJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, IEnumerable<TInner>, TResult>) resultSelector);
     }
@@ -428,6 +460,14 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return Join.join(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector, (IEqualityComparer<TKey>) comparer);
     }
 
+    default <TInner, TResult> IEnumerable<TResult> joinInt(IEnumerable<? extends TInner> inner, IntFunc1<? super TSource> outerKeySelector, IntFunc1<? super TInner> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector) {
+        return Join.joinInt(this, (IEnumerable<TInner>) inner, (IntFunc1<TSource>) outerKeySelector, (IntFunc1<TInner>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector);
+    }
+
+    default <TInner, TResult> IEnumerable<TResult> joinLong(IEnumerable<? extends TInner> inner, LongFunc1<? super TSource> outerKeySelector, LongFunc1<? super TInner> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector) {
+        return Join.joinLong(this, (IEnumerable<TInner>) inner, (LongFunc1<TSource>) outerKeySelector, (LongFunc1<TInner>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector);
+    }
+
     default String joining() {
         return Joining.joining(this);
     }
@@ -672,6 +712,86 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return Min.minDecimalNull((IEnumerable<BigDecimal>) this);
     }
 
+    default <TKey> IEnumerable<TSource> mergeExcept(IEnumerable<? extends TSource> second, Func1<? super TSource, ? extends TKey> keySelector) {
+        return MergeExcept.mergeExcept(this, (IEnumerable<TSource>) second, (Func1<TSource, TKey>) keySelector);
+    }
+
+    default <TKey> IEnumerable<TSource> mergeExcept(IEnumerable<? extends TSource> second, Func1<? super TSource, ? extends TKey> keySelector, Comparator<? super TKey> comparer) {
+        return MergeExcept.mergeExcept(this, (IEnumerable<TSource>) second, (Func1<TSource, TKey>) keySelector, (Comparator<TKey>) comparer);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> mergeFullJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector) {
+        return MergeJoin.mergeFullJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> mergeFullJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TSource defaultOuter, TInner defaultInner, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector) {
+        return MergeJoin.mergeFullJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, defaultOuter, defaultInner, (Func2<TSource, TInner, TResult>) resultSelector);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> mergeFullJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, Comparator<? super TKey> comparer) {
+        return MergeJoin.mergeFullJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector, (Comparator<TKey>) comparer);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> mergeFullJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TSource defaultOuter, TInner defaultInner, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, Comparator<? super TKey> comparer) {
+        return MergeJoin.mergeFullJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, defaultOuter, defaultInner, (Func2<TSource, TInner, TResult>) resultSelector, (Comparator<TKey>) comparer);
+    }
+
+    default <TKey> IEnumerable<TSource> mergeIntersect(IEnumerable<? extends TSource> second, Func1<? super TSource, ? extends TKey> keySelector) {
+        return MergeIntersect.mergeIntersect(this, (IEnumerable<TSource>) second, (Func1<TSource, TKey>) keySelector);
+    }
+
+    default <TKey> IEnumerable<TSource> mergeIntersect(IEnumerable<? extends TSource> second, Func1<? super TSource, ? extends TKey> keySelector, Comparator<? super TKey> comparer) {
+        return MergeIntersect.mergeIntersect(this, (IEnumerable<TSource>) second, (Func1<TSource, TKey>) keySelector, (Comparator<TKey>) comparer);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> mergeJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector) {
+        return MergeJoin.mergeJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> mergeJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, Comparator<? super TKey> comparer) {
+        return MergeJoin.mergeJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector, (Comparator<TKey>) comparer);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> mergeLeftJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector) {
+        return MergeJoin.mergeLeftJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> mergeLeftJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TInner defaultInner, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector) {
+        return MergeJoin.mergeLeftJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, defaultInner, (Func2<TSource, TInner, TResult>) resultSelector);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> mergeLeftJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, Comparator<? super TKey> comparer) {
+        return MergeJoin.mergeLeftJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector, (Comparator<TKey>) comparer);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> mergeLeftJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TInner defaultInner, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, Comparator<? super TKey> comparer) {
+        return MergeJoin.mergeLeftJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, defaultInner, (Func2<TSource, TInner, TResult>) resultSelector, (Comparator<TKey>) comparer);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> mergeRightJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector) {
+        return MergeJoin.mergeRightJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> mergeRightJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TSource defaultOuter, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector) {
+        return MergeJoin.mergeRightJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, defaultOuter, (Func2<TSource, TInner, TResult>) resultSelector);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> mergeRightJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, Comparator<? super TKey> comparer) {
+        return MergeJoin.mergeRightJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector, (Comparator<TKey>) comparer);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> mergeRightJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TSource defaultOuter, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, Comparator<? super TKey> comparer) {
+        return MergeJoin.mergeRightJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, defaultOuter, (Func2<TSource, TInner, TResult>) resultSelector, (Comparator<TKey>) comparer);
+    }
+
+    default <TKey> IEnumerable<TSource> mergeUnion(IEnumerable<? extends TSource> second, Func1<? super TSource, ? extends TKey> keySelector) {
+        return MergeUnion.mergeUnion(this, (IEnumerable<TSource>) second, (Func1<TSource, TKey>) keySelector);
+    }
+
+    default <TKey> IEnumerable<TSource> mergeUnion(IEnumerable<? extends TSource> second, Func1<? super TSource, ? extends TKey> keySelector, Comparator<? super TKey> comparer) {
+        return MergeUnion.mergeUnion(this, (IEnumerable<TSource>) second, (Func1<TSource, TKey>) keySelector, (Comparator<TKey>) comparer);
+    }
+
     default TSource min() {
         return Min.min(this);
     }
@@ -796,6 +916,30 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return OrderBy.orderByDescending(this, (Func1<TSource, TKey>) keySelector, (Comparator<TKey>) comparer);
     }
 
+    default IOrderedEnumerable<TSource> orderByDouble(DoubleFunc1<? super TSource> keySelector) {
+        return OrderBy.orderByDouble(this, (DoubleFunc1<TSource>) keySelector);
+    }
+
+    default IOrderedEnumerable<TSource> orderByDoubleDescending(DoubleFunc1<? super TSource> keySelector) {
+        return OrderBy.orderByDoubleDescending(this, (DoubleFunc1<TSource>) keySelector);
+    }
+
+    default IOrderedEnumerable<TSource> orderByInt(IntFunc1<? super TSource> keySelector) {
+        return OrderBy.orderByInt(this, (IntFunc1<TSource>) keySelector);
+    }
+
+    default IOrderedEnumerable<TSource> orderByIntDescending(IntFunc1<? super TSource> keySelector) {
+        return OrderBy.orderByIntDescending(this, (IntFunc1<TSource>) keySelector);
+    }
+
+    default IOrderedEnumerable<TSource> orderByLong(LongFunc1<? super TSource> keySelector) {
+        return OrderBy.orderByLong(this, (LongFunc1<TSource>) keySelector);
+    }
+
+    default IOrderedEnumerable<TSource> orderByLongDescending(LongFunc1<? super TSource> keySelector) {
+        return OrderBy.orderByLongDescending(this, (LongFunc1<TSource>) keySelector);
+    }
+
     default IEnumerable<TSource> prepend(TSource element) {
         return AppendPrepend.prepend(this, element);
     }
@@ -832,6 +976,18 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return Select.select(this, (IndexFunc2<TSource, TResult>) selector);
     }
 
+    default IIntEnumerable selectInt(IntFunc1<? super TSource> selector) {
+        return IntEnumerable.selectInt(this, (IntFunc1<TSource>) selector);
+    }
+
+    default ILongEnumerable selectLong(LongFunc1<? super TSource> selector) {
+        return LongEnumerable.selectLong(this, (LongFunc1<TSource>) selector);
+    }
+
+    default IDoubleEnumerable selectDouble(DoubleFunc1<? super TSource> selector) {
+        return DoubleEnumerable.selectDouble(this, (DoubleFunc1<TSource>) selector);
+    }
+
     default <TResult> IEnumerable<TResult> selectMany(Func1<? super TSource, ? extends IEnumerable<? extends TResult>> selector) {
         return SelectMany.selectMany(this, (Func1<TSource, IEnumerable<TResult>>) selector);
     }
@@ -896,6 +1052,94 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return Skip.skipWhile(this, (IndexPredicate2<TSource>) predicate);
     }
 
+    default <TInner, TKey, TResult> IEnumerable<TResult> spillFullJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, ISerializer<TSource> outerSerializer, ISerializer<TInner> innerSerializer, SpillOptions options) {
+        return SpillJoin.spillFullJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector, outerSerializer, innerSerializer, options);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> spillFullJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TSource defaultOuter, TInner defaultInner, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, ISerializer<TSource> outerSerializer, ISerializer<TInner> innerSerializer, SpillOptions options) {
+        return SpillJoin.spillFullJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, defaultOuter, defaultInner, (Func2<TSource, TInner, TResult>) resultSelector, outerSerializer, innerSerializer, options);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> spillFullJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, ISerializer<TSource> outerSerializer, ISerializer<TInner> innerSerializer, SpillOptions options, IEqualityComparer<? super TKey> comparer) {
+        return SpillJoin.spillFullJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector, outerSerializer, innerSerializer, options, (IEqualityComparer<TKey>) comparer);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> spillFullJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TSource defaultOuter, TInner defaultInner, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, ISerializer<TSource> outerSerializer, ISerializer<TInner> innerSerializer, SpillOptions options, IEqualityComparer<? super TKey> comparer) {
+        return SpillJoin.spillFullJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, defaultOuter, defaultInner, (Func2<TSource, TInner, TResult>) resultSelector, outerSerializer, innerSerializer, options, (IEqualityComparer<TKey>) comparer);
+    }
+
+    default <TKey> IEnumerable<IGrouping<TKey, TSource>> spillGroupBy(Func1<? super TSource, ? extends TKey> keySelector, ISerializer<TSource> serializer, SpillOptions options) {
+        return SpillGroupBy.spillGroupBy(this, (Func1<TSource, TKey>) keySelector, serializer, options);
+    }
+
+    default <TKey> IEnumerable<IGrouping<TKey, TSource>> spillGroupBy(Func1<? super TSource, ? extends TKey> keySelector, ISerializer<TSource> serializer, SpillOptions options, IEqualityComparer<? super TKey> comparer) {
+        return SpillGroupBy.spillGroupBy(this, (Func1<TSource, TKey>) keySelector, serializer, options, (IEqualityComparer<TKey>) comparer);
+    }
+
+    default <TKey, TElement> IEnumerable<IGrouping<TKey, TElement>> spillGroupBy(Func1<? super TSource, ? extends TKey> keySelector, Func1<? super TSource, ? extends TElement> elementSelector, ISerializer<TSource> serializer, SpillOptions options) {
+        return SpillGroupBy.spillGroupBy(this, (Func1<TSource, TKey>) keySelector, (Func1<TSource, TElement>) elementSelector, serializer, options);
+    }
+
+    default <TKey, TElement> IEnumerable<IGrouping<TKey, TElement>> spillGroupBy(Func1<? super TSource, ? extends TKey> keySelector, Func1<? super TSource, ? extends TElement> elementSelector, ISerializer<TSource> serializer, SpillOptions options, IEqualityComparer<? super TKey> comparer) {
+        return SpillGroupBy.spillGroupBy(this, (Func1<TSource, TKey>) keySelector, (Func1<TSource, TElement>) elementSelector, serializer, options, (IEqualityComparer<TKey>) comparer);
+    }
+
+    default <TKey, TResult> IEnumerable<TResult> spillGroupBy(Func1<? super TSource, ? extends TKey> keySelector, Func2<? super TKey, ? super IEnumerable<TSource>, ? extends TResult> resultSelector, ISerializer<TSource> serializer, SpillOptions options) {
+        return SpillGroupBy.spillGroupBy(this, (Func1<TSource, TKey>) keySelector, (Func2<TKey, IEnumerable<TSource>, TResult>) resultSelector, serializer, options);
+    }
+
+    default <TKey, TResult> IEnumerable<TResult> spillGroupBy(Func1<? super TSource, ? extends TKey> keySelector, Func2<? super TKey, ? super IEnumerable<TSource>, ? extends TResult> resultSelector, ISerializer<TSource> serializer, SpillOptions options, IEqualityComparer<? super TKey> comparer) {
+        return SpillGroupBy.spillGroupBy(this, (Func1<TSource, TKey>) keySelector, (Func2<TKey, IEnumerable<TSource>, TResult>) resultSelector, serializer, options, (IEqualityComparer<TKey>) comparer);
+    }
+
+    default <TKey, TElement, TResult> IEnumerable<TResult> spillGroupBy(Func1<? super TSource, ? extends TKey> keySelector, Func1<? super TSource, ? extends TElement> elementSelector, Func2<? super TKey, ? super IEnumerable<TElement>, ? extends TResult> resultSelector, ISerializer<TSource> serializer, SpillOptions options) {
+        return SpillGroupBy.spillGroupBy(this, (Func1<TSource, TKey>) keySelector, (Func1<TSource, TElement>) elementSelector, (Func2<TKey, IEnumerable<TElement>, TResult>) resultSelector, serializer, options);
+    }
+
+    default <TKey, TElement, TResult> IEnumerable<TResult> spillGroupBy(Func1<? super TSource, ? extends TKey> keySelector, Func1<? super TSource, ? extends TElement> elementSelector, Func2<? super TKey, ? super IEnumerable<TElement>, ? extends TResult> resultSelector, ISerializer<TSource> serializer, SpillOptions options, IEqualityComparer<? super TKey> comparer) {
+        return SpillGroupBy.spillGroupBy(this, (Func1<TSource, TKey>) keySelector, (Func1<TSource, TElement>) elementSelector, (Func2<TKey, IEnumerable<TElement>, TResult>) resultSelector, serializer, options, (IEqualityComparer<TKey>) comparer);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> spillJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, ISerializer<TSource> outerSerializer, ISerializer<TInner> innerSerializer, SpillOptions options) {
+        return SpillJoin.spillJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector, outerSerializer, innerSerializer, options);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> spillJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, ISerializer<TSource> outerSerializer, ISerializer<TInner> innerSerializer, SpillOptions options, IEqualityComparer<? super TKey> comparer) {
+        return SpillJoin.spillJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector, outerSerializer, innerSerializer, options, (IEqualityComparer<TKey>) comparer);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> spillLeftJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, ISerializer<TSource> outerSerializer, ISerializer<TInner> innerSerializer, SpillOptions options) {
+        return SpillJoin.spillLeftJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector, outerSerializer, innerSerializer, options);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> spillLeftJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TInner defaultInner, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, ISerializer<TSource> outerSerializer, ISerializer<TInner> innerSerializer, SpillOptions options) {
+        return SpillJoin.spillLeftJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, defaultInner, (Func2<TSource, TInner, TResult>) resultSelector, outerSerializer, innerSerializer, options);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> spillLeftJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, ISerializer<TSource> outerSerializer, ISerializer<TInner> innerSerializer, SpillOptions options, IEqualityComparer<? super TKey> comparer) {
+        return SpillJoin.spillLeftJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TSource, TInner, TResult>) resultSelector, outerSerializer, innerSerializer, options, (IEqualityComparer<TKey>) comparer);
+    }
+
+    default <TInner, TKey, TResult> IEnumerable<TResult> spillLeftJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TInner defaultInner, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, ISerializer<TSource> outerSerializer, ISerializer<TInner> innerSerializer, SpillOptions options, IEqualityComparer<? super TKey> comparer) {
+        return SpillJoin.spillLeftJoin(this, (IEnumerable<TInner>) inner, (Func1<TSource, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, defaultInner, (Func2<TSource, TInner, TResult>) resultSelector, outerSerializer, innerSerializer, options, (IEqualityComparer<TKey>) comparer);
+    }
+
+    default <TKey> IOrderedEnumerable<TSource> spillOrderBy(Func1<? super TSource, ? extends TKey> keySelector, ISerializer<TSource> serializer, SpillOptions options) {
+        return SpillOrderBy.spillOrderBy(this, (Func1<TSource, TKey>) keySelector, serializer, options);
+    }
+
+    default <TKey> IOrderedEnumerable<TSource> spillOrderBy(Func1<? super TSource, ? extends TKey> keySelector, ISerializer<TSource> serializer, SpillOptions options, Comparator<? super TKey> comparer) {
+        return SpillOrderBy.spillOrderBy(this, (Func1<TSource, TKey>) keySelector, serializer, options, (Comparator<TKey>) comparer);
+    }
+
+    default <TKey> IOrderedEnumerable<TSource> spillOrderByDescending(Func1<? super TSource, ? extends TKey> keySelector, ISerializer<TSource> serializer, SpillOptions options) {
+        return SpillOrderBy.spillOrderByDescending(this, (Func1<TSource, TKey>) keySelector, serializer, options);
+    }
+
+    default <TKey> IOrderedEnumerable<TSource> spillOrderByDescending(Func1<? super TSource, ? extends TKey> keySelector, ISerializer<TSource> serializer, SpillOptions options, Comparator<? super TKey> comparer) {
+        return SpillOrderBy.spillOrderByDescending(this, (Func1<TSource, TKey>) keySelector, serializer, options, (Comparator<TKey>) comparer);
+    }
+
     default int sumInt() {
         return Sum.sumInt((IEnumerable<Integer>) this);
     }
@@ -1049,6 +1293,22 @@ public interface IEnumerable<TSource> extends Iterable<TSource> {
         return ToLookup.toLookup(this, (Func1<TSource, TKey>) keySelector, (Func1<TSource, TElement>) elementSelector, (IEqualityComparer<TKey>) comparer);
     }
 
+    default ILookup<Integer, TSource> toLookupInt(IntFunc1<? super TSource> keySelector) {
+        return ToLookup.toLookupInt(this, (IntFunc1<TSource>) keySelector);
+    }
+
+    default <TElement> ILookup<Integer, TElement> toLookupInt(IntFunc1<? super TSource> keySelector, Func1<? super TSource, ? extends TElement> elementSelector) {
+        return ToLookup.toLookupInt(this, (IntFunc1<TSource>) keySelector, (Func1<TSource, TElement>) elementSelector);
+    }
+
+    default ILookup<Long, TSource> toLookupLong(LongFunc1<? super TSource> keySelector) {
+        return ToLookup.toLookupLong(this, (LongFunc1<TSource>) keySelector);
+    }
+
+    default <TElement> ILookup<Long, TElement> toLookupLong(LongFunc1<? super TSource> keySelector, Func1<? super TSource, ? extends TElement> elementSelector) {
+        return ToLookup.toLookupLong(this, (LongFunc1<TSource>) keySelector, (Func1<TSource, TElement>) elementSelector);
+    }
+
     default <TKey> Map<TKey, TSource> toMap(Func1<? super TSource, ? extends TKey> keySelector) {
         return ToCollection.toMap(this, (Func1<TSource, TKey>) keySelector);
     }
@@ -13,6 +13,18 @@ public interface IEnumerator<T> extends Iterator<T>, IDisposable {
 
     T current();
 
+    // Copies up to count (at least 1) of the following elements into buffer from offset and returns how many were copied.
+    // Returns 0 only when there are no more elements, then the enumerator is closed. current() is unspecified afterwards.
+    // Enumerators over arrays and iterables and the iterators of select, where, concat, skip and take copy in one loop,
+    // without a moveNext and current call per element. Batches read ahead, so callers that run user code on the elements
+    // of a collection should move element by element to keep its fail fast checks in step.
+    default int moveNextBatch(Object[] buffer, int offset, int count) {
+        int copied = 0;
+        while (copied < count && this.moveNext())
+            buffer[offset + copied++] = this.current();
+        return copied;
+    }
+
     boolean hasNext();
 
     T next();
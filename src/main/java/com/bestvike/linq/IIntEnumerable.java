@@ -0,0 +1,64 @@
+package com.bestvike.linq;
+
+import com.bestvike.linq.enumerable.IntEnumerable;
+
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+public interface IIntEnumerable {
+    IIntEnumerator enumerator();
+
+    default double average() {
+        return IntEnumerable.average(this);
+    }
+
+    default IEnumerable<Integer> boxed() {
+        return IntEnumerable.boxed(this);
+    }
+
+    default int count() {
+        return IntEnumerable.count(this);
+    }
+
+    default void forEach(IntConsumer action) {
+        IntEnumerable.forEach(this, action);
+    }
+
+    default int max() {
+        return IntEnumerable.max(this);
+    }
+
+    default int min() {
+        return IntEnumerable.min(this);
+    }
+
+    default IIntEnumerable select(IntUnaryOperator selector) {
+        return IntEnumerable.select(this, selector);
+    }
+
+    default ILongEnumerable selectLong(IntToLongFunction selector) {
+        return IntEnumerable.selectLong(this, selector);
+    }
+
+    default IDoubleEnumerable selectDouble(IntToDoubleFunction selector) {
+        return IntEnumerable.selectDouble(this, selector);
+    }
+
+    default int sum() {
+        return IntEnumerable.sum(this);
+    }
+
+    default int[] toArray() {
+        return IntEnumerable.toArray(this);
+    }
+
+    default IIntEnumerable where(IntPredicate predicate) {
+        return IntEnumerable.where(this, predicate);
+    }
+}
@@ -0,0 +1,15 @@
+package com.bestvike.linq;
+
+import com.bestvike.IDisposable;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+public interface IIntEnumerator extends IDisposable {
+    boolean moveNext();
+
+    int current();
+
+    @Override
+    void close();
+}
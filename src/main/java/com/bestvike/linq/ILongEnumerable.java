@@ -0,0 +1,64 @@
+package com.bestvike.linq;
+
+import com.bestvike.linq.enumerable.LongEnumerable;
+
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+public interface ILongEnumerable {
+    ILongEnumerator enumerator();
+
+    default double average() {
+        return LongEnumerable.average(this);
+    }
+
+    default IEnumerable<Long> boxed() {
+        return LongEnumerable.boxed(this);
+    }
+
+    default int count() {
+        return LongEnumerable.count(this);
+    }
+
+    default void forEach(LongConsumer action) {
+        LongEnumerable.forEach(this, action);
+    }
+
+    default long max() {
+        return LongEnumerable.max(this);
+    }
+
+    default long min() {
+        return LongEnumerable.min(this);
+    }
+
+    default ILongEnumerable select(LongUnaryOperator selector) {
+        return LongEnumerable.select(this, selector);
+    }
+
+    default IIntEnumerable selectInt(LongToIntFunction selector) {
+        return LongEnumerable.selectInt(this, selector);
+    }
+
+    default IDoubleEnumerable selectDouble(LongToDoubleFunction selector) {
+        return LongEnumerable.selectDouble(this, selector);
+    }
+
+    default long sum() {
+        return LongEnumerable.sum(this);
+    }
+
+    default long[] toArray() {
+        return LongEnumerable.toArray(this);
+    }
+
+    default ILongEnumerable where(LongPredicate predicate) {
+        return LongEnumerable.where(this, predicate);
+    }
+}
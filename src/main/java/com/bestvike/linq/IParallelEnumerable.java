@@ -0,0 +1,155 @@
+package com.bestvike.linq;
+
+import com.bestvike.collections.generic.IEqualityComparer;
+import com.bestvike.function.Action1;
+import com.bestvike.function.DoubleFunc1;
+import com.bestvike.function.Func0;
+import com.bestvike.function.Func1;
+import com.bestvike.function.Func2;
+import com.bestvike.function.IntFunc1;
+import com.bestvike.function.LongFunc1;
+import com.bestvike.function.Predicate1;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+public interface IParallelEnumerable<TSource> extends IEnumerable<TSource> {
+    IParallelEnumerable<TSource> asOrdered();
+
+    IParallelEnumerable<TSource> asUnordered();
+
+    IEnumerable<TSource> asSequential();
+
+    boolean isOrdered();
+
+    int getDegreeOfParallelism();
+
+    IParallelEnumerable<TSource> withDegreeOfParallelism(int degreeOfParallelism);
+
+    IParallelEnumerable<TSource> withPool(ForkJoinPool pool);
+
+    void forAll(Action1<? super TSource> action);
+
+    <TAccumulate> TAccumulate aggregate(Func0<? extends TAccumulate> seedFactory, Func2<? super TAccumulate, ? super TSource, ? extends TAccumulate> func, Func2<? super TAccumulate, ? super TAccumulate, ? extends TAccumulate> combineFunc);
+
+    <TAccumulate, TResult> TResult aggregate(Func0<? extends TAccumulate> seedFactory, Func2<? super TAccumulate, ? super TSource, ? extends TAccumulate> func, Func2<? super TAccumulate, ? super TAccumulate, ? extends TAccumulate> combineFunc, Func1<? super TAccumulate, ? extends TResult> resultSelector);
+
+    @Override
+    boolean all(Predicate1<? super TSource> predicate);
+
+    @Override
+    boolean any(Predicate1<? super TSource> predicate);
+
+    @Override
+    int count();
+
+    @Override
+    int count(Predicate1<? super TSource> predicate);
+
+    @Override
+    <TInner, TKey, TResult> IEnumerable<TResult> fullJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector);
+
+    @Override
+    <TInner, TKey, TResult> IEnumerable<TResult> fullJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TSource defaultOuter, TInner defaultInner, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector);
+
+    @Override
+    <TInner, TKey, TResult> IEnumerable<TResult> fullJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, IEqualityComparer<? super TKey> comparer);
+
+    @Override
+    <TInner, TKey, TResult> IEnumerable<TResult> fullJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TSource defaultOuter, TInner defaultInner, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, IEqualityComparer<? super TKey> comparer);
+
+    @Override
+    <TKey> IEnumerable<IGrouping<TKey, TSource>> groupBy(Func1<? super TSource, ? extends TKey> keySelector);
+
+    @Override
+    <TKey> IEnumerable<IGrouping<TKey, TSource>> groupBy(Func1<? super TSource, ? extends TKey> keySelector, IEqualityComparer<? super TKey> comparer);
+
+    @Override
+    <TKey, TElement> IEnumerable<IGrouping<TKey, TElement>> groupBy(Func1<? super TSource, ? extends TKey> keySelector, Func1<? super TSource, ? extends TElement> elementSelector);
+
+    @Override
+    <TKey, TElement> IEnumerable<IGrouping<TKey, TElement>> groupBy(Func1<? super TSource, ? extends TKey> keySelector, Func1<? super TSource, ? extends TElement> elementSelector, IEqualityComparer<? super TKey> comparer);
+
+    @Override
+    <TInner, TKey, TResult> IEnumerable<TResult> groupJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super IEnumerable<TInner>, ? extends TResult> resultSelector);
+
+    @Override
+    <TInner, TKey, TResult> IEnumerable<TResult> groupJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super IEnumerable<TInner>, ? extends TResult> resultSelector, IEqualityComparer<? super TKey> comparer);
+
+    @Override
+    <TInner, TKey, TResult> IEnumerable<TResult> join(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector);
+
+    @Override
+    <TInner, TKey, TResult> IEnumerable<TResult> join(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, IEqualityComparer<? super TKey> comparer);
+
+    @Override
+    <TInner, TKey, TResult> IEnumerable<TResult> leftJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector);
+
+    @Override
+    <TInner, TKey, TResult> IEnumerable<TResult> leftJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TInner defaultInner, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector);
+
+    @Override
+    <TInner, TKey, TResult> IEnumerable<TResult> leftJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, IEqualityComparer<? super TKey> comparer);
+
+    @Override
+    <TInner, TKey, TResult> IEnumerable<TResult> leftJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TInner defaultInner, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, IEqualityComparer<? super TKey> comparer);
+
+    @Override
+    long longCount();
+
+    @Override
+    long longCount(Predicate1<? super TSource> predicate);
+
+    @Override
+    <TInner, TKey, TResult> IEnumerable<TResult> rightJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector);
+
+    @Override
+    <TInner, TKey, TResult> IEnumerable<TResult> rightJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TSource defaultOuter, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector);
+
+    @Override
+    <TInner, TKey, TResult> IEnumerable<TResult> rightJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, IEqualityComparer<? super TKey> comparer);
+
+    @Override
+    <TInner, TKey, TResult> IEnumerable<TResult> rightJoin(IEnumerable<? extends TInner> inner, Func1<? super TSource, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TSource defaultOuter, Func2<? super TSource, ? super TInner, ? extends TResult> resultSelector, IEqualityComparer<? super TKey> comparer);
+
+    @Override
+    <TResult> IParallelEnumerable<TResult> select(Func1<? super TSource, ? extends TResult> selector);
+
+    @Override
+    <TResult> IParallelEnumerable<TResult> selectMany(Func1<? super TSource, ? extends IEnumerable<? extends TResult>> selector);
+
+    @Override
+    int sumInt();
+
+    @Override
+    long sumLong();
+
+    @Override
+    double sumDouble();
+
+    @Override
+    int sumInt(IntFunc1<? super TSource> selector);
+
+    @Override
+    long sumLong(LongFunc1<? super TSource> selector);
+
+    @Override
+    double sumDouble(DoubleFunc1<? super TSource> selector);
+
+    @Override
+    <TKey> ILookup<TKey, TSource> toLookup(Func1<? super TSource, ? extends TKey> keySelector);
+
+    @Override
+    <TKey> ILookup<TKey, TSource> toLookup(Func1<? super TSource, ? extends TKey> keySelector, IEqualityComparer<? super TKey> comparer);
+
+    @Override
+    <TKey, TElement> ILookup<TKey, TElement> toLookup(Func1<? super TSource, ? extends TKey> keySelector, Func1<? super TSource, ? extends TElement> elementSelector);
+
+    @Override
+    <TKey, TElement> ILookup<TKey, TElement> toLookup(Func1<? super TSource, ? extends TKey> keySelector, Func1<? super TSource, ? extends TElement> elementSelector, IEqualityComparer<? super TKey> comparer);
+
+    @Override
+    IParallelEnumerable<TSource> where(Predicate1<? super TSource> predicate);
+}
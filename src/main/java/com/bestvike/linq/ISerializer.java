@@ -0,0 +1,14 @@
+package com.bestvike.linq;
+
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+public interface ISerializer<T> {
+    void write(ObjectOutput output, T value) throws IOException;
+
+    T read(ObjectInput input) throws IOException;
+}
@@ -4,10 +4,13 @@ import com.bestvike.function.Func0;
 import com.bestvike.function.Func1;
 import com.bestvike.function.Predicate0;
 import com.bestvike.function.Predicate1;
+import com.bestvike.linq.enumerable.DoubleEnumerable;
 import com.bestvike.linq.enumerable.Enumerable;
 import com.bestvike.linq.enumerable.Enumerate;
 import com.bestvike.linq.enumerable.Infinite;
+import com.bestvike.linq.enumerable.IntEnumerable;
 import com.bestvike.linq.enumerable.Iterate;
+import com.bestvike.linq.enumerable.LongEnumerable;
 import com.bestvike.linq.enumerable.Loop;
 import com.bestvike.linq.enumerable.Range;
 import com.bestvike.linq.enumerable.Repeat;
@@ -118,6 +121,18 @@ public final class Linq {
         return Enumerable.of((Map<TKey, TValue>) source);
     }
 
+    public static IIntEnumerable ofInt(int[] source) {
+        return IntEnumerable.of(source);
+    }
+
+    public static ILongEnumerable ofLong(long[] source) {
+        return LongEnumerable.of(source);
+    }
+
+    public static IDoubleEnumerable ofDouble(double[] source) {
+        return DoubleEnumerable.of(source);
+    }
+
     public static <TSource> IEnumerable<TSource> as(Object source) {
         return Enumerable.as(source);
     }
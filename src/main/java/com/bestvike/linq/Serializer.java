@@ -0,0 +1,37 @@
+package com.bestvike.linq;
+
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+public final class Serializer<T> implements ISerializer<T> {
+    private static final Serializer<?> DEFAULT = new Serializer<>();
+
+    private Serializer() {
+    }
+
+    // Uses java serialization, elements must be null or Serializable.
+    public static <T> Serializer<T> Default() {
+        //noinspection unchecked
+        return (Serializer<T>) DEFAULT;
+    }
+
+    @Override
+    public void write(ObjectOutput output, T value) throws IOException {
+        output.writeObject(value);
+    }
+
+    @Override
+    public T read(ObjectInput input) throws IOException {
+        try {
+            //noinspection unchecked
+            return (T) input.readObject();
+        } catch (ClassNotFoundException e) {
+            throw new InvalidClassException(e.getMessage());
+        }
+    }
+}
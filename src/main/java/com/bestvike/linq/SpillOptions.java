@@ -0,0 +1,38 @@
+package com.bestvike.linq;
+
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+
+import java.io.File;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+public final class SpillOptions {
+    private final int memoryLimit;
+    private final File directory;
+
+    // Keeps at most memoryLimit elements in memory, spilled elements go to the default temporary directory.
+    public SpillOptions(int memoryLimit) {
+        this(memoryLimit, new File(System.getProperty("java.io.tmpdir")));
+    }
+
+    // Keeps at most memoryLimit elements in memory, spilled elements go to temporary files in directory.
+    public SpillOptions(int memoryLimit, File directory) {
+        if (memoryLimit < 1)
+            ThrowHelper.throwArgumentOutOfRangeException(ExceptionArgument.memoryLimit);
+        if (directory == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.directory);
+
+        this.memoryLimit = memoryLimit;
+        this.directory = directory;
+    }
+
+    public int getMemoryLimit() {
+        return this.memoryLimit;
+    }
+
+    public File getDirectory() {
+        return this.directory;
+    }
+}
@@ -1,16 +1,19 @@
 package com.bestvike.linq.adapter.enumerable;
 
-import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.adapter.enumerator.SpliteratorEnumerator;
+import com.bestvike.linq.enumerable.IIListProvider;
 import com.bestvike.linq.exception.ThrowHelper;
+import com.bestvike.linq.util.ArrayUtils;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Spliterator;
 
 /**
  * Created by 许崇雷 on 2019-07-30.
  */
-public final class SpliteratorEnumerable<TSource> implements IEnumerable<TSource> {
+public final class SpliteratorEnumerable<TSource> implements IIListProvider<TSource> {
     private final Spliterator<TSource> source;
     private boolean called;
 
@@ -18,11 +21,73 @@ public final class SpliteratorEnumerable<TSource> implements IEnumerable<TSource
         this.source = source;
     }
 
-    @Override
-    public IEnumerator<TSource> enumerator() {
+    private Spliterator<TSource> consume() {
         if (this.called)
             ThrowHelper.throwRepeatInvokeException();
         this.called = true;
-        return new SpliteratorEnumerator<>(this.source);
+        return this.source;
+    }
+
+    @Override
+    public IEnumerator<TSource> enumerator() {
+        return new SpliteratorEnumerator<>(this.consume());
+    }
+
+    @Override
+    public TSource[] _toArray(Class<TSource> clazz) {
+        Spliterator<TSource> spliterator = this.consume();
+        long size = spliterator.getExactSizeIfKnown();
+        if (size >= 0) {
+            TSource[] array = ArrayUtils.newInstance(clazz, Math.toIntExact(size));
+            int[] index = {0};
+            spliterator.forEachRemaining(item -> array[index[0]++] = item);
+            return array;
+        }
+        List<TSource> list = new ArrayList<>();
+        spliterator.forEachRemaining(list::add);
+        return list.toArray(ArrayUtils.newInstance(clazz, list.size()));
+    }
+
+    @Override
+    public Object[] _toArray() {
+        Spliterator<TSource> spliterator = this.consume();
+        long size = spliterator.getExactSizeIfKnown();
+        if (size >= 0) {
+            Object[] array = new Object[Math.toIntExact(size)];
+            int[] index = {0};
+            spliterator.forEachRemaining(item -> array[index[0]++] = item);
+            return array;
+        }
+        List<TSource> list = new ArrayList<>();
+        spliterator.forEachRemaining(list::add);
+        return list.toArray();
+    }
+
+    @Override
+    public List<TSource> _toList() {
+        Spliterator<TSource> spliterator = this.consume();
+        long size = spliterator.getExactSizeIfKnown();
+        List<TSource> list = size >= 0 ? new ArrayList<>(Math.toIntExact(size)) : new ArrayList<>();
+        spliterator.forEachRemaining(list::add);
+        return list;
+    }
+
+    // A SIZED spliterator knows its count up front, so nothing is traversed and a cheap count leaves it unconsumed. Once
+    // handed out its size no longer says what is left, so there is no cheap count anymore.
+    @Override
+    public int _getCount(boolean onlyIfCheap) {
+        if (onlyIfCheap) {
+            if (this.called)
+                return -1;
+            long size = this.source.getExactSizeIfKnown();
+            return size >= 0 ? Math.toIntExact(size) : -1;
+        }
+        Spliterator<TSource> spliterator = this.consume();
+        long size = spliterator.getExactSizeIfKnown();
+        if (size >= 0)
+            return Math.toIntExact(size);
+        int[] count = {0};
+        spliterator.forEachRemaining(item -> count[0] = Math.addExact(count[0], 1));
+        return count[0];
     }
 }
@@ -1,16 +1,20 @@
 package com.bestvike.linq.adapter.enumerable;
 
-import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.adapter.enumerator.StreamEnumerator;
+import com.bestvike.linq.enumerable.IIListProvider;
 import com.bestvike.linq.exception.ThrowHelper;
+import com.bestvike.linq.util.ArrayUtils;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
  * Created by 许崇雷 on 2019-07-30.
  */
-public final class StreamEnumerable<TSource> implements IEnumerable<TSource> {
+public final class StreamEnumerable<TSource> implements IIListProvider<TSource> {
     private final Stream<TSource> source;
     private boolean called;
 
@@ -18,11 +22,37 @@ public final class StreamEnumerable<TSource> implements IEnumerable<TSource> {
         this.source = source;
     }
 
-    @Override
-    public IEnumerator<TSource> enumerator() {
+    private Stream<TSource> consume() {
         if (this.called)
             ThrowHelper.throwRepeatInvokeException();
         this.called = true;
-        return new StreamEnumerator<>(this.source);
+        return this.source;
+    }
+
+    @Override
+    public IEnumerator<TSource> enumerator() {
+        return new StreamEnumerator<>(this.consume());
+    }
+
+    // The terminal operations below presize from the stream's own size when it is known, and run in parallel if the stream does.
+    @Override
+    public TSource[] _toArray(Class<TSource> clazz) {
+        return this.consume().toArray(length -> ArrayUtils.newInstance(clazz, length));
+    }
+
+    @Override
+    public Object[] _toArray() {
+        return this.consume().toArray();
+    }
+
+    @Override
+    public List<TSource> _toList() {
+        return this.consume().collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    // Counting consumes the stream, so it is never cheap.
+    @Override
+    public int _getCount(boolean onlyIfCheap) {
+        return onlyIfCheap ? -1 : Math.toIntExact(this.consume().count());
     }
 }
@@ -34,4 +34,19 @@ public final class ArrayEnumerator<TSource> extends AbstractEnumerator<TSource>
         this.close();
         return false;
     }
+
+    @Override
+    public int moveNextBatch(Object[] buffer, int offset, int count) {
+        if (this.state == -1)
+            return 0;
+        int index = this.state == 0 ? this.startIndex : this.state;
+        int copied = Math.min(count, this.endIndex - index);
+        if (copied > 0) {
+            System.arraycopy(this.source, index, buffer, offset, copied);
+            this.state = index + copied;
+            return copied;
+        }
+        this.close();
+        return 0;
+    }
 }
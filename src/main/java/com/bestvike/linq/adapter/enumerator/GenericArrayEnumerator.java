@@ -23,4 +23,18 @@ public final class GenericArrayEnumerator<TSource> extends AbstractEnumerator<TS
         this.close();
         return false;
     }
+
+    @Override
+    public int moveNextBatch(Object[] buffer, int offset, int count) {
+        if (this.state == -1)
+            return 0;
+        int copied = Math.min(count, this.source.length - this.state);
+        if (copied > 0) {
+            System.arraycopy(this.source, this.state, buffer, offset, copied);
+            this.state += copied;
+            return copied;
+        }
+        this.close();
+        return 0;
+    }
 }
@@ -33,6 +33,26 @@ public final class IterableEnumerator<TSource> extends AbstractEnumerator<TSourc
         }
     }
 
+    // Still goes through the iterator, so the source fails fast, or iterates a snapshot, exactly as it does element by element.
+    @Override
+    public int moveNextBatch(Object[] buffer, int offset, int count) {
+        switch (this.state) {
+            case 0:
+                this.iterator = this.source.iterator();
+                this.state = 1;
+            case 1:
+                int copied = 0;
+                while (copied < count && this.iterator.hasNext())
+                    buffer[offset + copied++] = this.iterator.next();
+                if (copied > 0)
+                    return copied;
+                this.close();
+                return 0;
+            default:
+                return 0;
+        }
+    }
+
     @Override
     public void close() {
         this.iterator = null;
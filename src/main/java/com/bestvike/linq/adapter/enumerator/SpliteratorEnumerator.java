@@ -1,17 +1,18 @@
 package com.bestvike.linq.adapter.enumerator;
 
 import com.bestvike.linq.enumerable.AbstractEnumerator;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
 
-import java.util.Iterator;
 import java.util.Spliterator;
-import java.util.Spliterators;
+import java.util.function.Consumer;
 
 /**
  * Created by 许崇雷 on 2019-07-30.
  */
 public final class SpliteratorEnumerator<TSource> extends AbstractEnumerator<TSource> {
     private final Spliterator<TSource> source;
-    private Iterator<TSource> iterator;
+    private final Consumer<TSource> setCurrent = item -> this.current = item;
 
     public SpliteratorEnumerator(Spliterator<TSource> source) {
         this.source = source;
@@ -19,25 +20,19 @@ public final class SpliteratorEnumerator<TSource> extends AbstractEnumerator<TSo
 
     @Override
     public boolean moveNext() {
-        switch (this.state) {
-            case 0:
-                this.iterator = Spliterators.iterator(this.source);
-                this.state = 1;
-            case 1:
-                if (this.iterator.hasNext()) {
-                    this.current = this.iterator.next();
-                    return true;
-                }
-                this.close();
-                return false;
-            default:
-                return false;
-        }
+        if (this.state == 0 && this.source.tryAdvance(this.setCurrent))
+            return true;
+        this.close();
+        return false;
     }
 
     @Override
-    public void close() {
-        this.iterator = null;
-        super.close();
+    public void forEachRemaining(Consumer<? super TSource> action) {
+        if (action == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.action);
+        if (this.state == 0) {
+            this.source.forEachRemaining(action);
+            this.close();
+        }
     }
 }
@@ -1,8 +1,11 @@
 package com.bestvike.linq.adapter.enumerator;
 
 import com.bestvike.linq.enumerable.AbstractEnumerator;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
 
-import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 /**
@@ -10,7 +13,8 @@ import java.util.stream.Stream;
  */
 public final class StreamEnumerator<TSource> extends AbstractEnumerator<TSource> {
     private final Stream<TSource> source;
-    private Iterator<TSource> iterator;
+    private final Consumer<TSource> setCurrent = item -> this.current = item;
+    private Spliterator<TSource> spliterator;
 
     public StreamEnumerator(Stream<TSource> source) {
         this.source = source;
@@ -20,13 +24,11 @@ public final class StreamEnumerator<TSource> extends AbstractEnumerator<TSource>
     public boolean moveNext() {
         switch (this.state) {
             case 0:
-                this.iterator = this.source.iterator();
+                this.spliterator = this.source.spliterator();
                 this.state = 1;
             case 1:
-                if (this.iterator.hasNext()) {
-                    this.current = this.iterator.next();
+                if (this.spliterator.tryAdvance(this.setCurrent))
                     return true;
-                }
                 this.close();
                 return false;
             default:
@@ -34,9 +36,22 @@ public final class StreamEnumerator<TSource> extends AbstractEnumerator<TSource>
         }
     }
 
+    @Override
+    public void forEachRemaining(Consumer<? super TSource> action) {
+        if (action == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.action);
+        if (this.state == 0)
+            this.source.forEachOrdered(action);
+        else if (this.state == 1)
+            this.spliterator.forEachRemaining(action);
+        else
+            return;
+        this.close();
+    }
+
     @Override
     public void close() {
-        this.iterator = null;
+        this.spliterator = null;
         super.close();
     }
 }
@@ -3,7 +3,6 @@ package com.bestvike.linq.enumerable;
 import com.bestvike.function.Func1;
 import com.bestvike.function.Func2;
 import com.bestvike.linq.IEnumerable;
-import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.exception.ExceptionArgument;
 import com.bestvike.linq.exception.ThrowHelper;
 
@@ -20,15 +19,11 @@ public final class Aggregate {
         if (func == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.func);
 
-        try (IEnumerator<TSource> e = source.enumerator()) {
-            if (!e.moveNext())
-                ThrowHelper.throwNoElementsException();
-
-            TSource result = e.current();
-            while (e.moveNext())
-                result = func.apply(result, e.current());
-            return result;
-        }
+        ReduceSink<TSource> sink = new ReduceSink<>(func);
+        Sink.forEach(source, sink);
+        if (!sink.found)
+            ThrowHelper.throwNoElementsException();
+        return sink.result;
     }
 
     public static <TSource, TAccumulate> TAccumulate aggregate(IEnumerable<TSource> source, TAccumulate seed, Func2<TAccumulate, TSource, TAccumulate> func) {
@@ -37,12 +32,9 @@ public final class Aggregate {
         if (func == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.func);
 
-        TAccumulate result = seed;
-        try (IEnumerator<TSource> e = source.enumerator()) {
-            while (e.moveNext())
-                result = func.apply(result, e.current());
-        }
-        return result;
+        AggregateSink<TSource, TAccumulate> sink = new AggregateSink<>(seed, func);
+        Sink.forEach(source, sink);
+        return sink.result;
     }
 
     public static <TSource, TAccumulate, TResult> TResult aggregate(IEnumerable<TSource> source, TAccumulate seed, Func2<TAccumulate, TSource, TAccumulate> func, Func1<TAccumulate, TResult> resultSelector) {
@@ -53,11 +45,47 @@ public final class Aggregate {
         if (resultSelector == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.resultSelector);
 
-        TAccumulate result = seed;
-        try (IEnumerator<TSource> e = source.enumerator()) {
-            while (e.moveNext())
-                result = func.apply(result, e.current());
+        AggregateSink<TSource, TAccumulate> sink = new AggregateSink<>(seed, func);
+        Sink.forEach(source, sink);
+        return resultSelector.apply(sink.result);
+    }
+}
+
+
+final class ReduceSink<TSource> implements ISink<TSource> {
+    private final Func2<TSource, TSource, TSource> func;
+    boolean found;
+    TSource result;
+
+    ReduceSink(Func2<TSource, TSource, TSource> func) {
+        this.func = func;
+    }
+
+    @Override
+    public boolean accept(TSource item) {
+        if (this.found) {
+            this.result = this.func.apply(this.result, item);
+        } else {
+            this.result = item;
+            this.found = true;
         }
-        return resultSelector.apply(result);
+        return true;
+    }
+}
+
+
+final class AggregateSink<TSource, TAccumulate> implements ISink<TSource> {
+    private final Func2<TAccumulate, TSource, TAccumulate> func;
+    TAccumulate result;
+
+    AggregateSink(TAccumulate seed, Func2<TAccumulate, TSource, TAccumulate> func) {
+        this.func = func;
+        this.result = seed;
+    }
+
+    @Override
+    public boolean accept(TSource item) {
+        this.result = this.func.apply(this.result, item);
+        return true;
     }
 }
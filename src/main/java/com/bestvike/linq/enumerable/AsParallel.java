@@ -0,0 +1,658 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.collections.generic.Array;
+import com.bestvike.collections.generic.IArrayList;
+import com.bestvike.collections.generic.IEqualityComparer;
+import com.bestvike.function.Action1;
+import com.bestvike.function.DoubleFunc1;
+import com.bestvike.function.Func0;
+import com.bestvike.function.Func1;
+import com.bestvike.function.Func2;
+import com.bestvike.function.IntFunc1;
+import com.bestvike.function.LongFunc1;
+import com.bestvike.function.Predicate1;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.IGrouping;
+import com.bestvike.linq.ILookup;
+import com.bestvike.linq.IParallelEnumerable;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+import com.bestvike.linq.util.ArrayUtils;
+import com.bestvike.linq.util.Utilities;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+public final class AsParallel {
+    private AsParallel() {
+    }
+
+    public static <TSource> IParallelEnumerable<TSource> asParallel(IEnumerable<TSource> source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof IParallelEnumerable)
+            return (IParallelEnumerable<TSource>) source;
+
+        return new ParallelEnumerable<>(source, x -> x, false, 0, null);
+    }
+}
+
+
+@SuppressWarnings("unchecked")
+final class ParallelEnumerable<TSource, TResult> implements IParallelEnumerable<TResult>, IIListProvider<TResult> {
+    private final IEnumerable<TSource> source;
+    private final Func1<IEnumerable<TSource>, IEnumerable<TResult>> query;
+    private final boolean ordered;
+    private final int degreeOfParallelism;// 0 means use the parallelism of the pool.
+    private final ForkJoinPool pool;// null means use the common pool.
+
+    ParallelEnumerable(IEnumerable<TSource> source, Func1<IEnumerable<TSource>, IEnumerable<TResult>> query, boolean ordered, int degreeOfParallelism, ForkJoinPool pool) {
+        assert source != null;
+        assert query != null;
+        assert degreeOfParallelism >= 0;
+        this.source = source;
+        this.query = query;
+        this.ordered = ordered;
+        this.degreeOfParallelism = degreeOfParallelism;
+        this.pool = pool;
+    }
+
+    ForkJoinPool getPool() {
+        return this.pool == null ? ForkJoinPool.commonPool() : this.pool;
+    }
+
+    private <TResult2> IParallelEnumerable<TResult2> withQuery(Func1<IEnumerable<TResult>, IEnumerable<TResult2>> query) {
+        return new ParallelEnumerable<>(this.source, Utilities.combineSelectors(this.query, query), this.ordered, this.degreeOfParallelism, this.pool);
+    }
+
+    // Splits the source into contiguous index ranges. Sources that can't be indexed cheaply are buffered first.
+    private List<IEnumerable<TSource>> split() {
+        IArrayList<TSource> list = null;
+        IPartition<TSource> partition = null;
+        int count;
+        if (this.source instanceof IArrayList) {
+            list = (IArrayList<TSource>) this.source;
+            count = list._getCount();
+        } else if (this.source instanceof IPartition && !(this.source instanceof AbstractOrderedEnumerable) && !(this.source instanceof OrderedPartition)
+                && (count = ((IPartition<TSource>) this.source)._getCount(true)) != -1) {
+            partition = (IPartition<TSource>) this.source;
+        } else {
+            list = new Array<>(EnumerableHelpers.toArray(this.source));
+            count = list._getCount();
+        }
+
+        if (count == 0)
+            return Collections.emptyList();
+
+        int partitionCount = Math.min(count, this.getDegreeOfParallelism());
+        List<IEnumerable<TSource>> partitions = new ArrayList<>(partitionCount);
+        int size = count / partitionCount;
+        int remainder = count % partitionCount;
+        for (int i = 0, minIndex = 0; i < partitionCount; i++) {
+            int length = i < remainder ? size + 1 : size;
+            if (list != null)
+                partitions.add(new ListPartition<>(list, minIndex, minIndex + length - 1));
+            else
+                partitions.add((minIndex == 0 ? partition : partition._skip(minIndex))._take(length));
+            minIndex += length;
+        }
+        return partitions;
+    }
+
+    // Runs the query over every partition on the pool and applies func to each partial result.
+    // Results are returned in source order when ordered, otherwise in completion order.
+    private <TAccumulate> List<TAccumulate> execute(Func1<IEnumerable<TResult>, TAccumulate> func) {
+        List<IEnumerable<TSource>> partitions = this.split();
+        int partitionCount = partitions.size();
+        if (partitionCount == 0)
+            return Collections.emptyList();
+        if (partitionCount == 1)
+            return Collections.singletonList(func.apply(this.query.apply(partitions.get(0))));
+
+        ForkJoinPool pool = this.getPool();
+        List<TAccumulate> completed = this.ordered ? null : Collections.synchronizedList(new ArrayList<>(partitionCount));
+        List<ForkJoinTask<TAccumulate>> tasks = new ArrayList<>(partitionCount);
+        for (IEnumerable<TSource> partition : partitions) {
+            tasks.add(pool.submit(() -> {
+                TAccumulate result = func.apply(this.query.apply(partition));
+                if (completed != null)
+                    completed.add(result);
+                return result;
+            }));
+        }
+
+        List<TAccumulate> results = new ArrayList<>(partitionCount);
+        try {
+            for (ForkJoinTask<TAccumulate> task : tasks)
+                results.add(task.join());
+        } catch (RuntimeException | Error e) {
+            for (ForkJoinTask<TAccumulate> task : tasks)
+                task.cancel(false);
+            throw e;
+        }
+        return completed == null ? results : completed;
+    }
+
+    @Override
+    public IEnumerator<TResult> enumerator() {
+        return new ParallelEnumerator();
+    }
+
+    @Override
+    public IParallelEnumerable<TResult> asOrdered() {
+        return this.ordered ? this : new ParallelEnumerable<>(this.source, this.query, true, this.degreeOfParallelism, this.pool);
+    }
+
+    @Override
+    public IParallelEnumerable<TResult> asUnordered() {
+        return this.ordered ? new ParallelEnumerable<>(this.source, this.query, false, this.degreeOfParallelism, this.pool) : this;
+    }
+
+    @Override
+    public IEnumerable<TResult> asSequential() {
+        return this.query.apply(this.source);
+    }
+
+    @Override
+    public boolean isOrdered() {
+        return this.ordered;
+    }
+
+    @Override
+    public int getDegreeOfParallelism() {
+        return this.degreeOfParallelism > 0 ? this.degreeOfParallelism : this.getPool().getParallelism();
+    }
+
+    @Override
+    public IParallelEnumerable<TResult> withDegreeOfParallelism(int degreeOfParallelism) {
+        if (degreeOfParallelism < 1)
+            ThrowHelper.throwArgumentOutOfRangeException(ExceptionArgument.degreeOfParallelism);
+
+        return new ParallelEnumerable<>(this.source, this.query, this.ordered, degreeOfParallelism, this.pool);
+    }
+
+    @Override
+    public IParallelEnumerable<TResult> withPool(ForkJoinPool pool) {
+        if (pool == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.pool);
+
+        return new ParallelEnumerable<>(this.source, this.query, this.ordered, this.degreeOfParallelism, pool);
+    }
+
+    @Override
+    public void forAll(Action1<? super TResult> action) {
+        if (action == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.action);
+
+        this.execute(e -> {
+            try (IEnumerator<TResult> enumerator = e.enumerator()) {
+                while (enumerator.moveNext())
+                    action.apply(enumerator.current());
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public <TAccumulate> TAccumulate aggregate(Func0<? extends TAccumulate> seedFactory, Func2<? super TAccumulate, ? super TResult, ? extends TAccumulate> func, Func2<? super TAccumulate, ? super TAccumulate, ? extends TAccumulate> combineFunc) {
+        return this.aggregate(seedFactory, func, combineFunc, x -> x);
+    }
+
+    @Override
+    public <TAccumulate, TResult2> TResult2 aggregate(Func0<? extends TAccumulate> seedFactory, Func2<? super TAccumulate, ? super TResult, ? extends TAccumulate> func, Func2<? super TAccumulate, ? super TAccumulate, ? extends TAccumulate> combineFunc, Func1<? super TAccumulate, ? extends TResult2> resultSelector) {
+        if (seedFactory == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.seedFactory);
+        if (func == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.func);
+        if (combineFunc == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.combineFunc);
+        if (resultSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.resultSelector);
+
+        List<TAccumulate> results = this.execute(e -> Aggregate.aggregate(e, (TAccumulate) seedFactory.apply(), (Func2<TAccumulate, TResult, TAccumulate>) func));
+        if (results.isEmpty())
+            return resultSelector.apply(seedFactory.apply());
+
+        TAccumulate result = results.get(0);
+        for (int i = 1; i < results.size(); i++)
+            result = combineFunc.apply(result, results.get(i));
+        return resultSelector.apply(result);
+    }
+
+    @Override
+    public boolean all(Predicate1<? super TResult> predicate) {
+        if (predicate == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.predicate);
+
+        return !this.any(x -> !predicate.apply(x));
+    }
+
+    @Override
+    public boolean any(Predicate1<? super TResult> predicate) {
+        if (predicate == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.predicate);
+
+        // Once any partition finds a match, the others stop at their next element.
+        AtomicBoolean found = new AtomicBoolean();
+        this.execute(e -> {
+            if (AnyAll.any(e, x -> found.get() || predicate.apply(x)))
+                found.set(true);
+            return null;
+        });
+        return found.get();
+    }
+
+    @Override
+    public int count() {
+        return this._getCount(false);
+    }
+
+    @Override
+    public int count(Predicate1<? super TResult> predicate) {
+        return this.where(predicate).count();
+    }
+
+    @Override
+    public <TInner, TKey, TResult2> IEnumerable<TResult2> fullJoin(IEnumerable<? extends TInner> inner, Func1<? super TResult, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TResult, ? super TInner, ? extends TResult2> resultSelector) {
+        return this.<TInner, TKey, TResult2>fullJoin(inner, outerKeySelector, innerKeySelector, (TResult) null, (TInner) null, resultSelector, (IEqualityComparer<TKey>) null);
+    }
+
+    @Override
+    public <TInner, TKey, TResult2> IEnumerable<TResult2> fullJoin(IEnumerable<? extends TInner> inner, Func1<? super TResult, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TResult defaultOuter, TInner defaultInner, Func2<? super TResult, ? super TInner, ? extends TResult2> resultSelector) {
+        return this.<TInner, TKey, TResult2>fullJoin(inner, outerKeySelector, innerKeySelector, defaultOuter, defaultInner, resultSelector, (IEqualityComparer<TKey>) null);
+    }
+
+    @Override
+    public <TInner, TKey, TResult2> IEnumerable<TResult2> fullJoin(IEnumerable<? extends TInner> inner, Func1<? super TResult, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TResult, ? super TInner, ? extends TResult2> resultSelector, IEqualityComparer<? super TKey> comparer) {
+        return this.<TInner, TKey, TResult2>fullJoin(inner, outerKeySelector, innerKeySelector, (TResult) null, (TInner) null, resultSelector, comparer);
+    }
+
+    @Override
+    public <TInner, TKey, TResult2> IEnumerable<TResult2> fullJoin(IEnumerable<? extends TInner> inner, Func1<? super TResult, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TResult defaultOuter, TInner defaultInner, Func2<? super TResult, ? super TInner, ? extends TResult2> resultSelector, IEqualityComparer<? super TKey> comparer) {
+        if (inner == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.inner);
+        if (outerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outerKeySelector);
+        if (innerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.innerKeySelector);
+        if (resultSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.resultSelector);
+
+        return new ParallelJoinEnumerable<>(this, (IEnumerable<TInner>) inner, (Func1<TResult, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, true, defaultInner, true, defaultOuter, (Func2<TResult, TInner, TResult2>) resultSelector, (IEqualityComparer<TKey>) comparer);
+    }
+
+    @Override
+    public <TKey> IEnumerable<IGrouping<TKey, TResult>> groupBy(Func1<? super TResult, ? extends TKey> keySelector) {
+        return this.groupBy(keySelector, (IEqualityComparer<TKey>) null);
+    }
+
+    @Override
+    public <TKey> IEnumerable<IGrouping<TKey, TResult>> groupBy(Func1<? super TResult, ? extends TKey> keySelector, IEqualityComparer<? super TKey> comparer) {
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+
+        return new ParallelGroupedEnumerable<>(this, (Func1<TResult, TKey>) keySelector, null, (IEqualityComparer<TKey>) comparer);
+    }
+
+    @Override
+    public <TKey, TElement> IEnumerable<IGrouping<TKey, TElement>> groupBy(Func1<? super TResult, ? extends TKey> keySelector, Func1<? super TResult, ? extends TElement> elementSelector) {
+        return this.groupBy(keySelector, elementSelector, (IEqualityComparer<TKey>) null);
+    }
+
+    @Override
+    public <TKey, TElement> IEnumerable<IGrouping<TKey, TElement>> groupBy(Func1<? super TResult, ? extends TKey> keySelector, Func1<? super TResult, ? extends TElement> elementSelector, IEqualityComparer<? super TKey> comparer) {
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+        if (elementSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.elementSelector);
+
+        return new ParallelGroupedEnumerable<>(this, (Func1<TResult, TKey>) keySelector, (Func1<TResult, TElement>) elementSelector, (IEqualityComparer<TKey>) comparer);
+    }
+
+    @Override
+    public <TInner, TKey, TResult2> IEnumerable<TResult2> groupJoin(IEnumerable<? extends TInner> inner, Func1<? super TResult, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TResult, ? super IEnumerable<TInner>, ? extends TResult2> resultSelector) {
+        return this.<TInner, TKey, TResult2>groupJoin(inner, outerKeySelector, innerKeySelector, resultSelector, (IEqualityComparer<TKey>) null);
+    }
+
+    @Override
+    public <TInner, TKey, TResult2> IEnumerable<TResult2> groupJoin(IEnumerable<? extends TInner> inner, Func1<? super TResult, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TResult, ? super IEnumerable<TInner>, ? extends TResult2> resultSelector, IEqualityComparer<? super TKey> comparer) {
+        if (inner == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.inner);
+        if (outerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outerKeySelector);
+        if (innerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.innerKeySelector);
+        if (resultSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.resultSelector);
+
+        return new ParallelGroupJoinEnumerable<>(this, (IEnumerable<TInner>) inner, (Func1<TResult, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, (Func2<TResult, IEnumerable<TInner>, TResult2>) resultSelector, (IEqualityComparer<TKey>) comparer);
+    }
+
+    @Override
+    public <TInner, TKey, TResult2> IEnumerable<TResult2> join(IEnumerable<? extends TInner> inner, Func1<? super TResult, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TResult, ? super TInner, ? extends TResult2> resultSelector) {
+        return this.<TInner, TKey, TResult2>join(inner, outerKeySelector, innerKeySelector, resultSelector, (IEqualityComparer<TKey>) null);
+    }
+
+    @Override
+    public <TInner, TKey, TResult2> IEnumerable<TResult2> join(IEnumerable<? extends TInner> inner, Func1<? super TResult, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TResult, ? super TInner, ? extends TResult2> resultSelector, IEqualityComparer<? super TKey> comparer) {
+        if (inner == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.inner);
+        if (outerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outerKeySelector);
+        if (innerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.innerKeySelector);
+        if (resultSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.resultSelector);
+
+        return new ParallelJoinEnumerable<>(this, (IEnumerable<TInner>) inner, (Func1<TResult, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, false, null, false, null, (Func2<TResult, TInner, TResult2>) resultSelector, (IEqualityComparer<TKey>) comparer);
+    }
+
+    @Override
+    public <TInner, TKey, TResult2> IEnumerable<TResult2> leftJoin(IEnumerable<? extends TInner> inner, Func1<? super TResult, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TResult, ? super TInner, ? extends TResult2> resultSelector) {
+        return this.<TInner, TKey, TResult2>leftJoin(inner, outerKeySelector, innerKeySelector, (TInner) null, resultSelector, (IEqualityComparer<TKey>) null);
+    }
+
+    @Override
+    public <TInner, TKey, TResult2> IEnumerable<TResult2> leftJoin(IEnumerable<? extends TInner> inner, Func1<? super TResult, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TInner defaultInner, Func2<? super TResult, ? super TInner, ? extends TResult2> resultSelector) {
+        return this.<TInner, TKey, TResult2>leftJoin(inner, outerKeySelector, innerKeySelector, defaultInner, resultSelector, (IEqualityComparer<TKey>) null);
+    }
+
+    @Override
+    public <TInner, TKey, TResult2> IEnumerable<TResult2> leftJoin(IEnumerable<? extends TInner> inner, Func1<? super TResult, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TResult, ? super TInner, ? extends TResult2> resultSelector, IEqualityComparer<? super TKey> comparer) {
+        return this.<TInner, TKey, TResult2>leftJoin(inner, outerKeySelector, innerKeySelector, (TInner) null, resultSelector, comparer);
+    }
+
+    @Override
+    public <TInner, TKey, TResult2> IEnumerable<TResult2> leftJoin(IEnumerable<? extends TInner> inner, Func1<? super TResult, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TInner defaultInner, Func2<? super TResult, ? super TInner, ? extends TResult2> resultSelector, IEqualityComparer<? super TKey> comparer) {
+        if (inner == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.inner);
+        if (outerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outerKeySelector);
+        if (innerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.innerKeySelector);
+        if (resultSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.resultSelector);
+
+        return new ParallelJoinEnumerable<>(this, (IEnumerable<TInner>) inner, (Func1<TResult, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, true, defaultInner, false, null, (Func2<TResult, TInner, TResult2>) resultSelector, (IEqualityComparer<TKey>) comparer);
+    }
+
+    @Override
+    public long longCount() {
+        long count = 0;
+        for (long partial : this.execute(Count::longCount))
+            count = Math.addExact(count, partial);
+        return count;
+    }
+
+    @Override
+    public long longCount(Predicate1<? super TResult> predicate) {
+        return this.where(predicate).longCount();
+    }
+
+    @Override
+    public <TInner, TKey, TResult2> IEnumerable<TResult2> rightJoin(IEnumerable<? extends TInner> inner, Func1<? super TResult, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TResult, ? super TInner, ? extends TResult2> resultSelector) {
+        return this.<TInner, TKey, TResult2>rightJoin(inner, outerKeySelector, innerKeySelector, (TResult) null, resultSelector, (IEqualityComparer<TKey>) null);
+    }
+
+    @Override
+    public <TInner, TKey, TResult2> IEnumerable<TResult2> rightJoin(IEnumerable<? extends TInner> inner, Func1<? super TResult, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TResult defaultOuter, Func2<? super TResult, ? super TInner, ? extends TResult2> resultSelector) {
+        return this.<TInner, TKey, TResult2>rightJoin(inner, outerKeySelector, innerKeySelector, defaultOuter, resultSelector, (IEqualityComparer<TKey>) null);
+    }
+
+    @Override
+    public <TInner, TKey, TResult2> IEnumerable<TResult2> rightJoin(IEnumerable<? extends TInner> inner, Func1<? super TResult, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, Func2<? super TResult, ? super TInner, ? extends TResult2> resultSelector, IEqualityComparer<? super TKey> comparer) {
+        return this.<TInner, TKey, TResult2>rightJoin(inner, outerKeySelector, innerKeySelector, (TResult) null, resultSelector, comparer);
+    }
+
+    @Override
+    public <TInner, TKey, TResult2> IEnumerable<TResult2> rightJoin(IEnumerable<? extends TInner> inner, Func1<? super TResult, ? extends TKey> outerKeySelector, Func1<? super TInner, ? extends TKey> innerKeySelector, TResult defaultOuter, Func2<? super TResult, ? super TInner, ? extends TResult2> resultSelector, IEqualityComparer<? super TKey> comparer) {
+        if (inner == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.inner);
+        if (outerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outerKeySelector);
+        if (innerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.innerKeySelector);
+        if (resultSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.resultSelector);
+
+        return new ParallelJoinEnumerable<>(this, (IEnumerable<TInner>) inner, (Func1<TResult, TKey>) outerKeySelector, (Func1<TInner, TKey>) innerKeySelector, false, null, true, defaultOuter, (Func2<TResult, TInner, TResult2>) resultSelector, (IEqualityComparer<TKey>) comparer);
+    }
+
+    @Override
+    public <TResult2> IParallelEnumerable<TResult2> select(Func1<? super TResult, ? extends TResult2> selector) {
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        return this.withQuery(e -> Select.select(e, (Func1<TResult, TResult2>) selector));
+    }
+
+    @Override
+    public <TResult2> IParallelEnumerable<TResult2> selectMany(Func1<? super TResult, ? extends IEnumerable<? extends TResult2>> selector) {
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        return this.withQuery(e -> SelectMany.selectMany(e, (Func1<TResult, IEnumerable<TResult2>>) selector));
+    }
+
+    @Override
+    public int sumInt() {
+        int sum = 0;
+        for (int partial : this.execute(e -> Sum.sumInt((IEnumerable<Integer>) e)))
+            sum = Math.addExact(sum, partial);
+        return sum;
+    }
+
+    @Override
+    public long sumLong() {
+        long sum = 0;
+        for (long partial : this.execute(e -> Sum.sumLong((IEnumerable<Long>) e)))
+            sum = Math.addExact(sum, partial);
+        return sum;
+    }
+
+    @Override
+    public double sumDouble() {
+        double sum = 0;
+        for (double partial : this.execute(e -> Sum.sumDouble((IEnumerable<Double>) e)))
+            sum += partial;
+        return sum;
+    }
+
+    @Override
+    public int sumInt(IntFunc1<? super TResult> selector) {
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        int sum = 0;
+        for (int partial : this.execute(e -> Sum.sumInt(e, (IntFunc1<TResult>) selector)))
+            sum = Math.addExact(sum, partial);
+        return sum;
+    }
+
+    @Override
+    public long sumLong(LongFunc1<? super TResult> selector) {
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        long sum = 0;
+        for (long partial : this.execute(e -> Sum.sumLong(e, (LongFunc1<TResult>) selector)))
+            sum = Math.addExact(sum, partial);
+        return sum;
+    }
+
+    @Override
+    public double sumDouble(DoubleFunc1<? super TResult> selector) {
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        double sum = 0;
+        for (double partial : this.execute(e -> Sum.sumDouble(e, (DoubleFunc1<TResult>) selector)))
+            sum += partial;
+        return sum;
+    }
+
+    @Override
+    public <TKey> ILookup<TKey, TResult> toLookup(Func1<? super TResult, ? extends TKey> keySelector) {
+        return this.toLookup(keySelector, (IEqualityComparer<TKey>) null);
+    }
+
+    @Override
+    public <TKey> ILookup<TKey, TResult> toLookup(Func1<? super TResult, ? extends TKey> keySelector, IEqualityComparer<? super TKey> comparer) {
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+
+        return this.createLookup((Func1<TResult, TKey>) keySelector, null, (IEqualityComparer<TKey>) comparer);
+    }
+
+    @Override
+    public <TKey, TElement> ILookup<TKey, TElement> toLookup(Func1<? super TResult, ? extends TKey> keySelector, Func1<? super TResult, ? extends TElement> elementSelector) {
+        return this.toLookup(keySelector, elementSelector, (IEqualityComparer<TKey>) null);
+    }
+
+    @Override
+    public <TKey, TElement> ILookup<TKey, TElement> toLookup(Func1<? super TResult, ? extends TKey> keySelector, Func1<? super TResult, ? extends TElement> elementSelector, IEqualityComparer<? super TKey> comparer) {
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+        if (elementSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.elementSelector);
+
+        return this.createLookup((Func1<TResult, TKey>) keySelector, (Func1<TResult, TElement>) elementSelector, (IEqualityComparer<TKey>) comparer);
+    }
+
+    // Groups on the pool. Keys keep first seen order when ordered, otherwise groupings come out in partition order.
+    <TKey, TElement> Lookup<TKey, TElement> createLookup(Func1<TResult, TKey> keySelector, Func1<TResult, TElement> elementSelector, IEqualityComparer<TKey> comparer) {
+        return Lookup.createParallel(this._toArray(), keySelector, elementSelector, comparer, this.ordered, this.getPool(), this.getDegreeOfParallelism());
+    }
+
+    @Override
+    public IParallelEnumerable<TResult> where(Predicate1<? super TResult> predicate) {
+        if (predicate == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.predicate);
+
+        return this.withQuery(e -> Where.where(e, (Predicate1<TResult>) predicate));
+    }
+
+    @Override
+    public TResult[] _toArray(Class<TResult> clazz) {
+        Object[] array = this._toArray();
+        return array.length == 0 ? ArrayUtils.empty(clazz) : ArrayUtils.toArray(array, clazz);
+    }
+
+    @Override
+    public Object[] _toArray() {
+        List<Object[]> results = this.execute(EnumerableHelpers::toArray);
+        if (results.size() == 1)
+            return results.get(0);
+
+        int count = 0;
+        for (Object[] partial : results)
+            count = Math.addExact(count, partial.length);
+        if (count == 0)
+            return ArrayUtils.empty();
+
+        Object[] array = new Object[count];
+        int index = 0;
+        for (Object[] partial : results) {
+            System.arraycopy(partial, 0, array, index, partial.length);
+            index += partial.length;
+        }
+        return array;
+    }
+
+    @Override
+    public List<TResult> _toList() {
+        return ArrayUtils.toList(this._toArray());
+    }
+
+    @Override
+    public int _getCount(boolean onlyIfCheap) {
+        if (onlyIfCheap)
+            return -1;
+
+        int count = 0;
+        for (int partial : this.execute(Count::count))
+            count = Math.addExact(count, partial);
+        return count;
+    }
+
+
+    private final class ParallelEnumerator extends AbstractEnumerator<TResult> {
+        private Object[] items;
+        private int index;
+
+        @Override
+        public boolean moveNext() {
+            switch (this.state) {
+                case 0:
+                    this.items = ParallelEnumerable.this._toArray();
+                    this.index = -1;
+                    this.state = 1;
+                case 1:
+                    this.index++;
+                    if (this.index < this.items.length) {
+                        this.current = (TResult) this.items[this.index];
+                        return true;
+                    }
+                    this.close();
+                    return false;
+                default:
+                    return false;
+            }
+        }
+
+        @Override
+        public void close() {
+            this.items = null;
+            super.close();
+        }
+    }
+}
+
+
+final class ParallelGroupedEnumerable<TSource, TKey, TElement> implements IIListProvider<IGrouping<TKey, TElement>> {
+    private final ParallelEnumerable<?, TSource> source;
+    private final Func1<TSource, TKey> keySelector;
+    private final Func1<TSource, TElement> elementSelector;
+    private final IEqualityComparer<TKey> comparer;
+
+    ParallelGroupedEnumerable(ParallelEnumerable<?, TSource> source, Func1<TSource, TKey> keySelector, Func1<TSource, TElement> elementSelector, IEqualityComparer<TKey> comparer) {
+        this.source = source;
+        this.keySelector = keySelector;
+        this.elementSelector = elementSelector;
+        this.comparer = comparer;
+    }
+
+    @Override
+    public IEnumerator<IGrouping<TKey, TElement>> enumerator() {
+        return this.source.createLookup(this.keySelector, this.elementSelector, this.comparer).enumerator();
+    }
+
+    @Override
+    public IGrouping<TKey, TElement>[] _toArray(Class<IGrouping<TKey, TElement>> clazz) {
+        return this.source.createLookup(this.keySelector, this.elementSelector, this.comparer)._toArray(clazz);
+    }
+
+    @Override
+    public Object[] _toArray() {
+        return this.source.createLookup(this.keySelector, this.elementSelector, this.comparer)._toArray();
+    }
+
+    @Override
+    public List<IGrouping<TKey, TElement>> _toList() {
+        return this.source.createLookup(this.keySelector, this.elementSelector, this.comparer)._toList();
+    }
+
+    @Override
+    public int _getCount(boolean onlyIfCheap) {
+        return onlyIfCheap ? -1 : this.source.createLookup(this.keySelector, this.elementSelector, this.comparer).getCount();
+    }
+}
@@ -0,0 +1,28 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+public final class Compile {
+    private Compile() {
+    }
+
+    // Fuses a chain of where and select into one loop with a class of its own per pipeline shape.
+    // Sources that are not such a chain are returned as they are.
+    public static <TSource> IEnumerable<TSource> compile(IEnumerable<TSource> source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (!(source instanceof ICompilable))
+            return source;
+
+        CompiledQueryBuilder builder = new CompiledQueryBuilder();
+        builder.source(source);
+        //noinspection unchecked
+        return (IEnumerable<TSource>) builder.build();
+    }
+}
@@ -79,6 +79,34 @@ abstract class ConcatIterator<TSource> extends Iterator<TSource> implements IILi
         return false;
     }
 
+    @Override
+    public int moveNextBatch(Object[] buffer, int offset, int count) {
+        if (this.state == 1) {
+            this.enumerator = this.getEnumerable(0).enumerator();
+            this.state = 2;
+        }
+
+        if (this.state > 1) {
+            while (true) {
+                int copied = this.enumerator.moveNextBatch(buffer, offset, count);
+                if (copied > 0)
+                    return copied;
+
+                IEnumerable<TSource> next = this.getEnumerable(this.state++ - 1);
+                if (next != null) {
+                    this.enumerator.close();
+                    this.enumerator = next.enumerator();
+                    continue;
+                }
+
+                this.close();
+                break;
+            }
+        }
+
+        return 0;
+    }
+
     @Override
     public abstract int _getCount(boolean onlyIfCheap);
 
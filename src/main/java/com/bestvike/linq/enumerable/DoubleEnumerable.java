@@ -0,0 +1,583 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.function.DoubleFunc1;
+import com.bestvike.linq.IDoubleEnumerable;
+import com.bestvike.linq.IDoubleEnumerator;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.IIntEnumerable;
+import com.bestvike.linq.ILongEnumerable;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+
+import java.util.Arrays;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+public final class DoubleEnumerable {
+    private static final int DEFAULT_CAPACITY = 4;
+    private static final int MAX_ARRAY_LENGTH = 0x7FEFFFFF;
+    private static final double[] EMPTY = new double[0];
+
+    private DoubleEnumerable() {
+    }
+
+    public static IDoubleEnumerable of(double[] source) {
+        return new DoubleArrayIterator(source == null ? EMPTY : source);
+    }
+
+    public static <TSource> IDoubleEnumerable selectDouble(IEnumerable<TSource> source, DoubleFunc1<TSource> selector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        return new SelectEnumerableToDoubleIterator<>(source, selector);
+    }
+
+    public static IDoubleEnumerable where(IDoubleEnumerable source, DoublePredicate predicate) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (predicate == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.predicate);
+
+        if (source instanceof WhereDoubleIterator) {
+            WhereDoubleIterator iterator = (WhereDoubleIterator) source;
+            return iterator._where(predicate);
+        }
+
+        return new WhereDoubleIterator(source, predicate);
+    }
+
+    public static IDoubleEnumerable select(IDoubleEnumerable source, DoubleUnaryOperator selector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        if (source instanceof SelectDoubleIterator) {
+            SelectDoubleIterator iterator = (SelectDoubleIterator) source;
+            return iterator._select(selector);
+        }
+
+        return new SelectDoubleIterator(source, selector);
+    }
+
+    public static IIntEnumerable selectInt(IDoubleEnumerable source, DoubleToIntFunction selector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        return new SelectDoubleToIntIterator(source, selector);
+    }
+
+    public static ILongEnumerable selectLong(IDoubleEnumerable source, DoubleToLongFunction selector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        return new SelectDoubleToLongIterator(source, selector);
+    }
+
+    public static IEnumerable<Double> boxed(IDoubleEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof DoubleArrayIterator) {
+            DoubleArrayIterator iterator = (DoubleArrayIterator) source;
+            return Enumerable.of(iterator.getArray());
+        }
+
+        return new BoxedDoubleIterator(source);
+    }
+
+    public static int count(IDoubleEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof DoubleArrayIterator) {
+            DoubleArrayIterator iterator = (DoubleArrayIterator) source;
+            return iterator.getArray().length;
+        }
+
+        int count = 0;
+        try (IDoubleEnumerator e = source.enumerator()) {
+            while (e.moveNext())
+                count = Math.addExact(count, 1);
+        }
+        return count;
+    }
+
+    public static void forEach(IDoubleEnumerable source, DoubleConsumer action) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (action == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.action);
+
+        try (IDoubleEnumerator e = source.enumerator()) {
+            while (e.moveNext())
+                action.accept(e.current());
+        }
+    }
+
+    public static double sum(IDoubleEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        double sum = 0;
+        try (IDoubleEnumerator e = source.enumerator()) {
+            while (e.moveNext())
+                sum += e.current();
+        }
+        return sum;
+    }
+
+    public static double min(IDoubleEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        try (IDoubleEnumerator e = source.enumerator()) {
+            if (!e.moveNext())
+                ThrowHelper.throwNoElementsException();
+
+            double value = e.current();
+            if (Double.isNaN(value))
+                return value;
+
+            while (e.moveNext()) {
+                double x = e.current();
+                if (x < value)
+                    value = x;
+                else if (Double.isNaN(x))
+                    return x;
+            }
+            return value;
+        }
+    }
+
+    public static double max(IDoubleEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        try (IDoubleEnumerator e = source.enumerator()) {
+            if (!e.moveNext())
+                ThrowHelper.throwNoElementsException();
+
+            double value = e.current();
+            while (Double.isNaN(value)) {
+                if (!e.moveNext())
+                    return value;
+                value = e.current();
+            }
+
+            while (e.moveNext()) {
+                double x = e.current();
+                if (x > value)
+                    value = x;
+            }
+            return value;
+        }
+    }
+
+    public static double average(IDoubleEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        try (IDoubleEnumerator e = source.enumerator()) {
+            if (!e.moveNext())
+                ThrowHelper.throwNoElementsException();
+
+            double sum = e.current();
+            long count = 1;
+            while (e.moveNext()) {
+                sum += e.current();
+                count = Math.addExact(count, 1);
+            }
+            return sum / count;
+        }
+    }
+
+    public static double[] toArray(IDoubleEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof DoubleArrayIterator) {
+            DoubleArrayIterator iterator = (DoubleArrayIterator) source;
+            double[] array = iterator.getArray();
+            return array.length == 0 ? EMPTY : array.clone();
+        }
+
+        try (IDoubleEnumerator e = source.enumerator()) {
+            if (!e.moveNext())
+                return EMPTY;
+
+            double[] array = new double[DEFAULT_CAPACITY];
+            array[0] = e.current();
+            int count = 1;
+            while (e.moveNext()) {
+                if (count == array.length) {
+                    // Same growth logic as EnumerableHelpers.toArray.
+                    int newLength = count << 1;
+                    if (Integer.compareUnsigned(newLength, MAX_ARRAY_LENGTH) > 0)
+                        newLength = MAX_ARRAY_LENGTH <= count ? count + 1 : MAX_ARRAY_LENGTH;
+                    array = Arrays.copyOf(array, newLength);
+                }
+                array[count++] = e.current();
+            }
+            return count == array.length ? array : Arrays.copyOf(array, count);
+        }
+    }
+}
+
+
+abstract class AbstractDoubleIterator implements IDoubleEnumerable, IDoubleEnumerator {
+    private final long threadId;
+    protected int state;
+    protected double current;
+
+    AbstractDoubleIterator() {
+        this.threadId = Thread.currentThread().getId();
+    }
+
+    @Override
+    public abstract AbstractDoubleIterator clone();
+
+    @Override
+    public IDoubleEnumerator enumerator() {
+        AbstractDoubleIterator enumerator = this.state == 0 && this.threadId == Thread.currentThread().getId() ? this : this.clone();
+        enumerator.state = 1;
+        return enumerator;
+    }
+
+    @Override
+    public double current() {
+        return this.current;
+    }
+
+    @Override
+    public void close() {
+        this.state = -1;
+    }
+}
+
+
+final class DoubleArrayIterator extends AbstractDoubleIterator {
+    private final double[] source;
+
+    DoubleArrayIterator(double[] source) {
+        assert source != null;
+        this.source = source;
+    }
+
+    double[] getArray() {
+        return this.source;
+    }
+
+    @Override
+    public AbstractDoubleIterator clone() {
+        return new DoubleArrayIterator(this.source);
+    }
+
+    @Override
+    public boolean moveNext() {
+        if (this.state < 1 || this.state > this.source.length) {
+            this.close();
+            return false;
+        }
+
+        this.current = this.source[this.state++ - 1];
+        return true;
+    }
+}
+
+
+final class WhereDoubleIterator extends AbstractDoubleIterator {
+    private final IDoubleEnumerable source;
+    private final DoublePredicate predicate;
+    private IDoubleEnumerator enumerator;
+
+    WhereDoubleIterator(IDoubleEnumerable source, DoublePredicate predicate) {
+        assert source != null;
+        assert predicate != null;
+        this.source = source;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public AbstractDoubleIterator clone() {
+        return new WhereDoubleIterator(this.source, this.predicate);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                while (this.enumerator.moveNext()) {
+                    double item = this.enumerator.current();
+                    if (this.predicate.test(item)) {
+                        this.current = item;
+                        return true;
+                    }
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+
+    IDoubleEnumerable _where(DoublePredicate predicate) {
+        return new WhereDoubleIterator(this.source, this.predicate.and(predicate));
+    }
+}
+
+
+final class SelectDoubleIterator extends AbstractDoubleIterator {
+    private final IDoubleEnumerable source;
+    private final DoubleUnaryOperator selector;
+    private IDoubleEnumerator enumerator;
+
+    SelectDoubleIterator(IDoubleEnumerable source, DoubleUnaryOperator selector) {
+        assert source != null;
+        assert selector != null;
+        this.source = source;
+        this.selector = selector;
+    }
+
+    @Override
+    public AbstractDoubleIterator clone() {
+        return new SelectDoubleIterator(this.source, this.selector);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.selector.applyAsDouble(this.enumerator.current());
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+
+    IDoubleEnumerable _select(DoubleUnaryOperator selector) {
+        return new SelectDoubleIterator(this.source, this.selector.andThen(selector));
+    }
+}
+
+
+final class SelectDoubleToIntIterator extends AbstractIntIterator {
+    private final IDoubleEnumerable source;
+    private final DoubleToIntFunction selector;
+    private IDoubleEnumerator enumerator;
+
+    SelectDoubleToIntIterator(IDoubleEnumerable source, DoubleToIntFunction selector) {
+        assert source != null;
+        assert selector != null;
+        this.source = source;
+        this.selector = selector;
+    }
+
+    @Override
+    public AbstractIntIterator clone() {
+        return new SelectDoubleToIntIterator(this.source, this.selector);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.selector.applyAsInt(this.enumerator.current());
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+final class SelectDoubleToLongIterator extends AbstractLongIterator {
+    private final IDoubleEnumerable source;
+    private final DoubleToLongFunction selector;
+    private IDoubleEnumerator enumerator;
+
+    SelectDoubleToLongIterator(IDoubleEnumerable source, DoubleToLongFunction selector) {
+        assert source != null;
+        assert selector != null;
+        this.source = source;
+        this.selector = selector;
+    }
+
+    @Override
+    public AbstractLongIterator clone() {
+        return new SelectDoubleToLongIterator(this.source, this.selector);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.selector.applyAsLong(this.enumerator.current());
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+final class SelectEnumerableToDoubleIterator<TSource> extends AbstractDoubleIterator {
+    private final IEnumerable<TSource> source;
+    private final DoubleFunc1<TSource> selector;
+    private IEnumerator<TSource> enumerator;
+
+    SelectEnumerableToDoubleIterator(IEnumerable<TSource> source, DoubleFunc1<TSource> selector) {
+        assert source != null;
+        assert selector != null;
+        this.source = source;
+        this.selector = selector;
+    }
+
+    @Override
+    public AbstractDoubleIterator clone() {
+        return new SelectEnumerableToDoubleIterator<>(this.source, this.selector);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.selector.apply(this.enumerator.current());
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+final class BoxedDoubleIterator extends Iterator<Double> {
+    private final IDoubleEnumerable source;
+    private IDoubleEnumerator enumerator;
+
+    BoxedDoubleIterator(IDoubleEnumerable source) {
+        assert source != null;
+        this.source = source;
+    }
+
+    @Override
+    public Iterator<Double> clone() {
+        return new BoxedDoubleIterator(this.source);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.enumerator.current();
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
@@ -5,7 +5,6 @@ import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.exception.ExceptionArgument;
 import com.bestvike.linq.exception.ThrowHelper;
-import com.bestvike.out;
 
 /**
  * Created by 许崇雷 on 2018-04-27.
@@ -20,10 +19,10 @@ public final class ElementAt {
 
         if (source instanceof IPartition) {
             IPartition<TSource> partition = (IPartition<TSource>) source;
-            out<Boolean> foundRef = out.init();
-            TSource element = partition._tryGetElementAt(index, foundRef);
-            if (foundRef.value)
-                return element;
+            Object element = partition._tryGetElementAt(index);
+            if (element != IPartition.NOT_FOUND)
+                //noinspection unchecked
+                return (TSource) element;
         } else {
             if (source instanceof IList) {
                 IList<TSource> list = (IList<TSource>) source;
@@ -50,8 +49,9 @@ public final class ElementAt {
 
         if (source instanceof IPartition) {
             IPartition<TSource> partition = (IPartition<TSource>) source;
-            out<Boolean> foundRef = out.init();
-            return partition._tryGetElementAt(index, foundRef);
+            Object element = partition._tryGetElementAt(index);
+            //noinspection unchecked
+            return element == IPartition.NOT_FOUND ? null : (TSource) element;
         }
 
         if (index >= 0) {
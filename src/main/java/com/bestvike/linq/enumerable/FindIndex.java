@@ -51,12 +51,11 @@ public final class FindIndex {
         // see ReverseIterator.moveNext()
         Buffer<TSource> buffer = new Buffer<>(source);
         Object[] array = buffer.items;
-        for (int i = buffer.count - 1; i >= 0; i--) {
-            //noinspection unchecked
-            if (predicate.apply((TSource) array[i]))
-                return i;
-        }
-
-        return -1;
+        int index = buffer.count - 1;
+        //noinspection unchecked
+        while (index >= 0 && !predicate.apply((TSource) array[index]))
+            index--;
+        buffer.release();
+        return index;
     }
 }
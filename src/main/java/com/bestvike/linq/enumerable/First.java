@@ -6,7 +6,6 @@ import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.exception.ExceptionArgument;
 import com.bestvike.linq.exception.ThrowHelper;
-import com.bestvike.out;
 
 /**
  * Created by 许崇雷 on 2018-04-28.
@@ -16,60 +15,57 @@ public final class First {
     }
 
     public static <TSource> TSource first(IEnumerable<TSource> source) {
-        out<Boolean> foundRef = out.init();
-        TSource first = tryGetFirst(source, foundRef);
-        if (!foundRef.value)
+        Object first = tryGetFirst(source);
+        if (first == IPartition.NOT_FOUND)
             ThrowHelper.throwNoElementsException();
-        return first;
+        //noinspection unchecked
+        return (TSource) first;
     }
 
     public static <TSource> TSource first(IEnumerable<TSource> source, Predicate1<TSource> predicate) {
-        out<Boolean> foundRef = out.init();
-        TSource first = tryGetFirst(source, predicate, foundRef);
-        if (!foundRef.value)
+        Object first = tryGetFirst(source, predicate);
+        if (first == IPartition.NOT_FOUND)
             ThrowHelper.throwNoMatchException();
-        return first;
+        //noinspection unchecked
+        return (TSource) first;
     }
 
     public static <TSource> TSource firstOrDefault(IEnumerable<TSource> source) {
-        out<Boolean> foundRef = out.init();
-        return tryGetFirst(source, foundRef);
+        Object first = tryGetFirst(source);
+        //noinspection unchecked
+        return first == IPartition.NOT_FOUND ? null : (TSource) first;
     }
 
     public static <TSource> TSource firstOrDefault(IEnumerable<TSource> source, Predicate1<TSource> predicate) {
-        out<Boolean> foundRef = out.init();
-        return tryGetFirst(source, predicate, foundRef);
+        Object first = tryGetFirst(source, predicate);
+        //noinspection unchecked
+        return first == IPartition.NOT_FOUND ? null : (TSource) first;
     }
 
-    private static <TSource> TSource tryGetFirst(IEnumerable<TSource> source, out<Boolean> found) {
+    private static <TSource> Object tryGetFirst(IEnumerable<TSource> source) {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
 
         if (source instanceof IPartition) {
             IPartition<TSource> partition = (IPartition<TSource>) source;
-            return partition._tryGetFirst(found);
+            return partition._tryGetFirst();
         }
 
         if (source instanceof IList) {
             IList<TSource> list = (IList<TSource>) source;
-            if (list._getCount() > 0) {
-                found.value = true;
+            if (list._getCount() > 0)
                 return list.get(0);
-            }
         } else {
             try (IEnumerator<TSource> e = source.enumerator()) {
-                if (e.moveNext()) {
-                    found.value = true;
+                if (e.moveNext())
                     return e.current();
-                }
             }
         }
 
-        found.value = false;
-        return null;
+        return IPartition.NOT_FOUND;
     }
 
-    private static <TSource> TSource tryGetFirst(IEnumerable<TSource> source, Predicate1<TSource> predicate, out<Boolean> found) {
+    private static <TSource> Object tryGetFirst(IEnumerable<TSource> source, Predicate1<TSource> predicate) {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
         if (predicate == null)
@@ -77,20 +73,17 @@ public final class First {
 
         if (source instanceof AbstractOrderedEnumerable) {
             AbstractOrderedEnumerable<TSource> ordered = (AbstractOrderedEnumerable<TSource>) source;
-            return ordered._tryGetFirst(predicate, found);
+            return ordered._tryGetFirst(predicate);
         }
 
         try (IEnumerator<TSource> e = source.enumerator()) {
             while (e.moveNext()) {
                 TSource element = e.current();
-                if (predicate.apply(element)) {
-                    found.value = true;
+                if (predicate.apply(element))
                     return element;
-                }
             }
         }
 
-        found.value = false;
-        return null;
+        return IPartition.NOT_FOUND;
     }
 }
@@ -3,6 +3,8 @@ package com.bestvike.linq.enumerable;
 import com.bestvike.collections.generic.IEqualityComparer;
 import com.bestvike.function.Func1;
 import com.bestvike.function.Func2;
+import com.bestvike.function.IntFunc1;
+import com.bestvike.function.LongFunc1;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.IGrouping;
@@ -49,6 +51,28 @@ public final class GroupBy {
     public static <TSource, TKey, TElement, TResult> IEnumerable<TResult> groupBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Func1<TSource, TElement> elementSelector, Func2<TKey, IEnumerable<TElement>, TResult> resultSelector, IEqualityComparer<TKey> comparer) {
         return new GroupedResultEnumerable2<>(source, keySelector, elementSelector, resultSelector, comparer);
     }
+
+    public static <TSource> IEnumerable<IGrouping<Integer, TSource>> groupByInt(IEnumerable<TSource> source, IntFunc1<TSource> keySelector) {
+        return new IntGroupedEnumerable<>(source, keySelector, null);
+    }
+
+    public static <TSource, TElement> IEnumerable<IGrouping<Integer, TElement>> groupByInt(IEnumerable<TSource> source, IntFunc1<TSource> keySelector, Func1<TSource, TElement> elementSelector) {
+        if (elementSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.elementSelector);
+
+        return new IntGroupedEnumerable<>(source, keySelector, elementSelector);
+    }
+
+    public static <TSource> IEnumerable<IGrouping<Long, TSource>> groupByLong(IEnumerable<TSource> source, LongFunc1<TSource> keySelector) {
+        return new LongGroupedEnumerable<>(source, keySelector, null);
+    }
+
+    public static <TSource, TElement> IEnumerable<IGrouping<Long, TElement>> groupByLong(IEnumerable<TSource> source, LongFunc1<TSource> keySelector, Func1<TSource, TElement> elementSelector) {
+        if (elementSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.elementSelector);
+
+        return new LongGroupedEnumerable<>(source, keySelector, elementSelector);
+    }
 }
 
 
@@ -246,3 +270,105 @@ final class GroupedResultEnumerable2<TSource, TKey, TElement, TResult> implement
         return onlyIfCheap ? -1 : Lookup.create(this.source, this.keySelector, this.elementSelector, this.comparer).getCount();
     }
 }
+
+
+final class IntGroupedEnumerable<TSource, TElement> implements IIListProvider<IGrouping<Integer, TElement>> {
+    private final IEnumerable<TSource> source;
+    private final IntFunc1<TSource> keySelector;
+    private final Func1<TSource, TElement> elementSelector;
+
+    // A null elementSelector groups the source elements themselves.
+    IntGroupedEnumerable(IEnumerable<TSource> source, IntFunc1<TSource> keySelector, Func1<TSource, TElement> elementSelector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+
+        this.source = source;
+        this.keySelector = keySelector;
+        this.elementSelector = elementSelector;
+    }
+
+    private IntLookup<TElement> createLookup() {
+        //noinspection unchecked
+        return this.elementSelector == null
+                ? IntLookup.create((IEnumerable<TElement>) this.source, (IntFunc1<TElement>) this.keySelector)
+                : IntLookup.create(this.source, this.keySelector, this.elementSelector);
+    }
+
+    @Override
+    public IEnumerator<IGrouping<Integer, TElement>> enumerator() {
+        return this.createLookup().enumerator();
+    }
+
+    @Override
+    public IGrouping<Integer, TElement>[] _toArray(Class<IGrouping<Integer, TElement>> clazz) {
+        return this.createLookup()._toArray(clazz);
+    }
+
+    @Override
+    public Object[] _toArray() {
+        return this.createLookup()._toArray();
+    }
+
+    @Override
+    public List<IGrouping<Integer, TElement>> _toList() {
+        return this.createLookup()._toList();
+    }
+
+    @Override
+    public int _getCount(boolean onlyIfCheap) {
+        return onlyIfCheap ? -1 : this.createLookup().getCount();
+    }
+}
+
+
+final class LongGroupedEnumerable<TSource, TElement> implements IIListProvider<IGrouping<Long, TElement>> {
+    private final IEnumerable<TSource> source;
+    private final LongFunc1<TSource> keySelector;
+    private final Func1<TSource, TElement> elementSelector;
+
+    // A null elementSelector groups the source elements themselves.
+    LongGroupedEnumerable(IEnumerable<TSource> source, LongFunc1<TSource> keySelector, Func1<TSource, TElement> elementSelector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+
+        this.source = source;
+        this.keySelector = keySelector;
+        this.elementSelector = elementSelector;
+    }
+
+    private LongLookup<TElement> createLookup() {
+        //noinspection unchecked
+        return this.elementSelector == null
+                ? LongLookup.create((IEnumerable<TElement>) this.source, (LongFunc1<TElement>) this.keySelector)
+                : LongLookup.create(this.source, this.keySelector, this.elementSelector);
+    }
+
+    @Override
+    public IEnumerator<IGrouping<Long, TElement>> enumerator() {
+        return this.createLookup().enumerator();
+    }
+
+    @Override
+    public IGrouping<Long, TElement>[] _toArray(Class<IGrouping<Long, TElement>> clazz) {
+        return this.createLookup()._toArray(clazz);
+    }
+
+    @Override
+    public Object[] _toArray() {
+        return this.createLookup()._toArray();
+    }
+
+    @Override
+    public List<IGrouping<Long, TElement>> _toList() {
+        return this.createLookup()._toList();
+    }
+
+    @Override
+    public int _getCount(boolean onlyIfCheap) {
+        return onlyIfCheap ? -1 : this.createLookup().getCount();
+    }
+}
@@ -4,7 +4,6 @@ import com.bestvike.collections.generic.IEqualityComparer;
 import com.bestvike.function.Func1;
 import com.bestvike.function.Func2;
 import com.bestvike.linq.IEnumerable;
-import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.exception.ExceptionArgument;
 import com.bestvike.linq.exception.ThrowHelper;
 
@@ -43,8 +42,7 @@ final class GroupJoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIte
     private final Func1<TInner, TKey> innerKeySelector;
     private final Func2<TOuter, IEnumerable<TInner>, TResult> resultSelector;
     private final IEqualityComparer<TKey> comparer;
-    private IEnumerator<TOuter> outerEnumerator;
-    private Lookup<TKey, TInner> lookup;
+    private JoinProbe<TOuter, TInner, TKey> probe;
 
     GroupJoinIterator(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, IEnumerable<TInner>, TResult> resultSelector, IEqualityComparer<TKey> comparer) {
         this.outer = outer;
@@ -64,20 +62,12 @@ final class GroupJoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIte
     public boolean moveNext() {
         switch (this.state) {
             case 1:
-                this.outerEnumerator = this.outer.enumerator();
-                if (!this.outerEnumerator.moveNext()) {
-                    this.close();
-                    return false;
-                }
-                this.lookup = Lookup.createForJoin(this.inner, this.innerKeySelector, this.comparer);
-                TOuter item = this.outerEnumerator.current();
-                this.current = this.resultSelector.apply(item, this.lookup.fetch(this.outerKeySelector.apply(item)));
+                this.probe = JoinProbe.create(this.outer, this.outerKeySelector, this.inner, this.innerKeySelector, this.comparer, false);
                 this.state = 2;
-                return true;
             case 2:
-                if (this.outerEnumerator.moveNext()) {
-                    item = this.outerEnumerator.current();
-                    this.current = this.resultSelector.apply(item, this.lookup.fetch(this.outerKeySelector.apply(item)));
+                if (this.probe.moveNext()) {
+                    IEnumerable<TInner> matches = this.probe.matches;
+                    this.current = this.resultSelector.apply(this.probe.current, matches == null ? EmptyPartition.instance() : matches);
                     return true;
                 }
                 this.close();
@@ -89,10 +79,9 @@ final class GroupJoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIte
 
     @Override
     public void close() {
-        if (this.outerEnumerator != null) {
-            this.outerEnumerator.close();
-            this.outerEnumerator = null;
-            this.lookup = null;
+        if (this.probe != null) {
+            this.probe.close();
+            this.probe = null;
         }
         super.close();
     }
@@ -0,0 +1,19 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.linq.IEnumerable;
+
+import java.util.List;
+
+/**
+ * Created by 许崇雷 on 2018-05-07.
+ */
+public interface IIListProvider<TElement> extends IEnumerable<TElement> {
+    TElement[] _toArray(Class<TElement> clazz);
+
+    Object[] _toArray();
+
+    List<TElement> _toList();
+
+    // Returns -1 when onlyIfCheap and counting would enumerate, or consume, the source.
+    int _getCount(boolean onlyIfCheap);
+}
@@ -60,12 +60,11 @@ public final class IndexOf {
         // see ReverseIterator.moveNext()
         Buffer<TSource> buffer = new Buffer<>(source);
         Object[] array = buffer.items;
-        for (int i = buffer.count - 1; i >= 0; i--) {
-            //noinspection unchecked
-            if (comparer.equals((TSource) array[i], value))
-                return i;
-        }
-
-        return -1;
+        int index = buffer.count - 1;
+        //noinspection unchecked
+        while (index >= 0 && !comparer.equals((TSource) array[index], value))
+            index--;
+        buffer.release();
+        return index;
     }
 }
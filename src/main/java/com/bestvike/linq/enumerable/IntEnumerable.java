@@ -0,0 +1,572 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.function.IntFunc1;
+import com.bestvike.linq.IDoubleEnumerable;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.IIntEnumerable;
+import com.bestvike.linq.IIntEnumerator;
+import com.bestvike.linq.ILongEnumerable;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+public final class IntEnumerable {
+    private static final int DEFAULT_CAPACITY = 4;
+    private static final int MAX_ARRAY_LENGTH = 0x7FEFFFFF;
+    private static final int[] EMPTY = new int[0];
+
+    private IntEnumerable() {
+    }
+
+    public static IIntEnumerable of(int[] source) {
+        return new IntArrayIterator(source == null ? EMPTY : source);
+    }
+
+    public static <TSource> IIntEnumerable selectInt(IEnumerable<TSource> source, IntFunc1<TSource> selector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        return new SelectEnumerableToIntIterator<>(source, selector);
+    }
+
+    public static IIntEnumerable where(IIntEnumerable source, IntPredicate predicate) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (predicate == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.predicate);
+
+        if (source instanceof WhereIntIterator) {
+            WhereIntIterator iterator = (WhereIntIterator) source;
+            return iterator._where(predicate);
+        }
+
+        return new WhereIntIterator(source, predicate);
+    }
+
+    public static IIntEnumerable select(IIntEnumerable source, IntUnaryOperator selector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        if (source instanceof SelectIntIterator) {
+            SelectIntIterator iterator = (SelectIntIterator) source;
+            return iterator._select(selector);
+        }
+
+        return new SelectIntIterator(source, selector);
+    }
+
+    public static ILongEnumerable selectLong(IIntEnumerable source, IntToLongFunction selector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        return new SelectIntToLongIterator(source, selector);
+    }
+
+    public static IDoubleEnumerable selectDouble(IIntEnumerable source, IntToDoubleFunction selector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        return new SelectIntToDoubleIterator(source, selector);
+    }
+
+    public static IEnumerable<Integer> boxed(IIntEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof IntArrayIterator) {
+            IntArrayIterator iterator = (IntArrayIterator) source;
+            return Enumerable.of(iterator.getArray());
+        }
+
+        return new BoxedIntIterator(source);
+    }
+
+    public static int count(IIntEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof IntArrayIterator) {
+            IntArrayIterator iterator = (IntArrayIterator) source;
+            return iterator.getArray().length;
+        }
+
+        int count = 0;
+        try (IIntEnumerator e = source.enumerator()) {
+            while (e.moveNext())
+                count = Math.addExact(count, 1);
+        }
+        return count;
+    }
+
+    public static void forEach(IIntEnumerable source, IntConsumer action) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (action == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.action);
+
+        try (IIntEnumerator e = source.enumerator()) {
+            while (e.moveNext())
+                action.accept(e.current());
+        }
+    }
+
+    public static int sum(IIntEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        int sum = 0;
+        try (IIntEnumerator e = source.enumerator()) {
+            while (e.moveNext())
+                sum = Math.addExact(sum, e.current());
+        }
+        return sum;
+    }
+
+    public static int min(IIntEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        try (IIntEnumerator e = source.enumerator()) {
+            if (!e.moveNext())
+                ThrowHelper.throwNoElementsException();
+
+            int value = e.current();
+            while (e.moveNext()) {
+                int x = e.current();
+                if (x < value)
+                    value = x;
+            }
+            return value;
+        }
+    }
+
+    public static int max(IIntEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        try (IIntEnumerator e = source.enumerator()) {
+            if (!e.moveNext())
+                ThrowHelper.throwNoElementsException();
+
+            int value = e.current();
+            while (e.moveNext()) {
+                int x = e.current();
+                if (x > value)
+                    value = x;
+            }
+            return value;
+        }
+    }
+
+    public static double average(IIntEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        try (IIntEnumerator e = source.enumerator()) {
+            if (!e.moveNext())
+                ThrowHelper.throwNoElementsException();
+
+            long sum = e.current();
+            long count = 1;
+            while (e.moveNext()) {
+                sum = Math.addExact(sum, e.current());
+                count = Math.addExact(count, 1);
+            }
+            return (double) sum / count;
+        }
+    }
+
+    public static int[] toArray(IIntEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof IntArrayIterator) {
+            IntArrayIterator iterator = (IntArrayIterator) source;
+            int[] array = iterator.getArray();
+            return array.length == 0 ? EMPTY : array.clone();
+        }
+
+        try (IIntEnumerator e = source.enumerator()) {
+            if (!e.moveNext())
+                return EMPTY;
+
+            int[] array = new int[DEFAULT_CAPACITY];
+            array[0] = e.current();
+            int count = 1;
+            while (e.moveNext()) {
+                if (count == array.length) {
+                    // Same growth logic as EnumerableHelpers.toArray.
+                    int newLength = count << 1;
+                    if (Integer.compareUnsigned(newLength, MAX_ARRAY_LENGTH) > 0)
+                        newLength = MAX_ARRAY_LENGTH <= count ? count + 1 : MAX_ARRAY_LENGTH;
+                    array = Arrays.copyOf(array, newLength);
+                }
+                array[count++] = e.current();
+            }
+            return count == array.length ? array : Arrays.copyOf(array, count);
+        }
+    }
+}
+
+
+abstract class AbstractIntIterator implements IIntEnumerable, IIntEnumerator {
+    private final long threadId;
+    protected int state;
+    protected int current;
+
+    AbstractIntIterator() {
+        this.threadId = Thread.currentThread().getId();
+    }
+
+    @Override
+    public abstract AbstractIntIterator clone();
+
+    @Override
+    public IIntEnumerator enumerator() {
+        AbstractIntIterator enumerator = this.state == 0 && this.threadId == Thread.currentThread().getId() ? this : this.clone();
+        enumerator.state = 1;
+        return enumerator;
+    }
+
+    @Override
+    public int current() {
+        return this.current;
+    }
+
+    @Override
+    public void close() {
+        this.state = -1;
+    }
+}
+
+
+final class IntArrayIterator extends AbstractIntIterator {
+    private final int[] source;
+
+    IntArrayIterator(int[] source) {
+        assert source != null;
+        this.source = source;
+    }
+
+    int[] getArray() {
+        return this.source;
+    }
+
+    @Override
+    public AbstractIntIterator clone() {
+        return new IntArrayIterator(this.source);
+    }
+
+    @Override
+    public boolean moveNext() {
+        if (this.state < 1 || this.state > this.source.length) {
+            this.close();
+            return false;
+        }
+
+        this.current = this.source[this.state++ - 1];
+        return true;
+    }
+}
+
+
+final class WhereIntIterator extends AbstractIntIterator {
+    private final IIntEnumerable source;
+    private final IntPredicate predicate;
+    private IIntEnumerator enumerator;
+
+    WhereIntIterator(IIntEnumerable source, IntPredicate predicate) {
+        assert source != null;
+        assert predicate != null;
+        this.source = source;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public AbstractIntIterator clone() {
+        return new WhereIntIterator(this.source, this.predicate);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                while (this.enumerator.moveNext()) {
+                    int item = this.enumerator.current();
+                    if (this.predicate.test(item)) {
+                        this.current = item;
+                        return true;
+                    }
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+
+    IIntEnumerable _where(IntPredicate predicate) {
+        return new WhereIntIterator(this.source, this.predicate.and(predicate));
+    }
+}
+
+
+final class SelectIntIterator extends AbstractIntIterator {
+    private final IIntEnumerable source;
+    private final IntUnaryOperator selector;
+    private IIntEnumerator enumerator;
+
+    SelectIntIterator(IIntEnumerable source, IntUnaryOperator selector) {
+        assert source != null;
+        assert selector != null;
+        this.source = source;
+        this.selector = selector;
+    }
+
+    @Override
+    public AbstractIntIterator clone() {
+        return new SelectIntIterator(this.source, this.selector);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.selector.applyAsInt(this.enumerator.current());
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+
+    IIntEnumerable _select(IntUnaryOperator selector) {
+        return new SelectIntIterator(this.source, this.selector.andThen(selector));
+    }
+}
+
+
+final class SelectIntToLongIterator extends AbstractLongIterator {
+    private final IIntEnumerable source;
+    private final IntToLongFunction selector;
+    private IIntEnumerator enumerator;
+
+    SelectIntToLongIterator(IIntEnumerable source, IntToLongFunction selector) {
+        assert source != null;
+        assert selector != null;
+        this.source = source;
+        this.selector = selector;
+    }
+
+    @Override
+    public AbstractLongIterator clone() {
+        return new SelectIntToLongIterator(this.source, this.selector);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.selector.applyAsLong(this.enumerator.current());
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+final class SelectIntToDoubleIterator extends AbstractDoubleIterator {
+    private final IIntEnumerable source;
+    private final IntToDoubleFunction selector;
+    private IIntEnumerator enumerator;
+
+    SelectIntToDoubleIterator(IIntEnumerable source, IntToDoubleFunction selector) {
+        assert source != null;
+        assert selector != null;
+        this.source = source;
+        this.selector = selector;
+    }
+
+    @Override
+    public AbstractDoubleIterator clone() {
+        return new SelectIntToDoubleIterator(this.source, this.selector);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.selector.applyAsDouble(this.enumerator.current());
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+final class SelectEnumerableToIntIterator<TSource> extends AbstractIntIterator {
+    private final IEnumerable<TSource> source;
+    private final IntFunc1<TSource> selector;
+    private IEnumerator<TSource> enumerator;
+
+    SelectEnumerableToIntIterator(IEnumerable<TSource> source, IntFunc1<TSource> selector) {
+        assert source != null;
+        assert selector != null;
+        this.source = source;
+        this.selector = selector;
+    }
+
+    @Override
+    public AbstractIntIterator clone() {
+        return new SelectEnumerableToIntIterator<>(this.source, this.selector);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.selector.apply(this.enumerator.current());
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+final class BoxedIntIterator extends Iterator<Integer> {
+    private final IIntEnumerable source;
+    private IIntEnumerator enumerator;
+
+    BoxedIntIterator(IIntEnumerable source) {
+        assert source != null;
+        this.source = source;
+    }
+
+    @Override
+    public Iterator<Integer> clone() {
+        return new BoxedIntIterator(this.source);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.enumerator.current();
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
@@ -52,6 +52,7 @@ final class IntersectIterator<TSource> extends AbstractIterator<TSource> {
             case 1:
                 this.set = new Set<>(this.comparer);
                 this.set.unionWith(this.second);
+                this.set.buildFilter();
                 this.enumerator = this.first.enumerator();
                 this.state = 2;
             case 2:
@@ -57,6 +57,7 @@ final class IntersectByIterator<TSource, TKey> extends AbstractIterator<TSource>
             case 1:
                 this.set = new Set<>(this.comparer);
                 this.set.unionWith(this.second, this.keySelector);
+                this.set.buildFilter();
                 this.enumerator = this.first.enumerator();
                 this.state = 2;
             case 2:
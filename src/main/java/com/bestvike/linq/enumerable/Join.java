@@ -4,6 +4,8 @@ import com.bestvike.collections.generic.ICollection;
 import com.bestvike.collections.generic.IEqualityComparer;
 import com.bestvike.function.Func1;
 import com.bestvike.function.Func2;
+import com.bestvike.function.IntFunc1;
+import com.bestvike.function.LongFunc1;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.exception.ExceptionArgument;
@@ -38,6 +40,36 @@ public final class Join {
         return new JoinIterator<>(outer, inner, outerKeySelector, innerKeySelector, resultSelector, comparer);
     }
 
+    public static <TOuter, TInner, TResult> IEnumerable<TResult> joinInt(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, IntFunc1<TOuter> outerKeySelector, IntFunc1<TInner> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector) {
+        if (outer == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outer);
+        if (inner == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.inner);
+        if (outerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outerKeySelector);
+        if (innerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.innerKeySelector);
+        if (resultSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.resultSelector);
+
+        return new IntJoinIterator<>(outer, inner, outerKeySelector, innerKeySelector, resultSelector);
+    }
+
+    public static <TOuter, TInner, TResult> IEnumerable<TResult> joinLong(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, LongFunc1<TOuter> outerKeySelector, LongFunc1<TInner> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector) {
+        if (outer == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outer);
+        if (inner == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.inner);
+        if (outerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outerKeySelector);
+        if (innerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.innerKeySelector);
+        if (resultSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.resultSelector);
+
+        return new LongJoinIterator<>(outer, inner, outerKeySelector, innerKeySelector, resultSelector);
+    }
+
     public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> leftJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector) {
         return leftJoin(outer, inner, outerKeySelector, innerKeySelector, null, resultSelector, null);
     }
@@ -139,10 +171,7 @@ final class JoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIterator
     private final Func1<TInner, TKey> innerKeySelector;
     private final Func2<TOuter, TInner, TResult> resultSelector;
     private final IEqualityComparer<TKey> comparer;
-    private IEnumerator<TOuter> outerEnumerator;
-    private Lookup<TKey, TInner> lookup;
-    private TOuter item;
-    private Grouping<TKey, TInner> g;
+    private JoinProbe<TOuter, TInner, TKey> probe;
     private int index;
 
     JoinIterator(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector, IEqualityComparer<TKey> comparer) {
@@ -159,6 +188,80 @@ final class JoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIterator
         return new JoinIterator<>(this.outer, this.inner, this.outerKeySelector, this.innerKeySelector, this.resultSelector, this.comparer);
     }
 
+    @Override
+    public boolean moveNext() {
+        do {
+            switch (this.state) {
+                case 1:
+                    this.probe = JoinProbe.create(this.outer, this.outerKeySelector, this.inner, this.innerKeySelector, this.comparer, true);
+                    if (!this.probe.moveNext() || !this.probe.hasMatches()) {
+                        this.close();
+                        return false;
+                    }
+                    this.state = 2;
+                case 2:
+                    if (this.probe.matches == null) {
+                        this.state = 3;
+                        break;
+                    }
+                    this.index = -1;
+                    this.state = 4;
+                    break;
+                case 3:
+                    if (!this.probe.moveNext()) {
+                        this.close();
+                        return false;
+                    }
+                    this.state = 2;
+                    break;
+                case 4:
+                    this.index++;
+                    if (this.index < this.probe.matches._getCount()) {
+                        this.current = this.resultSelector.apply(this.probe.current, this.probe.matches.get(this.index));
+                        return true;
+                    }
+                    this.state = 3;
+                    break;
+                default:
+                    return false;
+            }
+        } while (true);
+    }
+
+    @Override
+    public void close() {
+        if (this.probe != null) {
+            this.probe.close();
+            this.probe = null;
+        }
+        super.close();
+    }
+}
+
+
+// Join on a primitive key, the subclasses only build their lookup and probe it without boxing the outer keys.
+abstract class PrimitiveJoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIterator<TResult> {
+    final IEnumerable<TOuter> outer;
+    final IEnumerable<TInner> inner;
+    final Func2<TOuter, TInner, TResult> resultSelector;
+    private IEnumerator<TOuter> outerEnumerator;
+    private TOuter item;
+    private Grouping<TKey, TInner> g;
+    private int index;
+
+    PrimitiveJoinIterator(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func2<TOuter, TInner, TResult> resultSelector) {
+        this.outer = outer;
+        this.inner = inner;
+        this.resultSelector = resultSelector;
+    }
+
+    // Builds the lookup over inner, returns false when it is empty.
+    abstract boolean createLookup();
+
+    abstract Grouping<TKey, TInner> getGrouping(TOuter item);
+
+    abstract void releaseLookup();
+
     @Override
     public boolean moveNext() {
         do {
@@ -169,15 +272,14 @@ final class JoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIterator
                         this.close();
                         return false;
                     }
-                    this.lookup = Lookup.createForJoin(this.inner, this.innerKeySelector, this.comparer);
-                    if (this.lookup.getCount() == 0) {
+                    if (!this.createLookup()) {
                         this.close();
                         return false;
                     }
                     this.state = 2;
                 case 2:
                     this.item = this.outerEnumerator.current();
-                    this.g = this.lookup.fetchGrouping(this.outerKeySelector.apply(this.item));
+                    this.g = this.getGrouping(this.item);
                     if (this.g == null) {
                         this.state = 3;
                         break;
@@ -211,7 +313,7 @@ final class JoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIterator
         if (this.outerEnumerator != null) {
             this.outerEnumerator.close();
             this.outerEnumerator = null;
-            this.lookup = null;
+            this.releaseLookup();
             this.item = null;
             this.g = null;
         }
@@ -220,6 +322,74 @@ final class JoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIterator
 }
 
 
+final class IntJoinIterator<TOuter, TInner, TResult> extends PrimitiveJoinIterator<TOuter, TInner, Integer, TResult> {
+    private final IntFunc1<TOuter> outerKeySelector;
+    private final IntFunc1<TInner> innerKeySelector;
+    private IntLookup<TInner> lookup;
+
+    IntJoinIterator(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, IntFunc1<TOuter> outerKeySelector, IntFunc1<TInner> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector) {
+        super(outer, inner, resultSelector);
+        this.outerKeySelector = outerKeySelector;
+        this.innerKeySelector = innerKeySelector;
+    }
+
+    @Override
+    public AbstractIterator<TResult> clone() {
+        return new IntJoinIterator<>(this.outer, this.inner, this.outerKeySelector, this.innerKeySelector, this.resultSelector);
+    }
+
+    @Override
+    boolean createLookup() {
+        this.lookup = IntLookup.create(this.inner, this.innerKeySelector);
+        return this.lookup.getCount() != 0;
+    }
+
+    @Override
+    Grouping<Integer, TInner> getGrouping(TOuter item) {
+        return this.lookup.getGrouping(this.outerKeySelector.apply(item));
+    }
+
+    @Override
+    void releaseLookup() {
+        this.lookup = null;
+    }
+}
+
+
+final class LongJoinIterator<TOuter, TInner, TResult> extends PrimitiveJoinIterator<TOuter, TInner, Long, TResult> {
+    private final LongFunc1<TOuter> outerKeySelector;
+    private final LongFunc1<TInner> innerKeySelector;
+    private LongLookup<TInner> lookup;
+
+    LongJoinIterator(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, LongFunc1<TOuter> outerKeySelector, LongFunc1<TInner> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector) {
+        super(outer, inner, resultSelector);
+        this.outerKeySelector = outerKeySelector;
+        this.innerKeySelector = innerKeySelector;
+    }
+
+    @Override
+    public AbstractIterator<TResult> clone() {
+        return new LongJoinIterator<>(this.outer, this.inner, this.outerKeySelector, this.innerKeySelector, this.resultSelector);
+    }
+
+    @Override
+    boolean createLookup() {
+        this.lookup = LongLookup.create(this.inner, this.innerKeySelector);
+        return this.lookup.getCount() != 0;
+    }
+
+    @Override
+    Grouping<Long, TInner> getGrouping(TOuter item) {
+        return this.lookup.getGrouping(this.outerKeySelector.apply(item));
+    }
+
+    @Override
+    void releaseLookup() {
+        this.lookup = null;
+    }
+}
+
+
 final class LeftJoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIterator<TResult> {
     private final IEnumerable<TOuter> outer;
     private final IEnumerable<TInner> inner;
@@ -228,10 +398,7 @@ final class LeftJoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIter
     private final TInner defaultInner;
     private final Func2<TOuter, TInner, TResult> resultSelector;
     private final IEqualityComparer<TKey> comparer;
-    private IEnumerator<TOuter> outerEnumerator;
-    private Lookup<TKey, TInner> lookup;
-    private TOuter item;
-    private Grouping<TKey, TInner> g;
+    private JoinProbe<TOuter, TInner, TKey> probe;
     private int index;
 
     LeftJoinIterator(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, TInner defaultInner, Func2<TOuter, TInner, TResult> resultSelector, IEqualityComparer<TKey> comparer) {
@@ -254,18 +421,15 @@ final class LeftJoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIter
         do {
             switch (this.state) {
                 case 1:
-                    this.outerEnumerator = this.outer.enumerator();
-                    if (!this.outerEnumerator.moveNext()) {
+                    this.probe = JoinProbe.create(this.outer, this.outerKeySelector, this.inner, this.innerKeySelector, this.comparer, true);
+                    if (!this.probe.moveNext()) {
                         this.close();
                         return false;
                     }
-                    this.lookup = Lookup.createForJoin(this.inner, this.innerKeySelector, this.comparer);
                     this.state = 2;
                 case 2:
-                    this.item = this.outerEnumerator.current();
-                    this.g = this.lookup.fetchGrouping(this.outerKeySelector.apply(this.item));
-                    if (this.g == null) {
-                        this.current = this.resultSelector.apply(this.item, this.defaultInner);
+                    if (this.probe.matches == null) {
+                        this.current = this.resultSelector.apply(this.probe.current, this.defaultInner);
                         this.state = 3;
                         return true;
                     }
@@ -273,7 +437,7 @@ final class LeftJoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIter
                     this.state = 4;
                     break;
                 case 3:
-                    if (!this.outerEnumerator.moveNext()) {
+                    if (!this.probe.moveNext()) {
                         this.close();
                         return false;
                     }
@@ -281,8 +445,8 @@ final class LeftJoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIter
                     break;
                 case 4:
                     this.index++;
-                    if (this.index < this.g._getCount()) {
-                        this.current = this.resultSelector.apply(this.item, this.g.get(this.index));
+                    if (this.index < this.probe.matches._getCount()) {
+                        this.current = this.resultSelector.apply(this.probe.current, this.probe.matches.get(this.index));
                         return true;
                     }
                     this.state = 3;
@@ -295,12 +459,9 @@ final class LeftJoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIter
 
     @Override
     public void close() {
-        if (this.outerEnumerator != null) {
-            this.outerEnumerator.close();
-            this.outerEnumerator = null;
-            this.lookup = null;
-            this.item = null;
-            this.g = null;
+        if (this.probe != null) {
+            this.probe.close();
+            this.probe = null;
         }
         super.close();
     }
@@ -315,10 +476,7 @@ final class RightJoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIte
     private final TOuter defaultOuter;
     private final Func2<TOuter, TInner, TResult> resultSelector;
     private final IEqualityComparer<TKey> comparer;
-    private IEnumerator<TInner> innerEnumerator;
-    private Lookup<TKey, TOuter> lookup;
-    private TInner item;
-    private Grouping<TKey, TOuter> g;
+    private JoinProbe<TInner, TOuter, TKey> probe;
     private int index;
 
     RightJoinIterator(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, TOuter defaultOuter, Func2<TOuter, TInner, TResult> resultSelector, IEqualityComparer<TKey> comparer) {
@@ -341,18 +499,15 @@ final class RightJoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIte
         do {
             switch (this.state) {
                 case 1:
-                    this.innerEnumerator = this.inner.enumerator();
-                    if (!this.innerEnumerator.moveNext()) {
+                    this.probe = JoinProbe.create(this.inner, this.innerKeySelector, this.outer, this.outerKeySelector, this.comparer, true);
+                    if (!this.probe.moveNext()) {
                         this.close();
                         return false;
                     }
-                    this.lookup = Lookup.createForJoin(this.outer, this.outerKeySelector, this.comparer);
                     this.state = 2;
                 case 2:
-                    this.item = this.innerEnumerator.current();
-                    this.g = this.lookup.fetchGrouping(this.innerKeySelector.apply(this.item));
-                    if (this.g == null) {
-                        this.current = this.resultSelector.apply(this.defaultOuter, this.item);
+                    if (this.probe.matches == null) {
+                        this.current = this.resultSelector.apply(this.defaultOuter, this.probe.current);
                         this.state = 3;
                         return true;
                     }
@@ -360,7 +515,7 @@ final class RightJoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIte
                     this.state = 4;
                     break;
                 case 3:
-                    if (!this.innerEnumerator.moveNext()) {
+                    if (!this.probe.moveNext()) {
                         this.close();
                         return false;
                     }
@@ -368,8 +523,8 @@ final class RightJoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIte
                     break;
                 case 4:
                     this.index++;
-                    if (this.index < this.g._getCount()) {
-                        this.current = this.resultSelector.apply(this.g.get(this.index), this.item);
+                    if (this.index < this.probe.matches._getCount()) {
+                        this.current = this.resultSelector.apply(this.probe.matches.get(this.index), this.probe.current);
                         return true;
                     }
                     this.state = 3;
@@ -382,12 +537,9 @@ final class RightJoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIte
 
     @Override
     public void close() {
-        if (this.innerEnumerator != null) {
-            this.innerEnumerator.close();
-            this.innerEnumerator = null;
-            this.lookup = null;
-            this.item = null;
-            this.g = null;
+        if (this.probe != null) {
+            this.probe.close();
+            this.probe = null;
         }
         super.close();
     }
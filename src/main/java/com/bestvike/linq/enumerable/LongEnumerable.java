@@ -0,0 +1,572 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.function.LongFunc1;
+import com.bestvike.linq.IDoubleEnumerable;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.IIntEnumerable;
+import com.bestvike.linq.ILongEnumerable;
+import com.bestvike.linq.ILongEnumerator;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+public final class LongEnumerable {
+    private static final int DEFAULT_CAPACITY = 4;
+    private static final int MAX_ARRAY_LENGTH = 0x7FEFFFFF;
+    private static final long[] EMPTY = new long[0];
+
+    private LongEnumerable() {
+    }
+
+    public static ILongEnumerable of(long[] source) {
+        return new LongArrayIterator(source == null ? EMPTY : source);
+    }
+
+    public static <TSource> ILongEnumerable selectLong(IEnumerable<TSource> source, LongFunc1<TSource> selector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        return new SelectEnumerableToLongIterator<>(source, selector);
+    }
+
+    public static ILongEnumerable where(ILongEnumerable source, LongPredicate predicate) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (predicate == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.predicate);
+
+        if (source instanceof WhereLongIterator) {
+            WhereLongIterator iterator = (WhereLongIterator) source;
+            return iterator._where(predicate);
+        }
+
+        return new WhereLongIterator(source, predicate);
+    }
+
+    public static ILongEnumerable select(ILongEnumerable source, LongUnaryOperator selector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        if (source instanceof SelectLongIterator) {
+            SelectLongIterator iterator = (SelectLongIterator) source;
+            return iterator._select(selector);
+        }
+
+        return new SelectLongIterator(source, selector);
+    }
+
+    public static IIntEnumerable selectInt(ILongEnumerable source, LongToIntFunction selector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        return new SelectLongToIntIterator(source, selector);
+    }
+
+    public static IDoubleEnumerable selectDouble(ILongEnumerable source, LongToDoubleFunction selector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (selector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
+
+        return new SelectLongToDoubleIterator(source, selector);
+    }
+
+    public static IEnumerable<Long> boxed(ILongEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof LongArrayIterator) {
+            LongArrayIterator iterator = (LongArrayIterator) source;
+            return Enumerable.of(iterator.getArray());
+        }
+
+        return new BoxedLongIterator(source);
+    }
+
+    public static int count(ILongEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof LongArrayIterator) {
+            LongArrayIterator iterator = (LongArrayIterator) source;
+            return iterator.getArray().length;
+        }
+
+        int count = 0;
+        try (ILongEnumerator e = source.enumerator()) {
+            while (e.moveNext())
+                count = Math.addExact(count, 1);
+        }
+        return count;
+    }
+
+    public static void forEach(ILongEnumerable source, LongConsumer action) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (action == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.action);
+
+        try (ILongEnumerator e = source.enumerator()) {
+            while (e.moveNext())
+                action.accept(e.current());
+        }
+    }
+
+    public static long sum(ILongEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        long sum = 0;
+        try (ILongEnumerator e = source.enumerator()) {
+            while (e.moveNext())
+                sum = Math.addExact(sum, e.current());
+        }
+        return sum;
+    }
+
+    public static long min(ILongEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        try (ILongEnumerator e = source.enumerator()) {
+            if (!e.moveNext())
+                ThrowHelper.throwNoElementsException();
+
+            long value = e.current();
+            while (e.moveNext()) {
+                long x = e.current();
+                if (x < value)
+                    value = x;
+            }
+            return value;
+        }
+    }
+
+    public static long max(ILongEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        try (ILongEnumerator e = source.enumerator()) {
+            if (!e.moveNext())
+                ThrowHelper.throwNoElementsException();
+
+            long value = e.current();
+            while (e.moveNext()) {
+                long x = e.current();
+                if (x > value)
+                    value = x;
+            }
+            return value;
+        }
+    }
+
+    public static double average(ILongEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        try (ILongEnumerator e = source.enumerator()) {
+            if (!e.moveNext())
+                ThrowHelper.throwNoElementsException();
+
+            long sum = e.current();
+            long count = 1;
+            while (e.moveNext()) {
+                sum = Math.addExact(sum, e.current());
+                count = Math.addExact(count, 1);
+            }
+            return (double) sum / count;
+        }
+    }
+
+    public static long[] toArray(ILongEnumerable source) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+
+        if (source instanceof LongArrayIterator) {
+            LongArrayIterator iterator = (LongArrayIterator) source;
+            long[] array = iterator.getArray();
+            return array.length == 0 ? EMPTY : array.clone();
+        }
+
+        try (ILongEnumerator e = source.enumerator()) {
+            if (!e.moveNext())
+                return EMPTY;
+
+            long[] array = new long[DEFAULT_CAPACITY];
+            array[0] = e.current();
+            int count = 1;
+            while (e.moveNext()) {
+                if (count == array.length) {
+                    // Same growth logic as EnumerableHelpers.toArray.
+                    int newLength = count << 1;
+                    if (Integer.compareUnsigned(newLength, MAX_ARRAY_LENGTH) > 0)
+                        newLength = MAX_ARRAY_LENGTH <= count ? count + 1 : MAX_ARRAY_LENGTH;
+                    array = Arrays.copyOf(array, newLength);
+                }
+                array[count++] = e.current();
+            }
+            return count == array.length ? array : Arrays.copyOf(array, count);
+        }
+    }
+}
+
+
+abstract class AbstractLongIterator implements ILongEnumerable, ILongEnumerator {
+    private final long threadId;
+    protected int state;
+    protected long current;
+
+    AbstractLongIterator() {
+        this.threadId = Thread.currentThread().getId();
+    }
+
+    @Override
+    public abstract AbstractLongIterator clone();
+
+    @Override
+    public ILongEnumerator enumerator() {
+        AbstractLongIterator enumerator = this.state == 0 && this.threadId == Thread.currentThread().getId() ? this : this.clone();
+        enumerator.state = 1;
+        return enumerator;
+    }
+
+    @Override
+    public long current() {
+        return this.current;
+    }
+
+    @Override
+    public void close() {
+        this.state = -1;
+    }
+}
+
+
+final class LongArrayIterator extends AbstractLongIterator {
+    private final long[] source;
+
+    LongArrayIterator(long[] source) {
+        assert source != null;
+        this.source = source;
+    }
+
+    long[] getArray() {
+        return this.source;
+    }
+
+    @Override
+    public AbstractLongIterator clone() {
+        return new LongArrayIterator(this.source);
+    }
+
+    @Override
+    public boolean moveNext() {
+        if (this.state < 1 || this.state > this.source.length) {
+            this.close();
+            return false;
+        }
+
+        this.current = this.source[this.state++ - 1];
+        return true;
+    }
+}
+
+
+final class WhereLongIterator extends AbstractLongIterator {
+    private final ILongEnumerable source;
+    private final LongPredicate predicate;
+    private ILongEnumerator enumerator;
+
+    WhereLongIterator(ILongEnumerable source, LongPredicate predicate) {
+        assert source != null;
+        assert predicate != null;
+        this.source = source;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public AbstractLongIterator clone() {
+        return new WhereLongIterator(this.source, this.predicate);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                while (this.enumerator.moveNext()) {
+                    long item = this.enumerator.current();
+                    if (this.predicate.test(item)) {
+                        this.current = item;
+                        return true;
+                    }
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+
+    ILongEnumerable _where(LongPredicate predicate) {
+        return new WhereLongIterator(this.source, this.predicate.and(predicate));
+    }
+}
+
+
+final class SelectLongIterator extends AbstractLongIterator {
+    private final ILongEnumerable source;
+    private final LongUnaryOperator selector;
+    private ILongEnumerator enumerator;
+
+    SelectLongIterator(ILongEnumerable source, LongUnaryOperator selector) {
+        assert source != null;
+        assert selector != null;
+        this.source = source;
+        this.selector = selector;
+    }
+
+    @Override
+    public AbstractLongIterator clone() {
+        return new SelectLongIterator(this.source, this.selector);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.selector.applyAsLong(this.enumerator.current());
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+
+    ILongEnumerable _select(LongUnaryOperator selector) {
+        return new SelectLongIterator(this.source, this.selector.andThen(selector));
+    }
+}
+
+
+final class SelectLongToIntIterator extends AbstractIntIterator {
+    private final ILongEnumerable source;
+    private final LongToIntFunction selector;
+    private ILongEnumerator enumerator;
+
+    SelectLongToIntIterator(ILongEnumerable source, LongToIntFunction selector) {
+        assert source != null;
+        assert selector != null;
+        this.source = source;
+        this.selector = selector;
+    }
+
+    @Override
+    public AbstractIntIterator clone() {
+        return new SelectLongToIntIterator(this.source, this.selector);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.selector.applyAsInt(this.enumerator.current());
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+final class SelectLongToDoubleIterator extends AbstractDoubleIterator {
+    private final ILongEnumerable source;
+    private final LongToDoubleFunction selector;
+    private ILongEnumerator enumerator;
+
+    SelectLongToDoubleIterator(ILongEnumerable source, LongToDoubleFunction selector) {
+        assert source != null;
+        assert selector != null;
+        this.source = source;
+        this.selector = selector;
+    }
+
+    @Override
+    public AbstractDoubleIterator clone() {
+        return new SelectLongToDoubleIterator(this.source, this.selector);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.selector.applyAsDouble(this.enumerator.current());
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+final class SelectEnumerableToLongIterator<TSource> extends AbstractLongIterator {
+    private final IEnumerable<TSource> source;
+    private final LongFunc1<TSource> selector;
+    private IEnumerator<TSource> enumerator;
+
+    SelectEnumerableToLongIterator(IEnumerable<TSource> source, LongFunc1<TSource> selector) {
+        assert source != null;
+        assert selector != null;
+        this.source = source;
+        this.selector = selector;
+    }
+
+    @Override
+    public AbstractLongIterator clone() {
+        return new SelectEnumerableToLongIterator<>(this.source, this.selector);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.selector.apply(this.enumerator.current());
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
+
+
+final class BoxedLongIterator extends Iterator<Long> {
+    private final ILongEnumerable source;
+    private ILongEnumerator enumerator;
+
+    BoxedLongIterator(ILongEnumerable source) {
+        assert source != null;
+        this.source = source;
+    }
+
+    @Override
+    public Iterator<Long> clone() {
+        return new BoxedLongIterator(this.source);
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (this.enumerator.moveNext()) {
+                    this.current = this.enumerator.current();
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
@@ -12,6 +12,7 @@ import com.bestvike.function.NullableDoubleFunc1;
 import com.bestvike.function.NullableFloatFunc1;
 import com.bestvike.function.NullableIntFunc1;
 import com.bestvike.function.NullableLongFunc1;
+import com.bestvike.linq.ArrayPool;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.exception.ExceptionArgument;
@@ -32,16 +33,25 @@ public final class Max {
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
 
         int value;
+        ArrayPool pool = ArrayPool.current();
+        Object[] buffer = pool.rent(EnumerableHelpers.BATCH_SIZE);
         try (IEnumerator<Integer> e = source.enumerator()) {
-            if (!e.moveNext())
+            int count = e.moveNextBatch(buffer, 0, buffer.length);
+            if (count == 0)
                 ThrowHelper.throwNoElementsException();
 
-            value = e.current();
-            while (e.moveNext()) {
-                int x = e.current();
-                if (x > value)
-                    value = x;
-            }
+            value = (Integer) buffer[0];
+            int i = 1;
+            do {
+                for (; i < count; i++) {
+                    int x = (Integer) buffer[i];
+                    if (x > value)
+                        value = x;
+                }
+                i = 0;
+            } while ((count = e.moveNextBatch(buffer, 0, buffer.length)) > 0);
+        } finally {
+            pool.release(buffer);
         }
 
         return value;
@@ -75,16 +85,25 @@ public final class Max {
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
 
         long value;
+        ArrayPool pool = ArrayPool.current();
+        Object[] buffer = pool.rent(EnumerableHelpers.BATCH_SIZE);
         try (IEnumerator<Long> e = source.enumerator()) {
-            if (!e.moveNext())
+            int count = e.moveNextBatch(buffer, 0, buffer.length);
+            if (count == 0)
                 ThrowHelper.throwNoElementsException();
 
-            value = e.current();
-            while (e.moveNext()) {
-                long x = e.current();
-                if (x > value)
-                    value = x;
-            }
+            value = (Long) buffer[0];
+            int i = 1;
+            do {
+                for (; i < count; i++) {
+                    long x = (Long) buffer[i];
+                    if (x > value)
+                        value = x;
+                }
+                i = 0;
+            } while ((count = e.moveNextBatch(buffer, 0, buffer.length)) > 0);
+        } finally {
+            pool.release(buffer);
         }
 
         return value;
@@ -118,22 +137,25 @@ public final class Max {
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
 
         float value;
+        ArrayPool pool = ArrayPool.current();
+        Object[] buffer = pool.rent(EnumerableHelpers.BATCH_SIZE);
         try (IEnumerator<Float> e = source.enumerator()) {
-            if (!e.moveNext())
+            int count = e.moveNextBatch(buffer, 0, buffer.length);
+            if (count == 0)
                 ThrowHelper.throwNoElementsException();
 
-            value = e.current();
-            while (Float.isNaN(value)) {
-                if (!e.moveNext())
-                    return value;
-                value = e.current();
-            }
-
-            while (e.moveNext()) {
-                float x = e.current();
-                if (x > value)
-                    value = x;
-            }
+            value = (Float) buffer[0];
+            int i = 1;
+            do {
+                for (; i < count; i++) {
+                    float x = (Float) buffer[i];
+                    if (x > value || Float.isNaN(value))
+                        value = x;
+                }
+                i = 0;
+            } while ((count = e.moveNextBatch(buffer, 0, buffer.length)) > 0);
+        } finally {
+            pool.release(buffer);
         }
 
         return value;
@@ -175,22 +197,25 @@ public final class Max {
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
 
         double value;
+        ArrayPool pool = ArrayPool.current();
+        Object[] buffer = pool.rent(EnumerableHelpers.BATCH_SIZE);
         try (IEnumerator<Double> e = source.enumerator()) {
-            if (!e.moveNext())
+            int count = e.moveNextBatch(buffer, 0, buffer.length);
+            if (count == 0)
                 ThrowHelper.throwNoElementsException();
 
-            value = e.current();
-            while (Double.isNaN(value)) {
-                if (!e.moveNext())
-                    return value;
-                value = e.current();
-            }
-
-            while (e.moveNext()) {
-                double x = e.current();
-                if (x > value)
-                    value = x;
-            }
+            value = (Double) buffer[0];
+            int i = 1;
+            do {
+                for (; i < count; i++) {
+                    double x = (Double) buffer[i];
+                    if (x > value || Double.isNaN(value))
+                        value = x;
+                }
+                i = 0;
+            } while ((count = e.moveNextBatch(buffer, 0, buffer.length)) > 0);
+        } finally {
+            pool.release(buffer);
         }
 
         return value;
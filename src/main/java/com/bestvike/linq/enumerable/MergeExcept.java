@@ -0,0 +1,111 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.collections.generic.Comparer;
+import com.bestvike.function.Func1;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+
+import java.util.Comparator;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+public final class MergeExcept {
+    private MergeExcept() {
+    }
+
+    public static <TSource, TKey> IEnumerable<TSource> mergeExcept(IEnumerable<TSource> first, IEnumerable<TSource> second, Func1<TSource, TKey> keySelector) {
+        return mergeExcept(first, second, keySelector, null);
+    }
+
+    public static <TSource, TKey> IEnumerable<TSource> mergeExcept(IEnumerable<TSource> first, IEnumerable<TSource> second, Func1<TSource, TKey> keySelector, Comparator<TKey> comparer) {
+        if (first == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.first);
+        if (second == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.second);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+
+        return new MergeExceptIterator<>(first, second, keySelector, comparer);
+    }
+}
+
+
+// Both sides must be sorted by key with the same comparer. Yields the first element of first for every distinct key
+// that second does not have.
+final class MergeExceptIterator<TSource, TKey> extends AbstractIterator<TSource> {
+    private final IEnumerable<TSource> first;
+    private final IEnumerable<TSource> second;
+    private final Func1<TSource, TKey> keySelector;
+    private final Comparator<TKey> comparer;
+    private IEnumerator<TSource> firstEnumerator;
+    private IEnumerator<TSource> secondEnumerator;
+    private boolean hasSecond;
+    private TKey secondKey;
+    private boolean hasLast;
+    private TKey lastKey;
+
+    MergeExceptIterator(IEnumerable<TSource> first, IEnumerable<TSource> second, Func1<TSource, TKey> keySelector, Comparator<TKey> comparer) {
+        this.first = first;
+        this.second = second;
+        this.keySelector = keySelector;
+        this.comparer = comparer == null ? Comparer.Default() : comparer;
+    }
+
+    @Override
+    public AbstractIterator<TSource> clone() {
+        return new MergeExceptIterator<>(this.first, this.second, this.keySelector, this.comparer);
+    }
+
+    private void moveNextSecond() {
+        if (this.hasSecond = this.secondEnumerator.moveNext())
+            this.secondKey = this.keySelector.apply(this.secondEnumerator.current());
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.firstEnumerator = this.first.enumerator();
+                this.secondEnumerator = this.second.enumerator();
+                this.moveNextSecond();
+                this.state = 2;
+            case 2:
+                while (this.firstEnumerator.moveNext()) {
+                    TSource item = this.firstEnumerator.current();
+                    TKey key = this.keySelector.apply(item);
+                    if (this.hasLast && this.comparer.compare(key, this.lastKey) == 0)
+                        continue;
+                    this.hasLast = true;
+                    this.lastKey = key;
+                    while (this.hasSecond && this.comparer.compare(this.secondKey, key) < 0)
+                        this.moveNextSecond();
+                    if (!this.hasSecond || this.comparer.compare(this.secondKey, key) != 0) {
+                        this.current = item;
+                        return true;
+                    }
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.firstEnumerator != null) {
+            this.firstEnumerator.close();
+            this.firstEnumerator = null;
+        }
+        if (this.secondEnumerator != null) {
+            this.secondEnumerator.close();
+            this.secondEnumerator = null;
+        }
+        this.secondKey = null;
+        this.lastKey = null;
+        super.close();
+    }
+}
@@ -0,0 +1,254 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.collections.generic.Comparer;
+import com.bestvike.function.Func1;
+import com.bestvike.function.Func2;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+public final class MergeJoin {
+    private MergeJoin() {
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> mergeJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector) {
+        return mergeJoin(outer, inner, outerKeySelector, innerKeySelector, resultSelector, null);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> mergeJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector, Comparator<TKey> comparer) {
+        checkArguments(outer, inner, outerKeySelector, innerKeySelector, resultSelector);
+        return new MergeJoinIterator<>(outer, inner, outerKeySelector, innerKeySelector, null, null, resultSelector, comparer, false, false);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> mergeLeftJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector) {
+        return mergeLeftJoin(outer, inner, outerKeySelector, innerKeySelector, null, resultSelector, null);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> mergeLeftJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, TInner defaultInner, Func2<TOuter, TInner, TResult> resultSelector) {
+        return mergeLeftJoin(outer, inner, outerKeySelector, innerKeySelector, defaultInner, resultSelector, null);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> mergeLeftJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector, Comparator<TKey> comparer) {
+        return mergeLeftJoin(outer, inner, outerKeySelector, innerKeySelector, null, resultSelector, comparer);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> mergeLeftJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, TInner defaultInner, Func2<TOuter, TInner, TResult> resultSelector, Comparator<TKey> comparer) {
+        checkArguments(outer, inner, outerKeySelector, innerKeySelector, resultSelector);
+        return new MergeJoinIterator<>(outer, inner, outerKeySelector, innerKeySelector, null, defaultInner, resultSelector, comparer, true, false);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> mergeRightJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector) {
+        return mergeRightJoin(outer, inner, outerKeySelector, innerKeySelector, null, resultSelector, null);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> mergeRightJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, TOuter defaultOuter, Func2<TOuter, TInner, TResult> resultSelector) {
+        return mergeRightJoin(outer, inner, outerKeySelector, innerKeySelector, defaultOuter, resultSelector, null);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> mergeRightJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector, Comparator<TKey> comparer) {
+        return mergeRightJoin(outer, inner, outerKeySelector, innerKeySelector, null, resultSelector, comparer);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> mergeRightJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, TOuter defaultOuter, Func2<TOuter, TInner, TResult> resultSelector, Comparator<TKey> comparer) {
+        checkArguments(outer, inner, outerKeySelector, innerKeySelector, resultSelector);
+        // A right join is a left join with the sides swapped, so the matches of every inner element follow it in outer order.
+        return new MergeJoinIterator<>(inner, outer, innerKeySelector, outerKeySelector, null, defaultOuter, (TInner i, TOuter o) -> resultSelector.apply(o, i), comparer, true, false);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> mergeFullJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector) {
+        return mergeFullJoin(outer, inner, outerKeySelector, innerKeySelector, null, null, resultSelector, null);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> mergeFullJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, TOuter defaultOuter, TInner defaultInner, Func2<TOuter, TInner, TResult> resultSelector) {
+        return mergeFullJoin(outer, inner, outerKeySelector, innerKeySelector, defaultOuter, defaultInner, resultSelector, null);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> mergeFullJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector, Comparator<TKey> comparer) {
+        return mergeFullJoin(outer, inner, outerKeySelector, innerKeySelector, null, null, resultSelector, comparer);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> mergeFullJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, TOuter defaultOuter, TInner defaultInner, Func2<TOuter, TInner, TResult> resultSelector, Comparator<TKey> comparer) {
+        checkArguments(outer, inner, outerKeySelector, innerKeySelector, resultSelector);
+        return new MergeJoinIterator<>(outer, inner, outerKeySelector, innerKeySelector, defaultOuter, defaultInner, resultSelector, comparer, true, true);
+    }
+
+    private static void checkArguments(IEnumerable<?> outer, IEnumerable<?> inner, Func1<?, ?> outerKeySelector, Func1<?, ?> innerKeySelector, Func2<?, ?, ?> resultSelector) {
+        if (outer == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outer);
+        if (inner == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.inner);
+        if (outerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outerKeySelector);
+        if (innerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.innerKeySelector);
+        if (resultSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.resultSelector);
+    }
+}
+
+
+// Both sides must be sorted by key with the same comparer. They are walked in lockstep, only the inner elements
+// of the current key are buffered. Null keys never match.
+final class MergeJoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIterator<TResult> {
+    private final IEnumerable<TOuter> outer;
+    private final IEnumerable<TInner> inner;
+    private final Func1<TOuter, TKey> outerKeySelector;
+    private final Func1<TInner, TKey> innerKeySelector;
+    private final TOuter defaultOuter;
+    private final TInner defaultInner;
+    private final Func2<TOuter, TInner, TResult> resultSelector;
+    private final Comparator<TKey> comparer;
+    private final boolean leftOuter;
+    private final boolean rightOuter;
+    private IEnumerator<TOuter> outerEnumerator;
+    private IEnumerator<TInner> innerEnumerator;
+    private boolean hasOuter;
+    private boolean hasInner;
+    private TOuter outerItem;
+    private TKey outerKey;
+    private TInner innerItem;
+    private TKey innerKey;
+    private List<TInner> run;
+    private TKey runKey;
+    private int index;
+
+    MergeJoinIterator(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, TOuter defaultOuter, TInner defaultInner, Func2<TOuter, TInner, TResult> resultSelector, Comparator<TKey> comparer, boolean leftOuter, boolean rightOuter) {
+        this.outer = outer;
+        this.inner = inner;
+        this.outerKeySelector = outerKeySelector;
+        this.innerKeySelector = innerKeySelector;
+        this.defaultOuter = defaultOuter;
+        this.defaultInner = defaultInner;
+        this.resultSelector = resultSelector;
+        this.comparer = comparer == null ? Comparer.Default() : comparer;
+        this.leftOuter = leftOuter;
+        this.rightOuter = rightOuter;
+    }
+
+    @Override
+    public AbstractIterator<TResult> clone() {
+        return new MergeJoinIterator<>(this.outer, this.inner, this.outerKeySelector, this.innerKeySelector, this.defaultOuter, this.defaultInner, this.resultSelector, this.comparer, this.leftOuter, this.rightOuter);
+    }
+
+    private void moveNextOuter() {
+        if (this.hasOuter = this.outerEnumerator.moveNext()) {
+            this.outerItem = this.outerEnumerator.current();
+            this.outerKey = this.outerKeySelector.apply(this.outerItem);
+        } else {
+            this.outerItem = null;
+            this.outerKey = null;
+        }
+    }
+
+    private void moveNextInner() {
+        if (this.hasInner = this.innerEnumerator.moveNext()) {
+            this.innerItem = this.innerEnumerator.current();
+            this.innerKey = this.innerKeySelector.apply(this.innerItem);
+        } else {
+            this.innerItem = null;
+            this.innerKey = null;
+        }
+    }
+
+    @Override
+    public boolean moveNext() {
+        do {
+            switch (this.state) {
+                case 1:
+                    this.outerEnumerator = this.outer.enumerator();
+                    this.innerEnumerator = this.inner.enumerator();
+                    this.run = new ArrayList<>();
+                    this.moveNextOuter();
+                    this.moveNextInner();
+                    this.state = 2;
+                case 2:
+                    if (!this.run.isEmpty()) {
+                        if (this.hasOuter && this.outerKey != null && this.comparer.compare(this.outerKey, this.runKey) == 0) {
+                            this.index = -1;
+                            this.state = 3;
+                            break;
+                        }
+                        this.run.clear();
+                        this.runKey = null;
+                    }
+                    if (!this.hasOuter) {
+                        if (!this.hasInner || !this.rightOuter) {
+                            this.close();
+                            return false;
+                        }
+                        this.current = this.resultSelector.apply(this.defaultOuter, this.innerItem);
+                        this.moveNextInner();
+                        return true;
+                    }
+                    if (!this.hasInner && !this.leftOuter) {
+                        this.close();
+                        return false;
+                    }
+                    int c = !this.hasInner || this.outerKey == null ? -1 : this.innerKey == null ? 1 : this.comparer.compare(this.outerKey, this.innerKey);
+                    if (c < 0) {
+                        TOuter item = this.outerItem;
+                        this.moveNextOuter();
+                        if (this.leftOuter) {
+                            this.current = this.resultSelector.apply(item, this.defaultInner);
+                            return true;
+                        }
+                        break;
+                    }
+                    if (c > 0) {
+                        TInner item = this.innerItem;
+                        this.moveNextInner();
+                        if (this.rightOuter) {
+                            this.current = this.resultSelector.apply(this.defaultOuter, item);
+                            return true;
+                        }
+                        break;
+                    }
+                    this.runKey = this.innerKey;
+                    do {
+                        this.run.add(this.innerItem);
+                        this.moveNextInner();
+                    } while (this.hasInner && this.innerKey != null && this.comparer.compare(this.innerKey, this.runKey) == 0);
+                    this.index = -1;
+                    this.state = 3;
+                case 3:
+                    this.index++;
+                    if (this.index < this.run.size()) {
+                        this.current = this.resultSelector.apply(this.outerItem, this.run.get(this.index));
+                        return true;
+                    }
+                    this.moveNextOuter();
+                    this.state = 2;
+                    break;
+                default:
+                    return false;
+            }
+        } while (true);
+    }
+
+    @Override
+    public void close() {
+        if (this.outerEnumerator != null) {
+            this.outerEnumerator.close();
+            this.outerEnumerator = null;
+        }
+        if (this.innerEnumerator != null) {
+            this.innerEnumerator.close();
+            this.innerEnumerator = null;
+        }
+        this.outerItem = null;
+        this.outerKey = null;
+        this.innerItem = null;
+        this.innerKey = null;
+        this.run = null;
+        this.runKey = null;
+        super.close();
+    }
+}
@@ -0,0 +1,133 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.collections.generic.Comparer;
+import com.bestvike.function.Func1;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+
+import java.util.Comparator;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+public final class MergeUnion {
+    private MergeUnion() {
+    }
+
+    public static <TSource, TKey> IEnumerable<TSource> mergeUnion(IEnumerable<TSource> first, IEnumerable<TSource> second, Func1<TSource, TKey> keySelector) {
+        return mergeUnion(first, second, keySelector, null);
+    }
+
+    public static <TSource, TKey> IEnumerable<TSource> mergeUnion(IEnumerable<TSource> first, IEnumerable<TSource> second, Func1<TSource, TKey> keySelector, Comparator<TKey> comparer) {
+        if (first == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.first);
+        if (second == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.second);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+
+        return new MergeUnionIterator<>(first, second, keySelector, comparer);
+    }
+}
+
+
+// Both sides must be sorted by key with the same comparer. Yields one element per distinct key in key order,
+// the element of first wins when both sides have the key.
+final class MergeUnionIterator<TSource, TKey> extends AbstractIterator<TSource> {
+    private final IEnumerable<TSource> first;
+    private final IEnumerable<TSource> second;
+    private final Func1<TSource, TKey> keySelector;
+    private final Comparator<TKey> comparer;
+    private IEnumerator<TSource> firstEnumerator;
+    private IEnumerator<TSource> secondEnumerator;
+    private boolean hasFirst;
+    private boolean hasSecond;
+    private TSource firstItem;
+    private TKey firstKey;
+    private TSource secondItem;
+    private TKey secondKey;
+    private boolean hasLast;
+    private TKey lastKey;
+
+    MergeUnionIterator(IEnumerable<TSource> first, IEnumerable<TSource> second, Func1<TSource, TKey> keySelector, Comparator<TKey> comparer) {
+        this.first = first;
+        this.second = second;
+        this.keySelector = keySelector;
+        this.comparer = comparer == null ? Comparer.Default() : comparer;
+    }
+
+    @Override
+    public AbstractIterator<TSource> clone() {
+        return new MergeUnionIterator<>(this.first, this.second, this.keySelector, this.comparer);
+    }
+
+    private void moveNextFirst() {
+        if (this.hasFirst = this.firstEnumerator.moveNext()) {
+            this.firstItem = this.firstEnumerator.current();
+            this.firstKey = this.keySelector.apply(this.firstItem);
+        }
+    }
+
+    private void moveNextSecond() {
+        if (this.hasSecond = this.secondEnumerator.moveNext()) {
+            this.secondItem = this.secondEnumerator.current();
+            this.secondKey = this.keySelector.apply(this.secondItem);
+        }
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 1:
+                this.firstEnumerator = this.first.enumerator();
+                this.secondEnumerator = this.second.enumerator();
+                this.moveNextFirst();
+                this.moveNextSecond();
+                this.state = 2;
+            case 2:
+                while (this.hasFirst || this.hasSecond) {
+                    TSource item;
+                    TKey key;
+                    if (this.hasFirst && (!this.hasSecond || this.comparer.compare(this.firstKey, this.secondKey) <= 0)) {
+                        item = this.firstItem;
+                        key = this.firstKey;
+                        this.moveNextFirst();
+                    } else {
+                        item = this.secondItem;
+                        key = this.secondKey;
+                        this.moveNextSecond();
+                    }
+                    if (this.hasLast && this.comparer.compare(key, this.lastKey) == 0)
+                        continue;
+                    this.hasLast = true;
+                    this.lastKey = key;
+                    this.current = item;
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.firstEnumerator != null) {
+            this.firstEnumerator.close();
+            this.firstEnumerator = null;
+        }
+        if (this.secondEnumerator != null) {
+            this.secondEnumerator.close();
+            this.secondEnumerator = null;
+        }
+        this.firstItem = null;
+        this.firstKey = null;
+        this.secondItem = null;
+        this.secondKey = null;
+        this.lastKey = null;
+        super.close();
+    }
+}
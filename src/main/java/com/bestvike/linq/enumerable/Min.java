@@ -12,6 +12,7 @@ import com.bestvike.function.NullableDoubleFunc1;
 import com.bestvike.function.NullableFloatFunc1;
 import com.bestvike.function.NullableIntFunc1;
 import com.bestvike.function.NullableLongFunc1;
+import com.bestvike.linq.ArrayPool;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.exception.ExceptionArgument;
@@ -32,16 +33,25 @@ public final class Min {
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
 
         int value;
+        ArrayPool pool = ArrayPool.current();
+        Object[] buffer = pool.rent(EnumerableHelpers.BATCH_SIZE);
         try (IEnumerator<Integer> e = source.enumerator()) {
-            if (!e.moveNext())
+            int count = e.moveNextBatch(buffer, 0, buffer.length);
+            if (count == 0)
                 ThrowHelper.throwNoElementsException();
 
-            value = e.current();
-            while (e.moveNext()) {
-                int x = e.current();
-                if (x < value)
-                    value = x;
-            }
+            value = (Integer) buffer[0];
+            int i = 1;
+            do {
+                for (; i < count; i++) {
+                    int x = (Integer) buffer[i];
+                    if (x < value)
+                        value = x;
+                }
+                i = 0;
+            } while ((count = e.moveNextBatch(buffer, 0, buffer.length)) > 0);
+        } finally {
+            pool.release(buffer);
         }
 
         return value;
@@ -75,16 +85,25 @@ public final class Min {
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
 
         long value;
+        ArrayPool pool = ArrayPool.current();
+        Object[] buffer = pool.rent(EnumerableHelpers.BATCH_SIZE);
         try (IEnumerator<Long> e = source.enumerator()) {
-            if (!e.moveNext())
+            int count = e.moveNextBatch(buffer, 0, buffer.length);
+            if (count == 0)
                 ThrowHelper.throwNoElementsException();
 
-            value = e.current();
-            while (e.moveNext()) {
-                long x = e.current();
-                if (x < value)
-                    value = x;
-            }
+            value = (Long) buffer[0];
+            int i = 1;
+            do {
+                for (; i < count; i++) {
+                    long x = (Long) buffer[i];
+                    if (x < value)
+                        value = x;
+                }
+                i = 0;
+            } while ((count = e.moveNextBatch(buffer, 0, buffer.length)) > 0);
+        } finally {
+            pool.release(buffer);
         }
 
         return value;
@@ -117,6 +136,7 @@ public final class Min {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
 
+        // Not read in batches unlike max, the first NaN ends it and reading ahead would evaluate elements it never looks at.
         float value;
         try (IEnumerator<Float> e = source.enumerator()) {
             if (!e.moveNext())
@@ -172,6 +192,7 @@ public final class Min {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
 
+        // Not read in batches unlike max, the first NaN ends it and reading ahead would evaluate elements it never looks at.
         double value;
         try (IEnumerator<Double> e = source.enumerator()) {
             if (!e.moveNext())
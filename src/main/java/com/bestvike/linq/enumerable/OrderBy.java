@@ -1,6 +1,9 @@
 package com.bestvike.linq.enumerable;
 
+import com.bestvike.function.DoubleFunc1;
 import com.bestvike.function.Func1;
+import com.bestvike.function.IntFunc1;
+import com.bestvike.function.LongFunc1;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IOrderedEnumerable;
 import com.bestvike.linq.exception.ExceptionArgument;
@@ -12,9 +15,23 @@ import java.util.Comparator;
  * Created by 许崇雷 on 2018-05-03.
  */
 public final class OrderBy {
+    private static volatile int parallelSortThreshold = Integer.MAX_VALUE;
+
     private OrderBy() {
     }
 
+    // Full sorts of at least this many elements run on the common pool, so key selectors and comparers must then be
+    // thread safe. Off (Integer.MAX_VALUE) by default, a source created by asParallel is always sorted in parallel.
+    public static int getParallelSortThreshold() {
+        return parallelSortThreshold;
+    }
+
+    public static void setParallelSortThreshold(int threshold) {
+        if (threshold < 0)
+            ThrowHelper.throwArgumentOutOfRangeException(ExceptionArgument.threshold);
+        parallelSortThreshold = threshold;
+    }
+
     public static <TSource, TKey> IOrderedEnumerable<TSource> orderBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector) {
         return new OrderedEnumerable<>(source, keySelector, null, false, null);
     }
@@ -31,6 +48,30 @@ public final class OrderBy {
         return new OrderedEnumerable<>(source, keySelector, comparer, true, null);
     }
 
+    public static <TSource> IOrderedEnumerable<TSource> orderByInt(IEnumerable<TSource> source, IntFunc1<TSource> keySelector) {
+        return new IntOrderedEnumerable<>(source, keySelector, false);
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> orderByIntDescending(IEnumerable<TSource> source, IntFunc1<TSource> keySelector) {
+        return new IntOrderedEnumerable<>(source, keySelector, true);
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> orderByLong(IEnumerable<TSource> source, LongFunc1<TSource> keySelector) {
+        return new LongOrderedEnumerable<>(source, keySelector, false);
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> orderByLongDescending(IEnumerable<TSource> source, LongFunc1<TSource> keySelector) {
+        return new LongOrderedEnumerable<>(source, keySelector, true);
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> orderByDouble(IEnumerable<TSource> source, DoubleFunc1<TSource> keySelector) {
+        return new DoubleOrderedEnumerable<>(source, keySelector, false);
+    }
+
+    public static <TSource> IOrderedEnumerable<TSource> orderByDoubleDescending(IEnumerable<TSource> source, DoubleFunc1<TSource> keySelector) {
+        return new DoubleOrderedEnumerable<>(source, keySelector, true);
+    }
+
     public static <TSource, TKey> IOrderedEnumerable<TSource> thenBy(IOrderedEnumerable<TSource> source, Func1<TSource, TKey> keySelector) {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
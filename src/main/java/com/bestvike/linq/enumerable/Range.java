@@ -6,10 +6,10 @@ import com.bestvike.linq.debug.DebuggerDisplay;
 import com.bestvike.linq.exception.ExceptionArgument;
 import com.bestvike.linq.exception.ThrowHelper;
 import com.bestvike.linq.util.ArrayUtils;
-import com.bestvike.out;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Spliterator;
 
 /**
  * Created by 许崇雷 on 2018-05-03.
@@ -32,7 +32,7 @@ public final class Range {
 
 
 @DebuggerDisplay("Count = {countForDebugger()}")
-final class RangeIterator extends Iterator<Integer> implements IPartition<Integer> {
+final class RangeIterator extends Iterator<Integer> implements IPartition<Integer>, ISpliteratorProvider<Integer> {
     private final int start;
     private final int end;
 
@@ -111,6 +111,11 @@ final class RangeIterator extends Iterator<Integer> implements IPartition<Intege
         return this.end - this.start;
     }
 
+    @Override
+    public Spliterator<Integer> _spliterator() {
+        return new RangeSpliterator<>(this.start, x -> x, 0, this.end - this.start);
+    }
+
     @Override
     public IPartition<Integer> _skip(int count) {
         assert count > 0;
@@ -128,24 +133,19 @@ final class RangeIterator extends Iterator<Integer> implements IPartition<Intege
     }
 
     @Override
-    public Integer _tryGetElementAt(int index, out<Boolean> found) {
-        if (Integer.compareUnsigned(index, this.end - this.start) < 0) {
-            found.value = true;
+    public Object _tryGetElementAt(int index) {
+        if (Integer.compareUnsigned(index, this.end - this.start) < 0)
             return this.start + index;
-        }
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     @Override
-    public Integer _tryGetFirst(out<Boolean> found) {
-        found.value = true;
+    public Object _tryGetFirst() {
         return this.start;
     }
 
     @Override
-    public Integer _tryGetLast(out<Boolean> found) {
-        found.value = true;
+    public Object _tryGetLast() {
         return this.end - 1;
     }
 }
@@ -6,10 +6,10 @@ import com.bestvike.linq.debug.DebuggerDisplay;
 import com.bestvike.linq.exception.ExceptionArgument;
 import com.bestvike.linq.exception.ThrowHelper;
 import com.bestvike.linq.util.ArrayUtils;
-import com.bestvike.out;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Spliterator;
 
 /**
  * Created by 许崇雷 on 2018-05-03.
@@ -31,7 +31,7 @@ public final class Repeat {
 
 
 @DebuggerDisplay("Count = {count}")
-final class RepeatIterator<TResult> extends Iterator<TResult> implements IPartition<TResult> {
+final class RepeatIterator<TResult> extends Iterator<TResult> implements IPartition<TResult>, ISpliteratorProvider<TResult> {
     private final int count;
 
     RepeatIterator(TResult element, int count) {
@@ -103,6 +103,11 @@ final class RepeatIterator<TResult> extends Iterator<TResult> implements IPartit
         return this.count;
     }
 
+    @Override
+    public Spliterator<TResult> _spliterator() {
+        return new RepeatSpliterator<>(this.current, 0, this.count);
+    }
+
     @Override
     public IPartition<TResult> _skip(int count) {
         assert count > 0;
@@ -120,24 +125,19 @@ final class RepeatIterator<TResult> extends Iterator<TResult> implements IPartit
     }
 
     @Override
-    public TResult _tryGetElementAt(int index, out<Boolean> found) {
-        if (Integer.compareUnsigned(index, this.count) < 0) {
-            found.value = true;
+    public Object _tryGetElementAt(int index) {
+        if (Integer.compareUnsigned(index, this.count) < 0)
             return this.current;
-        }
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     @Override
-    public TResult _tryGetFirst(out<Boolean> found) {
-        found.value = true;
+    public Object _tryGetFirst() {
         return this.current;
     }
 
     @Override
-    public TResult _tryGetLast(out<Boolean> found) {
-        found.value = true;
+    public Object _tryGetLast() {
         return this.current;
     }
 }
@@ -27,7 +27,7 @@ public final class Reverse {
 
 final class ReverseIterator<TSource> extends Iterator<TSource> implements IIListProvider<TSource> {
     private final IEnumerable<TSource> source;
-    private Object[] buffer;
+    private Buffer<TSource> buffer;
 
     ReverseIterator(IEnumerable<TSource> source) {
         assert source != null;
@@ -56,9 +56,8 @@ final class ReverseIterator<TSource> extends Iterator<TSource> implements IIList
                 // Iteration has just started. Capture the source into an array and set _state to 2 + the count.
                 // Having an extra field for the count would be more readable, but we save it into _state with a
                 // bias instead to minimize field size of the iterator.
-                Buffer<TSource> buffer = new Buffer<>(this.source);
-                this.buffer = buffer.items;
-                this.state = buffer.count + 2;
+                this.buffer = new Buffer<>(this.source);
+                this.state = this.buffer.count + 2;
             default:
                 // At this stage, _state starts from 2 + the count. _state - 3 represents the current index into the
                 // buffer. It is continuously decremented until it hits 2, which means that we've run out of items to
@@ -66,7 +65,7 @@ final class ReverseIterator<TSource> extends Iterator<TSource> implements IIList
                 int index = this.state - 3;
                 if (index != -1) {
                     //noinspection unchecked
-                    this.current = (TSource) this.buffer[index];
+                    this.current = (TSource) this.buffer.items[index];
                     --this.state;
                     return true;
                 }
@@ -80,7 +79,10 @@ final class ReverseIterator<TSource> extends Iterator<TSource> implements IIList
 
     @Override
     public void close() {
-        this.buffer = null;
+        if (this.buffer != null) {
+            this.buffer.release();
+            this.buffer = null;
+        }
         super.close();
     }
 
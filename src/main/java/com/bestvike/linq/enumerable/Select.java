@@ -13,10 +13,10 @@ import com.bestvike.linq.exception.ThrowHelper;
 import com.bestvike.linq.util.ArrayUtils;
 import com.bestvike.linq.util.ListUtils;
 import com.bestvike.linq.util.Utilities;
-import com.bestvike.out;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Spliterator;
 
 /**
  * Created by 许崇雷 on 2018-05-03.
@@ -121,7 +121,7 @@ final class SelectIterator<TSource, TResult> extends AbstractIterator<TResult> {
 }
 
 
-final class SelectEnumerableIterator<TSource, TResult> extends Iterator<TResult> implements IIListProvider<TResult> {
+final class SelectEnumerableIterator<TSource, TResult> extends Iterator<TResult> implements IIListProvider<TResult>, ISinkProvider<TResult>, ICompilable<TResult>, ISpliteratorProvider<TResult> {
     private final IEnumerable<TSource> source;
     private final Func1<TSource, TResult> selector;
     private IEnumerator<TSource> enumerator;
@@ -156,6 +156,27 @@ final class SelectEnumerableIterator<TSource, TResult> extends Iterator<TResult>
         }
     }
 
+    @Override
+    public int moveNextBatch(Object[] buffer, int offset, int count) {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                int copied = this.enumerator.moveNextBatch(buffer, offset, count);
+                if (copied > 0) {
+                    for (int i = offset, end = offset + copied; i < end; i++)
+                        //noinspection unchecked
+                        buffer[i] = this.selector.apply((TSource) buffer[i]);
+                    return copied;
+                }
+                this.close();
+                return 0;
+            default:
+                return 0;
+        }
+    }
+
     @Override
     public void close() {
         if (this.enumerator != null) {
@@ -172,59 +193,46 @@ final class SelectEnumerableIterator<TSource, TResult> extends Iterator<TResult>
 
     @Override
     public TResult[] _toArray(Class<TResult> clazz) {
-        LargeArrayBuilder<TResult> builder = new LargeArrayBuilder<>();
-        try (IEnumerator<TSource> e = this.source.enumerator()) {
-            while (e.moveNext())
-                builder.add(this.selector.apply(e.current()));
-        }
-
-        return builder.toArray(clazz);
+        return Sink.toArray(this, clazz);
     }
 
     @Override
     public Object[] _toArray() {
-        LargeArrayBuilder<TResult> builder = new LargeArrayBuilder<>();
-        try (IEnumerator<TSource> e = this.source.enumerator()) {
-            while (e.moveNext())
-                builder.add(this.selector.apply(e.current()));
-        }
-
-        return builder.toArray();
+        return Sink.toArray(this);
     }
 
     @Override
     public List<TResult> _toList() {
-        List<TResult> list = new ArrayList<>();
-        try (IEnumerator<TSource> e = this.source.enumerator()) {
-            while (e.moveNext())
-                list.add(this.selector.apply(e.current()));
-        }
-
-        return list;
+        return Sink.toList(this);
     }
 
     @Override
     public int _getCount(boolean onlyIfCheap) {
         // In case someone uses Count() to force evaluation of
         // the selector, run it provided `onlyIfCheap` is false.
-        if (onlyIfCheap)
-            return -1;
+        return onlyIfCheap ? -1 : Sink.count(this);
+    }
 
-        int count = 0;
-        try (IEnumerator<TSource> e = this.source.enumerator()) {
-            while (e.moveNext()) {
-                this.selector.apply(e.current());
-                count = Math.addExact(count, 1);
-            }
-        }
+    @Override
+    public Spliterator<TResult> _spliterator() {
+        return new SelectSpliterator<>(ToSpliterator.spliterator(this.source), this.selector);
+    }
 
-        return count;
+    @Override
+    public void _forEach(ISink<TResult> sink) {
+        Sink.forEach(this.source, item -> sink.accept(this.selector.apply(item)));
+    }
+
+    @Override
+    public void _compile(CompiledQueryBuilder builder) {
+        builder.source(this.source);
+        builder.select(this.selector);
     }
 }
 
 
 @DebuggerDisplay("Count = {countForDebugger()}")
-final class SelectArrayIterator<TSource, TResult> extends Iterator<TResult> implements IPartition<TResult> {
+final class SelectArrayIterator<TSource, TResult> extends Iterator<TResult> implements IPartition<TResult>, ISinkProvider<TResult>, ICompilable<TResult>, ISpliteratorProvider<TResult> {
     private final IArray<TSource> source;
     private final Func1<TSource, TResult> selector;
 
@@ -258,6 +266,25 @@ final class SelectArrayIterator<TSource, TResult> extends Iterator<TResult> impl
         return true;
     }
 
+    @Override
+    public int moveNextBatch(Object[] buffer, int offset, int count) {
+        if (this.state < 1) {
+            this.close();
+            return 0;
+        }
+
+        int index = this.state - 1;
+        int copied = Math.min(count, this.source._getCount() - index);
+        if (copied > 0) {
+            for (int i = 0; i < copied; i++)
+                buffer[offset + i] = this.selector.apply(this.source.get(index + i));
+            this.state += copied;
+            return copied;
+        }
+        this.close();
+        return 0;
+    }
+
     @Override
     public <TResult2> IEnumerable<TResult2> _select(Func1<TResult, TResult2> selector) {
         return new SelectArrayIterator<>(this.source, Utilities.combineSelectors(this.selector, selector));
@@ -311,6 +338,11 @@ final class SelectArrayIterator<TSource, TResult> extends Iterator<TResult> impl
         return count;
     }
 
+    @Override
+    public Spliterator<TResult> _spliterator() {
+        return new SelectListSpliterator<>(this.source, this.selector, 0, Integer.MAX_VALUE);
+    }
+
     @Override
     public IPartition<TResult> _skip(int count) {
         assert count > 0;
@@ -328,36 +360,45 @@ final class SelectArrayIterator<TSource, TResult> extends Iterator<TResult> impl
     }
 
     @Override
-    public TResult _tryGetElementAt(int index, out<Boolean> found) {
-        if (Integer.compareUnsigned(index, this.source._getCount()) < 0) {
-            found.value = true;
+    public Object _tryGetElementAt(int index) {
+        if (Integer.compareUnsigned(index, this.source._getCount()) < 0)
             return this.selector.apply(this.source.get(index));
-        }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     @Override
-    public TResult _tryGetFirst(out<Boolean> found) {
+    public Object _tryGetFirst() {
         assert this.source._getCount() > 0; // See assert : constructor
 
-        found.value = true;
         return this.selector.apply(this.source.get(0));
     }
 
     @Override
-    public TResult _tryGetLast(out<Boolean> found) {
+    public Object _tryGetLast() {
         assert this.source._getCount() > 0; // See assert : constructor
 
-        found.value = true;
         return this.selector.apply(this.source.get(this.source._getCount() - 1));
     }
+
+    @Override
+    public void _forEach(ISink<TResult> sink) {
+        for (int i = 0; i < this.source._getCount(); i++) {
+            if (!sink.accept(this.selector.apply(this.source.get(i))))
+                return;
+        }
+    }
+
+    @Override
+    public void _compile(CompiledQueryBuilder builder) {
+        builder.source(this.source);
+        builder.select(this.selector);
+    }
 }
 
 
 @DebuggerDisplay("Count = {countForDebugger()}")
-final class SelectRangeIterator<TResult> extends Iterator<TResult> implements IPartition<TResult> {
+final class SelectRangeIterator<TResult> extends Iterator<TResult> implements IPartition<TResult>, ISpliteratorProvider<TResult> {
     private final int start;
     private final int end;
     private final Func1<Integer, TResult> selector;
@@ -437,6 +478,11 @@ final class SelectRangeIterator<TResult> extends Iterator<TResult> implements IP
         return this.end - this.start;
     }
 
+    @Override
+    public Spliterator<TResult> _spliterator() {
+        return new RangeSpliterator<>(this.start, this.selector, 0, this.end - this.start);
+    }
+
     @Override
     public IPartition<TResult> _skip(int count) {
         assert count > 0;
@@ -454,33 +500,28 @@ final class SelectRangeIterator<TResult> extends Iterator<TResult> implements IP
     }
 
     @Override
-    public TResult _tryGetElementAt(int index, out<Boolean> found) {
-        if (Integer.compareUnsigned(index, this.end - this.start) < 0) {
-            found.value = true;
+    public Object _tryGetElementAt(int index) {
+        if (Integer.compareUnsigned(index, this.end - this.start) < 0)
             return this.selector.apply(this.start + index);
-        }
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     @Override
-    public TResult _tryGetFirst(out<Boolean> found) {
+    public Object _tryGetFirst() {
         assert this.end > this.start;
-        found.value = true;
         return this.selector.apply(this.start);
     }
 
     @Override
-    public TResult _tryGetLast(out<Boolean> found) {
+    public Object _tryGetLast() {
         assert this.end > this.start;
-        found.value = true;
         return this.selector.apply(this.end - 1);
     }
 }
 
 
 @DebuggerDisplay("Count = {count}")
-final class SelectRepeatIterator<TSource, TResult> extends Iterator<TResult> implements IPartition<TResult> {
+final class SelectRepeatIterator<TSource, TResult> extends Iterator<TResult> implements IPartition<TResult>, ISpliteratorProvider<TResult> {
     private final TSource element;
     private final int count;
     private final Func1<TSource, TResult> selector;
@@ -550,6 +591,11 @@ final class SelectRepeatIterator<TSource, TResult> extends Iterator<TResult> imp
         return this.count;
     }
 
+    @Override
+    public Spliterator<TResult> _spliterator() {
+        return new SelectSpliterator<>(new RepeatSpliterator<>(this.element, 0, this.count), this.selector);
+    }
+
     @Override
     public IPartition<TResult> _skip(int count) {
         assert count > 0;
@@ -567,33 +613,28 @@ final class SelectRepeatIterator<TSource, TResult> extends Iterator<TResult> imp
     }
 
     @Override
-    public TResult _tryGetElementAt(int index, out<Boolean> found) {
-        if (Integer.compareUnsigned(index, this.count) < 0) {
-            found.value = true;
+    public Object _tryGetElementAt(int index) {
+        if (Integer.compareUnsigned(index, this.count) < 0)
             return this.selector.apply(this.element);
-        }
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     @Override
-    public TResult _tryGetFirst(out<Boolean> found) {
+    public Object _tryGetFirst() {
         assert this.count > 0;
-        found.value = true;
         return this.selector.apply(this.element);
     }
 
     @Override
-    public TResult _tryGetLast(out<Boolean> found) {
+    public Object _tryGetLast() {
         assert this.count > 0;
-        found.value = true;
         return this.selector.apply(this.element);
     }
 }
 
 
 @DebuggerDisplay("Count = {countForDebugger()}")
-final class SelectListIterator<TSource, TResult> extends Iterator<TResult> implements IPartition<TResult> {
+final class SelectListIterator<TSource, TResult> extends Iterator<TResult> implements IPartition<TResult>, ISinkProvider<TResult>, ICompilable<TResult>, ISpliteratorProvider<TResult> {
     private final IArrayList<TSource> source;
     private final Func1<TSource, TResult> selector;
     private IEnumerator<TSource> enumerator;
@@ -633,6 +674,27 @@ final class SelectListIterator<TSource, TResult> extends Iterator<TResult> imple
         }
     }
 
+    @Override
+    public int moveNextBatch(Object[] buffer, int offset, int count) {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                int copied = this.enumerator.moveNextBatch(buffer, offset, count);
+                if (copied > 0) {
+                    for (int i = offset, end = offset + copied; i < end; i++)
+                        //noinspection unchecked
+                        buffer[i] = this.selector.apply((TSource) buffer[i]);
+                    return copied;
+                }
+                this.close();
+                return 0;
+            default:
+                return 0;
+        }
+    }
+
     @Override
     public void close() {
         if (this.enumerator != null) {
@@ -697,6 +759,11 @@ final class SelectListIterator<TSource, TResult> extends Iterator<TResult> imple
         return count;
     }
 
+    @Override
+    public Spliterator<TResult> _spliterator() {
+        return new SelectListSpliterator<>(this.source, this.selector, 0, Integer.MAX_VALUE);
+    }
+
     @Override
     public IPartition<TResult> _skip(int count) {
         assert count > 0;
@@ -710,43 +777,45 @@ final class SelectListIterator<TSource, TResult> extends Iterator<TResult> imple
     }
 
     @Override
-    public TResult _tryGetElementAt(int index, out<Boolean> found) {
-        if (Integer.compareUnsigned(index, this.source._getCount()) < 0) {
-            found.value = true;
+    public Object _tryGetElementAt(int index) {
+        if (Integer.compareUnsigned(index, this.source._getCount()) < 0)
             return this.selector.apply(this.source.get(index));
-        }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     @Override
-    public TResult _tryGetFirst(out<Boolean> found) {
-        if (this.source._getCount() != 0) {
-            found.value = true;
+    public Object _tryGetFirst() {
+        if (this.source._getCount() != 0)
             return this.selector.apply(this.source.get(0));
-        }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     @Override
-    public TResult _tryGetLast(out<Boolean> found) {
+    public Object _tryGetLast() {
         int len = this.source._getCount();
-        if (len != 0) {
-            found.value = true;
+        if (len != 0)
             return this.selector.apply(this.source.get(len - 1));
-        }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
+    }
+
+    @Override
+    public void _forEach(ISink<TResult> sink) {
+        Sink.forEach(this.source, item -> sink.accept(this.selector.apply(item)));
+    }
+
+    @Override
+    public void _compile(CompiledQueryBuilder builder) {
+        builder.source(this.source);
+        builder.select(this.selector);
     }
 }
 
 
 @DebuggerDisplay("Count = {countForDebugger()}")
-final class SelectIListIterator<TSource, TResult> extends Iterator<TResult> implements IPartition<TResult> {
+final class SelectIListIterator<TSource, TResult> extends Iterator<TResult> implements IPartition<TResult>, ISinkProvider<TResult> {
     private final IList<TSource> source;
     private final Func1<TSource, TResult> selector;
     private IEnumerator<TSource> enumerator;
@@ -872,42 +941,38 @@ final class SelectIListIterator<TSource, TResult> extends Iterator<TResult> impl
     }
 
     @Override
-    public TResult _tryGetElementAt(int index, out<Boolean> found) {
-        if (Integer.compareUnsigned(index, this.source._getCount()) < 0) {
-            found.value = true;
+    public Object _tryGetElementAt(int index) {
+        if (Integer.compareUnsigned(index, this.source._getCount()) < 0)
             return this.selector.apply(this.source.get(index));
-        }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     @Override
-    public TResult _tryGetFirst(out<Boolean> found) {
-        if (this.source._getCount() != 0) {
-            found.value = true;
+    public Object _tryGetFirst() {
+        if (this.source._getCount() != 0)
             return this.selector.apply(this.source.get(0));
-        }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     @Override
-    public TResult _tryGetLast(out<Boolean> found) {
+    public Object _tryGetLast() {
         int len = this.source._getCount();
-        if (len != 0) {
-            found.value = true;
+        if (len != 0)
             return this.selector.apply(this.source.get(len - 1));
-        }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
+    }
+
+    @Override
+    public void _forEach(ISink<TResult> sink) {
+        Sink.forEach(this.source, item -> sink.accept(this.selector.apply(item)));
     }
 }
 
 
-final class SelectIPartitionIterator<TSource, TResult> extends Iterator<TResult> implements IPartition<TResult> {
+final class SelectIPartitionIterator<TSource, TResult> extends Iterator<TResult> implements IPartition<TResult>, ISinkProvider<TResult>, ISpliteratorProvider<TResult> {
     private final IPartition<TSource> source;
     private final Func1<TSource, TResult> selector;
     private IEnumerator<TSource> enumerator;
@@ -969,45 +1034,33 @@ final class SelectIPartitionIterator<TSource, TResult> extends Iterator<TResult>
     }
 
     @Override
-    public TResult _tryGetElementAt(int index, out<Boolean> found) {
-        TSource input = this.source._tryGetElementAt(index, found);
-        return found.value ? this.selector.apply(input) : null;
+    public Object _tryGetElementAt(int index) {
+        Object input = this.source._tryGetElementAt(index);
+        return input == NOT_FOUND ? NOT_FOUND : this.selector.apply((TSource) input);
     }
 
     @Override
-    public TResult _tryGetFirst(out<Boolean> found) {
-        TSource input = this.source._tryGetFirst(found);
-        return found.value ? this.selector.apply(input) : null;
+    public Object _tryGetFirst() {
+        Object input = this.source._tryGetFirst();
+        return input == NOT_FOUND ? NOT_FOUND : this.selector.apply((TSource) input);
     }
 
     @Override
-    public TResult _tryGetLast(out<Boolean> found) {
-        TSource input = this.source._tryGetLast(found);
-        return found.value ? this.selector.apply(input) : null;
+    public Object _tryGetLast() {
+        Object input = this.source._tryGetLast();
+        return input == NOT_FOUND ? NOT_FOUND : this.selector.apply((TSource) input);
     }
 
     private TResult[] lazyToArray(Class<TResult> clazz) {
         assert this.source._getCount(true) == -1;
 
-        LargeArrayBuilder<TResult> builder = new LargeArrayBuilder<>();
-        try (IEnumerator<TSource> e = this.source.enumerator()) {
-            while (e.moveNext())
-                builder.add(this.selector.apply(e.current()));
-        }
-
-        return builder.toArray(clazz);
+        return Sink.toArray(this, clazz);
     }
 
     private Object[] lazyToArray() {
         assert this.source._getCount(true) == -1;
 
-        LargeArrayBuilder<TResult> builder = new LargeArrayBuilder<>();
-        try (IEnumerator<TSource> e = this.source.enumerator()) {
-            while (e.moveNext())
-                builder.add(this.selector.apply(e.current()));
-        }
-
-        return builder.toArray();
+        return Sink.toArray(this);
     }
 
     private TResult[] preallocatingToArray(Class<TResult> clazz, int count) {
@@ -1083,10 +1136,10 @@ final class SelectIPartitionIterator<TSource, TResult> extends Iterator<TResult>
                 break;
         }
 
-        try (IEnumerator<TSource> e = this.source.enumerator()) {
-            while (e.moveNext())
-                list.add(this.selector.apply(e.current()));
-        }
+        Sink.forEach(this.source, item -> {
+            list.add(this.selector.apply(item));
+            return true;
+        });
 
         return list;
     }
@@ -1096,24 +1149,26 @@ final class SelectIPartitionIterator<TSource, TResult> extends Iterator<TResult>
         if (!onlyIfCheap) {
             // In case someone uses Count() to force evaluation of
             // the selector, run it provided `onlyIfCheap` is false.
-            int count = 0;
-            try (IEnumerator<TSource> e = this.source.enumerator()) {
-                while (e.moveNext()) {
-                    this.selector.apply(e.current());
-                    count = Math.addExact(count, 1);
-                }
-            }
-
-            return count;
+            return Sink.count(this);
         }
 
         return this.source._getCount(onlyIfCheap);
     }
+
+    @Override
+    public Spliterator<TResult> _spliterator() {
+        return new SelectSpliterator<>(ToSpliterator.spliterator(this.source), this.selector);
+    }
+
+    @Override
+    public void _forEach(ISink<TResult> sink) {
+        Sink.forEach(this.source, item -> sink.accept(this.selector.apply(item)));
+    }
 }
 
 
 @DebuggerDisplay("Count = {_getCount()}")
-final class SelectListPartitionIterator<TSource, TResult> extends Iterator<TResult> implements IPartition<TResult> {
+final class SelectListPartitionIterator<TSource, TResult> extends Iterator<TResult> implements IPartition<TResult>, ISinkProvider<TResult>, ISpliteratorProvider<TResult> {
     private final IArrayList<TSource> source;
     private final Func1<TSource, TResult> selector;
     private final int minIndexInclusive;
@@ -1175,37 +1230,28 @@ final class SelectListPartitionIterator<TSource, TResult> extends Iterator<TResu
     }
 
     @Override
-    public TResult _tryGetElementAt(int index, out<Boolean> found) {
-        if (Integer.compareUnsigned(index, this.maxIndexInclusive - this.minIndexInclusive) <= 0 && index < this.source._getCount() - this.minIndexInclusive) {
-            found.value = true;
+    public Object _tryGetElementAt(int index) {
+        if (Integer.compareUnsigned(index, this.maxIndexInclusive - this.minIndexInclusive) <= 0 && index < this.source._getCount() - this.minIndexInclusive)
             return this.selector.apply(this.source.get(this.minIndexInclusive + index));
-        }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     @Override
-    public TResult _tryGetFirst(out<Boolean> found) {
-        if (this.source._getCount() > this.minIndexInclusive) {
-            found.value = true;
+    public Object _tryGetFirst() {
+        if (this.source._getCount() > this.minIndexInclusive)
             return this.selector.apply(this.source.get(this.minIndexInclusive));
-        }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     @Override
-    public TResult _tryGetLast(out<Boolean> found) {
+    public Object _tryGetLast() {
         int lastIndex = this.source._getCount() - 1;
-        if (lastIndex >= this.minIndexInclusive) {
-            found.value = true;
+        if (lastIndex >= this.minIndexInclusive)
             return this.selector.apply(this.source.get(Math.min(lastIndex, this.maxIndexInclusive)));
-        }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     private int _getCount() {
@@ -1269,6 +1315,20 @@ final class SelectListPartitionIterator<TSource, TResult> extends Iterator<TResu
 
         return count;
     }
+
+    @Override
+    public Spliterator<TResult> _spliterator() {
+        return new SelectListSpliterator<>(this.source, this.selector, this.minIndexInclusive, this.maxIndexInclusive);
+    }
+
+    @Override
+    public void _forEach(ISink<TResult> sink) {
+        int end = this.minIndexInclusive + this._getCount();
+        for (int i = this.minIndexInclusive; i != end; ++i) {
+            if (!sink.accept(this.selector.apply(this.source.get(i))))
+                return;
+        }
+    }
 }
 
 
@@ -1401,39 +1461,30 @@ final class SelectIListPartitionIterator<TSource, TResult> extends Iterator<TRes
 
     //see SelectListPartitionIterator
     @Override
-    public TResult _tryGetElementAt(int index, out<Boolean> found) {
-        if (Integer.compareUnsigned(index, this.maxIndexInclusive - this.minIndexInclusive) <= 0 && index < this.source._getCount() - this.minIndexInclusive) {
-            found.value = true;
+    public Object _tryGetElementAt(int index) {
+        if (Integer.compareUnsigned(index, this.maxIndexInclusive - this.minIndexInclusive) <= 0 && index < this.source._getCount() - this.minIndexInclusive)
             return this.selector.apply(this.source.get(this.minIndexInclusive + index));
-        }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     //see SelectListPartitionIterator
     @Override
-    public TResult _tryGetFirst(out<Boolean> found) {
-        if (this.source._getCount() > this.minIndexInclusive) {
-            found.value = true;
+    public Object _tryGetFirst() {
+        if (this.source._getCount() > this.minIndexInclusive)
             return this.selector.apply(this.source.get(this.minIndexInclusive));
-        }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     //see SelectListPartitionIterator
     @Override
-    public TResult _tryGetLast(out<Boolean> found) {
+    public Object _tryGetLast() {
         int lastIndex = this.source._getCount() - 1;
-        if (lastIndex >= this.minIndexInclusive) {
-            found.value = true;
+        if (lastIndex >= this.minIndexInclusive)
             return this.selector.apply(this.source.get(Math.min(lastIndex, this.maxIndexInclusive)));
-        }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     //see SelectListPartitionIterator
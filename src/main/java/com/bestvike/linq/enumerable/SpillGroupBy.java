@@ -0,0 +1,257 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.collections.generic.Array;
+import com.bestvike.collections.generic.EqualityComparer;
+import com.bestvike.collections.generic.IEqualityComparer;
+import com.bestvike.function.Func1;
+import com.bestvike.function.Func2;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.IGrouping;
+import com.bestvike.linq.ISerializer;
+import com.bestvike.linq.SpillOptions;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+
+import java.util.ArrayDeque;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+public final class SpillGroupBy {
+    private SpillGroupBy() {
+    }
+
+    public static <TSource, TKey> IEnumerable<IGrouping<TKey, TSource>> spillGroupBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, ISerializer<TSource> serializer, SpillOptions options) {
+        return spillGroupBy(source, keySelector, serializer, options, null);
+    }
+
+    public static <TSource, TKey> IEnumerable<IGrouping<TKey, TSource>> spillGroupBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, ISerializer<TSource> serializer, SpillOptions options, IEqualityComparer<TKey> comparer) {
+        checkArguments(source, keySelector, serializer, options);
+
+        return new SpillGroupByIterator<>(source, keySelector, null, null, serializer, options, comparer);
+    }
+
+    public static <TSource, TKey, TElement> IEnumerable<IGrouping<TKey, TElement>> spillGroupBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Func1<TSource, TElement> elementSelector, ISerializer<TSource> serializer, SpillOptions options) {
+        return spillGroupBy(source, keySelector, elementSelector, serializer, options, null);
+    }
+
+    public static <TSource, TKey, TElement> IEnumerable<IGrouping<TKey, TElement>> spillGroupBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Func1<TSource, TElement> elementSelector, ISerializer<TSource> serializer, SpillOptions options, IEqualityComparer<TKey> comparer) {
+        checkArguments(source, keySelector, serializer, options);
+        if (elementSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.elementSelector);
+
+        return new SpillGroupByIterator<>(source, keySelector, elementSelector, null, serializer, options, comparer);
+    }
+
+    public static <TSource, TKey, TResult> IEnumerable<TResult> spillGroupBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Func2<TKey, IEnumerable<TSource>, TResult> resultSelector, ISerializer<TSource> serializer, SpillOptions options) {
+        return spillGroupBy(source, keySelector, resultSelector, serializer, options, null);
+    }
+
+    public static <TSource, TKey, TResult> IEnumerable<TResult> spillGroupBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Func2<TKey, IEnumerable<TSource>, TResult> resultSelector, ISerializer<TSource> serializer, SpillOptions options, IEqualityComparer<TKey> comparer) {
+        checkArguments(source, keySelector, serializer, options);
+        if (resultSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.resultSelector);
+
+        return new SpillGroupByIterator<>(source, keySelector, null, resultSelector, serializer, options, comparer);
+    }
+
+    public static <TSource, TKey, TElement, TResult> IEnumerable<TResult> spillGroupBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Func1<TSource, TElement> elementSelector, Func2<TKey, IEnumerable<TElement>, TResult> resultSelector, ISerializer<TSource> serializer, SpillOptions options) {
+        return spillGroupBy(source, keySelector, elementSelector, resultSelector, serializer, options, null);
+    }
+
+    public static <TSource, TKey, TElement, TResult> IEnumerable<TResult> spillGroupBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Func1<TSource, TElement> elementSelector, Func2<TKey, IEnumerable<TElement>, TResult> resultSelector, ISerializer<TSource> serializer, SpillOptions options, IEqualityComparer<TKey> comparer) {
+        checkArguments(source, keySelector, serializer, options);
+        if (elementSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.elementSelector);
+        if (resultSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.resultSelector);
+
+        return new SpillGroupByIterator<>(source, keySelector, elementSelector, resultSelector, serializer, options, comparer);
+    }
+
+    private static void checkArguments(IEnumerable<?> source, Func1<?, ?> keySelector, ISerializer<?> serializer, SpillOptions options) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+        if (serializer == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.serializer);
+        if (options == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.options);
+    }
+}
+
+
+// While the source fits in the memory limit this is the plain groupBy, with groupings in order of first appearance.
+// Otherwise the source elements are hash partitioned on their keys to temporary files and grouped partition by partition,
+// partitions that still do not fit are split again on the next bits of the hash. Groupings then come out partition by partition,
+// in order of first appearance within a partition, and the elements of each grouping keep source order.
+// Elements are spilled before the element selector is applied, their keys are selected again when a partition is loaded.
+@SuppressWarnings("unchecked")
+final class SpillGroupByIterator<TSource, TKey, TElement, TResult> extends AbstractIterator<TResult> {
+    private final IEnumerable<TSource> source;
+    private final Func1<TSource, TKey> keySelector;
+    private final Func1<TSource, TElement> elementSelector;
+    private final Func2<TKey, IEnumerable<TElement>, TResult> resultSelector;
+    private final ISerializer<TSource> serializer;
+    private final SpillOptions options;
+    private final IEqualityComparer<TKey> comparer;
+    private ArrayDeque<SpillGroupPartition<TSource>> partitions;
+    private IEnumerator<IGrouping<TKey, TElement>> groupingEnumerator;
+
+    SpillGroupByIterator(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Func1<TSource, TElement> elementSelector, Func2<TKey, IEnumerable<TElement>, TResult> resultSelector,
+                         ISerializer<TSource> serializer, SpillOptions options, IEqualityComparer<TKey> comparer) {
+        this.source = source;
+        this.keySelector = keySelector;
+        this.elementSelector = elementSelector;
+        this.resultSelector = resultSelector;
+        this.serializer = serializer;
+        this.options = options;
+        this.comparer = comparer == null ? EqualityComparer.Default() : comparer;
+    }
+
+    @Override
+    public AbstractIterator<TResult> clone() {
+        return new SpillGroupByIterator<>(this.source, this.keySelector, this.elementSelector, this.resultSelector, this.serializer, this.options, this.comparer);
+    }
+
+    @Override
+    public boolean moveNext() {
+        do {
+            switch (this.state) {
+                case 1:
+                    this.start();
+                    break;
+                case 2:
+                    if (this.groupingEnumerator.moveNext()) {
+                        IGrouping<TKey, TElement> g = this.groupingEnumerator.current();
+                        this.current = this.resultSelector == null ? (TResult) g : this.resultSelector.apply(g.getKey(), g);
+                        return true;
+                    }
+                    this.groupingEnumerator.close();
+                    this.groupingEnumerator = null;
+                    this.state = 3;
+                    break;
+                case 3:
+                    if (!this.nextPartition()) {
+                        this.close();
+                        return false;
+                    }
+                    this.state = 2;
+                    break;
+                default:
+                    return false;
+            }
+        } while (true);
+    }
+
+    // Buffers the source up to the memory limit. If it ends there the grouping runs in memory, otherwise everything is spilled.
+    private void start() {
+        int memoryLimit = this.options.getMemoryLimit();
+        LargeArrayBuilder<TSource> buffer = new LargeArrayBuilder<>();
+        try (IEnumerator<TSource> e = this.source.enumerator()) {
+            while (e.moveNext()) {
+                if (buffer.getCount() == memoryLimit) {
+                    this.spill(buffer.toArray(), e);
+                    this.state = 3;
+                    return;
+                }
+                buffer.add(e.current());
+            }
+        }
+        this.groupingEnumerator = this.group(new Array<>(buffer.toArray()));
+        this.state = 2;
+    }
+
+    // Writes the buffered elements and the rest of the source to the first level partitions.
+    private void spill(Object[] buffer, IEnumerator<TSource> e) {
+        this.partitions = new ArrayDeque<>();
+        SpillGroupPartition<TSource>[] children = this.createPartitions(0);
+        for (Object item : buffer)
+            this.write(children, (TSource) item, 0);
+        do {
+            this.write(children, e.current(), 0);
+        } while (e.moveNext());
+        for (SpillGroupPartition<TSource> child : children)
+            child.file.finish();
+    }
+
+    private void write(SpillGroupPartition<TSource>[] children, TSource item, int depth) {
+        children[this.partitionOf(this.keySelector.apply(item), depth)].file.write(item);
+    }
+
+    // Splits a partition that does not fit on the bits of the hash of the next level.
+    private void repartition(SpillGroupPartition<TSource> partition) {
+        int depth = partition.depth + 1;
+        SpillGroupPartition<TSource>[] children = this.createPartitions(depth);
+        for (TSource item : partition.file)
+            this.write(children, item, depth);
+        for (SpillGroupPartition<TSource> child : children)
+            child.file.finish();
+    }
+
+    private SpillGroupPartition<TSource>[] createPartitions(int depth) {
+        return SpillPartitioning.create(new SpillGroupPartition[SpillPartitioning.FANOUT], this.partitions,
+                () -> new SpillGroupPartition<>(new SpillFile<>(this.options.getDirectory(), this.serializer), depth));
+    }
+
+    // Moves to the next non empty partition and groups it. The file is deleted once its groupings are in memory.
+    private boolean nextPartition() {
+        if (this.partitions == null)
+            return false;
+        SpillGroupPartition<TSource> partition;
+        while ((partition = this.partitions.poll()) != null) {
+            try {
+                int count = partition.file.getCount();
+                if (count == 0)
+                    continue;
+                if (SpillPartitioning.mustSplit(count, this.options.getMemoryLimit(), partition.depth)) {
+                    this.repartition(partition);
+                    continue;
+                }
+                this.groupingEnumerator = this.group(partition.file);
+                return true;
+            } finally {
+                partition.file.delete();
+            }
+        }
+        return false;
+    }
+
+    private IEnumerator<IGrouping<TKey, TElement>> group(IEnumerable<TSource> source) {
+        Lookup<TKey, TElement> lookup = this.elementSelector == null
+                ? (Lookup<TKey, TElement>) Lookup.create(source, this.keySelector, this.comparer)
+                : Lookup.create(source, this.keySelector, this.elementSelector, this.comparer);
+        return lookup.enumerator();
+    }
+
+    private int partitionOf(TKey key, int depth) {
+        return SpillPartitioning.partitionOf(key == null ? 0 : this.comparer.hashCode(key), depth);
+    }
+
+    @Override
+    public void close() {
+        if (this.groupingEnumerator != null) {
+            this.groupingEnumerator.close();
+            this.groupingEnumerator = null;
+        }
+        if (this.partitions != null) {
+            for (SpillGroupPartition<TSource> partition : this.partitions)
+                partition.file.delete();
+            this.partitions = null;
+        }
+        super.close();
+    }
+}
+
+
+final class SpillGroupPartition<TSource> {
+    final SpillFile<TSource> file;
+    final int depth;
+
+    SpillGroupPartition(SpillFile<TSource> file, int depth) {
+        this.file = file;
+        this.depth = depth;
+    }
+}
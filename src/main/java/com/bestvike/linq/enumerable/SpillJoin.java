@@ -0,0 +1,406 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.collections.generic.Array;
+import com.bestvike.collections.generic.EqualityComparer;
+import com.bestvike.collections.generic.IEqualityComparer;
+import com.bestvike.function.Func1;
+import com.bestvike.function.Func2;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.ISerializer;
+import com.bestvike.linq.SpillOptions;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+
+import java.io.File;
+import java.util.ArrayDeque;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+public final class SpillJoin {
+    private SpillJoin() {
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> spillJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector, ISerializer<TOuter> outerSerializer, ISerializer<TInner> innerSerializer, SpillOptions options) {
+        return spillJoin(outer, inner, outerKeySelector, innerKeySelector, resultSelector, outerSerializer, innerSerializer, options, null);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> spillJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector, ISerializer<TOuter> outerSerializer, ISerializer<TInner> innerSerializer, SpillOptions options, IEqualityComparer<TKey> comparer) {
+        checkArguments(outer, inner, outerKeySelector, innerKeySelector, resultSelector, outerSerializer, innerSerializer, options);
+
+        return new SpillJoinIterator<>(outer, inner, outerKeySelector, innerKeySelector, false, null, false, null, resultSelector, outerSerializer, innerSerializer, options, comparer);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> spillLeftJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector, ISerializer<TOuter> outerSerializer, ISerializer<TInner> innerSerializer, SpillOptions options) {
+        return spillLeftJoin(outer, inner, outerKeySelector, innerKeySelector, null, resultSelector, outerSerializer, innerSerializer, options, null);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> spillLeftJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, TInner defaultInner, Func2<TOuter, TInner, TResult> resultSelector, ISerializer<TOuter> outerSerializer, ISerializer<TInner> innerSerializer, SpillOptions options) {
+        return spillLeftJoin(outer, inner, outerKeySelector, innerKeySelector, defaultInner, resultSelector, outerSerializer, innerSerializer, options, null);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> spillLeftJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector, ISerializer<TOuter> outerSerializer, ISerializer<TInner> innerSerializer, SpillOptions options, IEqualityComparer<TKey> comparer) {
+        return spillLeftJoin(outer, inner, outerKeySelector, innerKeySelector, null, resultSelector, outerSerializer, innerSerializer, options, comparer);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> spillLeftJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, TInner defaultInner, Func2<TOuter, TInner, TResult> resultSelector, ISerializer<TOuter> outerSerializer, ISerializer<TInner> innerSerializer, SpillOptions options, IEqualityComparer<TKey> comparer) {
+        checkArguments(outer, inner, outerKeySelector, innerKeySelector, resultSelector, outerSerializer, innerSerializer, options);
+
+        return new SpillJoinIterator<>(outer, inner, outerKeySelector, innerKeySelector, true, defaultInner, false, null, resultSelector, outerSerializer, innerSerializer, options, comparer);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> spillFullJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector, ISerializer<TOuter> outerSerializer, ISerializer<TInner> innerSerializer, SpillOptions options) {
+        return spillFullJoin(outer, inner, outerKeySelector, innerKeySelector, null, null, resultSelector, outerSerializer, innerSerializer, options, null);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> spillFullJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, TOuter defaultOuter, TInner defaultInner, Func2<TOuter, TInner, TResult> resultSelector, ISerializer<TOuter> outerSerializer, ISerializer<TInner> innerSerializer, SpillOptions options) {
+        return spillFullJoin(outer, inner, outerKeySelector, innerKeySelector, defaultOuter, defaultInner, resultSelector, outerSerializer, innerSerializer, options, null);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> spillFullJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, Func2<TOuter, TInner, TResult> resultSelector, ISerializer<TOuter> outerSerializer, ISerializer<TInner> innerSerializer, SpillOptions options, IEqualityComparer<TKey> comparer) {
+        return spillFullJoin(outer, inner, outerKeySelector, innerKeySelector, null, null, resultSelector, outerSerializer, innerSerializer, options, comparer);
+    }
+
+    public static <TOuter, TInner, TKey, TResult> IEnumerable<TResult> spillFullJoin(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector, TOuter defaultOuter, TInner defaultInner, Func2<TOuter, TInner, TResult> resultSelector, ISerializer<TOuter> outerSerializer, ISerializer<TInner> innerSerializer, SpillOptions options, IEqualityComparer<TKey> comparer) {
+        checkArguments(outer, inner, outerKeySelector, innerKeySelector, resultSelector, outerSerializer, innerSerializer, options);
+
+        return new SpillJoinIterator<>(outer, inner, outerKeySelector, innerKeySelector, true, defaultInner, true, defaultOuter, resultSelector, outerSerializer, innerSerializer, options, comparer);
+    }
+
+    private static void checkArguments(IEnumerable<?> outer, IEnumerable<?> inner, Func1<?, ?> outerKeySelector, Func1<?, ?> innerKeySelector, Func2<?, ?, ?> resultSelector, ISerializer<?> outerSerializer, ISerializer<?> innerSerializer, SpillOptions options) {
+        if (outer == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outer);
+        if (inner == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.inner);
+        if (outerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outerKeySelector);
+        if (innerKeySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.innerKeySelector);
+        if (resultSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.resultSelector);
+        if (outerSerializer == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.outerSerializer);
+        if (innerSerializer == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.innerSerializer);
+        if (options == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.options);
+    }
+}
+
+
+// While the inner side fits in the memory limit this is the plain hash join, with the same output order.
+// Otherwise both sides are hash partitioned to temporary files (Grace hash join) and joined partition by partition,
+// partitions whose inner side still does not fit are split again on the next bits of the hash. The results then come
+// out grouped by partition instead of in outer order. Elements with null keys never match and wait in a partition of their own.
+@SuppressWarnings("unchecked")
+final class SpillJoinIterator<TOuter, TInner, TKey, TResult> extends AbstractIterator<TResult> {
+    private final IEnumerable<TOuter> outer;
+    private final IEnumerable<TInner> inner;
+    private final Func1<TOuter, TKey> outerKeySelector;
+    private final Func1<TInner, TKey> innerKeySelector;
+    private final boolean leftOuter;
+    private final TInner defaultInner;
+    private final boolean rightOuter;
+    private final TOuter defaultOuter;
+    private final Func2<TOuter, TInner, TResult> resultSelector;
+    private final ISerializer<TOuter> outerSerializer;
+    private final ISerializer<TInner> innerSerializer;
+    private final SpillOptions options;
+    private final IEqualityComparer<TKey> comparer;
+    private ArrayDeque<SpillPartition<TOuter, TInner>> partitions;
+    private SpillPartition<TOuter, TInner> partition;
+    private Lookup<TKey, TInner> lookup;
+    private IEnumerator<TOuter> outerEnumerator;
+    private IEnumerator<TInner> innerEnumerator;
+    private IEnumerator<Grouping<TKey, TInner>> unfetchedEnumerator;
+    private TOuter item;
+    private Grouping<TKey, TInner> g;
+    private int index;
+
+    SpillJoinIterator(IEnumerable<TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector,
+                      boolean leftOuter, TInner defaultInner, boolean rightOuter, TOuter defaultOuter, Func2<TOuter, TInner, TResult> resultSelector,
+                      ISerializer<TOuter> outerSerializer, ISerializer<TInner> innerSerializer, SpillOptions options, IEqualityComparer<TKey> comparer) {
+        this.outer = outer;
+        this.inner = inner;
+        this.outerKeySelector = outerKeySelector;
+        this.innerKeySelector = innerKeySelector;
+        this.leftOuter = leftOuter;
+        this.defaultInner = defaultInner;
+        this.rightOuter = rightOuter;
+        this.defaultOuter = defaultOuter;
+        this.resultSelector = resultSelector;
+        this.outerSerializer = outerSerializer;
+        this.innerSerializer = innerSerializer;
+        this.options = options;
+        this.comparer = comparer == null ? EqualityComparer.Default() : comparer;
+    }
+
+    @Override
+    public AbstractIterator<TResult> clone() {
+        return new SpillJoinIterator<>(this.outer, this.inner, this.outerKeySelector, this.innerKeySelector, this.leftOuter, this.defaultInner, this.rightOuter, this.defaultOuter,
+                this.resultSelector, this.outerSerializer, this.innerSerializer, this.options, this.comparer);
+    }
+
+    @Override
+    public boolean moveNext() {
+        do {
+            switch (this.state) {
+                case 1:
+                    this.start();
+                    break;
+                case 2:
+                    if (this.outerEnumerator.moveNext()) {
+                        this.item = this.outerEnumerator.current();
+                        this.g = this.lookup == null ? null : this.lookup.fetchGrouping(this.outerKeySelector.apply(this.item));
+                        if (this.g != null) {
+                            this.index = -1;
+                            this.state = 3;
+                            break;
+                        }
+                        if (this.leftOuter) {
+                            this.current = this.resultSelector.apply(this.item, this.defaultInner);
+                            return true;
+                        }
+                        break;
+                    }
+                    this.outerEnumerator.close();
+                    this.outerEnumerator = null;
+                    this.item = null;
+                    if (!this.rightOuter) {
+                        this.state = 6;
+                    } else if (this.lookup != null) {
+                        this.unfetchedEnumerator = this.lookup.unfetchedEnumerator();
+                        this.state = 4;
+                    } else {
+                        this.innerEnumerator = this.partition.inner.enumerator();
+                        this.state = 7;
+                    }
+                    break;
+                case 3:
+                    this.index++;
+                    if (this.index < this.g.count) {
+                        this.current = this.resultSelector.apply(this.item, (TInner) this.g.elements[this.g.start + this.index]);
+                        return true;
+                    }
+                    this.state = 2;
+                    break;
+                case 4:
+                    if (this.unfetchedEnumerator.moveNext()) {
+                        this.g = this.unfetchedEnumerator.current();
+                        this.index = -1;
+                        this.state = 5;
+                        break;
+                    }
+                    this.unfetchedEnumerator.close();
+                    this.unfetchedEnumerator = null;
+                    this.state = 6;
+                    break;
+                case 5:
+                    this.index++;
+                    if (this.index < this.g.count) {
+                        this.current = this.resultSelector.apply(this.defaultOuter, (TInner) this.g.elements[this.g.start + this.index]);
+                        return true;
+                    }
+                    this.state = 4;
+                    break;
+                case 6:
+                    if (!this.nextPartition()) {
+                        this.close();
+                        return false;
+                    }
+                    this.state = 2;
+                    break;
+                case 7:
+                    if (this.innerEnumerator.moveNext()) {
+                        this.current = this.resultSelector.apply(this.defaultOuter, this.innerEnumerator.current());
+                        return true;
+                    }
+                    this.innerEnumerator.close();
+                    this.innerEnumerator = null;
+                    this.state = 6;
+                    break;
+                default:
+                    return false;
+            }
+        } while (true);
+    }
+
+    // Buffers the inner side up to the memory limit. If it ends there the join runs in memory, otherwise everything is spilled.
+    private void start() {
+        int memoryLimit = this.options.getMemoryLimit();
+        LargeArrayBuilder<TInner> buffer = new LargeArrayBuilder<>();
+        try (IEnumerator<TInner> e = this.inner.enumerator()) {
+            while (e.moveNext()) {
+                if (buffer.getCount() == memoryLimit) {
+                    this.spill(buffer.toArray(), e);
+                    this.state = 6;
+                    return;
+                }
+                buffer.add(e.current());
+            }
+        }
+        IEnumerable<TInner> source = new Array<>(buffer.toArray());
+        this.lookup = this.rightOuter
+                ? Lookup.createForFullJoin(source, this.innerKeySelector, this.comparer)
+                : Lookup.createForJoin(source, this.innerKeySelector, this.comparer);
+        this.outerEnumerator = this.outer.enumerator();
+        this.state = 2;
+    }
+
+    // Writes the buffered inner elements, the rest of the inner side and then the outer side to the first level partitions.
+    private void spill(Object[] buffer, IEnumerator<TInner> e) {
+        this.partitions = new ArrayDeque<>();
+        SpillPartition<TOuter, TInner> nullKeys = null;
+        if (this.leftOuter || this.rightOuter) {
+            nullKeys = this.createPartition(0, true);
+            this.partitions.add(nullKeys);
+        }
+        SpillPartition<TOuter, TInner>[] children = this.createPartitions(0);
+
+        for (Object item : buffer)
+            this.writeInner(children, nullKeys, (TInner) item, 0);
+        do {
+            this.writeInner(children, nullKeys, e.current(), 0);
+        } while (e.moveNext());
+
+        try (IEnumerator<TOuter> outerEnumerator = this.outer.enumerator()) {
+            while (outerEnumerator.moveNext()) {
+                TOuter item = outerEnumerator.current();
+                TKey key = this.outerKeySelector.apply(item);
+                if (key != null)
+                    children[this.partitionOf(key, 0)].outer.write(item);
+                else if (this.leftOuter)
+                    nullKeys.outer.write(item);
+            }
+        }
+
+        if (nullKeys != null)
+            nullKeys.finish();
+        for (SpillPartition<TOuter, TInner> child : children)
+            child.finish();
+    }
+
+    private void writeInner(SpillPartition<TOuter, TInner>[] children, SpillPartition<TOuter, TInner> nullKeys, TInner item, int depth) {
+        TKey key = this.innerKeySelector.apply(item);
+        if (key != null)
+            children[this.partitionOf(key, depth)].inner.write(item);
+        else if (this.rightOuter)
+            nullKeys.inner.write(item);
+    }
+
+    // Splits a partition whose inner side does not fit on the bits of the hash of the next level.
+    private void repartition(SpillPartition<TOuter, TInner> partition) {
+        int depth = partition.depth + 1;
+        SpillPartition<TOuter, TInner>[] children = this.createPartitions(depth);
+        for (TInner item : partition.inner)
+            children[this.partitionOf(this.innerKeySelector.apply(item), depth)].inner.write(item);
+        for (TOuter item : partition.outer)
+            children[this.partitionOf(this.outerKeySelector.apply(item), depth)].outer.write(item);
+        for (SpillPartition<TOuter, TInner> child : children)
+            child.finish();
+    }
+
+    private SpillPartition<TOuter, TInner>[] createPartitions(int depth) {
+        return SpillPartitioning.create(new SpillPartition[SpillPartitioning.FANOUT], this.partitions, () -> this.createPartition(depth, false));
+    }
+
+    private SpillPartition<TOuter, TInner> createPartition(int depth, boolean nullKeys) {
+        File directory = this.options.getDirectory();
+        return new SpillPartition<>(new SpillFile<>(directory, this.outerSerializer), new SpillFile<>(directory, this.innerSerializer), depth, nullKeys);
+    }
+
+    // Moves to the next partition that can produce results and prepares its probe.
+    private boolean nextPartition() {
+        this.releasePartition();
+        if (this.partitions == null)
+            return false;
+        while ((this.partition = this.partitions.poll()) != null) {
+            SpillPartition<TOuter, TInner> partition = this.partition;
+            int innerCount = partition.inner.getCount();
+            int outerCount = partition.outer.getCount();
+            if (innerCount == 0 && (!this.leftOuter || outerCount == 0) || outerCount == 0 && !this.rightOuter) {
+                this.releasePartition();
+                continue;
+            }
+            if (partition.nullKeys) {
+                this.outerEnumerator = partition.outer.enumerator();
+                return true;
+            }
+            if (SpillPartitioning.mustSplit(innerCount, this.options.getMemoryLimit(), partition.depth)) {
+                this.repartition(partition);
+                this.releasePartition();
+                continue;
+            }
+            this.lookup = this.rightOuter
+                    ? Lookup.createForFullJoin(partition.inner, this.innerKeySelector, this.comparer)
+                    : Lookup.createForJoin(partition.inner, this.innerKeySelector, this.comparer);
+            this.outerEnumerator = partition.outer.enumerator();
+            return true;
+        }
+        return false;
+    }
+
+    private void releasePartition() {
+        this.lookup = null;
+        if (this.partition != null) {
+            this.partition.delete();
+            this.partition = null;
+        }
+    }
+
+    private int partitionOf(TKey key, int depth) {
+        return SpillPartitioning.partitionOf(this.comparer.hashCode(key), depth);
+    }
+
+    @Override
+    public void close() {
+        if (this.outerEnumerator != null) {
+            this.outerEnumerator.close();
+            this.outerEnumerator = null;
+        }
+        if (this.innerEnumerator != null) {
+            this.innerEnumerator.close();
+            this.innerEnumerator = null;
+        }
+        if (this.unfetchedEnumerator != null) {
+            this.unfetchedEnumerator.close();
+            this.unfetchedEnumerator = null;
+        }
+        this.releasePartition();
+        if (this.partitions != null) {
+            for (SpillPartition<TOuter, TInner> partition : this.partitions)
+                partition.delete();
+            this.partitions = null;
+        }
+        this.item = null;
+        this.g = null;
+        super.close();
+    }
+}
+
+
+final class SpillPartition<TOuter, TInner> {
+    final SpillFile<TOuter> outer;
+    final SpillFile<TInner> inner;
+    final int depth;
+    // Holds the elements with null keys, which never match and are never split.
+    final boolean nullKeys;
+
+    SpillPartition(SpillFile<TOuter> outer, SpillFile<TInner> inner, int depth, boolean nullKeys) {
+        this.outer = outer;
+        this.inner = inner;
+        this.depth = depth;
+        this.nullKeys = nullKeys;
+    }
+
+    void finish() {
+        this.outer.finish();
+        this.inner.finish();
+    }
+
+    void delete() {
+        this.outer.delete();
+        this.inner.delete();
+    }
+}
@@ -0,0 +1,359 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.collections.generic.Array;
+import com.bestvike.function.Func1;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.IOrderedEnumerable;
+import com.bestvike.linq.ISerializer;
+import com.bestvike.linq.SpillOptions;
+import com.bestvike.linq.exception.ExceptionArgument;
+import com.bestvike.linq.exception.ThrowHelper;
+import com.bestvike.linq.util.ArrayUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+public final class SpillOrderBy {
+    private SpillOrderBy() {
+    }
+
+    public static <TSource, TKey> IOrderedEnumerable<TSource> spillOrderBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, ISerializer<TSource> serializer, SpillOptions options) {
+        return spillOrderBy(source, keySelector, serializer, options, null);
+    }
+
+    public static <TSource, TKey> IOrderedEnumerable<TSource> spillOrderBy(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, ISerializer<TSource> serializer, SpillOptions options, Comparator<TKey> comparer) {
+        AbstractOrderedEnumerable<TSource> ordered = new OrderedEnumerable<>(source, keySelector, comparer, false, null);
+        checkArguments(serializer, options);
+
+        return new SpillOrderedEnumerable<>(ordered, serializer, options);
+    }
+
+    public static <TSource, TKey> IOrderedEnumerable<TSource> spillOrderByDescending(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, ISerializer<TSource> serializer, SpillOptions options) {
+        return spillOrderByDescending(source, keySelector, serializer, options, null);
+    }
+
+    public static <TSource, TKey> IOrderedEnumerable<TSource> spillOrderByDescending(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, ISerializer<TSource> serializer, SpillOptions options, Comparator<TKey> comparer) {
+        AbstractOrderedEnumerable<TSource> ordered = new OrderedEnumerable<>(source, keySelector, comparer, true, null);
+        checkArguments(serializer, options);
+
+        return new SpillOrderedEnumerable<>(ordered, serializer, options);
+    }
+
+    private static void checkArguments(ISerializer<?> serializer, SpillOptions options) {
+        if (serializer == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.serializer);
+        if (options == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.options);
+    }
+}
+
+
+// Sorts with the sorter of the wrapped ordered enumerable, so keys, comparers and thenBy levels behave exactly as in orderBy.
+// The source is cut into runs of at most the memory limit, each run is sorted in memory and written to a temporary file,
+// then the runs are merged. Equal elements are taken from the earlier run first, so the sort stays stable.
+final class SpillOrderedEnumerable<TElement> implements IOrderedEnumerable<TElement>, IIListProvider<TElement> {
+    // Runs merged at once, more runs are first merged in groups to bound the number of open files.
+    private static final int FAN_IN = 64;
+    private final AbstractOrderedEnumerable<TElement> ordered;
+    private final ISerializer<TElement> serializer;
+    private final SpillOptions options;
+
+    SpillOrderedEnumerable(AbstractOrderedEnumerable<TElement> ordered, ISerializer<TElement> serializer, SpillOptions options) {
+        this.ordered = ordered;
+        this.serializer = serializer;
+        this.options = options;
+    }
+
+    @Override
+    public <TKey> IOrderedEnumerable<TElement> createOrderedEnumerable(Func1<TElement, TKey> keySelector, Comparator<TKey> comparer, boolean descending) {
+        return new SpillOrderedEnumerable<>((AbstractOrderedEnumerable<TElement>) this.ordered.createOrderedEnumerable(keySelector, comparer, descending), this.serializer, this.options);
+    }
+
+    @Override
+    public IEnumerator<TElement> enumerator() {
+        return new SpillOrderedEnumerator();
+    }
+
+    @Override
+    public TElement[] _toArray(Class<TElement> clazz) {
+        return EnumerableHelpers.toArray(this, clazz);
+    }
+
+    @Override
+    public Object[] _toArray() {
+        return EnumerableHelpers.toArray(this);
+    }
+
+    @Override
+    public List<TElement> _toList() {
+        return EnumerableHelpers.toList(this);
+    }
+
+    @Override
+    public int _getCount(boolean onlyIfCheap) {
+        return this.ordered._getCount(onlyIfCheap);
+    }
+
+
+    private final class SpillOrderedEnumerator extends AbstractEnumerator<TElement> {
+        private IEnumerator<TElement> sourceEnumerator;
+        private Object[] items;
+        private int count;
+        private int[] map;
+        private int index;
+        private List<SpillFile<TElement>> files;
+        private IEnumerator<TElement> merger;
+
+        @Override
+        public boolean moveNext() {
+            switch (this.state) {
+                case 0:
+                    this.read();
+                    if (this.files == null) {
+                        if (this.count == 0) {
+                            this.close();
+                            return false;
+                        }
+                        this.map = SpillOrderedEnumerable.this.ordered.getEnumerableSorter().sort(this.items, this.count);
+                        this.index = -1;
+                        this.state = 1;
+                    } else {
+                        this.merger = this.merge();
+                        this.state = 2;
+                        return this.moveNext();
+                    }
+                case 1:
+                    this.index++;
+                    if (this.index < this.count) {
+                        //noinspection unchecked
+                        this.current = (TElement) this.items[this.map[this.index]];
+                        return true;
+                    }
+                    this.close();
+                    return false;
+                case 2:
+                    if (this.merger.moveNext()) {
+                        this.current = this.merger.current();
+                        return true;
+                    }
+                    this.close();
+                    return false;
+                default:
+                    return false;
+            }
+        }
+
+        // Reads the source, spilling a sorted run each time the buffer is full. The last run stays in items.
+        private void read() {
+            int limit = SpillOrderedEnumerable.this.options.getMemoryLimit();
+            this.items = new Object[Math.min(limit, 16)];
+            this.sourceEnumerator = SpillOrderedEnumerable.this.ordered.source.enumerator();
+            while (this.sourceEnumerator.moveNext()) {
+                if (this.count == limit) {
+                    if (this.files == null)
+                        this.files = new ArrayList<>();
+                    this.spill();
+                    Arrays.fill(this.items, null);
+                    this.count = 0;
+                } else if (this.count == this.items.length) {
+                    this.items = ArrayUtils.resize(this.items, (int) Math.min((long) this.count << 1, limit));
+                }
+                this.items[this.count++] = this.sourceEnumerator.current();
+            }
+            this.sourceEnumerator.close();
+            this.sourceEnumerator = null;
+        }
+
+        private void spill() {
+            SpillFile<TElement> file = new SpillFile<>(SpillOrderedEnumerable.this.options.getDirectory(), SpillOrderedEnumerable.this.serializer);
+            this.files.add(file);
+            int[] map = SpillOrderedEnumerable.this.ordered.getEnumerableSorter().sort(this.items, this.count);
+            for (int i = 0; i < this.count; i++)
+                //noinspection unchecked
+                file.write((TElement) this.items[map[i]]);
+            file.finish();
+        }
+
+        // Merges the spilled runs in groups of FAN_IN until they can all be open together with the run left in memory.
+        private IEnumerator<TElement> merge() {
+            List<SpillFile<TElement>> runs = new ArrayList<>(this.files);
+            while (runs.size() >= FAN_IN) {
+                List<SpillFile<TElement>> merged = new ArrayList<>();
+                for (int start = 0; start < runs.size(); start += FAN_IN) {
+                    List<SpillFile<TElement>> group = runs.subList(start, Math.min(start + FAN_IN, runs.size()));
+                    if (group.size() == 1) {
+                        merged.add(group.get(0));
+                        continue;
+                    }
+                    SpillFile<TElement> file = new SpillFile<>(SpillOrderedEnumerable.this.options.getDirectory(), SpillOrderedEnumerable.this.serializer);
+                    this.files.add(file);
+                    try (IEnumerator<TElement> e = this.newMerger(group, null)) {
+                        while (e.moveNext())
+                            file.write(e.current());
+                    }
+                    file.finish();
+                    for (SpillFile<TElement> run : group)
+                        run.delete();
+                    merged.add(file);
+                }
+                runs = merged;
+            }
+
+            Object[] last = null;
+            if (this.count > 0) {
+                int[] map = SpillOrderedEnumerable.this.ordered.getEnumerableSorter().sort(this.items, this.count);
+                last = new Object[this.count];
+                for (int i = 0; i < last.length; i++)
+                    last[i] = this.items[map[i]];
+            }
+            this.items = null;
+            this.count = 0;
+            return this.newMerger(runs, last);
+        }
+
+        private IEnumerator<TElement> newMerger(List<SpillFile<TElement>> runs, Object[] last) {
+            //noinspection unchecked
+            IEnumerator<TElement>[] enumerators = new IEnumerator[last == null ? runs.size() : runs.size() + 1];
+            for (int i = 0; i < runs.size(); i++)
+                enumerators[i] = runs.get(i).enumerator();
+            if (last != null)
+                enumerators[runs.size()] = new Array<TElement>(last).enumerator();
+            return new MergeRunsEnumerator<>(SpillOrderedEnumerable.this.ordered.getEnumerableSorter(), enumerators);
+        }
+
+        @Override
+        public void close() {
+            if (this.sourceEnumerator != null) {
+                this.sourceEnumerator.close();
+                this.sourceEnumerator = null;
+            }
+            if (this.merger != null) {
+                this.merger.close();
+                this.merger = null;
+            }
+            if (this.files != null) {
+                for (SpillFile<TElement> file : this.files)
+                    file.delete();
+                this.files = null;
+            }
+            this.items = null;
+            this.map = null;
+            super.close();
+        }
+    }
+}
+
+
+// Merges sorted runs with a binary heap of run indexes. The keys of the head of every run live in the sorter at the run index,
+// equal keys are ordered by run index.
+final class MergeRunsEnumerator<TElement> extends AbstractEnumerator<TElement> {
+    private final AbstractEnumerableSorter<TElement> sorter;
+    private final IEnumerator<TElement>[] runs;
+    private final Object[] heads;
+    private final int[] heap;
+    private int size;
+
+    MergeRunsEnumerator(AbstractEnumerableSorter<TElement> sorter, IEnumerator<TElement>[] runs) {
+        sorter.allocateKeys(runs.length);
+        this.sorter = sorter;
+        this.runs = runs;
+        this.heads = new Object[runs.length];
+        this.heap = new int[runs.length];
+    }
+
+    private int compare(int run1, int run2) {
+        int c = this.sorter.compareAllKeys(run1, run2);
+        return c != 0 ? c : run1 - run2;
+    }
+
+    // Reads the next element of run into its head, returns false when the run is exhausted.
+    private boolean advance(int run) {
+        IEnumerator<TElement> e = this.runs[run];
+        if (e.moveNext()) {
+            TElement head = e.current();
+            this.heads[run] = head;
+            this.sorter.computeKeys(head, run);
+            return true;
+        }
+        e.close();
+        this.runs[run] = null;
+        this.heads[run] = null;
+        return false;
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 0:
+                for (int run = 0; run < this.runs.length; run++) {
+                    if (this.advance(run)) {
+                        this.heap[this.size] = run;
+                        this.siftUp(this.size++);
+                    }
+                }
+                this.state = 1;
+            case 1:
+                if (this.size == 0) {
+                    this.close();
+                    return false;
+                }
+                int run = this.heap[0];
+                //noinspection unchecked
+                this.current = (TElement) this.heads[run];
+                if (!this.advance(run))
+                    this.heap[0] = this.heap[--this.size];
+                this.siftDown(0);
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    // The root is the least head.
+    private void siftUp(int index) {
+        int run = this.heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >> 1;
+            if (this.compare(run, this.heap[parent]) >= 0)
+                break;
+            this.heap[index] = this.heap[parent];
+            index = parent;
+        }
+        this.heap[index] = run;
+    }
+
+    private void siftDown(int index) {
+        int run = this.heap[index];
+        int half = this.size >> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            int right = child + 1;
+            if (right < this.size && this.compare(this.heap[right], this.heap[child]) < 0)
+                child = right;
+            if (this.compare(run, this.heap[child]) <= 0)
+                break;
+            this.heap[index] = this.heap[child];
+            index = child;
+        }
+        this.heap[index] = run;
+    }
+
+    @Override
+    public void close() {
+        for (int run = 0; run < this.runs.length; run++) {
+            if (this.runs[run] != null) {
+                this.runs[run].close();
+                this.runs[run] = null;
+            }
+            this.heads[run] = null;
+        }
+        this.size = 0;
+        super.close();
+    }
+}
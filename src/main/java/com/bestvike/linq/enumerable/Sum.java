@@ -28,12 +28,9 @@ public final class Sum {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
 
-        int sum = 0;
-        try (IEnumerator<Integer> e = source.enumerator()) {
-            while (e.moveNext())
-                sum = Math.addExact(sum, e.current());
-        }
-        return sum;
+        SumIntSink<Integer> sink = new SumIntSink<>(x -> x);
+        Sink.forEachAll(source, sink);
+        return sink.sum;
     }
 
     public static int sumIntNull(IEnumerable<Integer> source) {
@@ -55,12 +52,9 @@ public final class Sum {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
 
-        long sum = 0;
-        try (IEnumerator<Long> e = source.enumerator()) {
-            while (e.moveNext())
-                sum = Math.addExact(sum, e.current());
-        }
-        return sum;
+        SumLongSink<Long> sink = new SumLongSink<>(x -> x);
+        Sink.forEachAll(source, sink);
+        return sink.sum;
     }
 
     public static long sumLongNull(IEnumerable<Long> source) {
@@ -82,12 +76,9 @@ public final class Sum {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
 
-        double sum = 0;
-        try (IEnumerator<Float> e = source.enumerator()) {
-            while (e.moveNext())
-                sum += e.current();
-        }
-        return (float) sum;
+        SumFloatSink<Float> sink = new SumFloatSink<>(x -> x);
+        Sink.forEachAll(source, sink);
+        return (float) sink.sum;
     }
 
     public static float sumFloatNull(IEnumerable<Float> source) {
@@ -109,12 +100,9 @@ public final class Sum {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
 
-        double sum = 0;
-        try (IEnumerator<Double> e = source.enumerator()) {
-            while (e.moveNext())
-                sum += e.current();
-        }
-        return sum;
+        SumDoubleSink<Double> sink = new SumDoubleSink<>(x -> x);
+        Sink.forEachAll(source, sink);
+        return sink.sum;
     }
 
     public static double sumDoubleNull(IEnumerable<Double> source) {
@@ -136,12 +124,9 @@ public final class Sum {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
 
-        BigDecimal sum = BigDecimal.ZERO;
-        try (IEnumerator<BigDecimal> e = source.enumerator()) {
-            while (e.moveNext())
-                sum = sum.add(e.current());
-        }
-        return sum;
+        SumDecimalSink<BigDecimal> sink = new SumDecimalSink<>(x -> x);
+        Sink.forEachAll(source, sink);
+        return sink.sum;
     }
 
     public static BigDecimal sumDecimalNull(IEnumerable<BigDecimal> source) {
@@ -165,12 +150,9 @@ public final class Sum {
         if (selector == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
 
-        int sum = 0;
-        try (IEnumerator<TSource> e = source.enumerator()) {
-            while (e.moveNext())
-                sum = Math.addExact(sum, selector.apply(e.current()));
-        }
-        return sum;
+        SumIntSink<TSource> sink = new SumIntSink<>(selector);
+        Sink.forEachAll(source, sink);
+        return sink.sum;
     }
 
     public static <TSource> int sumIntNull(IEnumerable<TSource> source, NullableIntFunc1<TSource> selector) {
@@ -196,12 +178,9 @@ public final class Sum {
         if (selector == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
 
-        long sum = 0;
-        try (IEnumerator<TSource> e = source.enumerator()) {
-            while (e.moveNext())
-                sum = Math.addExact(sum, selector.apply(e.current()));
-        }
-        return sum;
+        SumLongSink<TSource> sink = new SumLongSink<>(selector);
+        Sink.forEachAll(source, sink);
+        return sink.sum;
     }
 
     public static <TSource> long sumLongNull(IEnumerable<TSource> source, NullableLongFunc1<TSource> selector) {
@@ -227,12 +206,9 @@ public final class Sum {
         if (selector == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
 
-        double sum = 0;
-        try (IEnumerator<TSource> e = source.enumerator()) {
-            while (e.moveNext())
-                sum += selector.apply(e.current());
-        }
-        return (float) sum;
+        SumFloatSink<TSource> sink = new SumFloatSink<>(selector);
+        Sink.forEachAll(source, sink);
+        return (float) sink.sum;
     }
 
     public static <TSource> float sumFloatNull(IEnumerable<TSource> source, NullableFloatFunc1<TSource> selector) {
@@ -258,12 +234,9 @@ public final class Sum {
         if (selector == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
 
-        double sum = 0;
-        try (IEnumerator<TSource> e = source.enumerator()) {
-            while (e.moveNext())
-                sum += selector.apply(e.current());
-        }
-        return sum;
+        SumDoubleSink<TSource> sink = new SumDoubleSink<>(selector);
+        Sink.forEachAll(source, sink);
+        return sink.sum;
     }
 
     public static <TSource> double sumDoubleNull(IEnumerable<TSource> source, NullableDoubleFunc1<TSource> selector) {
@@ -289,12 +262,9 @@ public final class Sum {
         if (selector == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.selector);
 
-        BigDecimal sum = BigDecimal.ZERO;
-        try (IEnumerator<TSource> e = source.enumerator()) {
-            while (e.moveNext())
-                sum = sum.add(selector.apply(e.current()));
-        }
-        return sum;
+        SumDecimalSink<TSource> sink = new SumDecimalSink<>(selector);
+        Sink.forEachAll(source, sink);
+        return sink.sum;
     }
 
     public static <TSource> BigDecimal sumDecimalNull(IEnumerable<TSource> source, NullableDecimalFunc1<TSource> selector) {
@@ -314,3 +284,83 @@ public final class Sum {
         return sum;
     }
 }
+
+
+final class SumIntSink<TSource> implements ISink<TSource> {
+    private final IntFunc1<TSource> selector;
+    int sum;
+
+    SumIntSink(IntFunc1<TSource> selector) {
+        this.selector = selector;
+    }
+
+    @Override
+    public boolean accept(TSource item) {
+        this.sum = Math.addExact(this.sum, this.selector.apply(item));
+        return true;
+    }
+}
+
+
+final class SumLongSink<TSource> implements ISink<TSource> {
+    private final LongFunc1<TSource> selector;
+    long sum;
+
+    SumLongSink(LongFunc1<TSource> selector) {
+        this.selector = selector;
+    }
+
+    @Override
+    public boolean accept(TSource item) {
+        this.sum = Math.addExact(this.sum, this.selector.apply(item));
+        return true;
+    }
+}
+
+
+final class SumFloatSink<TSource> implements ISink<TSource> {
+    private final FloatFunc1<TSource> selector;
+    double sum;
+
+    SumFloatSink(FloatFunc1<TSource> selector) {
+        this.selector = selector;
+    }
+
+    @Override
+    public boolean accept(TSource item) {
+        this.sum += this.selector.apply(item);
+        return true;
+    }
+}
+
+
+final class SumDoubleSink<TSource> implements ISink<TSource> {
+    private final DoubleFunc1<TSource> selector;
+    double sum;
+
+    SumDoubleSink(DoubleFunc1<TSource> selector) {
+        this.selector = selector;
+    }
+
+    @Override
+    public boolean accept(TSource item) {
+        this.sum += this.selector.apply(item);
+        return true;
+    }
+}
+
+
+final class SumDecimalSink<TSource> implements ISink<TSource> {
+    private final DecimalFunc1<TSource> selector;
+    BigDecimal sum = BigDecimal.ZERO;
+
+    SumDecimalSink(DecimalFunc1<TSource> selector) {
+        this.selector = selector;
+    }
+
+    @Override
+    public boolean accept(TSource item) {
+        this.sum = this.sum.add(this.selector.apply(item));
+        return true;
+    }
+}
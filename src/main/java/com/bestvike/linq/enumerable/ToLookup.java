@@ -2,6 +2,8 @@ package com.bestvike.linq.enumerable;
 
 import com.bestvike.collections.generic.IEqualityComparer;
 import com.bestvike.function.Func1;
+import com.bestvike.function.IntFunc1;
+import com.bestvike.function.LongFunc1;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.ILookup;
 import com.bestvike.linq.exception.ExceptionArgument;
@@ -41,4 +43,44 @@ public final class ToLookup {
 
         return Lookup.create(source, keySelector, elementSelector, comparer);
     }
+
+    public static <TSource> ILookup<Integer, TSource> toLookupInt(IEnumerable<TSource> source, IntFunc1<TSource> keySelector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+
+        return IntLookup.create(source, keySelector);
+    }
+
+    public static <TSource, TElement> ILookup<Integer, TElement> toLookupInt(IEnumerable<TSource> source, IntFunc1<TSource> keySelector, Func1<TSource, TElement> elementSelector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+        if (elementSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.elementSelector);
+
+        return IntLookup.create(source, keySelector, elementSelector);
+    }
+
+    public static <TSource> ILookup<Long, TSource> toLookupLong(IEnumerable<TSource> source, LongFunc1<TSource> keySelector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+
+        return LongLookup.create(source, keySelector);
+    }
+
+    public static <TSource, TElement> ILookup<Long, TElement> toLookupLong(IEnumerable<TSource> source, LongFunc1<TSource> keySelector, Func1<TSource, TElement> elementSelector) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+        if (elementSelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.elementSelector);
+
+        return LongLookup.create(source, keySelector, elementSelector);
+    }
 }
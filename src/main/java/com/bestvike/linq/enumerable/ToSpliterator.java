@@ -1,6 +1,7 @@
 package com.bestvike.linq.enumerable;
 
 import com.bestvike.collections.generic.IArray;
+import com.bestvike.collections.generic.IArrayList;
 import com.bestvike.collections.generic.ICollection;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.exception.ExceptionArgument;
@@ -20,6 +21,11 @@ public final class ToSpliterator {
         if (source == null)
             ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
 
+        if (source instanceof ISpliteratorProvider) {
+            ISpliteratorProvider<TSource> provider = (ISpliteratorProvider<TSource>) source;
+            return provider._spliterator();
+        }
+
         if (source instanceof ICollection) {
             if (source instanceof IArray) {
                 IArray<TSource> array = (IArray<TSource>) source;
@@ -40,6 +46,11 @@ public final class ToSpliterator {
                 return Spliterators.spliterator((Object[]) arr, array._getStartIndex(), array._getEndIndex(), Spliterator.IMMUTABLE);
             }
 
+            if (source instanceof IArrayList) {
+                IArrayList<TSource> list = (IArrayList<TSource>) source;
+                return new ListSpliterator<>(list, 0, Integer.MAX_VALUE);
+            }
+
             ICollection<TSource> collection = (ICollection<TSource>) source;
             return Spliterators.spliterator(collection.getCollection(), Spliterator.IMMUTABLE);
         }
@@ -48,9 +59,9 @@ public final class ToSpliterator {
             IIListProvider<TSource> listProv = (IIListProvider<TSource>) source;
             int count = listProv._getCount(true);
             if (count != -1)
-                return Spliterators.spliterator(source.enumerator(), count, Spliterator.IMMUTABLE);
+                return Spliterators.spliterator(source.enumerator(), count, Spliterator.ORDERED | Spliterator.IMMUTABLE);
         }
 
-        return Spliterators.spliteratorUnknownSize(source.enumerator(), Spliterator.IMMUTABLE);
+        return Spliterators.spliteratorUnknownSize(source.enumerator(), Spliterator.ORDERED | Spliterator.IMMUTABLE);
     }
 }
@@ -110,7 +110,7 @@ final class WhereIterator<TSource> extends AbstractIterator<TSource> {
 }
 
 
-final class WhereEnumerableIterator<TSource> extends Iterator<TSource> implements IIListProvider<TSource> {
+final class WhereEnumerableIterator<TSource> extends Iterator<TSource> implements IIListProvider<TSource>, ISinkProvider<TSource>, ICompilable<TSource> {
     private final IEnumerable<TSource> source;
     private final Predicate1<TSource> predicate;
     private IEnumerator<TSource> enumerator;
@@ -148,6 +148,33 @@ final class WhereEnumerableIterator<TSource> extends Iterator<TSource> implement
         }
     }
 
+    // Filters each batch of the source in place, an all rejected batch is followed by the next one.
+    @Override
+    public int moveNextBatch(Object[] buffer, int offset, int count) {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                int copied;
+                while ((copied = this.enumerator.moveNextBatch(buffer, offset, count)) > 0) {
+                    int kept = offset;
+                    for (int i = offset, end = offset + copied; i < end; i++) {
+                        //noinspection unchecked
+                        TSource item = (TSource) buffer[i];
+                        if (this.predicate.apply(item))
+                            buffer[kept++] = item;
+                    }
+                    if (kept > offset)
+                        return kept - offset;
+                }
+                this.close();
+                return 0;
+            default:
+                return 0;
+        }
+    }
+
     @Override
     public void close() {
         if (this.enumerator != null) {
@@ -169,65 +196,38 @@ final class WhereEnumerableIterator<TSource> extends Iterator<TSource> implement
 
     @Override
     public TSource[] _toArray(Class<TSource> clazz) {
-        LargeArrayBuilder<TSource> builder = new LargeArrayBuilder<>();
-        try (IEnumerator<TSource> e = this.source.enumerator()) {
-            while (e.moveNext()) {
-                TSource item = e.current();
-                if (this.predicate.apply(item))
-                    builder.add(item);
-            }
-        }
-
-        return builder.toArray(clazz);
+        return Sink.toArray(this, clazz);
     }
 
     @Override
     public Object[] _toArray() {
-        LargeArrayBuilder<TSource> builder = new LargeArrayBuilder<>();
-        try (IEnumerator<TSource> e = this.source.enumerator()) {
-            while (e.moveNext()) {
-                TSource item = e.current();
-                if (this.predicate.apply(item))
-                    builder.add(item);
-            }
-        }
-
-        return builder.toArray();
+        return Sink.toArray(this);
     }
 
     @Override
     public List<TSource> _toList() {
-        List<TSource> list = new ArrayList<>();
-        try (IEnumerator<TSource> e = this.source.enumerator()) {
-            while (e.moveNext()) {
-                TSource item = e.current();
-                if (this.predicate.apply(item))
-                    list.add(item);
-            }
-        }
-
-        return list;
+        return Sink.toList(this);
     }
 
     @Override
     public int _getCount(boolean onlyIfCheap) {
-        if (onlyIfCheap)
-            return -1;
+        return onlyIfCheap ? -1 : Sink.count(this);
+    }
 
-        int count = 0;
-        try (IEnumerator<TSource> e = this.source.enumerator()) {
-            while (e.moveNext()) {
-                if (this.predicate.apply(e.current()))
-                    count = Math.addExact(count, 1);
-            }
-        }
+    @Override
+    public void _forEach(ISink<TSource> sink) {
+        Sink.forEach(this.source, item -> !this.predicate.apply(item) || sink.accept(item));
+    }
 
-        return count;
+    @Override
+    public void _compile(CompiledQueryBuilder builder) {
+        builder.source(this.source);
+        builder.where(this.predicate);
     }
 }
 
 
-final class WhereArrayIterator<TSource> extends Iterator<TSource> implements IIListProvider<TSource> {
+final class WhereArrayIterator<TSource> extends Iterator<TSource> implements IIListProvider<TSource>, ISinkProvider<TSource>, ICompilable<TSource> {
     private final IArray<TSource> source;
     private final Predicate1<TSource> predicate;
 
@@ -261,6 +261,29 @@ final class WhereArrayIterator<TSource> extends Iterator<TSource> implements IIL
         return false;
     }
 
+    @Override
+    public int moveNextBatch(Object[] buffer, int offset, int count) {
+        if (this.state < 1) {
+            this.close();
+            return 0;
+        }
+
+        int index = this.state - 1;
+        int length = this.source._getCount();
+        int kept = 0;
+        while (index < length && kept < count) {
+            TSource item = this.source.get(index++);
+            if (this.predicate.apply(item))
+                buffer[offset + kept++] = item;
+        }
+        if (kept > 0) {
+            this.state = index + 1;
+            return kept;
+        }
+        this.close();
+        return 0;
+    }
+
     @Override
     public <TResult> IEnumerable<TResult> _select(Func1<TSource, TResult> selector) {
         return new WhereSelectArrayIterator<>(this.source, this.predicate, selector);
@@ -322,10 +345,25 @@ final class WhereArrayIterator<TSource> extends Iterator<TSource> implements IIL
 
         return count;
     }
+
+    @Override
+    public void _forEach(ISink<TSource> sink) {
+        for (int i = 0; i < this.source._getCount(); i++) {
+            TSource item = this.source.get(i);
+            if (this.predicate.apply(item) && !sink.accept(item))
+                return;
+        }
+    }
+
+    @Override
+    public void _compile(CompiledQueryBuilder builder) {
+        builder.source(this.source);
+        builder.where(this.predicate);
+    }
 }
 
 
-final class WhereListIterator<TSource> extends Iterator<TSource> implements IIListProvider<TSource> {
+final class WhereListIterator<TSource> extends Iterator<TSource> implements IIListProvider<TSource>, ISinkProvider<TSource>, ICompilable<TSource> {
     private final IArrayList<TSource> source;
     private final Predicate1<TSource> predicate;
     private IEnumerator<TSource> enumerator;
@@ -363,6 +401,32 @@ final class WhereListIterator<TSource> extends Iterator<TSource> implements IILi
         }
     }
 
+    @Override
+    public int moveNextBatch(Object[] buffer, int offset, int count) {
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                int copied;
+                while ((copied = this.enumerator.moveNextBatch(buffer, offset, count)) > 0) {
+                    int kept = offset;
+                    for (int i = offset, end = offset + copied; i < end; i++) {
+                        //noinspection unchecked
+                        TSource item = (TSource) buffer[i];
+                        if (this.predicate.apply(item))
+                            buffer[kept++] = item;
+                    }
+                    if (kept > offset)
+                        return kept - offset;
+                }
+                this.close();
+                return 0;
+            default:
+                return 0;
+        }
+    }
+
     @Override
     public void close() {
         if (this.enumerator != null) {
@@ -433,10 +497,21 @@ final class WhereListIterator<TSource> extends Iterator<TSource> implements IILi
 
         return count;
     }
+
+    @Override
+    public void _forEach(ISink<TSource> sink) {
+        Sink.forEach(this.source, item -> !this.predicate.apply(item) || sink.accept(item));
+    }
+
+    @Override
+    public void _compile(CompiledQueryBuilder builder) {
+        builder.source(this.source);
+        builder.where(this.predicate);
+    }
 }
 
 
-final class WhereSelectArrayIterator<TSource, TResult> extends Iterator<TResult> implements IIListProvider<TResult> {
+final class WhereSelectArrayIterator<TSource, TResult> extends Iterator<TResult> implements IIListProvider<TResult>, ISinkProvider<TResult>, ICompilable<TResult> {
     private final IArray<TSource> source;
     private final Predicate1<TSource> predicate;
     private final Func1<TSource, TResult> selector;
@@ -534,10 +609,26 @@ final class WhereSelectArrayIterator<TSource, TResult> extends Iterator<TResult>
 
         return count;
     }
+
+    @Override
+    public void _forEach(ISink<TResult> sink) {
+        for (int i = 0; i < this.source._getCount(); i++) {
+            TSource item = this.source.get(i);
+            if (this.predicate.apply(item) && !sink.accept(this.selector.apply(item)))
+                return;
+        }
+    }
+
+    @Override
+    public void _compile(CompiledQueryBuilder builder) {
+        builder.source(this.source);
+        builder.where(this.predicate);
+        builder.select(this.selector);
+    }
 }
 
 
-final class WhereSelectListIterator<TSource, TResult> extends Iterator<TResult> implements IIListProvider<TResult> {
+final class WhereSelectListIterator<TSource, TResult> extends Iterator<TResult> implements IIListProvider<TResult>, ISinkProvider<TResult>, ICompilable<TResult> {
     private final IArrayList<TSource> source;
     private final Predicate1<TSource> predicate;
     private final Func1<TSource, TResult> selector;
@@ -648,10 +739,22 @@ final class WhereSelectListIterator<TSource, TResult> extends Iterator<TResult>
 
         return count;
     }
+
+    @Override
+    public void _forEach(ISink<TResult> sink) {
+        Sink.forEach(this.source, item -> !this.predicate.apply(item) || sink.accept(this.selector.apply(item)));
+    }
+
+    @Override
+    public void _compile(CompiledQueryBuilder builder) {
+        builder.source(this.source);
+        builder.where(this.predicate);
+        builder.select(this.selector);
+    }
 }
 
 
-final class WhereSelectEnumerableIterator<TSource, TResult> extends Iterator<TResult> implements IIListProvider<TResult> {
+final class WhereSelectEnumerableIterator<TSource, TResult> extends Iterator<TResult> implements IIListProvider<TResult>, ISinkProvider<TResult>, ICompilable<TResult> {
     private final IEnumerable<TSource> source;
     private final Predicate1<TSource> predicate;
     private final Func1<TSource, TResult> selector;
@@ -708,64 +811,35 @@ final class WhereSelectEnumerableIterator<TSource, TResult> extends Iterator<TRe
 
     @Override
     public TResult[] _toArray(Class<TResult> clazz) {
-        LargeArrayBuilder<TResult> builder = new LargeArrayBuilder<>();
-        try (IEnumerator<TSource> e = this.source.enumerator()) {
-            while (e.moveNext()) {
-                TSource item = e.current();
-                if (this.predicate.apply(item))
-                    builder.add(this.selector.apply(item));
-            }
-        }
-
-        return builder.toArray(clazz);
+        return Sink.toArray(this, clazz);
     }
 
     @Override
     public Object[] _toArray() {
-        LargeArrayBuilder<TResult> builder = new LargeArrayBuilder<>();
-        try (IEnumerator<TSource> e = this.source.enumerator()) {
-            while (e.moveNext()) {
-                TSource item = e.current();
-                if (this.predicate.apply(item))
-                    builder.add(this.selector.apply(item));
-            }
-        }
-
-        return builder.toArray();
+        return Sink.toArray(this);
     }
 
     @Override
     public List<TResult> _toList() {
-        List<TResult> list = new ArrayList<>();
-        try (IEnumerator<TSource> e = this.source.enumerator()) {
-            while (e.moveNext()) {
-                TSource item = e.current();
-                if (this.predicate.apply(item))
-                    list.add(this.selector.apply(item));
-            }
-        }
-
-        return list;
+        return Sink.toList(this);
     }
 
     @Override
     public int _getCount(boolean onlyIfCheap) {
         // In case someone uses Count() to force evaluation of
         // the selector, run it provided `onlyIfCheap` is false.
-        if (onlyIfCheap)
-            return -1;
+        return onlyIfCheap ? -1 : Sink.count(this);
+    }
 
-        int count = 0;
-        try (IEnumerator<TSource> e = this.source.enumerator()) {
-            while (e.moveNext()) {
-                TSource item = e.current();
-                if (this.predicate.apply(item)) {
-                    this.selector.apply(item);
-                    count = Math.addExact(count, 1);
-                }
-            }
-        }
+    @Override
+    public void _forEach(ISink<TResult> sink) {
+        Sink.forEach(this.source, item -> !this.predicate.apply(item) || sink.accept(this.selector.apply(item)));
+    }
 
-        return count;
+    @Override
+    public void _compile(CompiledQueryBuilder builder) {
+        builder.source(this.source);
+        builder.where(this.predicate);
+        builder.select(this.selector);
     }
 }
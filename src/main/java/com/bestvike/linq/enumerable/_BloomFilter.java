@@ -0,0 +1,41 @@
+package com.bestvike.linq.enumerable;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+final class BloomFilter {
+    // Below this many keys the hash table is cache resident and a filter only adds work.
+    static final int MIN_COUNT = 1 << 16;
+    private static final int MAX_WORDS = 1 << 26;
+    // Every key sets three bits of a single word, so a lookup touches one cache line.
+    private final long[] words;
+    private final int mask;
+
+    // Constructs a filter sized for count keys, about eight to sixteen bits per key.
+    BloomFilter(int count) {
+        assert count > 0;
+
+        int words = count >>> 3;
+        words = words <= 1 ? 1 : words >= MAX_WORDS ? MAX_WORDS : Integer.highestOneBit(words - 1) << 1;
+        this.words = new long[words];
+        this.mask = words - 1;
+    }
+
+    // Records a hash code, as computed by the owning table.
+    void add(int hashCode) {
+        long hash = hashCode * 0x9E3779B97F4A7C15L;
+        this.words[(int) (hash >>> 32) & this.mask] |= bits(hash);
+    }
+
+    // Returns false when no key with this hash code was added, true when one may have been.
+    boolean mightContain(int hashCode) {
+        long hash = hashCode * 0x9E3779B97F4A7C15L;
+        long bits = bits(hash);
+        return (this.words[(int) (hash >>> 32) & this.mask] & bits) == bits;
+    }
+
+    // Shifts only use the low six bits of the distance, so each shift picks an independent bit of the word.
+    private static long bits(long hash) {
+        return 1L << hash | 1L << (hash >>> 6) | 1L << (hash >>> 12);
+    }
+}
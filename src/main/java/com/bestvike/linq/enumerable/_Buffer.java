@@ -1,5 +1,7 @@
 package com.bestvike.linq.enumerable;
 
+import com.bestvike.collections.generic.ICollection;
+import com.bestvike.linq.ArrayPool;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.util.ArrayUtils;
 import com.bestvike.out;
@@ -10,16 +12,20 @@ import com.bestvike.out;
 final class Buffer<TElement> {//struct
     final Object[] items;
     final int count;
+    private final ArrayPool pool;   // Not null when items is rented and has to be released.
 
     Buffer(IEnumerable<TElement> source) {
         if (source instanceof IIListProvider) {
             IIListProvider<TElement> iterator = (IIListProvider<TElement>) source;
             this.items = iterator._toArray();
             this.count = this.items.length;
+            this.pool = null;
         } else {
+            ArrayPool pool = ArrayPool.current();
             out<Integer> countRef = out.init();
-            this.items = EnumerableHelpers.toArray(source, countRef);
+            this.items = EnumerableHelpers.toArray(source, countRef, pool);
             this.count = countRef.value;
+            this.pool = source instanceof ICollection || this.count == 0 ? null : pool;
         }
     }
 
@@ -30,4 +36,10 @@ final class Buffer<TElement> {//struct
             System.arraycopy(this.items, 0, array, 0, this.count);
         return array;
     }
+
+    // Gives items back to the pool once nothing reads them anymore. Call it at most once.
+    public void release() {
+        if (this.pool != null)
+            this.pool.release(this.items);
+    }
 }
@@ -0,0 +1,283 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.function.Func1;
+import com.bestvike.function.Predicate1;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.exception.ThrowHelper;
+import com.bestvike.linq.util.CombinedPredicate;
+import com.bestvike.linq.util.CombinedSelector;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+interface ICompilable<TElement> extends IEnumerable<TElement> {
+    // Adds the source, then the stages of this operator to the builder.
+    void _compile(CompiledQueryBuilder builder);
+}
+
+
+final class CompiledQueryBuilder {
+    private final List<Object> stages = new ArrayList<>();
+    private final List<Boolean> filters = new ArrayList<>();
+    private IEnumerable<?> source;
+
+    void source(IEnumerable<?> source) {
+        if (source instanceof ICompilable)
+            ((ICompilable<?>) source)._compile(this);
+        else
+            this.source = source;
+    }
+
+    // Combined predicates and selectors are split back into their stages, each gets a call site of its own.
+    void where(Predicate1<?> predicate) {
+        if (predicate instanceof CombinedPredicate) {
+            CombinedPredicate<?> combined = (CombinedPredicate<?>) predicate;
+            for (int i = 0; i < combined.getCount(); i++)
+                this.where(combined.get(i));
+            return;
+        }
+        this.stages.add(predicate);
+        this.filters.add(true);
+    }
+
+    void select(Func1<?, ?> selector) {
+        if (selector instanceof CombinedSelector) {
+            CombinedSelector<?, ?> combined = (CombinedSelector<?, ?>) selector;
+            for (int i = 0; i < combined.getCount(); i++)
+                this.select(combined.get(i));
+            return;
+        }
+        this.stages.add(selector);
+        this.filters.add(false);
+    }
+
+    // Longer chains are compiled in pieces of MAX_STAGES, each piece reading from the previous one.
+    IEnumerable<?> build() {
+        IEnumerable<?> result = this.source;
+        int count = this.stages.size();
+        for (int start = 0; start < count; start += CompiledQueryEnumerator.MAX_STAGES) {
+            int length = Math.min(CompiledQueryEnumerator.MAX_STAGES, count - start);
+            Object[] stages = new Object[length];
+            boolean[] filters = new boolean[length];
+            for (int i = 0; i < length; i++) {
+                stages[i] = this.stages.get(start + i);
+                filters[i] = this.filters.get(start + i);
+            }
+            result = new CompiledQuery<>(result, stages, filters);
+        }
+        return result;
+    }
+}
+
+
+@SuppressWarnings("unchecked")
+final class CompiledQuery<TResult> implements IEnumerable<TResult> {
+    private final IEnumerable<?> source;
+    private final Object[] stages;
+    private final boolean[] filters;
+    private final Constructor<?> constructor;
+
+    CompiledQuery(IEnumerable<?> source, Object[] stages, boolean[] filters) {
+        this.source = source;
+        this.stages = stages;
+        this.filters = filters;
+        StringBuilder shape = new StringBuilder(source.getClass().getName());
+        for (int i = 0; i < stages.length; i++)
+            shape.append(filters[i] ? " where " : " select ").append(stages[i].getClass().getName());
+        this.constructor = CompiledQueryLoader.getConstructor(shape.toString());
+    }
+
+    @Override
+    public IEnumerator<TResult> enumerator() {
+        try {
+            return (IEnumerator<TResult>) this.constructor.newInstance(this.source, this.stages, this.filters);
+        } catch (ReflectiveOperationException e) {
+            ThrowHelper.throwRuntimeException(e);
+            return null;
+        }
+    }
+}
+
+
+// Loads CompiledQueryEnumerator again in a class loader of its own for every pipeline shape, which is what a
+// generated class per shape would give us. Java 8 has no hidden classes, and cloning needs no bytecode library.
+final class CompiledQueryLoader extends ClassLoader {
+    private static final int MAX_SHAPES = 256;
+    private static final String NAME = CompiledQueryEnumerator.class.getName();
+    private static final byte[] BYTES = readBytes();
+    private static final Constructor<?> SHARED = constructor(CompiledQueryEnumerator.class);
+    private static final Map<String, Constructor<?>> CONSTRUCTORS = new ConcurrentHashMap<>();
+
+    private CompiledQueryLoader(ClassLoader parent) {
+        super(parent);
+    }
+
+    // Beyond MAX_SHAPES, or where classes can't be defined, new shapes share the class loaded with the library.
+    static Constructor<?> getConstructor(String shape) {
+        if (BYTES == null)
+            return SHARED;
+        Constructor<?> constructor = CONSTRUCTORS.get(shape);
+        if (constructor != null)
+            return constructor;
+        if (CONSTRUCTORS.size() >= MAX_SHAPES)
+            return SHARED;
+        return CONSTRUCTORS.computeIfAbsent(shape, key -> {
+            try {
+                CompiledQueryLoader loader = new CompiledQueryLoader(CompiledQueryEnumerator.class.getClassLoader());
+                return constructor(loader.defineClass(NAME, BYTES, 0, BYTES.length));
+            } catch (LinkageError | SecurityException e) {
+                return SHARED;
+            }
+        });
+    }
+
+    private static Constructor<?> constructor(Class<?> clazz) {
+        try {
+            Constructor<?> constructor = clazz.getDeclaredConstructor(IEnumerable.class, Object[].class, boolean[].class);
+            constructor.setAccessible(true);
+            return constructor;
+        } catch (NoSuchMethodException e) {
+            ThrowHelper.throwRuntimeException(e);
+            return null;
+        }
+    }
+
+    private static byte[] readBytes() {
+        String resource = CompiledQueryEnumerator.class.getSimpleName() + ".class";
+        try (InputStream input = CompiledQueryEnumerator.class.getResourceAsStream(resource)) {
+            if (input == null)
+                return null;
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int read;
+            while ((read = input.read(buffer)) != -1)
+                output.write(buffer, 0, read);
+            return output.toByteArray();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
+
+
+// Runs up to MAX_STAGES where and select stages in one loop. Each loaded copy of this class has its own call sites
+// for the source enumerator and for every stage, so they stay monomorphic and the lambdas get inlined. Only public
+// types may be used here, copies live in a package of their own.
+@SuppressWarnings("unchecked")
+final class CompiledQueryEnumerator extends AbstractEnumerator<Object> {
+    static final int MAX_STAGES = 8;
+    private final IEnumerable<Object> source;
+    private final Object[] stages;
+    private final boolean[] filters;
+    private final int length;
+    private IEnumerator<Object> enumerator;
+
+    CompiledQueryEnumerator(IEnumerable<Object> source, Object[] stages, boolean[] filters) {
+        this.source = source;
+        this.stages = stages;
+        this.filters = filters;
+        this.length = stages.length;
+    }
+
+    @Override
+    public boolean moveNext() {
+        switch (this.state) {
+            case 0:
+                this.enumerator = this.source.enumerator();
+                this.state = 1;
+            case 1:
+                while (this.enumerator.moveNext()) {
+                    Object item = this.enumerator.current();
+                    if (this.length > 0) {
+                        if (this.filters[0]) {
+                            if (!((Predicate1<Object>) this.stages[0]).apply(item))
+                                continue;
+                        } else {
+                            item = ((Func1<Object, Object>) this.stages[0]).apply(item);
+                        }
+                    }
+                    if (this.length > 1) {
+                        if (this.filters[1]) {
+                            if (!((Predicate1<Object>) this.stages[1]).apply(item))
+                                continue;
+                        } else {
+                            item = ((Func1<Object, Object>) this.stages[1]).apply(item);
+                        }
+                    }
+                    if (this.length > 2) {
+                        if (this.filters[2]) {
+                            if (!((Predicate1<Object>) this.stages[2]).apply(item))
+                                continue;
+                        } else {
+                            item = ((Func1<Object, Object>) this.stages[2]).apply(item);
+                        }
+                    }
+                    if (this.length > 3) {
+                        if (this.filters[3]) {
+                            if (!((Predicate1<Object>) this.stages[3]).apply(item))
+                                continue;
+                        } else {
+                            item = ((Func1<Object, Object>) this.stages[3]).apply(item);
+                        }
+                    }
+                    if (this.length > 4) {
+                        if (this.filters[4]) {
+                            if (!((Predicate1<Object>) this.stages[4]).apply(item))
+                                continue;
+                        } else {
+                            item = ((Func1<Object, Object>) this.stages[4]).apply(item);
+                        }
+                    }
+                    if (this.length > 5) {
+                        if (this.filters[5]) {
+                            if (!((Predicate1<Object>) this.stages[5]).apply(item))
+                                continue;
+                        } else {
+                            item = ((Func1<Object, Object>) this.stages[5]).apply(item);
+                        }
+                    }
+                    if (this.length > 6) {
+                        if (this.filters[6]) {
+                            if (!((Predicate1<Object>) this.stages[6]).apply(item))
+                                continue;
+                        } else {
+                            item = ((Func1<Object, Object>) this.stages[6]).apply(item);
+                        }
+                    }
+                    if (this.length > 7) {
+                        if (this.filters[7]) {
+                            if (!((Predicate1<Object>) this.stages[7]).apply(item))
+                                continue;
+                        } else {
+                            item = ((Func1<Object, Object>) this.stages[7]).apply(item);
+                        }
+                    }
+                    this.current = item;
+                    return true;
+                }
+                this.close();
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this.enumerator != null) {
+            this.enumerator.close();
+            this.enumerator = null;
+        }
+        super.close();
+    }
+}
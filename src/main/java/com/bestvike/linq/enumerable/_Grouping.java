@@ -12,6 +12,7 @@ import com.bestvike.linq.exception.ExceptionArgument;
 import com.bestvike.linq.exception.ThrowHelper;
 import com.bestvike.linq.util.ArrayUtils;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 
@@ -23,33 +24,22 @@ import java.util.List;
 final class Grouping<TKey, TElement> implements IGrouping<TKey, TElement>, IArray<TElement> {
     final TKey key;
     final int hashCode;
+    // The elements of all the groupings of a lookup share one array, this grouping owns [start, start + count).
     Object[] elements;
+    int start;
     int count;
+    int index;
     Grouping<TKey, TElement> hashNext;
-    Grouping<TKey, TElement> next;
     boolean fetched;
 
     Grouping(TKey key, int hashCode) {
         this.key = key;
         this.hashCode = hashCode;
-        this.elements = new Object[1];
-    }
-
-    void add(TElement element) {
-        if (this.elements.length == this.count)
-            this.elements = ArrayUtils.resize(this.elements, Math.multiplyExact(this.count, 2));
-        this.elements[this.count] = element;
-        this.count++;
-    }
-
-    public void trim() {
-        if (this.elements.length != this.count)
-            this.elements = ArrayUtils.resize(this.elements, this.count);
     }
 
     @Override
     public IEnumerator<TElement> enumerator() {
-        return new ArrayEnumerator<>(this.elements, 0, this.count);
+        return new ArrayEnumerator<>(this.elements, this.start, this.count);
     }
 
     @Override
@@ -62,39 +52,48 @@ final class Grouping<TKey, TElement> implements IGrouping<TKey, TElement>, IArra
         return this.elements;
     }
 
+    @Override
+    public int _getStartIndex() {
+        return this.start;
+    }
+
     @Override
     public TElement get(int index) {
         if (index < 0 || index >= this.count)
             ThrowHelper.throwArgumentOutOfRangeException(ExceptionArgument.index);
         //noinspection unchecked
-        return (TElement) this.elements[index];
+        return (TElement) this.elements[this.start + index];
     }
 
     @Override
     public int _indexOf(TElement item) {
-        return ArrayUtils.indexOf(this.elements, item, 0, this.count);
+        return this.toIndex(ArrayUtils.indexOf(this.elements, item, this.start, this.count));
     }
 
     @Override
     public int _lastIndexOf(TElement item) {
-        return ArrayUtils.lastIndexOf(this.elements, item, this.count - 1, this.count);
+        return this.toIndex(ArrayUtils.lastIndexOf(this.elements, item, this.start + this.count - 1, this.count));
     }
 
     @Override
     public int _findIndex(Predicate1<TElement> match) {
         //noinspection unchecked
-        return ArrayUtils.findIndex(this.elements, 0, this.count, (Predicate1<Object>) match);
+        return this.toIndex(ArrayUtils.findIndex(this.elements, this.start, this.count, (Predicate1<Object>) match));
     }
 
     @Override
     public int _findLastIndex(Predicate1<TElement> match) {
         //noinspection unchecked
-        return ArrayUtils.findLastIndex(this.elements, this.count - 1, this.count, (Predicate1<Object>) match);
+        return this.toIndex(ArrayUtils.findLastIndex(this.elements, this.start + this.count - 1, this.count, (Predicate1<Object>) match));
+    }
+
+    private int toIndex(int arrayIndex) {
+        return arrayIndex < 0 ? arrayIndex : arrayIndex - this.start;
     }
 
     @Override
     public Collection<TElement> getCollection() {
-        return ArrayUtils.toCollection(this.elements, 0, this.count);
+        return ArrayUtils.toCollection(this.elements, this.start, this.count);
     }
 
     @Override
@@ -104,26 +103,26 @@ final class Grouping<TKey, TElement> implements IGrouping<TKey, TElement>, IArra
 
     @Override
     public boolean _contains(TElement item) {
-        return ArrayUtils.contains(this.elements, item, 0, this.count);
+        return ArrayUtils.contains(this.elements, item, this.start, this.count);
     }
 
     @Override
     public void _copyTo(Object[] array, int arrayIndex) {
-        System.arraycopy(this.elements, 0, array, arrayIndex, this.count);
+        System.arraycopy(this.elements, this.start, array, arrayIndex, this.count);
     }
 
     @Override
     public TElement[] _toArray(Class<TElement> clazz) {
-        return ArrayUtils.toArray(this.elements, clazz, 0, this.count);
+        return ArrayUtils.toArray(this.elements, clazz, this.start, this.count);
     }
 
     @Override
     public Object[] _toArray() {
-        return ArrayUtils.resize(this.elements, this.count);
+        return Arrays.copyOfRange(this.elements, this.start, this.start + this.count);
     }
 
     @Override
     public List<TElement> _toList() {
-        return ArrayUtils.toList(this.elements, 0, this.count);
+        return ArrayUtils.toList(this.elements, this.start, this.count);
     }
 }
@@ -0,0 +1,253 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.collections.generic.EqualityComparer;
+import com.bestvike.collections.generic.ICollection;
+import com.bestvike.collections.generic.IEqualityComparer;
+import com.bestvike.function.Func1;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.out;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+abstract class JoinProbe<TProbe, TBuild, TKey> {
+    // Below this many pairs comparing every pair is cheaper than building a hash table.
+    static final int NESTED_LOOP_MAX_PAIRS = 64;
+    // When the build side is known to be this many times larger than the probe side, the probe keys are collected first
+    // and only the build elements with one of those keys are kept.
+    static final int FILTER_RATIO = 4;
+
+    TProbe current;
+    // The build elements matching current in build order, null if none.
+    Grouping<TKey, TBuild> matches;
+
+    // Chooses how to match the probe side against the build side from their counts, when they are cheap to get.
+    // Every strategy walks the probe side in order and keeps the build order inside the matches, so the output is the same.
+    // The filtered plan reads every probe key up front, so it is only used when the probe side is already a collection.
+    // With reuseMatches the caller promises not to keep matches past the next moveNext, and gets no grouping key.
+    static <TProbe, TBuild, TKey> JoinProbe<TProbe, TBuild, TKey> create(IEnumerable<TProbe> probe, Func1<TProbe, TKey> probeKeySelector, IEnumerable<TBuild> build, Func1<TBuild, TKey> buildKeySelector, IEqualityComparer<TKey> comparer, boolean reuseMatches) {
+        out<Integer> probeCount = out.init();
+        out<Integer> buildCount = out.init();
+        if (EnumerableHelpers.tryGetCount(probe, probeCount) && EnumerableHelpers.tryGetCount(build, buildCount)) {
+            if ((long) probeCount.value * buildCount.value <= NESTED_LOOP_MAX_PAIRS)
+                return new NestedLoopJoinProbe<>(probe, probeKeySelector, build, buildKeySelector, comparer, reuseMatches);
+            if (probe instanceof ICollection && buildCount.value / FILTER_RATIO >= probeCount.value)
+                return new FilteredHashJoinProbe<>((ICollection<TProbe>) probe, probeKeySelector, build, buildKeySelector, comparer);
+        }
+        return new HashJoinProbe<>(probe, probeKeySelector, build, buildKeySelector, comparer);
+    }
+
+    // Moves to the next probe element. The build side is evaluated after the first probe element is found.
+    abstract boolean moveNext();
+
+    // Returns false when no build element can match any probe element. Only valid after moveNext returned true.
+    abstract boolean hasMatches();
+
+    void close() {
+        this.current = null;
+        this.matches = null;
+    }
+}
+
+
+final class HashJoinProbe<TProbe, TBuild, TKey> extends JoinProbe<TProbe, TBuild, TKey> {
+    private final IEnumerable<TProbe> probe;
+    private final Func1<TProbe, TKey> probeKeySelector;
+    private final IEnumerable<TBuild> build;
+    private final Func1<TBuild, TKey> buildKeySelector;
+    private final IEqualityComparer<TKey> comparer;
+    private IEnumerator<TProbe> probeEnumerator;
+    private Lookup<TKey, TBuild> lookup;
+
+    HashJoinProbe(IEnumerable<TProbe> probe, Func1<TProbe, TKey> probeKeySelector, IEnumerable<TBuild> build, Func1<TBuild, TKey> buildKeySelector, IEqualityComparer<TKey> comparer) {
+        this.probe = probe;
+        this.probeKeySelector = probeKeySelector;
+        this.build = build;
+        this.buildKeySelector = buildKeySelector;
+        this.comparer = comparer;
+    }
+
+    @Override
+    boolean moveNext() {
+        if (this.probeEnumerator == null)
+            this.probeEnumerator = this.probe.enumerator();
+        if (!this.probeEnumerator.moveNext())
+            return false;
+        if (this.lookup == null)
+            this.lookup = Lookup.createForJoin(this.build, this.buildKeySelector, this.comparer);
+        this.current = this.probeEnumerator.current();
+        this.matches = this.lookup.fetchGrouping(this.probeKeySelector.apply(this.current));
+        return true;
+    }
+
+    @Override
+    boolean hasMatches() {
+        return this.lookup.getCount() != 0;
+    }
+
+    @Override
+    void close() {
+        if (this.probeEnumerator != null) {
+            this.probeEnumerator.close();
+            this.probeEnumerator = null;
+        }
+        this.lookup = null;
+        super.close();
+    }
+}
+
+
+final class FilteredHashJoinProbe<TProbe, TBuild, TKey> extends JoinProbe<TProbe, TBuild, TKey> {
+    private final ICollection<TProbe> probe;
+    private final Func1<TProbe, TKey> probeKeySelector;
+    private final IEnumerable<TBuild> build;
+    private final Func1<TBuild, TKey> buildKeySelector;
+    private final IEqualityComparer<TKey> comparer;
+    private Object[] items;
+    private int[] groupingIndexes;
+    private Lookup<TKey, TBuild> lookup;
+    private int index = -1;
+
+    FilteredHashJoinProbe(ICollection<TProbe> probe, Func1<TProbe, TKey> probeKeySelector, IEnumerable<TBuild> build, Func1<TBuild, TKey> buildKeySelector, IEqualityComparer<TKey> comparer) {
+        this.probe = probe;
+        this.probeKeySelector = probeKeySelector;
+        this.build = build;
+        this.buildKeySelector = buildKeySelector;
+        this.comparer = comparer;
+    }
+
+    @Override
+    boolean moveNext() {
+        if (this.items == null) {
+            this.items = this.probe._toArray();
+            if (this.items.length == 0)
+                return false;
+            Object[] keys = new Object[this.items.length];
+            for (int i = 0; i < this.items.length; i++)
+                keys[i] = this.probeKeySelector.apply((TProbe) this.items[i]);
+            this.groupingIndexes = new int[this.items.length];
+            this.lookup = Lookup.createForJoin(this.build, this.buildKeySelector, this.comparer, keys, this.groupingIndexes);
+        }
+        if (++this.index >= this.items.length)
+            return false;
+        int groupingIndex = this.groupingIndexes[this.index];
+        Grouping<TKey, TBuild> grouping = groupingIndex < 0 ? null : this.lookup.groupings[groupingIndex];
+        this.current = (TProbe) this.items[this.index];
+        this.matches = grouping == null || grouping.count == 0 ? null : grouping;
+        return true;
+    }
+
+    @Override
+    boolean hasMatches() {
+        for (int i = 0; i < this.lookup.count; i++) {
+            if (this.lookup.groupings[i].count != 0)
+                return true;
+        }
+        return false;
+    }
+
+    @Override
+    void close() {
+        this.items = null;
+        this.groupingIndexes = null;
+        this.lookup = null;
+        super.close();
+    }
+}
+
+
+final class NestedLoopJoinProbe<TProbe, TBuild, TKey> extends JoinProbe<TProbe, TBuild, TKey> {
+    private final IEnumerable<TProbe> probe;
+    private final Func1<TProbe, TKey> probeKeySelector;
+    private final IEnumerable<TBuild> build;
+    private final Func1<TBuild, TKey> buildKeySelector;
+    private final IEqualityComparer<TKey> comparer;
+    private final boolean reuseMatches;
+    private IEnumerator<TProbe> probeEnumerator;
+    private Object[] buildItems;
+    private Object[] buildKeys;
+    private int buildKeyCount;
+    private Grouping<TKey, TBuild> shared;
+
+    NestedLoopJoinProbe(IEnumerable<TProbe> probe, Func1<TProbe, TKey> probeKeySelector, IEnumerable<TBuild> build, Func1<TBuild, TKey> buildKeySelector, IEqualityComparer<TKey> comparer, boolean reuseMatches) {
+        this.probe = probe;
+        this.probeKeySelector = probeKeySelector;
+        this.build = build;
+        this.buildKeySelector = buildKeySelector;
+        this.comparer = comparer == null ? EqualityComparer.Default() : comparer;
+        this.reuseMatches = reuseMatches;
+    }
+
+    @Override
+    boolean moveNext() {
+        if (this.probeEnumerator == null)
+            this.probeEnumerator = this.probe.enumerator();
+        if (!this.probeEnumerator.moveNext())
+            return false;
+        if (this.buildKeys == null) {
+            // Build elements with null keys never match, they are dropped up front.
+            Object[] all = EnumerableHelpers.toArray(this.build);
+            this.buildItems = new Object[all.length];
+            this.buildKeys = new Object[all.length];
+            for (Object item : all) {
+                TKey key = this.buildKeySelector.apply((TBuild) item);
+                if (key != null) {
+                    this.buildItems[this.buildKeyCount] = item;
+                    this.buildKeys[this.buildKeyCount] = key;
+                    this.buildKeyCount++;
+                }
+            }
+        }
+        this.current = this.probeEnumerator.current();
+        this.matches = this.findMatches(this.probeKeySelector.apply(this.current));
+        return true;
+    }
+
+    private Grouping<TKey, TBuild> findMatches(TKey key) {
+        if (key == null)
+            return null;
+        Grouping<TKey, TBuild> grouping = null;
+        int count = 0;
+        for (int i = 0; i < this.buildKeyCount; i++) {
+            if (this.comparer.equals((TKey) this.buildKeys[i], key)) {
+                if (grouping == null)
+                    grouping = this.newGrouping(key, this.buildKeyCount - i);
+                grouping.elements[count++] = this.buildItems[i];
+            }
+        }
+        if (grouping != null)
+            grouping.count = count;
+        return grouping;
+    }
+
+    private Grouping<TKey, TBuild> newGrouping(TKey key, int capacity) {
+        if (!this.reuseMatches) {
+            Grouping<TKey, TBuild> grouping = new Grouping<>(key, 0);
+            grouping.elements = new Object[capacity];
+            return grouping;
+        }
+        if (this.shared == null) {
+            this.shared = new Grouping<>(null, 0);
+            this.shared.elements = new Object[this.buildKeyCount];
+        }
+        return this.shared;
+    }
+
+    @Override
+    boolean hasMatches() {
+        return this.buildKeyCount != 0;
+    }
+
+    @Override
+    void close() {
+        if (this.probeEnumerator != null) {
+            this.probeEnumerator.close();
+            this.probeEnumerator = null;
+        }
+        this.buildItems = null;
+        this.buildKeys = null;
+        this.shared = null;
+        super.close();
+    }
+}
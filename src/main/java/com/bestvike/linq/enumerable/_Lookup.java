@@ -5,6 +5,8 @@ import com.bestvike.collections.generic.EqualityComparer;
 import com.bestvike.collections.generic.IEqualityComparer;
 import com.bestvike.function.Func1;
 import com.bestvike.function.Func2;
+import com.bestvike.function.IntFunc1;
+import com.bestvike.function.LongFunc1;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.IGrouping;
@@ -15,83 +17,85 @@ import com.bestvike.linq.debug.LookupDebugView;
 import com.bestvike.linq.util.ArrayUtils;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Created by 许崇雷 on 2018-05-02.
  */
-@DebuggerDisplay("Count = {getCount()}")
-@DebuggerTypeProxy(LookupDebugView.class)
-final class Lookup<TKey, TElement> implements ILookup<TKey, TElement>, IIListProvider<IGrouping<TKey, TElement>> {
-    private final IEqualityComparer<TKey> comparer;
-    private Grouping<TKey, TElement>[] groupings;
-    private Grouping<TKey, TElement> lastGrouping;
-    private Grouping<TKey, TElement> nullKeyGrouping;
-    private int count;
-
-    private Lookup(IEqualityComparer<TKey> comparer) {
-        this.comparer = comparer == null ? EqualityComparer.Default() : comparer;
+abstract class AbstractLookup<TKey, TElement> implements ILookup<TKey, TElement>, IIListProvider<IGrouping<TKey, TElement>> {
+    protected static final int DEFAULT_CAPACITY = 8;
+    // Groupings in first seen order. Once built, their elements share one array in the same order (CSR layout).
+    protected Grouping<TKey, TElement>[] groupings;
+    protected int count;
+    // Elements and the index of their grouping, in source order. Only used while building.
+    private Object[] items;
+    private int[] itemGroupings;
+    private int itemCount;
+
+    protected AbstractLookup() {
         //noinspection unchecked
-        this.groupings = new Grouping[7];
+        this.groupings = new Grouping[DEFAULT_CAPACITY];
+        this.items = new Object[DEFAULT_CAPACITY];
+        this.itemGroupings = new int[DEFAULT_CAPACITY];
     }
 
-    static <TKey, TElement> Lookup<TKey, TElement> create(IEnumerable<TElement> source, Func1<TElement, TKey> keySelector, IEqualityComparer<TKey> comparer) {
-        assert source != null;
-        assert keySelector != null;
-
-        Lookup<TKey, TElement> lookup = new Lookup<>(comparer);
-        try (IEnumerator<TElement> e = source.enumerator()) {
-            while (e.moveNext()) {
-                TElement item = e.current();
-                lookup.getGrouping(keySelector.apply(item), true).add(item);
-            }
-        }
-        return lookup;
+    // Appends a grouping in first seen order and returns its index.
+    protected int addGrouping(TKey key, int hashCode) {
+        if (this.count == this.groupings.length)
+            this.groupings = Arrays.copyOf(this.groupings, Math.multiplyExact(this.count, 2));
+        Grouping<TKey, TElement> g = new Grouping<>(key, hashCode);
+        g.index = this.count;
+        this.groupings[this.count] = g;
+        return this.count++;
     }
 
-    static <TSource, TKey, TElement> Lookup<TKey, TElement> create(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Func1<TSource, TElement> elementSelector, IEqualityComparer<TKey> comparer) {
-        assert source != null;
-        assert keySelector != null;
-        assert elementSelector != null;
-
-        Lookup<TKey, TElement> lookup = new Lookup<>(comparer);
-        try (IEnumerator<TSource> e = source.enumerator()) {
-            while (e.moveNext()) {
-                TSource item = e.current();
-                lookup.getGrouping(keySelector.apply(item), true).add(elementSelector.apply(item));
-            }
+    protected void add(int groupingIndex, TElement item) {
+        if (this.itemCount == this.items.length) {
+            int newSize = Math.multiplyExact(this.itemCount, 2);
+            this.items = ArrayUtils.resize(this.items, newSize);
+            this.itemGroupings = Arrays.copyOf(this.itemGroupings, newSize);
         }
-        return lookup;
+        this.items[this.itemCount] = item;
+        this.itemGroupings[this.itemCount] = groupingIndex;
+        this.itemCount++;
+        this.groupings[groupingIndex].count++;
     }
 
-    static <TKey, TElement> Lookup<TKey, TElement> createForJoin(IEnumerable<TElement> source, Func1<TElement, TKey> keySelector, IEqualityComparer<TKey> comparer) {
-        Lookup<TKey, TElement> lookup = new Lookup<>(comparer);
-        try (IEnumerator<TElement> e = source.enumerator()) {
-            while (e.moveNext()) {
-                TElement item = e.current();
-                TKey key = keySelector.apply(item);
-                if (key != null)
-                    lookup.getGrouping(key, true).add(item);
-            }
+    // Lays the elements out group by group in one shared array, keeping source order inside each grouping.
+    protected void build() {
+        Object[] elements = new Object[this.itemCount];
+        for (int i = 0, offset = 0; i < this.count; i++) {
+            Grouping<TKey, TElement> g = this.groupings[i];
+            g.elements = elements;
+            g.start = offset;
+            offset += g.count;
+            g.count = 0;
         }
-        return lookup;
+        for (int i = 0; i < this.itemCount; i++) {
+            Grouping<TKey, TElement> g = this.groupings[this.itemGroupings[i]];
+            elements[g.start + g.count] = this.items[i];
+            g.count++;
+        }
+        this.items = null;
+        this.itemGroupings = null;
+        this.itemCount = 0;
     }
 
-    static <TKey, TElement> Lookup<TKey, TElement> createForFullJoin(IEnumerable<TElement> source, Func1<TElement, TKey> keySelector, IEqualityComparer<TKey> comparer) {
-        Lookup<TKey, TElement> lookup = new Lookup<>(comparer);
-        try (IEnumerator<TElement> e = source.enumerator()) {
-            while (e.moveNext()) {
-                TElement item = e.current();
-                TKey key = keySelector.apply(item);
-                if (key == null)
-                    lookup.getNullKeyGrouping().add(item);
-                else
-                    lookup.getGrouping(key, true).add(item);
-            }
-        }
-        return lookup;
+    // Takes over groupings that were built by other lookups, in the given order.
+    protected void adopt(Grouping<TKey, TElement>[] groupings, int count) {
+        for (int i = 0; i < count; i++)
+            groupings[i].index = i;
+        this.groupings = groupings;
+        this.count = count;
+        this.items = null;
+        this.itemGroupings = null;
+        this.itemCount = 0;
     }
 
+    protected abstract Grouping<TKey, TElement> getGrouping(TKey key);
+
     @Override
     public int getCount() {
         return this.count;
@@ -99,13 +103,13 @@ final class Lookup<TKey, TElement> implements ILookup<TKey, TElement>, IIListPro
 
     @Override
     public IEnumerable<TElement> get(TKey key) {
-        Grouping<TKey, TElement> grouping = this.getGrouping(key, false);
+        Grouping<TKey, TElement> grouping = this.getGrouping(key);
         return grouping == null ? EmptyPartition.instance() : grouping;
     }
 
     @Override
     public boolean containsKey(TKey key) {
-        return this.getGrouping(key, false) != null;
+        return this.getGrouping(key) != null;
     }
 
     @Override
@@ -116,92 +120,49 @@ final class Lookup<TKey, TElement> implements ILookup<TKey, TElement>, IIListPro
     @Override
     public IGrouping<TKey, TElement>[] _toArray(Class<IGrouping<TKey, TElement>> clazz) {
         IGrouping<TKey, TElement>[] array = ArrayUtils.newInstance(clazz, this.count);
-        int index = 0;
-        Grouping<TKey, TElement> g = this.lastGrouping;
-        if (g != null) {
-            do {
-                g = g.next;
-                array[index] = g;
-                ++index;
-            } while (g != this.lastGrouping);
-        }
-
+        System.arraycopy(this.groupings, 0, array, 0, this.count);
         return array;
     }
 
     public <TResult> TResult[] _toArray(Class<TResult> clazz, Func2<TKey, IEnumerable<TElement>, TResult> resultSelector) {
         TResult[] array = ArrayUtils.newInstance(clazz, this.count);
-        int index = 0;
-        Grouping<TKey, TElement> g = this.lastGrouping;
-        if (g != null) {
-            do {
-                g = g.next;
-                g.trim();
-                array[index] = resultSelector.apply(g.key, new Array<>(g.elements));
-                ++index;
-            } while (g != this.lastGrouping);
+        for (int i = 0; i < this.count; i++) {
+            Grouping<TKey, TElement> g = this.groupings[i];
+            array[i] = resultSelector.apply(g.key, g);
         }
-
         return array;
     }
 
     @Override
     public Object[] _toArray() {
         Object[] array = new Object[this.count];
-        int index = 0;
-        Grouping<TKey, TElement> g = this.lastGrouping;
-        if (g != null) {
-            do {
-                g = g.next;
-                array[index] = g;
-                ++index;
-            } while (g != this.lastGrouping);
-        }
-
+        System.arraycopy(this.groupings, 0, array, 0, this.count);
         return array;
     }
 
     public <TResult> Object[] _toArray(Func2<TKey, IEnumerable<TElement>, TResult> resultSelector) {
         Object[] array = new Object[this.count];
-        int index = 0;
-        Grouping<TKey, TElement> g = this.lastGrouping;
-        if (g != null) {
-            do {
-                g = g.next;
-                g.trim();
-                array[index] = resultSelector.apply(g.key, new Array<>(g.elements));
-                ++index;
-            } while (g != this.lastGrouping);
+        for (int i = 0; i < this.count; i++) {
+            Grouping<TKey, TElement> g = this.groupings[i];
+            array[i] = resultSelector.apply(g.key, g);
         }
-
         return array;
     }
 
     @Override
     public List<IGrouping<TKey, TElement>> _toList() {
         List<IGrouping<TKey, TElement>> list = new ArrayList<>(this.count);
-        Grouping<TKey, TElement> g = this.lastGrouping;
-        if (g != null) {
-            do {
-                g = g.next;
-                list.add(g);
-            } while (g != this.lastGrouping);
-        }
-
+        for (int i = 0; i < this.count; i++)
+            list.add(this.groupings[i]);
         return list;
     }
 
     public <TResult> List<TResult> _toList(Func2<TKey, IEnumerable<TElement>, TResult> resultSelector) {
         List<TResult> list = new ArrayList<>(this.count);
-        Grouping<TKey, TElement> g = this.lastGrouping;
-        if (g != null) {
-            do {
-                g = g.next;
-                g.trim();
-                list.add(resultSelector.apply(g.key, new Array<>(g.elements)));
-            } while (g != this.lastGrouping);
+        for (int i = 0; i < this.count; i++) {
+            Grouping<TKey, TElement> g = this.groupings[i];
+            list.add(resultSelector.apply(g.key, g));
         }
-
         return list;
     }
 
@@ -214,61 +175,10 @@ final class Lookup<TKey, TElement> implements ILookup<TKey, TElement>, IIListPro
         return new ApplyResultSelector<>(resultSelector);
     }
 
-    private int internalGetHashCode(TKey key) {
-        // Handle comparer implementations that throw when passed null
-        return key == null ? 0 : this.comparer.hashCode(key) & 0x7FFFFFFF;
-    }
-
-    private Grouping<TKey, TElement> getGrouping(TKey key, boolean create) {
-        int hashCode = this.internalGetHashCode(key);
-        for (Grouping<TKey, TElement> g = this.groupings[hashCode % this.groupings.length]; g != null; g = g.hashNext)
-            if (g.hashCode == hashCode && this.comparer.equals(g.key, key) && g != this.nullKeyGrouping)
-                return g;
-        return create ? this.createGrouping(key, hashCode) : null;
-    }
-
-    private Grouping<TKey, TElement> createGrouping(TKey key, int hashCode) {
-        if (this.count == this.groupings.length)
-            this.resize();
-        int index = hashCode % this.groupings.length;
-        Grouping<TKey, TElement> g = new Grouping<>(key, hashCode);
-        g.hashNext = this.groupings[index];
-        this.groupings[index] = g;
-        if (this.lastGrouping == null) {
-            g.next = g;
-        } else {
-            g.next = this.lastGrouping.next;
-            this.lastGrouping.next = g;
-        }
-        this.lastGrouping = g;
-        this.count++;
-        return g;
-    }
-
-    private void resize() {
-        int newSize = Math.addExact(Math.multiplyExact(this.count, 2), 1);
-        //noinspection unchecked
-        Grouping<TKey, TElement>[] newGroupings = new Grouping[newSize];
-        Grouping<TKey, TElement> g = this.lastGrouping;
-        do {
-            g = g.next;
-            int index = g.hashCode % newSize;
-            g.hashNext = newGroupings[index];
-            newGroupings[index] = g;
-        } while (g != this.lastGrouping);
-        this.groupings = newGroupings;
-    }
-
-    private Grouping<TKey, TElement> getNullKeyGrouping() {
-        if (this.nullKeyGrouping == null)
-            this.nullKeyGrouping = this.createGrouping(null, this.internalGetHashCode(null));
-        return this.nullKeyGrouping;
-    }
-
     public Grouping<TKey, TElement> fetchGrouping(TKey key) {
         if (key == null)
             return null;
-        Grouping<TKey, TElement> g = this.getGrouping(key, false);
+        Grouping<TKey, TElement> g = this.getGrouping(key);
         if (g != null)
             g.fetched = true;
         return g;
@@ -284,47 +194,31 @@ final class Lookup<TKey, TElement> implements ILookup<TKey, TElement>, IIListPro
     }
 
     private final class LookupEnumerator extends AbstractEnumerator<IGrouping<TKey, TElement>> {
-        private Grouping<TKey, TElement> g;
+        private int index;
 
         @Override
         public boolean moveNext() {
-            do {
-                switch (this.state) {
-                    case 0:
-                        this.g = Lookup.this.lastGrouping;
-                        if (this.g == null) {
-                            this.close();
-                            return false;
-                        }
-                        this.state = 2;
-                        break;
-                    case 1:
-                        if (this.g == Lookup.this.lastGrouping) {
-                            this.close();
-                            return false;
-                        }
-                        this.state = 2;
-                    case 2:
-                        this.g = this.g.next;
-                        this.current = this.g;
-                        this.state = 1;
+            switch (this.state) {
+                case 0:
+                    this.index = -1;
+                    this.state = 1;
+                case 1:
+                    this.index++;
+                    if (this.index < AbstractLookup.this.count) {
+                        this.current = AbstractLookup.this.groupings[this.index];
                         return true;
-                    default:
-                        return false;
-                }
-            } while (true);
-        }
-
-        @Override
-        public void close() {
-            this.g = null;
-            super.close();
+                    }
+                    this.close();
+                    return false;
+                default:
+                    return false;
+            }
         }
     }
 
     private final class ApplyResultSelector<TResult> extends AbstractIterator<TResult> {
         private final Func2<TKey, IEnumerable<TElement>, TResult> resultSelector;
-        private Grouping<TKey, TElement> g;
+        private int index;
 
         private ApplyResultSelector(Func2<TKey, IEnumerable<TElement>, TResult> resultSelector) {
             this.resultSelector = resultSelector;
@@ -337,79 +231,517 @@ final class Lookup<TKey, TElement> implements ILookup<TKey, TElement>, IIListPro
 
         @Override
         public boolean moveNext() {
-            do {
-                switch (this.state) {
-                    case 1:
-                        this.g = Lookup.this.lastGrouping;
-                        if (this.g == null) {
-                            this.close();
-                            return false;
-                        }
-                        this.state = 3;
-                        break;
-                    case 2:
-                        if (this.g == Lookup.this.lastGrouping) {
-                            this.close();
-                            return false;
-                        }
-                        this.state = 3;
-                    case 3:
-                        this.g = this.g.next;
-                        this.g.trim();
-                        this.current = this.resultSelector.apply(this.g.key, new Array<>(this.g.elements));
-                        this.state = 2;
+            switch (this.state) {
+                case 1:
+                    this.index = -1;
+                    this.state = 2;
+                case 2:
+                    this.index++;
+                    if (this.index < AbstractLookup.this.count) {
+                        Grouping<TKey, TElement> g = AbstractLookup.this.groupings[this.index];
+                        this.current = this.resultSelector.apply(g.key, g);
                         return true;
-                    default:
-                        return false;
-                }
-            } while (true);
-        }
-
-        @Override
-        public void close() {
-            this.g = null;
-            super.close();
+                    }
+                    this.close();
+                    return false;
+                default:
+                    return false;
+            }
         }
     }
 
     private final class UnfetchedLookupEnumerator extends AbstractEnumerator<Grouping<TKey, TElement>> {
-        private Grouping<TKey, TElement> g;
+        private int index;
 
         @Override
         public boolean moveNext() {
-            do {
-                switch (this.state) {
-                    case 0:
-                        this.g = Lookup.this.lastGrouping;
-                        if (this.g == null) {
-                            this.close();
-                            return false;
+            switch (this.state) {
+                case 0:
+                    this.index = -1;
+                    this.state = 1;
+                case 1:
+                    while (++this.index < AbstractLookup.this.count) {
+                        Grouping<TKey, TElement> g = AbstractLookup.this.groupings[this.index];
+                        if (!g.fetched) {
+                            this.current = g;
+                            return true;
                         }
-                        this.state = 2;
-                        break;
-                    case 1:
-                        if (this.g == Lookup.this.lastGrouping) {
-                            this.close();
-                            return false;
-                        }
-                        this.state = 2;
-                    case 2:
-                        this.state = 1;
-                        this.g = this.g.next;
-                        if (this.g.fetched)
-                            break;
-                        this.current = this.g;
-                        return true;
-                    default:
-                        return false;
+                    }
+                    this.close();
+                    return false;
+                default:
+                    return false;
+            }
+        }
+    }
+}
+
+
+@DebuggerDisplay("Count = {getCount()}")
+@DebuggerTypeProxy(LookupDebugView.class)
+final class Lookup<TKey, TElement> extends AbstractLookup<TKey, TElement> {
+    static final int PARALLEL_MIN_CHUNK = 4096;
+    private final IEqualityComparer<TKey> comparer;
+    // Power of two hash table, chained through Grouping.hashNext.
+    private Grouping<TKey, TElement>[] buckets;
+    private Grouping<TKey, TElement> nullKeyGrouping;
+    // Rejects most missing keys before the buckets are walked, null until buildFilter finds enough groupings.
+    private BloomFilter filter;
+
+    private Lookup(IEqualityComparer<TKey> comparer) {
+        this.comparer = comparer == null ? EqualityComparer.Default() : comparer;
+        //noinspection unchecked
+        this.buckets = new Grouping[DEFAULT_CAPACITY];
+    }
+
+    static <TKey, TElement> Lookup<TKey, TElement> create(IEnumerable<TElement> source, Func1<TElement, TKey> keySelector, IEqualityComparer<TKey> comparer) {
+        assert source != null;
+        assert keySelector != null;
+
+        Lookup<TKey, TElement> lookup = new Lookup<>(comparer);
+        Sink.forEach(source, item -> {
+            lookup.add(lookup.getGroupingIndex(keySelector.apply(item), true), item);
+            return true;
+        });
+        lookup.build();
+        return lookup;
+    }
+
+    static <TSource, TKey, TElement> Lookup<TKey, TElement> create(IEnumerable<TSource> source, Func1<TSource, TKey> keySelector, Func1<TSource, TElement> elementSelector, IEqualityComparer<TKey> comparer) {
+        assert source != null;
+        assert keySelector != null;
+        assert elementSelector != null;
+
+        Lookup<TKey, TElement> lookup = new Lookup<>(comparer);
+        Sink.forEach(source, item -> {
+            lookup.add(lookup.getGroupingIndex(keySelector.apply(item), true), elementSelector.apply(item));
+            return true;
+        });
+        lookup.build();
+        return lookup;
+    }
+
+    static <TKey, TElement> Lookup<TKey, TElement> createForJoin(IEnumerable<TElement> source, Func1<TElement, TKey> keySelector, IEqualityComparer<TKey> comparer) {
+        Lookup<TKey, TElement> lookup = new Lookup<>(comparer);
+        Sink.forEach(source, item -> {
+            TKey key = keySelector.apply(item);
+            if (key != null)
+                lookup.add(lookup.getGroupingIndex(key, true), item);
+            return true;
+        });
+        lookup.build();
+        lookup.buildFilter();
+        return lookup;
+    }
+
+    // Only keeps the elements whose key is one of keys. groupingIndexes receives the grouping of every key, -1 for null keys.
+    static <TKey, TElement> Lookup<TKey, TElement> createForJoin(IEnumerable<TElement> source, Func1<TElement, TKey> keySelector, IEqualityComparer<TKey> comparer, Object[] keys, int[] groupingIndexes) {
+        Lookup<TKey, TElement> lookup = new Lookup<>(comparer);
+        for (int i = 0; i < keys.length; i++) {
+            TKey key = (TKey) keys[i];
+            groupingIndexes[i] = key == null ? -1 : lookup.getGroupingIndex(key, true);
+        }
+        lookup.buildFilter();
+        Sink.forEach(source, item -> {
+            TKey key = keySelector.apply(item);
+            if (key != null) {
+                int index = lookup.getGroupingIndex(key, false);
+                if (index >= 0)
+                    lookup.add(index, item);
+            }
+            return true;
+        });
+        lookup.build();
+        return lookup;
+    }
+
+    static <TKey, TElement> Lookup<TKey, TElement> createForFullJoin(IEnumerable<TElement> source, Func1<TElement, TKey> keySelector, IEqualityComparer<TKey> comparer) {
+        Lookup<TKey, TElement> lookup = new Lookup<>(comparer);
+        Sink.forEach(source, item -> {
+            TKey key = keySelector.apply(item);
+            lookup.add(key == null ? lookup.getNullKeyGroupingIndex() : lookup.getGroupingIndex(key, true), item);
+            return true;
+        });
+        lookup.build();
+        return lookup;
+    }
+
+    // Builds the lookup on the pool. Keys are hash partitioned across the workers, so every worker owns a disjoint set of
+    // groupings and the partial lookups are concatenated instead of merged. Elements keep source order inside each grouping,
+    // groupings are sorted back into first seen order only when ordered. A null elementSelector groups the items themselves.
+    static <TSource, TKey, TElement> Lookup<TKey, TElement> createParallel(Object[] source, Func1<TSource, TKey> keySelector, Func1<TSource, TElement> elementSelector, IEqualityComparer<TKey> comparer, boolean ordered, ForkJoinPool pool, int parallelism) {
+        assert source != null;
+        assert keySelector != null;
+
+        int count = source.length;
+        int partitionCount = Math.min(parallelism, count / PARALLEL_MIN_CHUNK);
+        if (partitionCount <= 1) {
+            return elementSelector == null
+                    ? (Lookup<TKey, TElement>) create(new Array<TSource>(source), keySelector, comparer)
+                    : create(new Array<TSource>(source), keySelector, elementSelector, comparer);
+        }
+
+        Lookup<TKey, TElement> lookup = new Lookup<>(comparer);
+        Object[] keys = new Object[count];
+        Object[] elements = elementSelector == null ? source : new Object[count];
+        int[] hashCodes = new int[count];
+        int[] bounds = ParallelHelpers.split(count, partitionCount);
+        int[][] offsets = new int[partitionCount][partitionCount];
+        ParallelHelpers.invoke(pool, partitionCount, chunk -> {
+            int[] histogram = offsets[chunk];
+            for (int i = bounds[chunk]; i < bounds[chunk + 1]; i++) {
+                TSource item = (TSource) source[i];
+                TKey key = keySelector.apply(item);
+                int hashCode = lookup.internalGetHashCode(key);
+                keys[i] = key;
+                if (elementSelector != null)
+                    elements[i] = elementSelector.apply(item);
+                hashCodes[i] = hashCode;
+                histogram[partitionOf(hashCode, partitionCount)]++;
+            }
+        });
+
+        // Each partition is laid out contiguously, chunk after chunk, so its indexes stay in source order.
+        int[] partitionBounds = new int[partitionCount + 1];
+        for (int partition = 0, offset = 0; partition < partitionCount; partition++) {
+            for (int chunk = 0; chunk < partitionCount; chunk++) {
+                int length = offsets[chunk][partition];
+                offsets[chunk][partition] = offset;
+                offset += length;
+            }
+            partitionBounds[partition + 1] = offset;
+        }
+        int[] indexes = new int[count];
+        ParallelHelpers.invoke(pool, partitionCount, chunk -> {
+            int[] offset = offsets[chunk];
+            for (int i = bounds[chunk]; i < bounds[chunk + 1]; i++)
+                indexes[offset[partitionOf(hashCodes[i], partitionCount)]++] = i;
+        });
+
+        Lookup<TKey, TElement>[] parts = new Lookup[partitionCount];
+        int[][] firstIndexes = new int[partitionCount][];
+        ParallelHelpers.invoke(pool, partitionCount, partition -> {
+            Lookup<TKey, TElement> part = new Lookup<>(lookup.comparer);
+            int[] first = new int[DEFAULT_CAPACITY];
+            for (int j = partitionBounds[partition]; j < partitionBounds[partition + 1]; j++) {
+                int i = indexes[j];
+                int groupingCount = part.count;
+                int index = part.getGroupingIndex((TKey) keys[i], hashCodes[i], true);
+                if (part.count != groupingCount) {
+                    if (index == first.length)
+                        first = Arrays.copyOf(first, Math.multiplyExact(index, 2));
+                    first[index] = i;
                 }
-            } while (true);
+                part.add(index, (TElement) elements[i]);
+            }
+            part.build();
+            parts[partition] = part;
+            firstIndexes[partition] = first;
+        });
+
+        int groupingCount = 0;
+        for (Lookup<TKey, TElement> part : parts)
+            groupingCount = Math.addExact(groupingCount, part.count);
+        Grouping<TKey, TElement>[] groupings = new Grouping[Math.max(groupingCount, DEFAULT_CAPACITY)];
+        if (ordered) {
+            // Sorts by the source index of the first element, the low half keeps the position in the concatenation.
+            long[] order = new long[groupingCount];
+            for (int partition = 0, n = 0; partition < partitionCount; partition++) {
+                for (int i = 0; i < parts[partition].count; i++, n++)
+                    order[n] = (long) firstIndexes[partition][i] << 32 | n;
+            }
+            Arrays.sort(order);
+            Grouping<TKey, TElement>[] concatenated = new Grouping[groupingCount];
+            for (int partition = 0, n = 0; partition < partitionCount; partition++) {
+                System.arraycopy(parts[partition].groupings, 0, concatenated, n, parts[partition].count);
+                n += parts[partition].count;
+            }
+            for (int i = 0; i < groupingCount; i++)
+                groupings[i] = concatenated[(int) order[i]];
+        } else {
+            for (int partition = 0, n = 0; partition < partitionCount; partition++) {
+                System.arraycopy(parts[partition].groupings, 0, groupings, n, parts[partition].count);
+                n += parts[partition].count;
+            }
         }
+        lookup.adopt(groupings, groupingCount);
+        lookup.rehash(Integer.highestOneBit(groupings.length - 1) << 1);
+        return lookup;
+    }
 
-        @Override
-        public void close() {
-            this.g = null;
-            super.close();
+    private static int partitionOf(int hashCode, int partitionCount) {
+        return ((hashCode * 0x9E3779B9) >>> 1) % partitionCount;
+    }
+
+    // Spreads the high bits of the hash code into the low bits used by the power of two buckets.
+    private int internalGetHashCode(TKey key) {
+        // Handle comparer implementations that throw when passed null
+        if (key == null)
+            return 0;
+        int hashCode = this.comparer.hashCode(key);
+        return hashCode ^ (hashCode >>> 16);
+    }
+
+    // Adds a Bloom filter over the grouping hash codes once the table is too large to stay in cache, so probes for missing
+    // keys mostly skip the bucket walk and the equality checks. Groupings created afterwards are added to the filter too.
+    void buildFilter() {
+        if (this.count < BloomFilter.MIN_COUNT)
+            return;
+        BloomFilter filter = new BloomFilter(this.count);
+        for (int i = 0; i < this.count; i++)
+            filter.add(this.groupings[i].hashCode);
+        this.filter = filter;
+    }
+
+    @Override
+    protected Grouping<TKey, TElement> getGrouping(TKey key) {
+        int hashCode = this.internalGetHashCode(key);
+        if (this.filter != null && !this.filter.mightContain(hashCode))
+            return null;
+        for (Grouping<TKey, TElement> g = this.buckets[hashCode & (this.buckets.length - 1)]; g != null; g = g.hashNext)
+            if (g.hashCode == hashCode && this.comparer.equals(g.key, key) && g != this.nullKeyGrouping)
+                return g;
+        return null;
+    }
+
+    private int getGroupingIndex(TKey key, boolean create) {
+        return this.getGroupingIndex(key, this.internalGetHashCode(key), create);
+    }
+
+    private int getGroupingIndex(TKey key, int hashCode, boolean create) {
+        if (!create && this.filter != null && !this.filter.mightContain(hashCode))
+            return -1;
+        for (Grouping<TKey, TElement> g = this.buckets[hashCode & (this.buckets.length - 1)]; g != null; g = g.hashNext)
+            if (g.hashCode == hashCode && this.comparer.equals(g.key, key) && g != this.nullKeyGrouping)
+                return g.index;
+        return create ? this.createGrouping(key, hashCode) : -1;
+    }
+
+    private int createGrouping(TKey key, int hashCode) {
+        if (this.count == this.buckets.length)
+            this.resize();
+        int index = this.addGrouping(key, hashCode);
+        Grouping<TKey, TElement> g = this.groupings[index];
+        int bucket = hashCode & (this.buckets.length - 1);
+        g.hashNext = this.buckets[bucket];
+        this.buckets[bucket] = g;
+        if (this.filter != null)
+            this.filter.add(hashCode);
+        return index;
+    }
+
+    private void resize() {
+        this.rehash(Math.multiplyExact(this.buckets.length, 2));
+    }
+
+    // Rebuilds the bucket chains with newSize buckets, newSize is a power of two.
+    private void rehash(int newSize) {
+        //noinspection unchecked
+        Grouping<TKey, TElement>[] newBuckets = new Grouping[newSize];
+        for (int i = 0; i < this.count; i++) {
+            Grouping<TKey, TElement> g = this.groupings[i];
+            int bucket = g.hashCode & (newSize - 1);
+            g.hashNext = newBuckets[bucket];
+            newBuckets[bucket] = g;
+        }
+        this.buckets = newBuckets;
+    }
+
+    private int getNullKeyGroupingIndex() {
+        if (this.nullKeyGrouping == null) {
+            int index = this.createGrouping(null, this.internalGetHashCode(null));
+            this.nullKeyGrouping = this.groupings[index];
+        }
+        return this.nullKeyGrouping.index;
+    }
+}
+
+
+@DebuggerDisplay("Count = {getCount()}")
+@DebuggerTypeProxy(LookupDebugView.class)
+final class IntLookup<TElement> extends AbstractLookup<Integer, TElement> {
+    // Open addressing table with linear probing. slots holds 1-based grouping indexes, 0 is an empty slot.
+    private int[] keys;
+    private int[] slots;
+
+    private IntLookup() {
+        this.keys = new int[DEFAULT_CAPACITY * 2];
+        this.slots = new int[DEFAULT_CAPACITY * 2];
+    }
+
+    static <TElement> IntLookup<TElement> create(IEnumerable<TElement> source, IntFunc1<TElement> keySelector) {
+        assert source != null;
+        assert keySelector != null;
+
+        IntLookup<TElement> lookup = new IntLookup<>();
+        Sink.forEach(source, item -> {
+            lookup.add(lookup.getGroupingIndex(keySelector.apply(item), true), item);
+            return true;
+        });
+        lookup.build();
+        return lookup;
+    }
+
+    static <TSource, TElement> IntLookup<TElement> create(IEnumerable<TSource> source, IntFunc1<TSource> keySelector, Func1<TSource, TElement> elementSelector) {
+        assert source != null;
+        assert keySelector != null;
+        assert elementSelector != null;
+
+        IntLookup<TElement> lookup = new IntLookup<>();
+        Sink.forEach(source, item -> {
+            lookup.add(lookup.getGroupingIndex(keySelector.apply(item), true), elementSelector.apply(item));
+            return true;
+        });
+        lookup.build();
+        return lookup;
+    }
+
+    private static int hash(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    @Override
+    protected Grouping<Integer, TElement> getGrouping(Integer key) {
+        return key == null ? null : this.getGrouping((int) key);
+    }
+
+    Grouping<Integer, TElement> getGrouping(int key) {
+        int index = this.getGroupingIndex(key, false);
+        return index < 0 ? null : this.groupings[index];
+    }
+
+    private int getGroupingIndex(int key, boolean create) {
+        int mask = this.slots.length - 1;
+        for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+            int slot = this.slots[i];
+            if (slot == 0)
+                return create ? this.createGrouping(key, i) : -1;
+            if (this.keys[i] == key)
+                return slot - 1;
+        }
+    }
+
+    private int createGrouping(int key, int slot) {
+        int index = this.addGrouping(key, Integer.hashCode(key));
+        this.keys[slot] = key;
+        this.slots[slot] = index + 1;
+        if (this.count > this.slots.length >> 1)
+            this.resize();
+        return index;
+    }
+
+    private void resize() {
+        int newSize = Math.multiplyExact(this.slots.length, 2);
+        int mask = newSize - 1;
+        int[] newKeys = new int[newSize];
+        int[] newSlots = new int[newSize];
+        for (int i = 0; i < this.slots.length; i++) {
+            if (this.slots[i] == 0)
+                continue;
+            int key = this.keys[i];
+            int j = hash(key) & mask;
+            while (newSlots[j] != 0)
+                j = (j + 1) & mask;
+            newKeys[j] = key;
+            newSlots[j] = this.slots[i];
+        }
+        this.keys = newKeys;
+        this.slots = newSlots;
+    }
+}
+
+
+@DebuggerDisplay("Count = {getCount()}")
+@DebuggerTypeProxy(LookupDebugView.class)
+final class LongLookup<TElement> extends AbstractLookup<Long, TElement> {
+    // Open addressing table with linear probing. slots holds 1-based grouping indexes, 0 is an empty slot.
+    private long[] keys;
+    private int[] slots;
+
+    private LongLookup() {
+        this.keys = new long[DEFAULT_CAPACITY * 2];
+        this.slots = new int[DEFAULT_CAPACITY * 2];
+    }
+
+    static <TElement> LongLookup<TElement> create(IEnumerable<TElement> source, LongFunc1<TElement> keySelector) {
+        assert source != null;
+        assert keySelector != null;
+
+        LongLookup<TElement> lookup = new LongLookup<>();
+        Sink.forEach(source, item -> {
+            lookup.add(lookup.getGroupingIndex(keySelector.apply(item), true), item);
+            return true;
+        });
+        lookup.build();
+        return lookup;
+    }
+
+    static <TSource, TElement> LongLookup<TElement> create(IEnumerable<TSource> source, LongFunc1<TSource> keySelector, Func1<TSource, TElement> elementSelector) {
+        assert source != null;
+        assert keySelector != null;
+        assert elementSelector != null;
+
+        LongLookup<TElement> lookup = new LongLookup<>();
+        Sink.forEach(source, item -> {
+            lookup.add(lookup.getGroupingIndex(keySelector.apply(item), true), elementSelector.apply(item));
+            return true;
+        });
+        lookup.build();
+        return lookup;
+    }
+
+    private static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    @Override
+    protected Grouping<Long, TElement> getGrouping(Long key) {
+        return key == null ? null : this.getGrouping((long) key);
+    }
+
+    Grouping<Long, TElement> getGrouping(long key) {
+        int index = this.getGroupingIndex(key, false);
+        return index < 0 ? null : this.groupings[index];
+    }
+
+    private int getGroupingIndex(long key, boolean create) {
+        int mask = this.slots.length - 1;
+        for (int i = hash(key) & mask; ; i = (i + 1) & mask) {
+            int slot = this.slots[i];
+            if (slot == 0)
+                return create ? this.createGrouping(key, i) : -1;
+            if (this.keys[i] == key)
+                return slot - 1;
+        }
+    }
+
+    private int createGrouping(long key, int slot) {
+        int index = this.addGrouping(key, Long.hashCode(key));
+        this.keys[slot] = key;
+        this.slots[slot] = index + 1;
+        if (this.count > this.slots.length >> 1)
+            this.resize();
+        return index;
+    }
+
+    private void resize() {
+        int newSize = Math.multiplyExact(this.slots.length, 2);
+        int mask = newSize - 1;
+        long[] newKeys = new long[newSize];
+        int[] newSlots = new int[newSize];
+        for (int i = 0; i < this.slots.length; i++) {
+            if (this.slots[i] == 0)
+                continue;
+            long key = this.keys[i];
+            int j = hash(key) & mask;
+            while (newSlots[j] != 0)
+                j = (j + 1) & mask;
+            newKeys[j] = key;
+            newSlots[j] = this.slots[i];
         }
+        this.keys = newKeys;
+        this.slots = newSlots;
     }
 }
@@ -2,7 +2,10 @@ package com.bestvike.linq.enumerable;
 
 import com.bestvike.collections.generic.Comparer;
 import com.bestvike.collections.generic.ICollection;
+import com.bestvike.function.DoubleFunc1;
 import com.bestvike.function.Func1;
+import com.bestvike.function.IntFunc1;
+import com.bestvike.function.LongFunc1;
 import com.bestvike.function.Predicate1;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
@@ -11,27 +14,52 @@ import com.bestvike.linq.exception.ExceptionArgument;
 import com.bestvike.linq.exception.ThrowHelper;
 import com.bestvike.linq.util.ArrayUtils;
 import com.bestvike.linq.util.ListUtils;
-import com.bestvike.out;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Created by 许崇雷 on 2018-05-07.
  */
 abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable<TElement>, IPartition<TElement> {
+    private static final int TOP_K_RATIO = 8;
+    private static final int TOP_K_MAX_UNKNOWN_COUNT = 4096;
     IEnumerable<TElement> source;
 
-    private Integer[] sortedMap(Buffer<TElement> buffer) {
-        return this.getEnumerableSorter().sort(buffer.items, buffer.count);
+    // Sorts in parallel on the pool of an asParallel source, or on the common pool above the parallel sort threshold.
+    private int[] sortedMap(Buffer<TElement> buffer) {
+        ForkJoinPool pool;
+        int parallelism;
+        if (this.source instanceof ParallelEnumerable) {
+            ParallelEnumerable<?, TElement> parallel = (ParallelEnumerable<?, TElement>) this.source;
+            pool = parallel.getPool();
+            parallelism = parallel.getDegreeOfParallelism();
+        } else if (buffer.count >= OrderBy.getParallelSortThreshold()) {
+            pool = ForkJoinPool.commonPool();
+            parallelism = pool.getParallelism();
+        } else {
+            return this.getEnumerableSorter().sort(buffer.items, buffer.count);
+        }
+        return this.getEnumerableSorter().parallelSort(buffer.items, buffer.count, pool, parallelism);
     }
 
-    private Integer[] sortedMap(Buffer<TElement> buffer, int minIdx, int maxIdx) {
+    private int[] sortedMap(Buffer<TElement> buffer, int minIdx, int maxIdx) {
         return this.getEnumerableSorter().sort(buffer.items, buffer.count, minIdx, maxIdx);
     }
 
+    // Returns the first maxIdx + 1 sorted elements when a bounded heap is cheaper than sorting the whole source, otherwise null.
+    private Object[] topK(int maxIdx) {
+        if (maxIdx == Integer.MAX_VALUE)
+            return null;
+        int count = this._getCount(true);
+        if (count == -1 ? maxIdx >= TOP_K_MAX_UNKNOWN_COUNT : maxIdx >= count / TOP_K_RATIO)
+            return null;
+        return this.getEnumerableSorter().topK(this.source, maxIdx + 1);
+    }
+
     @Override
     public IEnumerator<TElement> enumerator() {
         return new OrderedEnumerableEnumerator();
@@ -41,7 +69,7 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
         return new OrderedEnumerableRangeEnumerator(minIdx, maxIdx);
     }
 
-    private AbstractEnumerableSorter<TElement> getEnumerableSorter() {
+    AbstractEnumerableSorter<TElement> getEnumerableSorter() {
         return this.getEnumerableSorter(null);
     }
 
@@ -58,15 +86,13 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
         return new OrderedEnumerable<>(this.source, keySelector, comparer, descending, this);
     }
 
-    public TElement _tryGetFirst(Predicate1<TElement> predicate, out<Boolean> found) {
+    public Object _tryGetFirst(Predicate1<TElement> predicate) {
         AbstractCachingComparer<TElement> comparer = this.getComparer();
         try (IEnumerator<TElement> e = this.source.enumerator()) {
             TElement value;
             do {
-                if (!e.moveNext()) {
-                    found.value = false;
-                    return null;
-                }
+                if (!e.moveNext())
+                    return NOT_FOUND;
                 value = e.current();
             } while (!predicate.apply(value));
 
@@ -77,20 +103,17 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
                     value = x;
             }
 
-            found.value = true;
             return value;
         }
     }
 
-    public TElement _tryGetLast(Predicate1<TElement> predicate, out<Boolean> found) {
+    public Object _tryGetLast(Predicate1<TElement> predicate) {
         AbstractCachingComparer<TElement> comparer = this.getComparer();
         try (IEnumerator<TElement> e = this.source.enumerator()) {
             TElement value;
             do {
-                if (!e.moveNext()) {
-                    found.value = false;
-                    return null;
-                }
+                if (!e.moveNext())
+                    return NOT_FOUND;
                 value = e.current();
             } while (!predicate.apply(value));
 
@@ -101,7 +124,6 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
                     value = x;
             }
 
-            found.value = true;
             return value;
         }
     }
@@ -114,10 +136,11 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
             return buffer.toArray(clazz);
 
         TElement[] array = ArrayUtils.newInstance(clazz, count);
-        Integer[] map = this.sortedMap(buffer);
+        int[] map = this.sortedMap(buffer);
         for (int i = 0; i != array.length; i++)
             //noinspection unchecked
             array[i] = (TElement) buffer.items[map[i]];
+        buffer.release();
         return array;
     }
 
@@ -129,9 +152,10 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
             return buffer.items;
 
         Object[] array = new Object[count];
-        Integer[] map = this.sortedMap(buffer);
+        int[] map = this.sortedMap(buffer);
         for (int i = 0; i != array.length; i++)
             array[i] = buffer.items[map[i]];
+        buffer.release();
         return array;
     }
 
@@ -141,11 +165,12 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
         int count = buffer.count;
         List<TElement> list = new ArrayList<>(count);
         if (count > 0) {
-            Integer[] map = this.sortedMap(buffer);
+            int[] map = this.sortedMap(buffer);
             for (int i = 0; i != count; i++)
                 //noinspection unchecked
                 list.add((TElement) buffer.items[map[i]]);
         }
+        buffer.release();
         return list;
     }
 
@@ -159,6 +184,10 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
     }
 
     public TElement[] _toArray(Class<TElement> clazz, int minIdx, int maxIdx) {
+        Object[] topK = this.topK(maxIdx);
+        if (topK != null)
+            return topK.length <= minIdx ? ArrayUtils.empty(clazz) : ArrayUtils.toArray(topK, clazz, minIdx, topK.length - minIdx);
+
         Buffer<TElement> buffer = new Buffer<>(this.source);
         int count = buffer.count;
         if (count <= minIdx)
@@ -170,7 +199,7 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
         if (minIdx == maxIdx)
             return ArrayUtils.singleton(clazz, this.getEnumerableSorter().elementAt(buffer.items, count, minIdx));
 
-        Integer[] map = this.sortedMap(buffer, minIdx, maxIdx);
+        int[] map = this.sortedMap(buffer, minIdx, maxIdx);
         TElement[] array = ArrayUtils.newInstance(clazz, maxIdx - minIdx + 1);
         int idx = 0;
         while (minIdx <= maxIdx) {
@@ -180,10 +209,15 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
             ++minIdx;
         }
 
+        buffer.release();
         return array;
     }
 
     public Object[] _toArray(int minIdx, int maxIdx) {
+        Object[] topK = this.topK(maxIdx);
+        if (topK != null)
+            return topK.length <= minIdx ? ArrayUtils.empty() : minIdx == 0 ? topK : Arrays.copyOfRange(topK, minIdx, topK.length);
+
         Buffer<TElement> buffer = new Buffer<>(this.source);
         int count = buffer.count;
         if (count <= minIdx)
@@ -195,7 +229,7 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
         if (minIdx == maxIdx)
             return ArrayUtils.singleton(this.getEnumerableSorter().elementAt(buffer.items, count, minIdx));
 
-        Integer[] map = this.sortedMap(buffer, minIdx, maxIdx);
+        int[] map = this.sortedMap(buffer, minIdx, maxIdx);
         Object[] array = new Object[maxIdx - minIdx + 1];
         int idx = 0;
         while (minIdx <= maxIdx) {
@@ -204,10 +238,15 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
             ++minIdx;
         }
 
+        buffer.release();
         return array;
     }
 
     public List<TElement> _toList(int minIdx, int maxIdx) {
+        Object[] topK = this.topK(maxIdx);
+        if (topK != null)
+            return topK.length <= minIdx ? ListUtils.empty() : ArrayUtils.toList(topK, minIdx, topK.length - minIdx);
+
         Buffer<TElement> buffer = new Buffer<>(this.source);
         int count = buffer.count;
         if (count <= minIdx)
@@ -219,7 +258,7 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
         if (minIdx == maxIdx)
             return ListUtils.singleton(this.getEnumerableSorter().elementAt(buffer.items, count, minIdx));
 
-        Integer[] map = this.sortedMap(buffer, minIdx, maxIdx);
+        int[] map = this.sortedMap(buffer, minIdx, maxIdx);
         List<TElement> list = new ArrayList<>(maxIdx - minIdx + 1);
         while (minIdx <= maxIdx) {
             //noinspection unchecked
@@ -227,6 +266,7 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
             ++minIdx;
         }
 
+        buffer.release();
         return list;
     }
 
@@ -246,37 +286,36 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
         return new OrderedPartition<>(this, count, Integer.MAX_VALUE);
     }
 
+    // The returned partition keeps only the first count elements in a bounded heap when count is small relative to the source.
     @Override
     public IPartition<TElement> _take(int count) {
         return new OrderedPartition<>(this, 0, count - 1);
     }
 
     @Override
-    public TElement _tryGetElementAt(int index, out<Boolean> found) {
+    public Object _tryGetElementAt(int index) {
         if (index == 0)
-            return this._tryGetFirst(found);
+            return this._tryGetFirst();
 
         if (index > 0) {
             Buffer<TElement> buffer = new Buffer<>(this.source);
             int count = buffer.count;
             if (index < count) {
-                found.value = true;
-                return this.getEnumerableSorter().elementAt(buffer.items, count, index);
+                TElement element = this.getEnumerableSorter().elementAt(buffer.items, count, index);
+                buffer.release();
+                return element;
             }
         }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     @Override
-    public TElement _tryGetFirst(out<Boolean> found) {
+    public Object _tryGetFirst() {
         AbstractCachingComparer<TElement> comparer = this.getComparer();
         try (IEnumerator<TElement> e = this.source.enumerator()) {
-            if (!e.moveNext()) {
-                found.value = false;
-                return null;
-            }
+            if (!e.moveNext())
+                return NOT_FOUND;
 
             TElement value = e.current();
             comparer.setElement(value);
@@ -286,18 +325,15 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
                     value = x;
             }
 
-            found.value = true;
             return value;
         }
     }
 
     @Override
-    public TElement _tryGetLast(out<Boolean> found) {
+    public Object _tryGetLast() {
         try (IEnumerator<TElement> e = this.source.enumerator()) {
-            if (!e.moveNext()) {
-                found.value = false;
-                return null;
-            }
+            if (!e.moveNext())
+                return NOT_FOUND;
 
             AbstractCachingComparer<TElement> comparer = this.getComparer();
             TElement value = e.current();
@@ -308,21 +344,19 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
                     value = current;
             }
 
-            found.value = true;
             return value;
         }
     }
 
-    public TElement _tryGetLast(int minIdx, int maxIdx, out<Boolean> found) {
+    public Object _tryGetLast(int minIdx, int maxIdx) {
         Buffer<TElement> buffer = new Buffer<>(this.source);
         int count = buffer.count;
-        if (minIdx >= count) {
-            found.value = false;
-            return null;
-        }
+        if (minIdx >= count)
+            return NOT_FOUND;
 
-        found.value = true;
-        return maxIdx < count - 1 ? this.getEnumerableSorter().elementAt(buffer.items, count, maxIdx) : this._last(buffer);
+        TElement last = maxIdx < count - 1 ? this.getEnumerableSorter().elementAt(buffer.items, count, maxIdx) : this._last(buffer);
+        buffer.release();
+        return last;
     }
 
     private TElement _last(Buffer<TElement> buffer) {
@@ -345,7 +379,7 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
 
     private class OrderedEnumerableEnumerator extends AbstractEnumerator<TElement> {
         private Buffer<TElement> buffer;
-        private Integer[] map;
+        private int[] map;
         private int index;
 
         @Override
@@ -376,7 +410,10 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
 
         @Override
         public void close() {
-            this.buffer = null;
+            if (this.buffer != null) {
+                this.buffer.release();
+                this.buffer = null;
+            }
             this.map = null;
             super.close();
         }
@@ -386,7 +423,8 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
         private int minIdx;
         private int maxIdx;
         private Buffer<TElement> buffer;
-        private Integer[] map;
+        private int[] map;
+        private Object[] topK;
 
         private OrderedEnumerableRangeEnumerator(int minIdx, int maxIdx) {
             this.minIdx = minIdx;
@@ -397,6 +435,11 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
         public boolean moveNext() {
             switch (this.state) {
                 case 0:
+                    this.topK = AbstractOrderedEnumerable.this.topK(this.maxIdx);
+                    if (this.topK != null) {
+                        this.state = 3;
+                        return this.moveNext();
+                    }
                     this.buffer = new Buffer<>(AbstractOrderedEnumerable.this.source);
                     int count = this.buffer.count;
                     if (count <= this.minIdx) {
@@ -425,6 +468,15 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
                 case 2:
                     this.close();
                     return false;
+                case 3:
+                    if (this.minIdx < this.topK.length) {
+                        //noinspection unchecked
+                        this.current = (TElement) this.topK[this.minIdx];
+                        ++this.minIdx;
+                        return true;
+                    }
+                    this.close();
+                    return false;
                 default:
                     return false;
             }
@@ -432,8 +484,12 @@ abstract class AbstractOrderedEnumerable<TElement> implements IOrderedEnumerable
 
         @Override
         public void close() {
-            this.buffer = null;
+            if (this.buffer != null) {
+                this.buffer.release();
+                this.buffer = null;
+            }
             this.map = null;
+            this.topK = null;
             super.close();
         }
     }
@@ -477,6 +533,96 @@ final class OrderedEnumerable<TElement, TKey> extends AbstractOrderedEnumerable<
 }
 
 
+final class IntOrderedEnumerable<TElement> extends AbstractOrderedEnumerable<TElement> {
+    private final IntFunc1<TElement> keySelector;
+    private final boolean descending;
+
+    IntOrderedEnumerable(IEnumerable<TElement> source, IntFunc1<TElement> keySelector, boolean descending) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+
+        this.source = source;
+        this.keySelector = keySelector;
+        this.descending = descending;
+    }
+
+    @Override
+    protected AbstractEnumerableSorter<TElement> getEnumerableSorter(AbstractEnumerableSorter<TElement> next) {
+        return new IntEnumerableSorter<>(this.keySelector, this.descending, next);
+    }
+
+    @Override
+    protected AbstractCachingComparer<TElement> getComparer(AbstractCachingComparer<TElement> childComparer) {
+        Func1<TElement, Integer> keySelector = this.keySelector::apply;
+        return childComparer == null
+                ? new CachingComparer<>(keySelector, Integer::compare, this.descending)
+                : new CachingComparerWithChild<>(keySelector, Integer::compare, this.descending, childComparer);
+    }
+}
+
+
+final class LongOrderedEnumerable<TElement> extends AbstractOrderedEnumerable<TElement> {
+    private final LongFunc1<TElement> keySelector;
+    private final boolean descending;
+
+    LongOrderedEnumerable(IEnumerable<TElement> source, LongFunc1<TElement> keySelector, boolean descending) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+
+        this.source = source;
+        this.keySelector = keySelector;
+        this.descending = descending;
+    }
+
+    @Override
+    protected AbstractEnumerableSorter<TElement> getEnumerableSorter(AbstractEnumerableSorter<TElement> next) {
+        return new LongEnumerableSorter<>(this.keySelector, this.descending, next);
+    }
+
+    @Override
+    protected AbstractCachingComparer<TElement> getComparer(AbstractCachingComparer<TElement> childComparer) {
+        Func1<TElement, Long> keySelector = this.keySelector::apply;
+        return childComparer == null
+                ? new CachingComparer<>(keySelector, Long::compare, this.descending)
+                : new CachingComparerWithChild<>(keySelector, Long::compare, this.descending, childComparer);
+    }
+}
+
+
+final class DoubleOrderedEnumerable<TElement> extends AbstractOrderedEnumerable<TElement> {
+    private final DoubleFunc1<TElement> keySelector;
+    private final boolean descending;
+
+    DoubleOrderedEnumerable(IEnumerable<TElement> source, DoubleFunc1<TElement> keySelector, boolean descending) {
+        if (source == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.source);
+        if (keySelector == null)
+            ThrowHelper.throwArgumentNullException(ExceptionArgument.keySelector);
+
+        this.source = source;
+        this.keySelector = keySelector;
+        this.descending = descending;
+    }
+
+    @Override
+    protected AbstractEnumerableSorter<TElement> getEnumerableSorter(AbstractEnumerableSorter<TElement> next) {
+        return new DoubleEnumerableSorter<>(this.keySelector, this.descending, next);
+    }
+
+    @Override
+    protected AbstractCachingComparer<TElement> getComparer(AbstractCachingComparer<TElement> childComparer) {
+        Func1<TElement, Double> keySelector = this.keySelector::apply;
+        return childComparer == null
+                ? new CachingComparer<>(keySelector, Double::compare, this.descending)
+                : new CachingComparerWithChild<>(keySelector, Double::compare, this.descending, childComparer);
+    }
+}
+
+
 abstract class AbstractCachingComparer<TElement> {
     abstract int compare(TElement element, boolean cacheLower);
 
@@ -543,106 +689,282 @@ final class CachingComparerWithChild<TElement, TKey> extends CachingComparer<TEl
 
 @SuppressWarnings("SameParameterValue")
 abstract class AbstractEnumerableSorter<TElement> {
+    private static final int INTRO_SORT_SIZE_THRESHOLD = 16;
+    private static final int RADIX_SORT_THRESHOLD = 256;
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX = 1 << RADIX_BITS;
+    private static final int RADIX_MASK = RADIX - 1;
+    private static final int PARALLEL_SORT_MIN_CHUNK = 1 << 12;
+    protected final AbstractEnumerableSorter<TElement> next;
+
+    protected AbstractEnumerableSorter(AbstractEnumerableSorter<TElement> next) {
+        this.next = next;
+    }
+
     protected abstract void computeKeys(Object[] elements, int count);
 
     protected abstract int compareAnyKeys(int index1, int index2);
 
-    private Integer[] computeMap(Object[] elements, int count) {
+    protected abstract void allocateKeys(int capacity);
+
+    protected abstract void computeKeys(TElement element, int index);
+
+    // Compares the keys of all levels, returns 0 when they are all equal.
+    protected abstract int compareAllKeys(int index1, int index2);
+
+    // Returns the keys mapped to longs whose unsigned order is the sort order (direction included),
+    // or null when the keys can not be radix sorted.
+    protected abstract long[] radixKeys(int count);
+
+    private int[] computeMap(Object[] elements, int count) {
         this.computeKeys(elements, count);
-        Integer[] map = new Integer[count];
+        int[] map = new int[count];
         for (int i = 0; i < map.length; i++)
             map[i] = i;
         return map;
     }
 
-    protected Integer[] sort(Object[] elements, int count) {
-        Integer[] map = this.computeMap(elements, count);
-        this.quickSort(map, 0, count - 1);
+    protected int[] sort(Object[] elements, int count) {
+        int[] map = this.computeMap(elements, count);
+        if (count < RADIX_SORT_THRESHOLD || !this.radixSort(map, count))
+            this.quickSort(map, 0, count - 1);
         return map;
     }
 
-    protected Integer[] sort(Object[] elements, int count, int minIdx, int maxIdx) {
-        Integer[] map = this.computeMap(elements, count);
+    // Sorts the map with a stable LSD radix sort, starting from the last level. Returns false when any level can not be radix sorted.
+    // Time complexity: O(n) per key byte. Extra memory: O(n) per level.
+    private boolean radixSort(int[] map, int count) {
+        List<long[]> levels = new ArrayList<>();
+        for (AbstractEnumerableSorter<TElement> sorter = this; sorter != null; sorter = sorter.next) {
+            long[] keys = sorter.radixKeys(count);
+            if (keys == null)
+                return false;
+            levels.add(keys);
+        }
+
+        int[] src = map;
+        int[] dst = new int[count];
+        for (int level = levels.size() - 1; level >= 0; level--) {
+            long[] keys = levels.get(level);
+            int[][] counts = new int[Long.SIZE / RADIX_BITS][RADIX];
+            for (int i = 0; i < count; i++) {
+                long key = keys[i];
+                for (int digit = 0; digit < counts.length; digit++)
+                    counts[digit][(int) (key >>> (digit * RADIX_BITS)) & RADIX_MASK]++;
+            }
+
+            for (int digit = 0; digit < counts.length; digit++) {
+                int[] offsets = counts[digit];
+                int shift = digit * RADIX_BITS;
+                if (offsets[(int) (keys[0] >>> shift) & RADIX_MASK] == count)
+                    continue; // all keys share this byte
+
+                for (int i = 0, sum = 0; i < RADIX; i++) {
+                    int c = offsets[i];
+                    offsets[i] = sum;
+                    sum += c;
+                }
+                for (int i = 0; i < count; i++) {
+                    int index = src[i];
+                    dst[offsets[(int) (keys[index] >>> shift) & RADIX_MASK]++] = index;
+                }
+                int[] temp = src;
+                src = dst;
+                dst = temp;
+            }
+        }
+
+        if (src != map)
+            System.arraycopy(src, 0, map, 0, count);
+        return true;
+    }
+
+    // Computes the keys and sorts chunks of the map in parallel, then merges adjacent runs pairwise in parallel.
+    // The order is the same as sort: keys never compare equal (compareAnyKeys falls back to the index), so any correct sort gives the same map.
+    protected int[] parallelSort(Object[] elements, int count, ForkJoinPool pool, int parallelism) {
+        int chunkCount = Math.min(parallelism, count / PARALLEL_SORT_MIN_CHUNK);
+        if (chunkCount <= 1)
+            return this.sort(elements, count);
+
+        int[] bounds = ParallelHelpers.split(count, chunkCount);
+        int[] map = new int[count];
+        this.allocateKeys(count);
+        ParallelHelpers.invoke(pool, chunkCount, chunk -> {
+            int lo = bounds[chunk];
+            int hi = bounds[chunk + 1];
+            for (int i = lo; i < hi; i++) {
+                //noinspection unchecked
+                this.computeKeys((TElement) elements[i], i);
+                map[i] = i;
+            }
+            this.quickSort(map, lo, hi - 1);
+        });
+
+        int[] src = map;
+        int[] dst = new int[count];
+        for (int width = 1; width < chunkCount; width <<= 1) {
+            int step = width << 1;
+            int[] from = src;
+            int[] to = dst;
+            int mergeCount = (chunkCount + step - 1) / step;
+            int runWidth = width;
+            ParallelHelpers.invoke(pool, mergeCount, merge -> {
+                int first = merge * step;
+                int lo = bounds[first];
+                int mid = bounds[Math.min(first + runWidth, chunkCount)];
+                int hi = bounds[Math.min(first + step, chunkCount)];
+                this.merge(from, to, lo, mid, hi);
+            });
+            src = to;
+            dst = from;
+        }
+        return src;
+    }
+
+    // Stable merge of the sorted runs [lo, mid) and [mid, hi) of src into dst.
+    private void merge(int[] src, int[] dst, int lo, int mid, int hi) {
+        int i = lo;
+        int j = mid;
+        int k = lo;
+        while (i < mid && j < hi)
+            dst[k++] = this.compareAnyKeys(src[j], src[i]) < 0 ? src[j++] : src[i++];
+        while (i < mid)
+            dst[k++] = src[i++];
+        while (j < hi)
+            dst[k++] = src[j++];
+    }
+
+    protected int[] sort(Object[] elements, int count, int minIdx, int maxIdx) {
+        int[] map = this.computeMap(elements, count);
         this.partialQuickSort(map, 0, count - 1, minIdx, maxIdx);
         return map;
     }
 
     protected TElement elementAt(Object[] elements, int count, int idx) {
-        Integer[] map = this.computeMap(elements, count);
+        int[] map = this.computeMap(elements, count);
         //noinspection unchecked
         return (TElement) (idx == 0 ? elements[this.min(map, count)] : elements[this.quickSelect(map, count - 1, idx)]);
     }
 
-    protected abstract void quickSort(Integer[] map, int left, int right);
+    // Keeps the first k elements of the sorted source in a bounded heap without buffering the source.
+    // Time complexity: O(n log k). Extra memory: O(k).
+    protected Object[] topK(IEnumerable<TElement> source, int k) {
+        TopKHeap<TElement> heap = new TopKHeap<>(this, k);
+        Sink.forEach(source, heap);
+        return heap.toArray();
+    }
 
-    // Sorts the k elements between minIdx and maxIdx without sorting all elements
-    // Time complexity: O(n + k log k) best and average case. O(n^2) worse case.
-    protected abstract void partialQuickSort(Integer[] map, int left, int right, int minIdx, int maxIdx);
+    private int compareKeys(int index1, int index2) {
+        return index1 == index2 ? 0 : this.compareAnyKeys(index1, index2);
+    }
 
-    // Finds the element that would be at idx if the collection was sorted.
-    // Time complexity: O(n) best and average case. O(n^2) worse case.
-    protected abstract int quickSelect(Integer[] map, int right, int idx);
+    // Keys never compare equal (compareAnyKeys falls back to the index), so the unstable intro sort gives a stable result.
+    // Time complexity: O(n log n) worse case.
+    protected void quickSort(int[] map, int left, int right) {
+        if (left < right)
+            this.introSort(map, left, right, 2 * (32 - Integer.numberOfLeadingZeros(right - left + 1)));
+    }
 
-    protected abstract int min(Integer[] map, int count);
-}
+    private void introSort(int[] map, int lo, int hi, int depthLimit) {
+        while (hi > lo) {
+            int partitionSize = hi - lo + 1;
+            if (partitionSize <= INTRO_SORT_SIZE_THRESHOLD) {
+                this.insertionSort(map, lo, hi);
+                return;
+            }
 
+            if (depthLimit == 0) {
+                this.heapSort(map, lo, hi);
+                return;
+            }
+            depthLimit--;
 
-final class EnumerableSorter<TElement, TKey> extends AbstractEnumerableSorter<TElement> {
-    private final Func1<TElement, TKey> keySelector;
-    private final Comparator<TKey> comparer;
-    private final boolean descending;
-    private final AbstractEnumerableSorter<TElement> next;
-    private Object[] keys;
+            int p = this.pickPivotAndPartition(map, lo, hi);
+            this.introSort(map, p + 1, hi, depthLimit);
+            hi = p - 1;
+        }
+    }
 
-    EnumerableSorter(Func1<TElement, TKey> keySelector, Comparator<TKey> comparer, boolean descending, AbstractEnumerableSorter<TElement> next) {
-        this.keySelector = keySelector;
-        this.comparer = comparer;
-        this.descending = descending;
-        this.next = next;
+    private int pickPivotAndPartition(int[] map, int lo, int hi) {
+        int middle = lo + ((hi - lo) >> 1);
+        this.swapIfGreater(map, lo, middle);
+        this.swapIfGreater(map, lo, hi);
+        this.swapIfGreater(map, middle, hi);
+
+        int pivot = map[middle];
+        swap(map, middle, hi - 1);
+        int left = lo;
+        int right = hi - 1;
+        while (left < right) {
+            while (left < hi - 1 && this.compareAnyKeys(map[++left], pivot) < 0) {
+            }
+            while (right > lo && this.compareAnyKeys(pivot, map[--right]) < 0) {
+            }
+
+            if (left >= right)
+                break;
+
+            swap(map, left, right);
+        }
+
+        if (left != hi - 1)
+            swap(map, left, hi - 1);
+        return left;
     }
 
-    @Override
-    protected void computeKeys(Object[] elements, int count) {
-        this.keys = new Object[count];
-        for (int i = 0; i < count; i++)
-            //noinspection unchecked
-            this.keys[i] = this.keySelector.apply((TElement) elements[i]);
-        if (this.next == null)
-            return;
-        this.next.computeKeys(elements, count);
+    private void heapSort(int[] map, int lo, int hi) {
+        int n = hi - lo + 1;
+        for (int i = n >> 1; i >= 1; i--)
+            this.downHeap(map, i, n, lo);
+
+        for (int i = n; i > 1; i--) {
+            swap(map, lo, lo + i - 1);
+            this.downHeap(map, 1, i - 1, lo);
+        }
     }
 
-    @Override
-    protected int compareAnyKeys(int index1, int index2) {
-        assert this.keys != null;
+    private void downHeap(int[] map, int i, int n, int lo) {
+        int d = map[lo + i - 1];
+        while (i <= n >> 1) {
+            int child = 2 * i;
+            if (child < n && this.compareAnyKeys(map[lo + child - 1], map[lo + child]) < 0)
+                child++;
 
-        //noinspection unchecked
-        int c = this.comparer.compare((TKey) this.keys[index1], (TKey) this.keys[index2]);
-        if (c == 0) {
-            if (this.next == null)
-                return index1 - index2; // ensure stability of sort
-            return this.next.compareAnyKeys(index1, index2);
+            if (this.compareAnyKeys(d, map[lo + child - 1]) >= 0)
+                break;
+
+            map[lo + i - 1] = map[lo + child - 1];
+            i = child;
         }
+        map[lo + i - 1] = d;
+    }
 
-        // -c will result in a negative value for int.MinValue (-int.MinValue == int.MinValue).
-        // Flipping keys earlier is more likely to trigger something strange in a comparer,
-        // particularly as it comes to the sort being stable.
-        return this.descending != (c > 0) ? 1 : -1;
+    private void insertionSort(int[] map, int lo, int hi) {
+        for (int i = lo; i < hi; i++) {
+            int j = i;
+            int t = map[i + 1];
+            while (j >= lo && this.compareAnyKeys(t, map[j]) < 0) {
+                map[j + 1] = map[j];
+                j--;
+            }
+            map[j + 1] = t;
+        }
     }
 
-    private int compareKeys(int index1, int index2) {
-        return index1 == index2 ? 0 : this.compareAnyKeys(index1, index2);
+    private void swapIfGreater(int[] map, int i, int j) {
+        if (i != j && this.compareAnyKeys(map[i], map[j]) > 0)
+            swap(map, i, j);
     }
 
-    @Override
-    protected void quickSort(Integer[] keys, int lo, int hi) {
-        Arrays.sort(keys, lo, hi - lo + 1, Comparer.create(this::compareAnyKeys));
+    private static void swap(int[] map, int i, int j) {
+        int temp = map[i];
+        map[i] = map[j];
+        map[j] = temp;
     }
 
     // Sorts the k elements between minIdx and maxIdx without sorting all elements
     // Time complexity: O(n + k log k) best and average case. O(n^2) worse case.
-    @Override
-    protected void partialQuickSort(Integer[] map, int left, int right, int minIdx, int maxIdx) {
+    protected void partialQuickSort(int[] map, int left, int right, int minIdx, int maxIdx) {
         do {
             int i = left;
             int j = right;
@@ -688,8 +1010,7 @@ final class EnumerableSorter<TElement, TKey> extends AbstractEnumerableSorter<TE
 
     // Finds the element that would be at idx if the collection was sorted.
     // Time complexity: O(n) best and average case. O(n^2) worse case.
-    @Override
-    protected int quickSelect(Integer[] map, int right, int idx) {
+    protected int quickSelect(int[] map, int right, int idx) {
         int left = 0;
         do {
             int i = left;
@@ -736,8 +1057,7 @@ final class EnumerableSorter<TElement, TKey> extends AbstractEnumerableSorter<TE
         return map[idx];
     }
 
-    @Override
-    protected int min(Integer[] map, int count) {
+    protected int min(int[] map, int count) {
         int index = 0;
         for (int i = 1; i < count; i++) {
             if (this.compareKeys(map[i], map[index]) < 0)
@@ -746,3 +1066,440 @@ final class EnumerableSorter<TElement, TKey> extends AbstractEnumerableSorter<TE
         return map[index];
     }
 }
+
+
+final class EnumerableSorter<TElement, TKey> extends AbstractEnumerableSorter<TElement> {
+    private final Func1<TElement, TKey> keySelector;
+    private final Comparator<TKey> comparer;
+    private final boolean descending;
+    private Object[] keys;
+
+    EnumerableSorter(Func1<TElement, TKey> keySelector, Comparator<TKey> comparer, boolean descending, AbstractEnumerableSorter<TElement> next) {
+        super(next);
+        this.keySelector = keySelector;
+        this.comparer = comparer;
+        this.descending = descending;
+    }
+
+    @Override
+    protected void computeKeys(Object[] elements, int count) {
+        this.keys = new Object[count];
+        for (int i = 0; i < count; i++)
+            //noinspection unchecked
+            this.keys[i] = this.keySelector.apply((TElement) elements[i]);
+        if (this.next == null)
+            return;
+        this.next.computeKeys(elements, count);
+    }
+
+    @Override
+    protected int compareAnyKeys(int index1, int index2) {
+        assert this.keys != null;
+
+        //noinspection unchecked
+        int c = this.comparer.compare((TKey) this.keys[index1], (TKey) this.keys[index2]);
+        if (c == 0) {
+            if (this.next == null)
+                return index1 - index2; // ensure stability of sort
+            return this.next.compareAnyKeys(index1, index2);
+        }
+
+        // -c will result in a negative value for int.MinValue (-int.MinValue == int.MinValue).
+        // Flipping keys earlier is more likely to trigger something strange in a comparer,
+        // particularly as it comes to the sort being stable.
+        return this.descending != (c > 0) ? 1 : -1;
+    }
+
+    @Override
+    protected void allocateKeys(int capacity) {
+        this.keys = new Object[capacity];
+        if (this.next == null)
+            return;
+        this.next.allocateKeys(capacity);
+    }
+
+    @Override
+    protected void computeKeys(TElement element, int index) {
+        this.keys[index] = this.keySelector.apply(element);
+        if (this.next == null)
+            return;
+        this.next.computeKeys(element, index);
+    }
+
+    @Override
+    protected int compareAllKeys(int index1, int index2) {
+        //noinspection unchecked
+        int c = this.comparer.compare((TKey) this.keys[index1], (TKey) this.keys[index2]);
+        if (c == 0)
+            return this.next == null ? 0 : this.next.compareAllKeys(index1, index2);
+        return this.descending != (c > 0) ? 1 : -1;
+    }
+
+    // Only the natural order of primitive wrappers can be radix sorted, null keys and mixed key types fall back to the comparer.
+    @Override
+    protected long[] radixKeys(int count) {
+        if (count == 0 || (this.comparer != Comparer.Default() && this.comparer != Comparer.DefaultInvariant() && this.comparer != Comparator.naturalOrder()))
+            return null;
+        Object first = this.keys[0];
+        if (first == null)
+            return null;
+        Class<?> keyClass = first.getClass();
+        if (keyClass != Integer.class && keyClass != Long.class && keyClass != Double.class && keyClass != Float.class
+                && keyClass != Short.class && keyClass != Byte.class && keyClass != Character.class)
+            return null;
+
+        long[] radixKeys = new long[count];
+        for (int i = 0; i < count; i++) {
+            Object key = this.keys[i];
+            if (key == null || key.getClass() != keyClass)
+                return null;
+            long radixKey;
+            if (keyClass == Long.class)
+                radixKey = RadixKeys.ofLong((Long) key);
+            else if (keyClass == Double.class)
+                radixKey = RadixKeys.ofDouble((Double) key);
+            else if (keyClass == Float.class)
+                radixKey = RadixKeys.ofFloat((Float) key);
+            else if (keyClass == Character.class)
+                radixKey = (Character) key;
+            else
+                radixKey = RadixKeys.ofInt(((Number) key).intValue());
+            radixKeys[i] = this.descending ? ~radixKey : radixKey;
+        }
+        return radixKeys;
+    }
+}
+
+
+final class IntEnumerableSorter<TElement> extends AbstractEnumerableSorter<TElement> {
+    private final IntFunc1<TElement> keySelector;
+    private final boolean descending;
+    private int[] keys;
+
+    IntEnumerableSorter(IntFunc1<TElement> keySelector, boolean descending, AbstractEnumerableSorter<TElement> next) {
+        super(next);
+        this.keySelector = keySelector;
+        this.descending = descending;
+    }
+
+    @Override
+    protected void computeKeys(Object[] elements, int count) {
+        this.keys = new int[count];
+        for (int i = 0; i < count; i++)
+            //noinspection unchecked
+            this.keys[i] = this.keySelector.apply((TElement) elements[i]);
+        if (this.next == null)
+            return;
+        this.next.computeKeys(elements, count);
+    }
+
+    @Override
+    protected int compareAnyKeys(int index1, int index2) {
+        assert this.keys != null;
+
+        int c = Integer.compare(this.keys[index1], this.keys[index2]);
+        if (c == 0) {
+            if (this.next == null)
+                return index1 - index2; // ensure stability of sort
+            return this.next.compareAnyKeys(index1, index2);
+        }
+        return this.descending != (c > 0) ? 1 : -1;
+    }
+
+    @Override
+    protected void allocateKeys(int capacity) {
+        this.keys = new int[capacity];
+        if (this.next == null)
+            return;
+        this.next.allocateKeys(capacity);
+    }
+
+    @Override
+    protected void computeKeys(TElement element, int index) {
+        this.keys[index] = this.keySelector.apply(element);
+        if (this.next == null)
+            return;
+        this.next.computeKeys(element, index);
+    }
+
+    @Override
+    protected int compareAllKeys(int index1, int index2) {
+        int c = Integer.compare(this.keys[index1], this.keys[index2]);
+        if (c == 0)
+            return this.next == null ? 0 : this.next.compareAllKeys(index1, index2);
+        return this.descending != (c > 0) ? 1 : -1;
+    }
+
+    @Override
+    protected long[] radixKeys(int count) {
+        long[] radixKeys = new long[count];
+        for (int i = 0; i < count; i++) {
+            long radixKey = RadixKeys.ofInt(this.keys[i]);
+            radixKeys[i] = this.descending ? ~radixKey : radixKey;
+        }
+        return radixKeys;
+    }
+}
+
+
+final class LongEnumerableSorter<TElement> extends AbstractEnumerableSorter<TElement> {
+    private final LongFunc1<TElement> keySelector;
+    private final boolean descending;
+    private long[] keys;
+
+    LongEnumerableSorter(LongFunc1<TElement> keySelector, boolean descending, AbstractEnumerableSorter<TElement> next) {
+        super(next);
+        this.keySelector = keySelector;
+        this.descending = descending;
+    }
+
+    @Override
+    protected void computeKeys(Object[] elements, int count) {
+        this.keys = new long[count];
+        for (int i = 0; i < count; i++)
+            //noinspection unchecked
+            this.keys[i] = this.keySelector.apply((TElement) elements[i]);
+        if (this.next == null)
+            return;
+        this.next.computeKeys(elements, count);
+    }
+
+    @Override
+    protected int compareAnyKeys(int index1, int index2) {
+        assert this.keys != null;
+
+        int c = Long.compare(this.keys[index1], this.keys[index2]);
+        if (c == 0) {
+            if (this.next == null)
+                return index1 - index2; // ensure stability of sort
+            return this.next.compareAnyKeys(index1, index2);
+        }
+        return this.descending != (c > 0) ? 1 : -1;
+    }
+
+    @Override
+    protected void allocateKeys(int capacity) {
+        this.keys = new long[capacity];
+        if (this.next == null)
+            return;
+        this.next.allocateKeys(capacity);
+    }
+
+    @Override
+    protected void computeKeys(TElement element, int index) {
+        this.keys[index] = this.keySelector.apply(element);
+        if (this.next == null)
+            return;
+        this.next.computeKeys(element, index);
+    }
+
+    @Override
+    protected int compareAllKeys(int index1, int index2) {
+        int c = Long.compare(this.keys[index1], this.keys[index2]);
+        if (c == 0)
+            return this.next == null ? 0 : this.next.compareAllKeys(index1, index2);
+        return this.descending != (c > 0) ? 1 : -1;
+    }
+
+    @Override
+    protected long[] radixKeys(int count) {
+        long[] radixKeys = new long[count];
+        for (int i = 0; i < count; i++) {
+            long radixKey = RadixKeys.ofLong(this.keys[i]);
+            radixKeys[i] = this.descending ? ~radixKey : radixKey;
+        }
+        return radixKeys;
+    }
+}
+
+
+final class DoubleEnumerableSorter<TElement> extends AbstractEnumerableSorter<TElement> {
+    private final DoubleFunc1<TElement> keySelector;
+    private final boolean descending;
+    private double[] keys;
+
+    DoubleEnumerableSorter(DoubleFunc1<TElement> keySelector, boolean descending, AbstractEnumerableSorter<TElement> next) {
+        super(next);
+        this.keySelector = keySelector;
+        this.descending = descending;
+    }
+
+    @Override
+    protected void computeKeys(Object[] elements, int count) {
+        this.keys = new double[count];
+        for (int i = 0; i < count; i++)
+            //noinspection unchecked
+            this.keys[i] = this.keySelector.apply((TElement) elements[i]);
+        if (this.next == null)
+            return;
+        this.next.computeKeys(elements, count);
+    }
+
+    @Override
+    protected int compareAnyKeys(int index1, int index2) {
+        assert this.keys != null;
+
+        int c = Double.compare(this.keys[index1], this.keys[index2]);
+        if (c == 0) {
+            if (this.next == null)
+                return index1 - index2; // ensure stability of sort
+            return this.next.compareAnyKeys(index1, index2);
+        }
+        return this.descending != (c > 0) ? 1 : -1;
+    }
+
+    @Override
+    protected void allocateKeys(int capacity) {
+        this.keys = new double[capacity];
+        if (this.next == null)
+            return;
+        this.next.allocateKeys(capacity);
+    }
+
+    @Override
+    protected void computeKeys(TElement element, int index) {
+        this.keys[index] = this.keySelector.apply(element);
+        if (this.next == null)
+            return;
+        this.next.computeKeys(element, index);
+    }
+
+    @Override
+    protected int compareAllKeys(int index1, int index2) {
+        int c = Double.compare(this.keys[index1], this.keys[index2]);
+        if (c == 0)
+            return this.next == null ? 0 : this.next.compareAllKeys(index1, index2);
+        return this.descending != (c > 0) ? 1 : -1;
+    }
+
+    @Override
+    protected long[] radixKeys(int count) {
+        long[] radixKeys = new long[count];
+        for (int i = 0; i < count; i++) {
+            long radixKey = RadixKeys.ofDouble(this.keys[i]);
+            radixKeys[i] = this.descending ? ~radixKey : radixKey;
+        }
+        return radixKeys;
+    }
+}
+
+
+
+final class RadixKeys {
+    private RadixKeys() {
+    }
+
+    static long ofInt(int key) {
+        return (key ^ Integer.MIN_VALUE) & 0xFFFFFFFFL;
+    }
+
+    static long ofLong(long key) {
+        return key ^ Long.MIN_VALUE;
+    }
+
+    // Same order as Double.compare: -0.0 before 0.0, NaN after positive infinity.
+    static long ofDouble(double key) {
+        long bits = Double.doubleToLongBits(key);
+        return bits < 0 ? ~bits : bits ^ Long.MIN_VALUE;
+    }
+
+    // Same order as Float.compare.
+    static long ofFloat(float key) {
+        int bits = Float.floatToIntBits(key);
+        return (bits < 0 ? ~bits : bits ^ Integer.MIN_VALUE) & 0xFFFFFFFFL;
+    }
+}
+
+
+final class TopKHeap<TElement> implements ISink<TElement> {
+    private final AbstractEnumerableSorter<TElement> sorter;
+    private final int capacity;
+    private final Object[] elements;
+    private final int[] sequences;
+    private final int[] heap;
+    private int size;
+    private int spare;
+    private int sequence;
+
+    TopKHeap(AbstractEnumerableSorter<TElement> sorter, int capacity) {
+        // one spare slot holds the keys of the candidate until it is known to be kept
+        sorter.allocateKeys(capacity + 1);
+        this.sorter = sorter;
+        this.capacity = capacity;
+        this.elements = new Object[capacity + 1];
+        this.sequences = new int[capacity + 1];
+        this.heap = new int[capacity];
+        this.spare = capacity;
+    }
+
+    // Slots with equal keys are ordered by sequence, so the sort stays stable.
+    private int compare(int slot1, int slot2) {
+        int c = this.sorter.compareAllKeys(slot1, slot2);
+        return c != 0 ? c : Integer.compare(this.sequences[slot1], this.sequences[slot2]);
+    }
+
+    @Override
+    public boolean accept(TElement item) {
+        if (this.size < this.capacity) {
+            int slot = this.size;
+            this.elements[slot] = item;
+            this.sequences[slot] = this.sequence++;
+            this.sorter.computeKeys(item, slot);
+            this.heap[slot] = slot;
+            this.siftUp(this.size++);
+            return true;
+        }
+
+        int slot = this.spare;
+        this.sequences[slot] = this.sequence++;
+        this.sorter.computeKeys(item, slot);
+        if (this.compare(slot, this.heap[0]) < 0) {
+            this.elements[slot] = item;
+            this.spare = this.heap[0];
+            this.elements[this.spare] = null;
+            this.heap[0] = slot;
+            this.siftDown(0, this.size);
+        }
+        return true;
+    }
+
+    // The root is the greatest element kept so far.
+    private void siftUp(int index) {
+        int slot = this.heap[index];
+        while (index > 0) {
+            int parent = (index - 1) >> 1;
+            if (this.compare(slot, this.heap[parent]) <= 0)
+                break;
+            this.heap[index] = this.heap[parent];
+            index = parent;
+        }
+        this.heap[index] = slot;
+    }
+
+    private void siftDown(int index, int size) {
+        int slot = this.heap[index];
+        int half = size >> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            int right = child + 1;
+            if (right < size && this.compare(this.heap[right], this.heap[child]) > 0)
+                child = right;
+            if (this.compare(slot, this.heap[child]) >= 0)
+                break;
+            this.heap[index] = this.heap[child];
+            index = child;
+        }
+        this.heap[index] = slot;
+    }
+
+    Object[] toArray() {
+        Object[] array = new Object[this.size];
+        for (int end = this.size - 1; end >= 0; end--) {
+            int slot = this.heap[0];
+            array[end] = this.elements[slot];
+            this.heap[0] = this.heap[end];
+            this.siftDown(0, end);
+        }
+        return array;
+    }
+}
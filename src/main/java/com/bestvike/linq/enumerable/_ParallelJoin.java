@@ -0,0 +1,229 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.collections.generic.Array;
+import com.bestvike.collections.generic.IEqualityComparer;
+import com.bestvike.function.Func1;
+import com.bestvike.function.Func2;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.util.ArrayUtils;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+@SuppressWarnings("unchecked")
+final class ParallelJoin {
+    private ParallelJoin() {
+    }
+
+    // Hash joins probe against build on the pool. The build side is grouped by Lookup.createParallel, which hash partitions
+    // the keys so every worker fills its own table, then contiguous ranges of the probe side are matched concurrently against
+    // the finished table. Ranges are concatenated in source order, so when ordered the result is the same as the sequential join.
+    // Unmatched probe items are kept with defaultBuild when probeOuter, unmatched build items are appended with defaultProbe when buildOuter.
+    static <TProbe, TBuild, TKey, TResult> Object[] join(Object[] probe, Func1<TProbe, TKey> probeKeySelector, Object[] build, Func1<TBuild, TKey> buildKeySelector,
+                                                         boolean probeOuter, TBuild defaultBuild, boolean buildOuter, TProbe defaultProbe, Func2<TProbe, TBuild, TResult> resultSelector,
+                                                         IEqualityComparer<TKey> comparer, boolean ordered, ForkJoinPool pool, int parallelism) {
+        if (probe.length == 0 && !buildOuter)
+            return ArrayUtils.empty();
+
+        Lookup<TKey, TBuild> lookup = Lookup.createParallel(build, buildKeySelector, null, comparer, ordered, pool, parallelism);
+        lookup.buildFilter();
+        int partitionCount = Math.max(1, Math.min(parallelism, probe.length / Lookup.PARALLEL_MIN_CHUNK));
+        int[] bounds = ParallelHelpers.split(probe.length, partitionCount);
+        Object[][] results = new Object[buildOuter ? partitionCount + 1 : partitionCount][];
+        ParallelHelpers.invoke(pool, partitionCount, chunk -> {
+            LargeArrayBuilder<TResult> builder = new LargeArrayBuilder<>();
+            for (int i = bounds[chunk]; i < bounds[chunk + 1]; i++) {
+                TProbe item = (TProbe) probe[i];
+                // Several workers may mark the same grouping, they all write true and the pool join publishes it.
+                Grouping<TKey, TBuild> g = lookup.fetchGrouping(probeKeySelector.apply(item));
+                if (g == null) {
+                    if (probeOuter)
+                        builder.add(resultSelector.apply(item, defaultBuild));
+                    continue;
+                }
+                for (int j = 0; j < g.count; j++)
+                    builder.add(resultSelector.apply(item, (TBuild) g.elements[g.start + j]));
+            }
+            results[chunk] = builder.toArray();
+        });
+
+        if (buildOuter) {
+            LargeArrayBuilder<TResult> builder = new LargeArrayBuilder<>();
+            try (IEnumerator<Grouping<TKey, TBuild>> e = lookup.unfetchedEnumerator()) {
+                while (e.moveNext()) {
+                    Grouping<TKey, TBuild> g = e.current();
+                    for (int j = 0; j < g.count; j++)
+                        builder.add(resultSelector.apply(defaultProbe, (TBuild) g.elements[g.start + j]));
+                }
+            }
+            results[partitionCount] = builder.toArray();
+        }
+        return concat(results);
+    }
+
+    // Every outer item yields exactly one result, so the workers write straight into their own range of the result.
+    static <TOuter, TInner, TKey, TResult> Object[] groupJoin(Object[] outer, Func1<TOuter, TKey> outerKeySelector, Object[] inner, Func1<TInner, TKey> innerKeySelector,
+                                                              Func2<TOuter, IEnumerable<TInner>, TResult> resultSelector,
+                                                              IEqualityComparer<TKey> comparer, boolean ordered, ForkJoinPool pool, int parallelism) {
+        if (outer.length == 0)
+            return ArrayUtils.empty();
+
+        Lookup<TKey, TInner> lookup = Lookup.createParallel(inner, innerKeySelector, null, comparer, ordered, pool, parallelism);
+        lookup.buildFilter();
+        int partitionCount = Math.max(1, Math.min(parallelism, outer.length / Lookup.PARALLEL_MIN_CHUNK));
+        int[] bounds = ParallelHelpers.split(outer.length, partitionCount);
+        Object[] results = new Object[outer.length];
+        ParallelHelpers.invoke(pool, partitionCount, chunk -> {
+            for (int i = bounds[chunk]; i < bounds[chunk + 1]; i++) {
+                TOuter item = (TOuter) outer[i];
+                results[i] = resultSelector.apply(item, lookup.fetch(outerKeySelector.apply(item)));
+            }
+        });
+        return results;
+    }
+
+    private static Object[] concat(Object[][] arrays) {
+        if (arrays.length == 1)
+            return arrays[0];
+
+        int count = 0;
+        for (Object[] array : arrays)
+            count = Math.addExact(count, array.length);
+        if (count == 0)
+            return ArrayUtils.empty();
+
+        Object[] result = new Object[count];
+        int index = 0;
+        for (Object[] array : arrays) {
+            System.arraycopy(array, 0, result, index, array.length);
+            index += array.length;
+        }
+        return result;
+    }
+}
+
+
+// The outer side is a parallel query, right joins probe with the inner side so unmatched inner items keep inner order.
+@SuppressWarnings("unchecked")
+final class ParallelJoinEnumerable<TOuter, TInner, TKey, TResult> implements IIListProvider<TResult> {
+    private final ParallelEnumerable<?, TOuter> outer;
+    private final IEnumerable<TInner> inner;
+    private final Func1<TOuter, TKey> outerKeySelector;
+    private final Func1<TInner, TKey> innerKeySelector;
+    private final boolean leftOuter;
+    private final TInner defaultInner;
+    private final boolean rightOuter;
+    private final TOuter defaultOuter;
+    private final Func2<TOuter, TInner, TResult> resultSelector;
+    private final IEqualityComparer<TKey> comparer;
+
+    ParallelJoinEnumerable(ParallelEnumerable<?, TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector,
+                           boolean leftOuter, TInner defaultInner, boolean rightOuter, TOuter defaultOuter, Func2<TOuter, TInner, TResult> resultSelector, IEqualityComparer<TKey> comparer) {
+        this.outer = outer;
+        this.inner = inner;
+        this.outerKeySelector = outerKeySelector;
+        this.innerKeySelector = innerKeySelector;
+        this.leftOuter = leftOuter;
+        this.defaultInner = defaultInner;
+        this.rightOuter = rightOuter;
+        this.defaultOuter = defaultOuter;
+        this.resultSelector = resultSelector;
+        this.comparer = comparer;
+    }
+
+    private Object[] evaluate() {
+        Object[] outerItems = this.outer._toArray();
+        Object[] innerItems = EnumerableHelpers.toArray(this.inner);
+        ForkJoinPool pool = this.outer.getPool();
+        int parallelism = this.outer.getDegreeOfParallelism();
+        if (this.rightOuter && !this.leftOuter) {
+            return ParallelJoin.join(innerItems, this.innerKeySelector, outerItems, this.outerKeySelector,
+                    true, this.defaultOuter, false, null, (TInner x, TOuter y) -> this.resultSelector.apply(y, x),
+                    this.comparer, this.outer.isOrdered(), pool, parallelism);
+        }
+        return ParallelJoin.join(outerItems, this.outerKeySelector, innerItems, this.innerKeySelector,
+                this.leftOuter, this.defaultInner, this.rightOuter, this.defaultOuter, this.resultSelector,
+                this.comparer, this.outer.isOrdered(), pool, parallelism);
+    }
+
+    @Override
+    public IEnumerator<TResult> enumerator() {
+        return new Array<TResult>(this.evaluate()).enumerator();
+    }
+
+    @Override
+    public TResult[] _toArray(Class<TResult> clazz) {
+        Object[] array = this.evaluate();
+        return array.length == 0 ? ArrayUtils.empty(clazz) : ArrayUtils.toArray(array, clazz);
+    }
+
+    @Override
+    public Object[] _toArray() {
+        return this.evaluate();
+    }
+
+    @Override
+    public List<TResult> _toList() {
+        return ArrayUtils.toList(this.evaluate());
+    }
+
+    @Override
+    public int _getCount(boolean onlyIfCheap) {
+        return onlyIfCheap ? -1 : this.evaluate().length;
+    }
+}
+
+
+final class ParallelGroupJoinEnumerable<TOuter, TInner, TKey, TResult> implements IIListProvider<TResult> {
+    private final ParallelEnumerable<?, TOuter> outer;
+    private final IEnumerable<TInner> inner;
+    private final Func1<TOuter, TKey> outerKeySelector;
+    private final Func1<TInner, TKey> innerKeySelector;
+    private final Func2<TOuter, IEnumerable<TInner>, TResult> resultSelector;
+    private final IEqualityComparer<TKey> comparer;
+
+    ParallelGroupJoinEnumerable(ParallelEnumerable<?, TOuter> outer, IEnumerable<TInner> inner, Func1<TOuter, TKey> outerKeySelector, Func1<TInner, TKey> innerKeySelector,
+                                Func2<TOuter, IEnumerable<TInner>, TResult> resultSelector, IEqualityComparer<TKey> comparer) {
+        this.outer = outer;
+        this.inner = inner;
+        this.outerKeySelector = outerKeySelector;
+        this.innerKeySelector = innerKeySelector;
+        this.resultSelector = resultSelector;
+        this.comparer = comparer;
+    }
+
+    private Object[] evaluate() {
+        return ParallelJoin.groupJoin(this.outer._toArray(), this.outerKeySelector, EnumerableHelpers.toArray(this.inner), this.innerKeySelector,
+                this.resultSelector, this.comparer, this.outer.isOrdered(), this.outer.getPool(), this.outer.getDegreeOfParallelism());
+    }
+
+    @Override
+    public IEnumerator<TResult> enumerator() {
+        return new Array<TResult>(this.evaluate()).enumerator();
+    }
+
+    @Override
+    public TResult[] _toArray(Class<TResult> clazz) {
+        Object[] array = this.evaluate();
+        return array.length == 0 ? ArrayUtils.empty(clazz) : ArrayUtils.toArray(array, clazz);
+    }
+
+    @Override
+    public Object[] _toArray() {
+        return this.evaluate();
+    }
+
+    @Override
+    public List<TResult> _toList() {
+        return ArrayUtils.toList(this.evaluate());
+    }
+
+    @Override
+    public int _getCount(boolean onlyIfCheap) {
+        return onlyIfCheap ? -1 : this.evaluate().length;
+    }
+}
@@ -9,35 +9,27 @@ import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.debug.DebuggerDisplay;
 import com.bestvike.linq.util.ArrayUtils;
 import com.bestvike.linq.util.ListUtils;
-import com.bestvike.out;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Spliterator;
 
 /**
  * Created by 许崇雷 on 2018-05-07.
  */
-interface IIListProvider<TElement> extends IEnumerable<TElement> {
-    TElement[] _toArray(Class<TElement> clazz);
-
-    Object[] _toArray();
-
-    List<TElement> _toList();
-
-    int _getCount(boolean onlyIfCheap);
-}
-
-
 interface IPartition<TElement> extends IIListProvider<TElement> {
+    // What the _tryGet methods return when there is no such element, which spares an out parameter per call.
+    Object NOT_FOUND = new Object();
+
     IPartition<TElement> _skip(int count);
 
     IPartition<TElement> _take(int count);
 
-    TElement _tryGetElementAt(int index, out<Boolean> found);
+    Object _tryGetElementAt(int index);
 
-    TElement _tryGetFirst(out<Boolean> found);
+    Object _tryGetFirst();
 
-    TElement _tryGetLast(out<Boolean> found);
+    Object _tryGetLast();
 }
 
 
@@ -85,21 +77,18 @@ final class EmptyPartition<TElement> extends Iterator<TElement> implements IPart
     }
 
     @Override
-    public TElement _tryGetElementAt(int index, out<Boolean> found) {
-        found.value = false;
-        return null;
+    public Object _tryGetElementAt(int index) {
+        return NOT_FOUND;
     }
 
     @Override
-    public TElement _tryGetFirst(out<Boolean> found) {
-        found.value = false;
-        return null;
+    public Object _tryGetFirst() {
+        return NOT_FOUND;
     }
 
     @Override
-    public TElement _tryGetLast(out<Boolean> found) {
-        found.value = false;
-        return null;
+    public Object _tryGetLast() {
+        return NOT_FOUND;
     }
 
     @Override
@@ -155,22 +144,21 @@ final class OrderedPartition<TElement> implements IPartition<TElement> {
     }
 
     @Override
-    public TElement _tryGetElementAt(int index, out<Boolean> found) {
+    public Object _tryGetElementAt(int index) {
         if (Integer.compareUnsigned(index, this.maxIndexInclusive - this.minIndexInclusive) <= 0)
-            return this.source._tryGetElementAt(index + this.minIndexInclusive, found);
+            return this.source._tryGetElementAt(index + this.minIndexInclusive);
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     @Override
-    public TElement _tryGetFirst(out<Boolean> found) {
-        return this.source._tryGetElementAt(this.minIndexInclusive, found);
+    public Object _tryGetFirst() {
+        return this.source._tryGetElementAt(this.minIndexInclusive);
     }
 
     @Override
-    public TElement _tryGetLast(out<Boolean> found) {
-        return this.source._tryGetLast(this.minIndexInclusive, this.maxIndexInclusive, found);
+    public Object _tryGetLast() {
+        return this.source._tryGetLast(this.minIndexInclusive, this.maxIndexInclusive);
     }
 
     @Override
@@ -196,7 +184,7 @@ final class OrderedPartition<TElement> implements IPartition<TElement> {
 
 
 @DebuggerDisplay("Count = {_getCount()}")
-final class ListPartition<TSource> extends Iterator<TSource> implements IPartition<TSource> {
+final class ListPartition<TSource> extends Iterator<TSource> implements IPartition<TSource>, ISinkProvider<TSource>, ISpliteratorProvider<TSource> {
     private final IArrayList<TSource> source;
     private final int minIndexInclusive;
     private final int maxIndexInclusive;
@@ -233,6 +221,28 @@ final class ListPartition<TSource> extends Iterator<TSource> implements IPartiti
         return false;
     }
 
+    @Override
+    public int moveNextBatch(Object[] buffer, int offset, int count) {
+        if (this.state < 1) {
+            this.close();
+            return 0;
+        }
+
+        int index = this.state - 1;
+        long remaining = Math.min((long) this.maxIndexInclusive - this.minIndexInclusive + 1, (long) this.source._getCount() - this.minIndexInclusive) - index;
+        int copied = (int) Math.min(count, remaining);
+        if (copied > 0) {
+            int start = this.minIndexInclusive + index;
+            for (int i = 0; i < copied; i++)
+                buffer[offset + i] = this.source.get(start + i);
+            this.state += copied;
+            return copied;
+        }
+
+        this.close();
+        return 0;
+    }
+
     @Override
     public <TResult> IEnumerable<TResult> _select(Func1<TSource, TResult> selector) {
         return new SelectListPartitionIterator<>(this.source, selector, this.minIndexInclusive, this.maxIndexInclusive);
@@ -251,37 +261,28 @@ final class ListPartition<TSource> extends Iterator<TSource> implements IPartiti
     }
 
     @Override
-    public TSource _tryGetElementAt(int index, out<Boolean> found) {
-        if (Integer.compareUnsigned(index, this.maxIndexInclusive - this.minIndexInclusive) <= 0 && index < this.source._getCount() - this.minIndexInclusive) {
-            found.value = true;
+    public Object _tryGetElementAt(int index) {
+        if (Integer.compareUnsigned(index, this.maxIndexInclusive - this.minIndexInclusive) <= 0 && index < this.source._getCount() - this.minIndexInclusive)
             return this.source.get(this.minIndexInclusive + index);
-        }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     @Override
-    public TSource _tryGetFirst(out<Boolean> found) {
-        if (this.source._getCount() > this.minIndexInclusive) {
-            found.value = true;
+    public Object _tryGetFirst() {
+        if (this.source._getCount() > this.minIndexInclusive)
             return this.source.get(this.minIndexInclusive);
-        }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     @Override
-    public TSource _tryGetLast(out<Boolean> found) {
+    public Object _tryGetLast() {
         int lastIndex = this.source._getCount() - 1;
-        if (lastIndex >= this.minIndexInclusive) {
-            found.value = true;
+        if (lastIndex >= this.minIndexInclusive)
             return this.source.get(Math.min(lastIndex, this.maxIndexInclusive));
-        }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     private int _getCount() {
@@ -333,6 +334,20 @@ final class ListPartition<TSource> extends Iterator<TSource> implements IPartiti
     public int _getCount(boolean onlyIfCheap) {
         return this._getCount();
     }
+
+    @Override
+    public Spliterator<TSource> _spliterator() {
+        return new ListSpliterator<>(this.source, this.minIndexInclusive, this.maxIndexInclusive);
+    }
+
+    @Override
+    public void _forEach(ISink<TSource> sink) {
+        int end = this.minIndexInclusive + this._getCount();
+        for (int i = this.minIndexInclusive; i != end; ++i) {
+            if (!sink.accept(this.source.get(i)))
+                return;
+        }
+    }
 }
 
 
@@ -462,39 +477,30 @@ final class IListPartition<TSource> extends Iterator<TSource> implements IPartit
 
     //see ListPartition
     @Override
-    public TSource _tryGetElementAt(int index, out<Boolean> found) {
-        if (Integer.compareUnsigned(index, this.maxIndexInclusive - this.minIndexInclusive) <= 0 && index < this.source._getCount() - this.minIndexInclusive) {
-            found.value = true;
+    public Object _tryGetElementAt(int index) {
+        if (Integer.compareUnsigned(index, this.maxIndexInclusive - this.minIndexInclusive) <= 0 && index < this.source._getCount() - this.minIndexInclusive)
             return this.source.get(this.minIndexInclusive + index);
-        }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     //see ListPartition
     @Override
-    public TSource _tryGetFirst(out<Boolean> found) {
-        if (this.source._getCount() > this.minIndexInclusive) {
-            found.value = true;
+    public Object _tryGetFirst() {
+        if (this.source._getCount() > this.minIndexInclusive)
             return this.source.get(this.minIndexInclusive);
-        }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     //see ListPartition
     @Override
-    public TSource _tryGetLast(out<Boolean> found) {
+    public Object _tryGetLast() {
         int lastIndex = this.source._getCount() - 1;
-        if (lastIndex >= this.minIndexInclusive) {
-            found.value = true;
+        if (lastIndex >= this.minIndexInclusive)
             return this.source.get(Math.min(lastIndex, this.maxIndexInclusive));
-        }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     //see ListPartition
@@ -578,7 +584,7 @@ final class IListPartition<TSource> extends Iterator<TSource> implements IPartit
 }
 
 
-final class EnumerablePartition<TSource> extends Iterator<TSource> implements IPartition<TSource> {
+final class EnumerablePartition<TSource> extends Iterator<TSource> implements IPartition<TSource>, ISinkProvider<TSource> {
     private final IEnumerable<TSource> source;
     private final int minIndexInclusive;// -1 if we want everything past _minIndexInclusive.
     private final int maxIndexInclusive;// If this is -1, it's impossible to set a limit on the count.
@@ -707,6 +713,42 @@ final class EnumerablePartition<TSource> extends Iterator<TSource> implements IP
         return false;
     }
 
+    @Override
+    public int moveNextBatch(Object[] buffer, int offset, int count) {
+        int taken = this.state - 3;
+        if (taken < -2) {
+            this.close();
+            return 0;
+        }
+
+        switch (this.state) {
+            case 1:
+                this.enumerator = this.source.enumerator();
+                this.state = 2;
+            case 2:
+                if (!this.skipBeforeFirst(this.enumerator))
+                    break;
+                this.state = 3;
+                taken = 0;
+            default:
+                // Never asks the source for more than the limit, the elements past it must not be evaluated.
+                if (this.hasLimit())
+                    count = Math.min(count, this.getLimit() - taken);
+                if (count > 0) {
+                    int copied = this.enumerator.moveNextBatch(buffer, offset, count);
+                    if (copied > 0) {
+                        if (this.hasLimit())
+                            this.state += copied;
+                        return copied;
+                    }
+                }
+                break;
+        }
+
+        this.close();
+        return 0;
+    }
+
     @Override
     public <TResult> IEnumerable<TResult> _select(Func1<TSource, TResult> selector) {
         return new SelectIPartitionIterator<>(this, selector);
@@ -759,38 +801,32 @@ final class EnumerablePartition<TSource> extends Iterator<TSource> implements IP
     }
 
     @Override
-    public TSource _tryGetElementAt(int index, out<Boolean> found) {
+    public Object _tryGetElementAt(int index) {
         // If the index is negative or >= our max count, return early.
         if (index >= 0 && (!this.hasLimit() || index < this.getLimit())) {
             try (IEnumerator<TSource> en = this.source.enumerator()) {
                 assert this.minIndexInclusive + index >= 0 : String.format("Adding %s caused %s to overflow.", "index", "minIndexInclusive");
 
-                if (skipBefore(this.minIndexInclusive + index, en) && en.moveNext()) {
-                    found.value = true;
+                if (skipBefore(this.minIndexInclusive + index, en) && en.moveNext())
                     return en.current();
-                }
             }
         }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     @Override
-    public TSource _tryGetFirst(out<Boolean> found) {
+    public Object _tryGetFirst() {
         try (IEnumerator<TSource> en = this.source.enumerator()) {
-            if (this.skipBeforeFirst(en) && en.moveNext()) {
-                found.value = true;
+            if (this.skipBeforeFirst(en) && en.moveNext())
                 return en.current();
-            }
         }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     @Override
-    public TSource _tryGetLast(out<Boolean> found) {
+    public Object _tryGetLast() {
         try (IEnumerator<TSource> en = this.source.enumerator()) {
             if (this.skipBeforeFirst(en) && en.moveNext()) {
                 int remaining = this.getLimit() - 1; // Max number of items left, not counting the current element.
@@ -802,77 +838,72 @@ final class EnumerablePartition<TSource> extends Iterator<TSource> implements IP
                     result = en.current();
                 } while (remaining >= comparand && en.moveNext());
 
-                found.value = true;
                 return result;
             }
         }
 
-        found.value = false;
-        return null;
+        return NOT_FOUND;
     }
 
     @Override
     public TSource[] _toArray(Class<TSource> clazz) {
-        try (IEnumerator<TSource> en = this.source.enumerator()) {
-            if (this.skipBeforeFirst(en) && en.moveNext()) {
-                int remaining = this.getLimit() - 1; // Max number of items left, not counting the current element.
-                int comparand = this.hasLimit() ? 0 : Integer.MIN_VALUE; // If we don't have an upper bound, have the comparison always return true.
-
-                int maxCapacity = this.hasLimit() ? this.getLimit() : Integer.MAX_VALUE;
-                LargeArrayBuilder<TSource> builder = new LargeArrayBuilder<>(maxCapacity);
-
-                do {
-                    remaining--;
-                    builder.add(en.current());
-                } while (remaining >= comparand && en.moveNext());
-
-                return builder.toArray(clazz);
-            }
-        }
-
-        return ArrayUtils.empty(clazz);
+        LargeArrayBuilder<TSource> builder = new LargeArrayBuilder<>(this.hasLimit() ? this.getLimit() : Integer.MAX_VALUE);
+        this._forEach(item -> {
+            builder.add(item);
+            return true;
+        });
+        return builder.toArray(clazz);
     }
 
     @Override
     public Object[] _toArray() {
-        try (IEnumerator<TSource> en = this.source.enumerator()) {
-            if (this.skipBeforeFirst(en) && en.moveNext()) {
-                int remaining = this.getLimit() - 1; // Max number of items left, not counting the current element.
-                int comparand = this.hasLimit() ? 0 : Integer.MIN_VALUE; // If we don't have an upper bound, have the comparison always return true.
-
-                int maxCapacity = this.hasLimit() ? this.getLimit() : Integer.MAX_VALUE;
-                LargeArrayBuilder<TSource> builder = new LargeArrayBuilder<>(maxCapacity);
-
-                do {
-                    remaining--;
-                    builder.add(en.current());
-                } while (remaining >= comparand && en.moveNext());
-
-                return builder.toArray();
-            }
-        }
-
-        return ArrayUtils.empty();
+        LargeArrayBuilder<TSource> builder = new LargeArrayBuilder<>(this.hasLimit() ? this.getLimit() : Integer.MAX_VALUE);
+        this._forEach(item -> {
+            builder.add(item);
+            return true;
+        });
+        return builder.toArray();
     }
 
     @Override
     public List<TSource> _toList() {
-        List<TSource> list = new ArrayList<>();
-        try (IEnumerator<TSource> en = this.source.enumerator()) {
-            if (this.skipBeforeFirst(en) && en.moveNext()) {
-                int remaining = this.getLimit() - 1; // Max number of items left, not counting the current element.
-                int comparand = this.hasLimit() ? 0 : Integer.MIN_VALUE; // If we don't have an upper bound, have the comparison always return true.
+        return Sink.toList(this);
+    }
 
-                do {
-                    remaining--;
-                    list.add(en.current());
-                } while (remaining >= comparand && en.moveNext());
-            }
-        }
-        return list;
+    @Override
+    public void _forEach(ISink<TSource> sink) {
+        Sink.forEach(this.source, new PartitionSink<>(sink, this.minIndexInclusive, this.hasLimit() ? this.getLimit() : -1));
     }
 
     private boolean skipBeforeFirst(IEnumerator<TSource> en) {
         return skipBefore(this.minIndexInclusive, en);
     }
 }
+
+
+final class PartitionSink<TSource> implements ISink<TSource> {
+    private final ISink<TSource> sink;
+    private int skip;
+    private int remaining;// -1 if there is no upper bound.
+
+    PartitionSink(ISink<TSource> sink, int skip, int limit) {
+        assert sink != null;
+        assert skip >= 0;
+        assert limit == -1 || limit > 0;
+        this.sink = sink;
+        this.skip = skip;
+        this.remaining = limit;
+    }
+
+    @Override
+    public boolean accept(TSource item) {
+        if (this.skip > 0) {
+            this.skip--;
+            return true;
+        }
+        if (this.remaining == -1)
+            return this.sink.accept(item);
+        // Stop as soon as the last element is taken, so the source isn't advanced past it.
+        return this.sink.accept(item) && --this.remaining > 0;
+    }
+}
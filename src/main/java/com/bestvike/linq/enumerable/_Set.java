@@ -4,8 +4,8 @@ import com.bestvike.collections.generic.EqualityComparer;
 import com.bestvike.collections.generic.IEqualityComparer;
 import com.bestvike.function.Func1;
 import com.bestvike.linq.IEnumerable;
-import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.util.ArrayUtils;
+import com.bestvike.out;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -14,57 +14,78 @@ import java.util.List;
  * Created by 许崇雷 on 2018-05-07.
  */
 final class Set<TElement> {
+    private static final int DEFAULT_CAPACITY = 8;
+    private static final int MAX_CAPACITY = 1 << 30;
     private final IEqualityComparer<TElement> comparer;
+    // Entries are kept in parallel arrays in insertion order. buckets holds 1-based entry indexes,
+    // nexts chains the entries of the same bucket (-1 ends the chain).
     private int[] buckets;
-    private Slot[] slots;
+    private int[] hashCodes;
+    private int[] nexts;
+    private Object[] values;
     private int count;
+    // Rejects most missing values before the buckets are walked, null until buildFilter finds enough items.
+    private BloomFilter filter;
 
     // Constructs a set that compares items with the specified comparer.
     Set(IEqualityComparer<TElement> comparer) {
+        this(comparer, DEFAULT_CAPACITY);
+    }
+
+    // Constructs a set that compares items with the specified comparer and holds capacity items without resizing.
+    Set(IEqualityComparer<TElement> comparer, int capacity) {
+        assert capacity >= 0;
+
         this.comparer = comparer == null ? EqualityComparer.Default() : comparer;
-        this.buckets = new int[7];
-        //noinspection unchecked
-        this.slots = new Set.Slot[7];
-        for (int i = 0; i < 7; i++)
-            this.slots[i] = new Slot();
+        int size = tableSizeFor(capacity);
+        this.buckets = new int[size];
+        this.hashCodes = new int[size];
+        this.nexts = new int[size];
+        this.values = new Object[size];
     }
 
     // If value is not in set, add it and return true; otherwise return false
     public boolean add(TElement value) {
         int hashCode = this.internalGetHashCode(value);
-        for (int i = this.buckets[hashCode % this.buckets.length] - 1; i >= 0; i = this.slots[i].next) {
-            if (this.slots[i].hashCode == hashCode && this.comparer.equals(this.slots[i].value, value))
+        for (int i = this.buckets[hashCode & (this.buckets.length - 1)] - 1; i >= 0; i = this.nexts[i]) {
+            //noinspection unchecked
+            if (this.hashCodes[i] == hashCode && this.comparer.equals((TElement) this.values[i], value))
                 return false;
         }
 
-        if (this.count == this.slots.length)
-            this.resize();
+        if (this.count == this.values.length)
+            this.resize(Math.multiplyExact(this.values.length, 2));
 
         int index = this.count;
         this.count++;
-        int bucket = hashCode % this.buckets.length;
-        this.slots[index].hashCode = hashCode;
-        this.slots[index].value = value;
-        this.slots[index].next = this.buckets[bucket] - 1;
+        int bucket = hashCode & (this.buckets.length - 1);
+        this.hashCodes[index] = hashCode;
+        this.values[index] = value;
+        this.nexts[index] = this.buckets[bucket] - 1;
         this.buckets[bucket] = index + 1;
+        if (this.filter != null)
+            this.filter.add(hashCode);
         return true;
     }
 
     // Attempts to remove an item from this set.
     public boolean remove(TElement value) {
         int hashCode = this.internalGetHashCode(value);
-        int bucket = hashCode % this.buckets.length;
+        if (this.filter != null && !this.filter.mightContain(hashCode))
+            return false;
+        int bucket = hashCode & (this.buckets.length - 1);
         int last = -1;
-        for (int i = this.buckets[bucket] - 1; i >= 0; last = i, i = this.slots[i].next) {
-            if (this.slots[i].hashCode == hashCode && this.comparer.equals(this.slots[i].value, value)) {
+        for (int i = this.buckets[bucket] - 1; i >= 0; last = i, i = this.nexts[i]) {
+            //noinspection unchecked
+            if (this.hashCodes[i] == hashCode && this.comparer.equals((TElement) this.values[i], value)) {
                 if (last < 0)
-                    this.buckets[bucket] = this.slots[i].next + 1;
+                    this.buckets[bucket] = this.nexts[i] + 1;
                 else
-                    this.slots[last].next = this.slots[i].next;
+                    this.nexts[last] = this.nexts[i];
 
-                this.slots[i].hashCode = -1;
-                this.slots[i].value = null;
-                this.slots[i].next = -1;
+                this.hashCodes[i] = 0;
+                this.values[i] = null;
+                this.nexts[i] = -1;
                 return true;
             }
         }
@@ -72,37 +93,51 @@ final class Set<TElement> {
         return false;
     }
 
-    // Expands the capacity of this set to double the current capacity, plus one.
-    private void resize() {
-        int newSize = Math.addExact(Math.multiplyExact(this.count, 2), 1);
+    // Adds a Bloom filter over the items once the set is too large to stay in cache, so removing missing values mostly
+    // skips the bucket walk and the equality checks. Items added afterwards are added to the filter too.
+    public void buildFilter() {
+        if (this.count < BloomFilter.MIN_COUNT)
+            return;
+        BloomFilter filter = new BloomFilter(this.count);
+        for (int i = 0; i < this.count; i++)
+            filter.add(this.hashCodes[i]);
+        this.filter = filter;
+    }
+
+    // Grows the capacity of this set so that it holds at least capacity items without resizing.
+    public void ensureCapacity(int capacity) {
+        if (capacity > this.values.length)
+            this.resize(tableSizeFor(capacity));
+    }
+
+    // Expands the capacity of this set to newSize, which is a power of two.
+    private void resize(int newSize) {
         int[] newBuckets = new int[newSize];
-        //noinspection unchecked
-        Slot[] newSlots = new Set.Slot[newSize];
-        System.arraycopy(this.slots, 0, newSlots, 0, this.count);
-        for (int i = this.count; i < newSize; i++)
-            newSlots[i] = new Slot();
+        int[] newHashCodes = new int[newSize];
+        int[] newNexts = new int[newSize];
+        Object[] newValues = new Object[newSize];
+        System.arraycopy(this.hashCodes, 0, newHashCodes, 0, this.count);
+        System.arraycopy(this.values, 0, newValues, 0, this.count);
         for (int i = 0; i < this.count; i++) {
-            int bucket = newSlots[i].hashCode % newSize;
-            newSlots[i].next = newBuckets[bucket] - 1;
+            int bucket = newHashCodes[i] & (newSize - 1);
+            newNexts[i] = newBuckets[bucket] - 1;
             newBuckets[bucket] = i + 1;
         }
         this.buckets = newBuckets;
-        this.slots = newSlots;
+        this.hashCodes = newHashCodes;
+        this.nexts = newNexts;
+        this.values = newValues;
     }
 
     // Creates an array from the items in this set.
     public TElement[] toArray(Class<TElement> clazz) {
-        TElement[] array = ArrayUtils.newInstance(clazz, this.count);
-        for (int i = 0; i != array.length; ++i)
-            array[i] = this.slots[i].value;
-        return array;
+        return ArrayUtils.toArray(this.values, clazz, 0, this.count);
     }
 
     // Creates an array from the items in this set.
     public Object[] toArray() {
         Object[] array = new Object[this.count];
-        for (int i = 0; i != array.length; ++i)
-            array[i] = this.slots[i].value;
+        System.arraycopy(this.values, 0, array, 0, this.count);
         return array;
     }
 
@@ -111,7 +146,8 @@ final class Set<TElement> {
         int count = this.count;
         List<TElement> list = new ArrayList<>(count);
         for (int i = 0; i != count; ++i)
-            list.add(this.slots[i].value);
+            //noinspection unchecked
+            list.add((TElement) this.values[i]);
         return list;
     }
 
@@ -124,10 +160,11 @@ final class Set<TElement> {
     public void unionWith(IEnumerable<TElement> other) {
         assert other != null;
 
-        try (IEnumerator<TElement> e = other.enumerator()) {
-            while (e.moveNext())
-                this.add(e.current());
-        }
+        this.ensureCapacityFor(other);
+        Sink.forEach(other, item -> {
+            this.add(item);
+            return true;
+        });
     }
 
     // Unions this set with an enumerable and selector.
@@ -135,22 +172,34 @@ final class Set<TElement> {
         assert other != null;
         assert selector != null;
 
-        try (IEnumerator<TSource> e = other.enumerator()) {
-            while (e.moveNext())
-                this.add(selector.apply(e.current()));
-        }
+        this.ensureCapacityFor(other);
+        Sink.forEach(other, item -> {
+            this.add(selector.apply(item));
+            return true;
+        });
     }
 
-    // Gets the hash code of the provided value with its sign bit zeroed out, so that modulo has a positive result.
-    private int internalGetHashCode(TElement value) {
-        return value == null ? 0 : this.comparer.hashCode(value) & 0x7FFFFFFF;
+    // Uses the count of the enumerable as a capacity hint when it is cheap to get.
+    private void ensureCapacityFor(IEnumerable<?> other) {
+        out<Integer> count = out.init();
+        if (EnumerableHelpers.tryGetCount(other, count))
+            this.ensureCapacity((int) Math.min((long) this.count + count.value, MAX_CAPACITY));
     }
 
+    // Gets the hash code of the provided value, with the high bits spread into the low bits used by the power of two buckets.
+    private int internalGetHashCode(TElement value) {
+        if (value == null)
+            return 0;
+        int hashCode = this.comparer.hashCode(value);
+        return hashCode ^ (hashCode >>> 16);
+    }
 
-    // An entry in the hash set.
-    private final class Slot {//struct
-        private int hashCode;
-        private int next;
-        private TElement value;
+    // Returns the smallest power of two that is not less than capacity.
+    private static int tableSizeFor(int capacity) {
+        if (capacity <= DEFAULT_CAPACITY)
+            return DEFAULT_CAPACITY;
+        if (capacity >= MAX_CAPACITY)
+            return MAX_CAPACITY;
+        return Integer.highestOneBit(capacity - 1) << 1;
     }
 }
@@ -0,0 +1,120 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.collections.generic.IArray;
+import com.bestvike.collections.generic.ICollection;
+import com.bestvike.linq.ArrayPool;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+interface ISink<TElement> {
+    // Returns false to stop the upstream stages from pushing more elements.
+    boolean accept(TElement item);
+}
+
+
+interface ISinkProvider<TElement> extends IEnumerable<TElement> {
+    // Pushes every element into the sink until the source ends or the sink stops.
+    void _forEach(ISink<TElement> sink);
+}
+
+
+@SuppressWarnings("unchecked")
+final class Sink {
+    private Sink() {
+    }
+
+    static <TSource> void forEach(IEnumerable<TSource> source, ISink<TSource> sink) {
+        assert source != null;
+        assert sink != null;
+
+        if (source instanceof ISinkProvider) {
+            ISinkProvider<TSource> provider = (ISinkProvider<TSource>) source;
+            provider._forEach(sink);
+            return;
+        }
+
+        if (source instanceof IArray) {
+            IArray<TSource> array = (IArray<TSource>) source;
+            Object arr = array.getArray();
+            if (arr instanceof Object[]) {
+                Object[] items = (Object[]) arr;
+                for (int i = array._getStartIndex(), end = array._getEndIndex(); i < end; i++) {
+                    if (!sink.accept((TSource) items[i]))
+                        return;
+                }
+                return;
+            }
+        }
+
+        try (IEnumerator<TSource> e = source.enumerator()) {
+            while (e.moveNext()) {
+                if (!sink.accept(e.current()))
+                    return;
+            }
+        }
+    }
+
+    // Same as forEach for a sink that never stops, enumerators are read in batches. Batches read ahead of the sink,
+    // so forEach must be used when the sink may stop early.
+    static <TSource> void forEachAll(IEnumerable<TSource> source, ISink<TSource> sink) {
+        assert source != null;
+        assert sink != null;
+
+        // Collections fail fast when the sink changes them, reading ahead would hand it elements that were replaced meanwhile.
+        if (source instanceof ISinkProvider || source instanceof ICollection) {
+            forEach(source, sink);
+            return;
+        }
+
+        ArrayPool pool = ArrayPool.current();
+        Object[] buffer = pool.rent(EnumerableHelpers.BATCH_SIZE);
+        try (IEnumerator<TSource> e = source.enumerator()) {
+            int count;
+            while ((count = e.moveNextBatch(buffer, 0, buffer.length)) > 0) {
+                for (int i = 0; i < count; i++)
+                    sink.accept((TSource) buffer[i]);
+            }
+        } finally {
+            pool.release(buffer);
+        }
+    }
+
+    static <TSource> TSource[] toArray(IEnumerable<TSource> source, Class<TSource> clazz) {
+        LargeArrayBuilder<TSource> builder = new LargeArrayBuilder<>();
+        forEach(source, item -> {
+            builder.add(item);
+            return true;
+        });
+        return builder.toArray(clazz);
+    }
+
+    static <TSource> Object[] toArray(IEnumerable<TSource> source) {
+        LargeArrayBuilder<TSource> builder = new LargeArrayBuilder<>();
+        forEach(source, item -> {
+            builder.add(item);
+            return true;
+        });
+        return builder.toArray();
+    }
+
+    static <TSource> List<TSource> toList(IEnumerable<TSource> source) {
+        List<TSource> list = new ArrayList<>();
+        forEach(source, item -> {
+            list.add(item);
+            return true;
+        });
+        return list;
+    }
+
+    static <TSource> int count(IEnumerable<TSource> source) {
+        CountSink<TSource> sink = new CountSink<>(null);
+        forEach(source, sink);
+        return sink.count;
+    }
+}
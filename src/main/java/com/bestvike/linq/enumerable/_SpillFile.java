@@ -0,0 +1,178 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.function.Func0;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.ISerializer;
+import com.bestvike.linq.exception.ThrowHelper;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayDeque;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+final class SpillFile<T> implements IEnumerable<T> {
+    // ObjectOutputStream remembers every object it wrote until it is reset.
+    private static final int RESET_INTERVAL = 1024;
+    private final File directory;
+    private final ISerializer<T> serializer;
+    private File file;
+    private ObjectOutputStream output;
+    private int count;
+    private boolean finished;
+
+    // The temporary file is only created in directory when the first element is written.
+    SpillFile(File directory, ISerializer<T> serializer) {
+        this.directory = directory;
+        this.serializer = serializer;
+    }
+
+    // The number of elements written.
+    int getCount() {
+        return this.count;
+    }
+
+    void write(T item) {
+        assert !this.finished;
+
+        try {
+            if (this.output == null) {
+                this.file = File.createTempFile("linq", ".spill", this.directory);
+                this.output = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(this.file)));
+            }
+            this.serializer.write(this.output, item);
+            if (++this.count % RESET_INTERVAL == 0)
+                this.output.reset();
+        } catch (IOException e) {
+            this.delete();
+            ThrowHelper.throwRuntimeException(e);
+        }
+    }
+
+    // Flushes and closes the writer, the file can be enumerated afterwards.
+    void finish() {
+        this.finished = true;
+        if (this.output == null)
+            return;
+        try {
+            this.output.close();
+        } catch (IOException e) {
+            ThrowHelper.throwRuntimeException(e);
+        } finally {
+            this.output = null;
+        }
+    }
+
+    // Closes the writer if still open and removes the file. Safe to call more than once.
+    void delete() {
+        if (this.output != null) {
+            try {
+                this.output.close();
+            } catch (IOException ignored) {
+            }
+            this.output = null;
+        }
+        if (this.file != null) {
+            //noinspection ResultOfMethodCallIgnored
+            this.file.delete();
+            this.file = null;
+        }
+    }
+
+    @Override
+    public IEnumerator<T> enumerator() {
+        assert this.finished;
+
+        return this.count == 0 ? EmptyPartition.<T>instance().enumerator() : new SpillFileEnumerator();
+    }
+
+
+    private final class SpillFileEnumerator extends AbstractEnumerator<T> {
+        private ObjectInputStream input;
+        private int index;
+
+        @Override
+        public boolean moveNext() {
+            try {
+                switch (this.state) {
+                    case 0:
+                        this.input = new ObjectInputStream(new BufferedInputStream(new FileInputStream(SpillFile.this.file)));
+                        this.state = 1;
+                    case 1:
+                        if (this.index < SpillFile.this.count) {
+                            this.current = SpillFile.this.serializer.read(this.input);
+                            this.index++;
+                            return true;
+                        }
+                        this.close();
+                        return false;
+                    default:
+                        return false;
+                }
+            } catch (IOException e) {
+                this.close();
+                ThrowHelper.throwRuntimeException(e);
+                return false;
+            }
+        }
+
+        @Override
+        public void close() {
+            if (this.input != null) {
+                try {
+                    this.input.close();
+                } catch (IOException ignored) {
+                }
+                this.input = null;
+            }
+            super.close();
+        }
+    }
+}
+
+
+// Hash partitioning shared by the spilling operators, every level of the partition tree splits on the next bits of the hash.
+final class SpillPartitioning {
+    static final int FANOUT_BITS = 5;
+    static final int FANOUT = 1 << FANOUT_BITS;
+    // A single key with more elements than the limit can't be split, past this depth the partition is loaded anyway.
+    static final int MAX_DEPTH = 6;
+
+    private SpillPartitioning() {
+    }
+
+    // Fills children with FANOUT new partitions. They are queued right away, so the owner deletes their files on close
+    // even when spilling fails half way.
+    static <TPartition> TPartition[] create(TPartition[] children, ArrayDeque<TPartition> queue, Func0<TPartition> factory) {
+        assert children.length == FANOUT;
+        for (int i = 0; i < FANOUT; i++) {
+            children[i] = factory.apply();
+            queue.addFirst(children[i]);
+        }
+        return children;
+    }
+
+    // Whether a partition of count elements at depth has to be split again before it is loaded.
+    static boolean mustSplit(int count, int memoryLimit, int depth) {
+        return count > memoryLimit && depth + 1 < MAX_DEPTH;
+    }
+
+    // Mixes all the bits of the hash code, then every level takes the next FANOUT_BITS of them.
+    static int partitionOf(int hashCode, int depth) {
+        int h = hashCode;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h >>> (depth * FANOUT_BITS) & (FANOUT - 1);
+    }
+}
@@ -0,0 +1,270 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.collections.generic.IList;
+import com.bestvike.function.Func1;
+import com.bestvike.linq.IEnumerable;
+
+import java.util.ConcurrentModificationException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+interface ISpliteratorProvider<TElement> extends IEnumerable<TElement> {
+    // Returns a spliterator that splits without going through an enumerator.
+    Spliterator<TElement> _spliterator();
+}
+
+
+// Splits [index, fence) in halves, so only sources with cheap random access should use it.
+abstract class IndexSpliterator<TElement> implements Spliterator<TElement> {
+    static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.IMMUTABLE;
+    int index;
+    int fence;      // -1 until getFence binds it.
+
+    IndexSpliterator(int index, int fence) {
+        assert fence == -1 || index <= fence;
+        this.index = index;
+        this.fence = fence;
+    }
+
+    abstract TElement get(int index);
+
+    abstract IndexSpliterator<TElement> slice(int index, int fence);
+
+    int getFence() {
+        return this.fence;
+    }
+
+    // Called around every get, throws when the source changed since the fence was bound.
+    void checkForComodification() {
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super TElement> action) {
+        if (action == null)
+            throw new NullPointerException();
+        if (this.index >= this.getFence())
+            return false;
+        this.checkForComodification();
+        action.accept(this.get(this.index++));
+        this.checkForComodification();
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super TElement> action) {
+        if (action == null)
+            throw new NullPointerException();
+        int i = this.index;
+        int hi = this.getFence();
+        if (i >= hi)
+            return;
+        this.index = hi;
+        for (; i < hi; i++) {
+            this.checkForComodification();
+            action.accept(this.get(i));
+        }
+        this.checkForComodification();
+    }
+
+    @Override
+    public Spliterator<TElement> trySplit() {
+        int lo = this.index;
+        int mid = (lo + this.getFence()) >>> 1;
+        if (lo >= mid)
+            return null;
+        this.index = mid;
+        return this.slice(lo, mid);
+    }
+
+    @Override
+    public long estimateSize() {
+        return this.getFence() - this.index;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+}
+
+
+// Binds its fence on first traversal, split or size query, as the spliterator of ArrayList does, so a stream built before
+// the list changes still sees the change. Lists have no modification count here, so only a size change fails fast.
+abstract class ListIndexSpliterator<TSource, TElement> extends IndexSpliterator<TElement> {
+    final IList<TSource> source;
+    private final int maxIndexInclusive;
+    private int expectedCount;
+
+    ListIndexSpliterator(IList<TSource> source, int index, int maxIndexInclusive) {
+        super(index, -1);
+        this.source = source;
+        this.maxIndexInclusive = maxIndexInclusive;
+    }
+
+    // A slice shares the binding of the spliterator it was split from.
+    ListIndexSpliterator(ListIndexSpliterator<TSource, ?> parent, int index, int fence) {
+        super(index, fence);
+        this.source = parent.source;
+        this.maxIndexInclusive = fence - 1;
+        this.expectedCount = parent.expectedCount;
+    }
+
+    @Override
+    int getFence() {
+        if (this.fence == -1) {
+            this.expectedCount = this.source._getCount();
+            this.fence = (int) Math.max(this.index, Math.min(this.expectedCount, this.maxIndexInclusive + 1L));
+        }
+        return this.fence;
+    }
+
+    @Override
+    void checkForComodification() {
+        if (this.source._getCount() != this.expectedCount)
+            throw new ConcurrentModificationException();
+    }
+
+    @Override
+    public int characteristics() {
+        return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+    }
+}
+
+
+final class ListSpliterator<TElement> extends ListIndexSpliterator<TElement, TElement> {
+    ListSpliterator(IList<TElement> source, int index, int maxIndexInclusive) {
+        super(source, index, maxIndexInclusive);
+    }
+
+    private ListSpliterator(ListSpliterator<TElement> parent, int index, int fence) {
+        super(parent, index, fence);
+    }
+
+    @Override
+    TElement get(int index) {
+        return this.source.get(index);
+    }
+
+    @Override
+    IndexSpliterator<TElement> slice(int index, int fence) {
+        return new ListSpliterator<>(this, index, fence);
+    }
+}
+
+
+final class SelectListSpliterator<TSource, TResult> extends ListIndexSpliterator<TSource, TResult> {
+    private final Func1<TSource, TResult> selector;
+
+    SelectListSpliterator(IList<TSource> source, Func1<TSource, TResult> selector, int index, int maxIndexInclusive) {
+        super(source, index, maxIndexInclusive);
+        this.selector = selector;
+    }
+
+    private SelectListSpliterator(SelectListSpliterator<TSource, TResult> parent, int index, int fence) {
+        super(parent, index, fence);
+        this.selector = parent.selector;
+    }
+
+    @Override
+    TResult get(int index) {
+        return this.selector.apply(this.source.get(index));
+    }
+
+    @Override
+    IndexSpliterator<TResult> slice(int index, int fence) {
+        return new SelectListSpliterator<>(this, index, fence);
+    }
+}
+
+
+// Indexes are offsets from start, the last value may be Integer.MAX_VALUE so start + count itself can overflow.
+final class RangeSpliterator<TResult> extends IndexSpliterator<TResult> {
+    private final int start;
+    private final Func1<Integer, TResult> selector;
+
+    RangeSpliterator(int start, Func1<Integer, TResult> selector, int index, int fence) {
+        super(index, fence);
+        this.start = start;
+        this.selector = selector;
+    }
+
+    @Override
+    TResult get(int index) {
+        return this.selector.apply(this.start + index);
+    }
+
+    @Override
+    IndexSpliterator<TResult> slice(int index, int fence) {
+        return new RangeSpliterator<>(this.start, this.selector, index, fence);
+    }
+}
+
+
+final class RepeatSpliterator<TResult> extends IndexSpliterator<TResult> {
+    private final TResult element;
+
+    RepeatSpliterator(TResult element, int index, int fence) {
+        super(index, fence);
+        this.element = element;
+    }
+
+    @Override
+    TResult get(int index) {
+        return this.element;
+    }
+
+    @Override
+    IndexSpliterator<TResult> slice(int index, int fence) {
+        return new RepeatSpliterator<>(this.element, index, fence);
+    }
+}
+
+
+// Maps the source spliterator, so it splits and sizes the same way. Distinct, sorted or non null no longer holds.
+final class SelectSpliterator<TSource, TResult> implements Spliterator<TResult> {
+    private final Spliterator<TSource> source;
+    private final Func1<TSource, TResult> selector;
+
+    SelectSpliterator(Spliterator<TSource> source, Func1<TSource, TResult> selector) {
+        this.source = source;
+        this.selector = selector;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super TResult> action) {
+        if (action == null)
+            throw new NullPointerException();
+        return this.source.tryAdvance(item -> action.accept(this.selector.apply(item)));
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super TResult> action) {
+        if (action == null)
+            throw new NullPointerException();
+        this.source.forEachRemaining(item -> action.accept(this.selector.apply(item)));
+    }
+
+    @Override
+    public Spliterator<TResult> trySplit() {
+        Spliterator<TSource> prefix = this.source.trySplit();
+        return prefix == null ? null : new SelectSpliterator<>(prefix, this.selector);
+    }
+
+    @Override
+    public long estimateSize() {
+        return this.source.estimateSize();
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return this.source.getExactSizeIfKnown();
+    }
+
+    @Override
+    public int characteristics() {
+        return this.source.characteristics() & ~(Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.NONNULL);
+    }
+}
@@ -1,5 +1,6 @@
 package com.bestvike.linq.enumerable;
 
+import com.bestvike.linq.ArrayPool;
 import com.bestvike.linq.util.ArrayUtils;
 
 /**
@@ -9,6 +10,7 @@ final class ArrayBuilder<T> {//struct
     private static final int DefaultCapacity = 4;
     private static final int MaxCoreClrArrayLength = 0x7fefffff; // For byte arrays the limit is slightly larger
 
+    private final ArrayPool pool = ArrayPool.current();   // Grown arrays are rented, the ones they replace go back.
     private Object[] array;     // Starts out null, initialized on first Add.
     private int count;          // Number of items into array we're using.
 
@@ -84,9 +86,11 @@ final class ArrayBuilder<T> {//struct
         if (Integer.compareUnsigned(nextCapacity, MaxCoreClrArrayLength) > 0)
             nextCapacity = Math.max(capacity + 1, MaxCoreClrArrayLength);
         nextCapacity = Math.max(nextCapacity, minimum);
-        Object[] next = new Object[nextCapacity];
+        Object[] next = this.pool.rent(nextCapacity);
         if (this.count > 0)
             System.arraycopy(this.array, 0, next, 0, this.count);
+        if (this.array != null)
+            this.pool.release(this.array);
         this.array = next;
     }
 }
@@ -1,6 +1,7 @@
 package com.bestvike.linq.enumerable;
 
 import com.bestvike.collections.generic.ICollection;
+import com.bestvike.linq.ArrayPool;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.util.ArrayUtils;
@@ -14,6 +15,9 @@ import java.util.List;
  * Created by 许崇雷 on 2018-05-07.
  */
 final class EnumerableHelpers {
+    // Elements pulled per moveNextBatch call by operators that consume the whole source.
+    static final int BATCH_SIZE = 64;
+
     private EnumerableHelpers() {
     }
 
@@ -99,8 +103,8 @@ final class EnumerableHelpers {
         return builder.toArray();
     }
 
-    //Converts an enumerable to an array using the same logic as List{T}.
-    public static <T> Object[] toArray(IEnumerable<T> source, out<Integer> length) {
+    //Converts an enumerable to an array using the same logic as List{T}. Unless source is a collection, the array is rented from pool.
+    public static <T> Object[] toArray(IEnumerable<T> source, out<Integer> length, ArrayPool pool) {
         if (source instanceof ICollection) {
             ICollection<T> ic = (ICollection<T>) source;
             int count = ic._getCount();
@@ -143,7 +147,10 @@ final class EnumerableHelpers {
                             int newLength = count << 1;
                             if (Integer.compareUnsigned(newLength, MaxArrayLength) > 0)
                                 newLength = MaxArrayLength <= count ? count + 1 : MaxArrayLength;
-                            arr = ArrayUtils.resize(arr, newLength);
+                            Object[] next = pool.rent(newLength);
+                            System.arraycopy(arr, 0, next, 0, count);
+                            pool.release(arr);
+                            arr = next;
                         }
                         arr[count++] = en.current();
                     }
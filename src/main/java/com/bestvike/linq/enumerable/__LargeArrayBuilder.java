@@ -1,5 +1,6 @@
 package com.bestvike.linq.enumerable;
 
+import com.bestvike.linq.ArrayPool;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.debug.DebuggerDisplay;
@@ -76,11 +77,13 @@ final class LargeArrayBuilder<T> {//struct
     private static final int ResizeLimit = 8;
 
     private final ArrayBuilder<Object[]> buffers = new ArrayBuilder<>();    // After ResizeLimit * 2, we store previous buffers we've filled out here.
+    private final ArrayPool pool = ArrayPool.current();                     // Buffers after first are rented from here, first may be handed out by tryMove.
     private final int maxCapacity;                                          // The maximum capacity this builder can have.
     private Object[] first;                                                 // The first buffer we store items in. Resized until ResizeLimit.
     private Object[] current;                                               // Current buffer we're reading into. If count <= ResizeLimit, this is first.
     private int index;                                                      // Index into the current buffer.
     private int count;                                                      // count of all of the items in this builder.
+    private boolean released;                                               // Buffers went back to the pool, nothing can be read anymore.
 
     LargeArrayBuilder() {
         this(Integer.MAX_VALUE);
@@ -113,35 +116,23 @@ final class LargeArrayBuilder<T> {//struct
     public void addRange(IEnumerable<T> items) {
         assert items != null;
         try (IEnumerator<T> enumerator = items.enumerator()) {
-            ref<Object[]> destinationRef = ref.init(this.current);
-            ref<Integer> indexRef = ref.init(this.index);
-
-            // Continuously read in items from the enumerator, updating count
-            // and index when we run out of space.
-            while (enumerator.moveNext()) {
-                T item = enumerator.current();
-                if (Integer.compareUnsigned(indexRef.value, destinationRef.value.length) >= 0)
-                    this.addWithBufferAllocation(item, destinationRef, indexRef);
-                else
-                    destinationRef.value[indexRef.value] = item;
-                indexRef.value++;
+            // Reads in batches straight into the free part of the current buffer. A full buffer is only
+            // replaced once the enumerator yields another item, so no buffer is allocated past the end.
+            while (true) {
+                if (this.index == this.current.length) {
+                    if (!enumerator.moveNext())
+                        break;
+                    this.add(enumerator.current());
+                }
+                int copied = enumerator.moveNextBatch(this.current, this.index, this.current.length - this.index);
+                if (copied == 0)
+                    break;
+                this.index += copied;
+                this.count += copied;
             }
-
-            // Final update to count and index.
-            this.count += indexRef.value - this.index;
-            this.index = indexRef.value;
         }
     }
 
-    private void addWithBufferAllocation(T item, ref<Object[]> destination, ref<Integer> index) {
-        this.count += index.value - this.index;
-        this.index = index.value;
-        this.allocateBuffer();
-        destination.value = this.current;
-        index.value = this.index;
-        this.current[index.value] = item;
-    }
-
     private void copyTo(Object[] array, int arrayIndex, int count) {
         assert arrayIndex >= 0;
         assert count >= 0 && count <= this.getCount();
@@ -207,6 +198,7 @@ final class LargeArrayBuilder<T> {//struct
     }
 
     public Object[] getBuffer(int index) {
+        assert !this.released;
         assert index >= 0 && index < this.buffers.getCount() + 2;
 
         return index == 0 ? this.first :
@@ -225,6 +217,7 @@ final class LargeArrayBuilder<T> {//struct
 
         T[] array = ArrayUtils.newInstance(clazz, this.count);
         this.copyTo(array, 0, this.count);
+        this.release();
         return array;
     }
 
@@ -235,9 +228,21 @@ final class LargeArrayBuilder<T> {//struct
 
         Object[] array = new Object[this.count];
         this.copyTo(array, 0, this.count);
+        this.release();
         return array;
     }
 
+    // Gives the buffers after first back to the pool. Ends the builder, toArray does it after copying.
+    public void release() {
+        if (this.released)
+            return;
+        this.released = true;
+        for (int i = 0; i < this.buffers.getCount(); i++)
+            this.pool.release(this.buffers.get(i));
+        if (this.current != this.first)
+            this.pool.release(this.current);
+    }
+
     public boolean tryMove(out<Object[]> array) {
         array.value = this.first;
         return this.count == this.first.length;
@@ -278,7 +283,7 @@ final class LargeArrayBuilder<T> {//struct
                 this.buffers.add(this.current);
                 nextCapacity = Math.min(this.count, this.maxCapacity - this.count);
             }
-            this.current = new Object[nextCapacity];
+            this.current = this.pool.rent(nextCapacity);
             this.index = 0;
         }
     }
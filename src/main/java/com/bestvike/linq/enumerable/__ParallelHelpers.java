@@ -0,0 +1,49 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.function.Action1;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+final class ParallelHelpers {
+    private ParallelHelpers() {
+    }
+
+    // Splits count items into partitionCount ranges of nearly equal size, range i is [bounds[i], bounds[i + 1]).
+    public static int[] split(int count, int partitionCount) {
+        int[] bounds = new int[partitionCount + 1];
+        int size = count / partitionCount;
+        int remainder = count % partitionCount;
+        for (int i = 0; i < partitionCount; i++)
+            bounds[i + 1] = bounds[i] + (i < remainder ? size + 1 : size);
+        return bounds;
+    }
+
+    // Runs action for every task index on the pool and waits for all of them. The first failure is rethrown.
+    public static void invoke(ForkJoinPool pool, int taskCount, Action1<Integer> action) {
+        if (taskCount == 1) {
+            action.apply(0);
+            return;
+        }
+
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(taskCount);
+        for (int i = 0; i < taskCount; i++) {
+            int index = i;
+            tasks.add(pool.submit(() -> action.apply(index)));
+        }
+
+        try {
+            for (ForkJoinTask<?> task : tasks)
+                task.join();
+        } catch (RuntimeException | Error e) {
+            for (ForkJoinTask<?> task : tasks)
+                task.cancel(false);
+            throw e;
+        }
+    }
+}
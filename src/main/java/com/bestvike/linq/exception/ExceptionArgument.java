@@ -27,22 +27,34 @@ public enum ExceptionArgument {
     clazz,
     collator,
     collection,
+    combineFunc,
     comparison,
     condition,
     current,
+    degreeOfParallelism,
+    directory,
     elements,
     formatter,
     hasNext,
+    innerSerializer,
     iterable,
     length,
     locale,
     match,
+    maxArrayLength,
+    maxArraysPerLength,
+    memoryLimit,
     moveNext,
     newSize,
     next,
     obj,
     options,
     other,
+    outerSerializer,
+    pool,
+    seedFactory,
+    serializer,
     startIndex,
+    threshold,
     value,
 }
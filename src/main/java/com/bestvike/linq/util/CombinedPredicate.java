@@ -0,0 +1,42 @@
+package com.bestvike.linq.util;
+
+import com.bestvike.function.Predicate1;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+@SuppressWarnings("unchecked")
+public final class CombinedPredicate<TSource> implements Predicate1<TSource> {
+    private final Predicate1<TSource>[] predicates;
+
+    private CombinedPredicate(Predicate1<TSource>[] predicates) {
+        this.predicates = predicates;
+    }
+
+    // Merging never nests, the stages of a combined predicate are copied into one flat array.
+    static <TSource> CombinedPredicate<TSource> combine(Predicate1<TSource> predicate1, Predicate1<TSource> predicate2) {
+        Predicate1<TSource>[] first = predicate1 instanceof CombinedPredicate ? ((CombinedPredicate<TSource>) predicate1).predicates : new Predicate1[]{predicate1};
+        Predicate1<TSource>[] second = predicate2 instanceof CombinedPredicate ? ((CombinedPredicate<TSource>) predicate2).predicates : new Predicate1[]{predicate2};
+        Predicate1<TSource>[] predicates = new Predicate1[first.length + second.length];
+        System.arraycopy(first, 0, predicates, 0, first.length);
+        System.arraycopy(second, 0, predicates, first.length, second.length);
+        return new CombinedPredicate<>(predicates);
+    }
+
+    public int getCount() {
+        return this.predicates.length;
+    }
+
+    public Predicate1<TSource> get(int index) {
+        return this.predicates[index];
+    }
+
+    @Override
+    public boolean apply(TSource item) {
+        for (Predicate1<TSource> predicate : this.predicates) {
+            if (!predicate.apply(item))
+                return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,41 @@
+package com.bestvike.linq.util;
+
+import com.bestvike.function.Func1;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+@SuppressWarnings("unchecked")
+public final class CombinedSelector<TSource, TResult> implements Func1<TSource, TResult> {
+    private final Func1<Object, Object>[] selectors;
+
+    private CombinedSelector(Func1<Object, Object>[] selectors) {
+        this.selectors = selectors;
+    }
+
+    // Like CombinedPredicate, selectors of a combined selector are copied instead of wrapped.
+    static <TSource, TMiddle, TResult> CombinedSelector<TSource, TResult> combine(Func1<TSource, TMiddle> selector1, Func1<TMiddle, TResult> selector2) {
+        Func1<Object, Object>[] first = selector1 instanceof CombinedSelector ? ((CombinedSelector<?, ?>) selector1).selectors : new Func1[]{selector1};
+        Func1<Object, Object>[] second = selector2 instanceof CombinedSelector ? ((CombinedSelector<?, ?>) selector2).selectors : new Func1[]{selector2};
+        Func1<Object, Object>[] selectors = new Func1[first.length + second.length];
+        System.arraycopy(first, 0, selectors, 0, first.length);
+        System.arraycopy(second, 0, selectors, first.length, second.length);
+        return new CombinedSelector<>(selectors);
+    }
+
+    public int getCount() {
+        return this.selectors.length;
+    }
+
+    public Func1<Object, Object> get(int index) {
+        return this.selectors[index];
+    }
+
+    @Override
+    public TResult apply(TSource item) {
+        Object value = item;
+        for (Func1<Object, Object> selector : this.selectors)
+            value = selector.apply(value);
+        return (TResult) value;
+    }
+}
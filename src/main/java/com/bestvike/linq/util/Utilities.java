@@ -31,10 +31,10 @@ public final class Utilities {
     }
 
     public static <TSource> Predicate1<TSource> combinePredicates(Predicate1<TSource> predicate1, Predicate1<TSource> predicate2) {
-        return x -> predicate1.apply(x) && predicate2.apply(x);
+        return CombinedPredicate.combine(predicate1, predicate2);
     }
 
     public static <TSource, TMiddle, TResult> Func1<TSource, TResult> combineSelectors(Func1<TSource, TMiddle> selector1, Func1<TMiddle, TResult> selector2) {
-        return x -> selector2.apply(selector1.apply(x));
+        return CombinedSelector.combine(selector1, selector2);
     }
 }
@@ -3,6 +3,7 @@ package com.bestvike.linq;
 import com.bestvike.TestCase;
 import com.bestvike.collections.generic.Array;
 import com.bestvike.linq.enumerable.AbstractIterator;
+import com.bestvike.linq.enumerable.IIListProvider;
 import com.bestvike.linq.exception.ArgumentNullException;
 import com.bestvike.linq.exception.ArgumentOutOfRangeException;
 import com.bestvike.linq.exception.InvalidOperationException;
@@ -33,6 +34,7 @@ import java.util.Objects;
 import java.util.Scanner;
 import java.util.Spliterator;
 import java.util.Vector;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -382,6 +384,24 @@ class LinqTest extends TestCase {
         }
 
         assertEmpty(Linq.of((Stream<?>) null));
+
+        assertEquals(Linq.range(0, 100), Linq.of(Linq.of(IntStream.range(0, 100).boxed()).toArray()));
+        assertEquals(Linq.range(0, 100), Linq.of(Linq.of(IntStream.range(0, 100).boxed().parallel()).toArray(Integer.class)));
+        assertEquals(Linq.range(0, 50), Linq.of(Linq.of(IntStream.range(0, 100).boxed().filter(x -> x < 50)).toList()));
+        assertEquals(50, Linq.of(IntStream.range(0, 100).boxed().filter(x -> x % 2 == 0)).count());
+        IEnumerable<Integer> consumed = Linq.of(Stream.of(1, 2, 3));
+        assertEquals(3, consumed.count());
+        assertThrows(RepeatInvokeException.class, () -> consumed.toList());
+        assertEquals(Linq.range(0, 100), Linq.of(IntStream.range(0, 100).map(x -> 99 - x).boxed().parallel()).orderBy(x -> x));
+        assertEquals(Linq.of(3, 2, 1), Linq.of(Stream.of(1, 2, 3)).reverse());
+
+        List<Integer> rest = new ArrayList<>();
+        try (IEnumerator<Integer> e = Linq.of(Stream.of(1, 2, 3)).enumerator()) {
+            assertTrue(e.moveNext());
+            e.forEachRemaining(rest::add);
+            assertFalse(e.moveNext());
+        }
+        assertEquals(Arrays.asList(2, 3), rest);
     }
 
     @Test
@@ -396,6 +416,33 @@ class LinqTest extends TestCase {
         }
 
         assertEmpty(Linq.of((Spliterator<?>) null));
+
+        assertEquals(Linq.range(0, 100), Linq.of(Linq.of(IntStream.range(0, 100).boxed().spliterator()).toArray()));
+        assertEquals(Linq.range(0, 100), Linq.of(Linq.of(IntStream.range(0, 100).boxed().spliterator()).toArray(Integer.class)));
+        assertEquals(Linq.range(0, 50), Linq.of(Linq.of(IntStream.range(0, 100).boxed().filter(x -> x < 50).spliterator()).toArray(Integer.class)));
+        assertEquals(Linq.range(0, 50), Linq.of(Linq.of(IntStream.range(0, 100).boxed().filter(x -> x < 50).spliterator()).toList()));
+        assertEquals(100, Linq.of(IntStream.range(0, 100).boxed().spliterator()).count());
+        assertEquals(50, Linq.of(IntStream.range(0, 100).boxed().filter(x -> x % 2 == 0).spliterator()).count());
+        IEnumerable<Integer> consumed = Linq.of(Stream.of(1, 2, 3).spliterator());
+        assertEquals(Linq.of(1, 2, 3), Linq.of(consumed.toArray()));
+        assertThrows(RepeatInvokeException.class, () -> consumed.count());
+        assertEquals(Linq.range(0, 100), Linq.of(IntStream.range(0, 100).map(x -> 99 - x).boxed().spliterator()).orderBy(x -> x));
+        // A sized spliterator answers any from its size and can still be enumerated afterwards.
+        IEnumerable<Integer> sized = Linq.of(Arrays.asList(1, 2, 3).spliterator());
+        assertTrue(sized.any());
+        assertEquals(3, ((IIListProvider<Integer>) sized)._getCount(true));
+        IEnumerator<Integer> handedOut = sized.enumerator();
+        assertEquals(-1, ((IIListProvider<Integer>) sized)._getCount(true));
+        assertEquals(Linq.of(1, 2, 3), Linq.of(handedOut));
+
+        List<Integer> rest = new ArrayList<>();
+        try (IEnumerator<Integer> e = Linq.of(Stream.of(1, 2, 3).spliterator()).enumerator()) {
+            assertTrue(e.moveNext());
+            assertEquals(1, e.current());
+            e.forEachRemaining(rest::add);
+            assertFalse(e.moveNext());
+        }
+        assertEquals(Arrays.asList(2, 3), rest);
     }
 
     @Test
@@ -0,0 +1,155 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.linq.ArrayPool;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.ArgumentNullException;
+import com.bestvike.linq.exception.ArgumentOutOfRangeException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+class ArrayPoolTest extends TestCase {
+    @Test
+    void RentAndRelease() {
+        ArrayPool pool = ArrayPool.create(1024, 2);
+        Object[] array = pool.rent(64);
+        assertEquals(64, array.length);
+        array[3] = "x";
+        pool.release(array);
+        Object[] again = pool.rent(64);
+        assertSame(array, again);
+        assertNull(again[3]);
+
+        // Lengths that are not a power of two, too small or too large are not pooled.
+        for (int length : new int[]{0, 8, 20, 2048}) {
+            Object[] other = pool.rent(length);
+            assertEquals(length, other.length);
+            pool.release(other);
+            assertNotSame(other, pool.rent(length));
+        }
+
+        // At most maxArraysPerLength arrays are kept.
+        Object[] first = new Object[32];
+        Object[] second = new Object[32];
+        Object[] third = new Object[32];
+        pool.release(first);
+        pool.release(second);
+        pool.release(third);
+        assertSame(second, pool.rent(32));
+        assertSame(first, pool.rent(32));
+        assertNotSame(third, pool.rent(32));
+    }
+
+    @Test
+    void SharedBetweenThreads() throws InterruptedException {
+        ArrayPool pool = ArrayPool.create(1024, 2);
+        Object[] array = new Object[128];
+        pool.release(array);
+        // Every stripe is hit by some of these threads, only the first one hitting the stripe of this thread gets array.
+        AtomicInteger hits = new AtomicInteger();
+        for (int i = 0; i < 64; i++) {
+            Thread thread = new Thread(() -> {
+                if (pool.rent(128) == array)
+                    hits.incrementAndGet();
+            });
+            thread.start();
+            thread.join();
+        }
+        assertEquals(1, hits.get());
+        assertNotSame(array, pool.rent(128));
+    }
+
+    @Test
+    void RunAndCall() {
+        CountingPool outer = new CountingPool();
+        CountingPool inner = new CountingPool();
+        IEnumerable<Integer> source = Linq.range(0, 1000).where(x -> x % 2 == 0);
+        ArrayPool shared = ArrayPool.getShared();
+        assertSame(shared, ArrayPool.current());
+
+        ArrayPool.run(outer, () -> {
+            assertSame(outer, ArrayPool.current());
+            assertEquals(500, source.toArray().count());
+            int rented = outer.rented;
+            assertTrue(rented > 0);
+            assertEquals(Linq.range(0, 500).select(x -> x * 2), Linq.of(ArrayPool.call(inner, () -> source.orderBy(x -> x).toList())));
+            assertEquals(rented, outer.rented);
+            assertTrue(inner.rented > 0);
+            assertSame(outer, ArrayPool.current());
+        });
+        assertSame(shared, ArrayPool.current());
+
+        assertThrows(IllegalStateException.class, () -> ArrayPool.run(outer, () -> {
+            throw new IllegalStateException();
+        }));
+        assertSame(shared, ArrayPool.current());
+    }
+
+    @Test
+    void OperatorsGiveBackScratchArrays() {
+        CountingPool pool = new CountingPool();
+        ArrayPool shared = ArrayPool.getShared();
+        ArrayPool.setShared(pool);
+        try {
+            IEnumerable<Integer> source = Linq.range(0, 5000).where(x -> x % 3 != 0).select(x -> x * 7919 % 5000);
+            List<Integer> expected = new ArrayList<>(source.toList());
+            assertEquals(Linq.of(expected), source.toArray());
+            assertEquals(Linq.of(expected), Linq.of(source.toArray(Integer.class)));
+
+            Collections.sort(expected);
+            assertEquals(Linq.of(expected), source.orderBy(x -> x));
+            assertEquals(Linq.of(expected), source.orderBy(x -> x).toArray());
+            assertEquals(Linq.of(expected).skip(10).take(100), Linq.of(source.orderBy(x -> x).skip(10).take(100).toList()));
+            Collections.reverse(expected);
+            assertEquals(Linq.of(expected), source.orderBy(x -> x).reverse());
+            assertEquals(expected.size() - 1, source.orderBy(x -> x).reverse().findLastIndex(x -> x == expected.get(expected.size() - 1)));
+            assertEquals(Linq.of(expected).concat(Linq.range(0, 100)), source.orderByDescending(x -> x).concat(Linq.range(0, 100)).toArray());
+
+            assertTrue(pool.rented > 0);
+            assertTrue(pool.released.size() > 0);
+        } finally {
+            ArrayPool.setShared(shared);
+        }
+    }
+
+    @Test
+    void InvalidArguments() {
+        assertThrows(ArgumentNullException.class, () -> ArrayPool.setShared(null));
+        assertThrows(ArgumentOutOfRangeException.class, () -> ArrayPool.create(-1, 2));
+        assertThrows(ArgumentOutOfRangeException.class, () -> ArrayPool.create(1024, -1));
+        assertThrows(ArgumentNullException.class, () -> ArrayPool.run(null, () -> {
+        }));
+        assertThrows(ArgumentNullException.class, () -> ArrayPool.run(ArrayPool.getShared(), null));
+        assertThrows(ArgumentNullException.class, () -> ArrayPool.call(null, () -> 1));
+        assertThrows(ArgumentNullException.class, () -> ArrayPool.call(ArrayPool.getShared(), null));
+    }
+
+    // Never hands out an array twice, so an array that was used after being released would show up as wrong results.
+    private static final class CountingPool extends ArrayPool {
+        final Set<Object[]> released = Collections.newSetFromMap(new IdentityHashMap<>());
+        int rented;
+
+        @Override
+        public Object[] rent(int length) {
+            this.rented++;
+            return new Object[length];
+        }
+
+        @Override
+        public void release(Object[] array) {
+            assertTrue(this.released.add(array));
+            Arrays.fill(array, -1);
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.function.Func1;
+import com.bestvike.function.Predicate1;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IGrouping;
+import com.bestvike.linq.ILookup;
+import com.bestvike.linq.IParallelEnumerable;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.ArgumentNullException;
+import com.bestvike.linq.exception.ArgumentOutOfRangeException;
+import com.bestvike.tuple.Tuple;
+import com.bestvike.tuple.Tuple2;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+class AsParallelTest extends TestCase {
+    @Test
+    void NullSource() {
+        assertThrows(ArgumentNullException.class, () -> AsParallel.asParallel(null));
+    }
+
+    @Test
+    void SameInstance() {
+        IParallelEnumerable<Integer> source = Linq.range(0, 10).asParallel();
+        assertSame(source, source.asParallel());
+        assertSame(source, source.asUnordered());
+        assertFalse(source.isOrdered());
+        assertTrue(source.asOrdered().isOrdered());
+    }
+
+    @Test
+    void InvalidArguments() {
+        IParallelEnumerable<Integer> source = Linq.range(0, 10).asParallel();
+        assertThrows(ArgumentOutOfRangeException.class, () -> source.withDegreeOfParallelism(0));
+        assertThrows(ArgumentNullException.class, () -> source.withPool(null));
+        assertThrows(ArgumentNullException.class, () -> source.where((Predicate1<Integer>) null));
+        assertThrows(ArgumentNullException.class, () -> source.select((Func1<Integer, Integer>) null));
+        assertThrows(ArgumentNullException.class, () -> source.forAll(null));
+        assertThrows(ArgumentNullException.class, () -> source.aggregate(null, (a, b) -> a, (a, b) -> a));
+    }
+
+    @Test
+    void OrderedMatchesSequential() {
+        IEnumerable<Integer> array = Linq.range(0, 1000).toArray();
+        IEnumerable<Integer> list = Linq.of(Linq.range(0, 1000).toList());
+        IEnumerable<Integer> lazy = NumberRangeGuaranteedNotCollectionType(0, 1000);
+        for (IEnumerable<Integer> source : Linq.of(array, list, lazy, Linq.range(0, 1000))) {
+            IEnumerable<Integer> expected = source.where(x -> x % 3 == 0).select(x -> x * 2).selectMany(x -> Linq.of(x, x + 1));
+            IEnumerable<Integer> actual = source.asParallel().withDegreeOfParallelism(4).asOrdered().where(x -> x % 3 == 0).select(x -> x * 2).selectMany(x -> Linq.of(x, x + 1));
+            assertEquals(expected, actual);
+            assertEquals(expected.toList(), actual.toList());
+            assertEquals(expected.count(), actual.count());
+        }
+    }
+
+    @Test
+    void UnorderedSameElements() {
+        IParallelEnumerable<Integer> query = Linq.range(0, 1000).asParallel().withDegreeOfParallelism(8).where(x -> x % 2 == 0);
+        assertEquals(Linq.range(0, 500).select(x -> x * 2), query.orderBy(x -> x));
+    }
+
+    @Test
+    void Aggregates() {
+        IParallelEnumerable<Integer> source = Linq.range(1, 10000).asParallel().withDegreeOfParallelism(4);
+        assertEquals(10000, source.count());
+        assertEquals(5000, source.count(x -> x % 2 == 0));
+        assertEquals(10000L, source.longCount());
+        assertEquals(5000L, source.longCount(x -> x % 2 == 1));
+        assertEquals(50005000, source.sumInt());
+        assertEquals(50005000L, source.sumLong(x -> (long) x));
+        assertEquals(50005000d, source.sumDouble(x -> (double) x));
+        assertEquals(50005000L, source.select(x -> (long) x).sumLong());
+        assertTrue(source.any(x -> x == 9999));
+        assertFalse(source.any(x -> x == 0));
+        assertTrue(source.all(x -> x > 0));
+        assertFalse(source.all(x -> x < 10000));
+        assertEquals(50005000L, (long) source.aggregate(() -> 0L, (acc, x) -> acc + x, Long::sum));
+        assertEquals("50005000", source.aggregate(() -> 0L, (acc, x) -> acc + x, Long::sum, String::valueOf));
+        assertEquals(-1L, (long) Linq.<Integer>empty().asParallel().aggregate(() -> -1L, (acc, x) -> acc + x, Long::sum));
+        assertThrows(ArithmeticException.class, () -> Linq.repeat(Integer.MAX_VALUE, 4).asParallel().withDegreeOfParallelism(2).sumInt());
+    }
+
+    @Test
+    void GroupByMatchesSequential() {
+        IEnumerable<Integer> source = Linq.range(0, 50000).select(x -> x * 7919 % 50021);
+        IEnumerable<Tuple2<Integer, List<Integer>>> expected = source.groupBy(x -> x % 1000 == 0 ? null : x % 997).select(g -> Tuple.create(g.getKey(), g.toList()));
+        IParallelEnumerable<Integer> parallel = source.asParallel().withDegreeOfParallelism(4);
+        assertEquals(expected, parallel.asOrdered().groupBy(x -> x % 1000 == 0 ? null : x % 997).select(g -> Tuple.create(g.getKey(), g.toList())));
+        assertEquals(expected.select(t -> Tuple.create(t.getItem1(), Linq.of(t.getItem2()).orderBy(x -> x).toList())).orderBy(t -> t.getItem1()),
+                parallel.groupBy(x -> x % 1000 == 0 ? null : x % 997).select(g -> Tuple.create(g.getKey(), g.orderBy(x -> x).toList())).orderBy(t -> t.getItem1()));
+
+        ILookup<Integer, String> lookup = parallel.asOrdered().toLookup(x -> x % 10, String::valueOf);
+        assertEquals(source.select(x -> x % 10).distinct(), lookup.select(IGrouping::getKey));
+        assertEquals(source.where(x -> x % 10 == 3).select(String::valueOf), lookup.get(3));
+        assertEquals(source.where(x -> x % 2 == 0).count(), parallel.toLookup(x -> x % 2 == 0).get(true).count());
+        assertEmpty(parallel.toLookup(x -> x).get(-1));
+        assertEquals(3, Linq.range(0, 10).asParallel().groupBy(x -> x % 3, x -> x).count());
+
+        assertThrows(ArgumentNullException.class, () -> parallel.groupBy(null));
+        assertThrows(ArgumentNullException.class, () -> parallel.toLookup(x -> x, (Func1<Integer, Integer>) null));
+    }
+
+    @Test
+    void JoinMatchesSequential() {
+        IEnumerable<Integer> outer = Linq.range(0, 40000).select(x -> x * 7919 % 40009);
+        IEnumerable<Integer> inner = Linq.range(0, 30000).select(x -> x * 104729 % 60013);
+        Func1<Integer, Integer> outerKey = x -> x % 100 == 0 ? null : x % 20011;
+        Func1<Integer, Integer> innerKey = x -> x % 20011;
+        IParallelEnumerable<Integer> parallel = outer.asParallel().withDegreeOfParallelism(4).asOrdered();
+        assertEquals(outer.join(inner, outerKey, innerKey, Tuple::create), parallel.join(inner, outerKey, innerKey, Tuple::create));
+        assertEquals(outer.leftJoin(inner, outerKey, innerKey, -1, Tuple::create), parallel.leftJoin(inner, outerKey, innerKey, -1, Tuple::create));
+        assertEquals(outer.rightJoin(inner, outerKey, innerKey, -1, Tuple::create), parallel.rightJoin(inner, outerKey, innerKey, -1, Tuple::create));
+        assertEquals(outer.fullJoin(inner, outerKey, innerKey, -1, -2, Tuple::create), parallel.fullJoin(inner, outerKey, innerKey, -1, -2, Tuple::create));
+        assertEquals(outer.groupJoin(inner, outerKey, innerKey, (x, g) -> Tuple.create(x, g.toList())), parallel.groupJoin(inner, outerKey, innerKey, (x, g) -> Tuple.create(x, g.toList())));
+        assertEquals(outer.fullJoin(inner, outerKey, innerKey, Tuple::create).count(),
+                parallel.asUnordered().fullJoin(inner, outerKey, innerKey, Tuple::create).count());
+        assertEquals(outer.join(inner, outerKey, innerKey, (x, y) -> x + y).orderBy(x -> x),
+                parallel.asUnordered().join(inner, outerKey, innerKey, (x, y) -> x + y).orderBy(x -> x));
+        assertEmpty(Linq.<Integer>empty().asParallel().join(inner, x -> x, y -> y, Tuple::create));
+        assertEquals(2, Linq.range(0, 3).asParallel().join(Linq.of(1, 2), x -> x, y -> y, Tuple::create).count());
+
+        assertThrows(ArgumentNullException.class, () -> parallel.join(null, x -> x, y -> y, Tuple::create));
+        assertThrows(ArgumentNullException.class, () -> parallel.groupJoin(inner, x -> x, y -> y, null));
+    }
+
+    @Test
+    void ForAll() {
+        ConcurrentLinkedQueue<Integer> queue = new ConcurrentLinkedQueue<>();
+        Linq.range(0, 100).asParallel().withDegreeOfParallelism(4).forAll(queue::add);
+        assertEquals(Linq.range(0, 100), Linq.of(queue).orderBy(x -> x));
+    }
+
+    @Test
+    void CustomPool() {
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            IParallelEnumerable<Integer> source = Linq.range(0, 100).asParallel().withPool(pool);
+            assertEquals(3, source.getDegreeOfParallelism());
+            assertEquals(4950, source.sumInt());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void ExceptionPropagates() {
+        IParallelEnumerable<Integer> source = Linq.range(0, 100).asParallel().withDegreeOfParallelism(4).select(x -> {
+            if (x == 50)
+                throw new IllegalStateException();
+            return x;
+        });
+        assertThrows(IllegalStateException.class, () -> source.toArray());
+    }
+
+    @Test
+    void AsSequential() {
+        IEnumerable<Integer> sequential = Linq.range(0, 10).asParallel().where(x -> x > 4).asSequential();
+        assertEquals(Linq.range(5, 5), sequential);
+        List<Integer> list = Linq.range(0, 10).asParallel().asOrdered().toList();
+        assertEquals(Linq.range(0, 10), Linq.of(list));
+    }
+
+    @Test
+    void EmptySource() {
+        IParallelEnumerable<Integer> source = Linq.<Integer>empty().asParallel();
+        assertEmpty(source);
+        assertEquals(0, source.count());
+        assertEquals(0, source.sumInt());
+        assertFalse(source.any(x -> true));
+        assertTrue(source.all(x -> false));
+    }
+}
@@ -0,0 +1,87 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.ArgumentNullException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+class CompileTest extends TestCase {
+    private static final Integer[] Array = Linq.range(0, 500).toArray(Integer.class);
+
+    private static Class<?> enumeratorClass(IEnumerable<?> source) {
+        try (IEnumerator<?> e = source.enumerator()) {
+            return e.getClass();
+        }
+    }
+
+    @Test
+    void SameAsQuery() {
+        IEnumerable<String> query = Linq.of(Array).where(x -> x % 2 == 0).select(x -> x * 3).where(x -> x % 5 != 0).select(x -> "v" + x);
+        assertEquals(query, query.compile());
+        assertEquals(query.toList(), query.compile().toList());
+
+        IEnumerable<Integer> list = Linq.of(new ArrayList<>(Arrays.asList(Array))).select(x -> x + 1).where(x -> x > 100);
+        assertEquals(list, list.compile());
+
+        IEnumerable<Integer> enumerable = Linq.range(0, 500).where(x -> x % 3 == 0).select(x -> -x);
+        assertEquals(enumerable, enumerable.compile());
+        assertEquals(enumerable.count(), enumerable.compile().count());
+        assertEmpty(Linq.range(0, 10).where(x -> x > 10).compile());
+    }
+
+    @Test
+    void ManyStages() {
+        IEnumerable<Integer> query = Linq.range(0, 1000);
+        for (int i = 0; i < 20; i++) {
+            int divisor = i + 2;
+            query = i % 2 == 0 ? query.where(x -> x % divisor != 1) : query.select(x -> x + 1);
+        }
+        assertEquals(query, query.compile());
+    }
+
+    @Test
+    void ClassPerShape() {
+        IEnumerable<Integer> first = Linq.range(0, 10).where(x -> x > 1).compile();
+        IEnumerable<Integer> second = Linq.range(0, 10).select(x -> x * 2).compile();
+        assertEquals(enumeratorClass(first), enumeratorClass(first));
+        assertNotEquals(enumeratorClass(first), enumeratorClass(second));
+        assertNotEquals(CompiledQueryEnumerator.class, enumeratorClass(first));
+    }
+
+    @Test
+    void Reusable() {
+        List<Integer> evaluated = new ArrayList<>();
+        IEnumerable<Integer> compiled = Linq.of(Array).where(x -> x < 3).select(x -> {
+            evaluated.add(x);
+            return x;
+        }).compile();
+        assertEquals(Linq.of(0, 1, 2), compiled);
+        assertEquals(Linq.of(0, 1, 2), compiled);
+        assertEquals(Arrays.asList(0, 1, 2, 0, 1, 2), evaluated);
+
+        try (IEnumerator<Integer> e = compiled.enumerator()) {
+            assertTrue(e.moveNext());
+            assertEquals(0, e.current());
+            e.close();
+            assertFalse(e.moveNext());
+        }
+    }
+
+    @Test
+    void NotCompilable() {
+        IEnumerable<Integer> source = Linq.of(Array);
+        assertSame(source, source.compile());
+        IEnumerable<Integer> ordered = Linq.of(Array).orderBy(x -> -x);
+        assertSame(ordered, ordered.compile());
+        assertThrows(ArgumentNullException.class, () -> Compile.compile(null));
+    }
+}
@@ -251,6 +251,29 @@ class DistinctTest extends TestCase {
         assertEquals(result, result);
     }
 
+    @Test
+    void ManyItemsWithCollidingHashCodes() {
+        IEqualityComparer<Integer> colliding = new IEqualityComparer<Integer>() {
+            @Override
+            public boolean equals(Integer x, Integer y) {
+                return Objects.equals(x, y);
+            }
+
+            @Override
+            public int hashCode(Integer obj) {
+                return (obj % 16) << 16;
+            }
+        };
+        IEnumerable<Integer> source = Linq.range(0, 5000).select(x -> x % 1000);
+        assertEquals(Linq.range(0, 1000), source.distinct(colliding));
+        assertEquals(Linq.range(0, 1000), Linq.of(source.distinct(colliding).toList()));
+        assertEquals(1000, source.distinct().count());
+        assertEquals(Linq.range(0, 1000), ForceNotCollection(source).distinct().toArray());
+        assertEquals(Linq.range(500, 500), source.except(Linq.range(0, 500), colliding));
+        assertEquals(Linq.range(0, 500), source.intersect(Linq.range(0, 500), colliding));
+        assertEquals(Linq.range(0, 1200), source.union(Linq.range(900, 300), colliding));
+    }
+
     @Test
     void testDistinct() {
         Employee[] emps2 = {
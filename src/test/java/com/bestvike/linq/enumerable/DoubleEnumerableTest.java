@@ -0,0 +1,97 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.linq.IDoubleEnumerable;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.ArgumentNullException;
+import com.bestvike.linq.exception.InvalidOperationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+class DoubleEnumerableTest extends TestCase {
+    @Test
+    void NullArguments() {
+        IDoubleEnumerable source = Linq.ofDouble(new double[]{5.0d, 3.0d, 8.0d, 1.0d, 9.0d, 2.0d});
+        assertThrows(ArgumentNullException.class, () -> source.where(null));
+        assertThrows(ArgumentNullException.class, () -> source.select(null));
+        assertThrows(ArgumentNullException.class, () -> source.forEach(null));
+        assertThrows(ArgumentNullException.class, () -> Linq.of("a").selectDouble(null));
+        assertThrows(ArgumentNullException.class, () -> DoubleEnumerable.sum(null));
+    }
+
+    @Test
+    void NullArrayIsEmpty() {
+        IDoubleEnumerable source = Linq.ofDouble(null);
+        assertEquals(0, source.count());
+        assertEquals(0, source.toArray().length);
+        assertEmpty(source.boxed());
+    }
+
+    @Test
+    void Aggregates() {
+        IDoubleEnumerable source = Linq.ofDouble(new double[]{5.0d, 3.0d, 8.0d, 1.0d, 9.0d, 2.0d});
+        assertEquals(6, source.count());
+        assertEquals(28.0d, source.sum());
+        assertEquals(1.0d, source.min());
+        assertEquals(9.0d, source.max());
+        assertEquals(28d / 6, source.average());
+        assertEquals(Linq.of(5.0d, 3.0d, 8.0d, 1.0d, 9.0d, 2.0d), source.boxed());
+    }
+
+    @Test
+    void Empty() {
+        IDoubleEnumerable source = Linq.ofDouble(new double[0]);
+        assertEquals(0.0d, source.sum());
+        assertThrows(InvalidOperationException.class, () -> source.min());
+        assertThrows(InvalidOperationException.class, () -> source.max());
+        assertThrows(InvalidOperationException.class, () -> source.average());
+        assertThrows(InvalidOperationException.class, () -> source.where(x -> true).min());
+    }
+
+    @Test
+    void WhereSelect() {
+        IDoubleEnumerable source = Linq.ofDouble(new double[]{5.0d, 3.0d, 8.0d, 1.0d, 9.0d, 2.0d});
+        IDoubleEnumerable query = source.where(x -> x > 2).where(x -> x < 9).select(x -> x * 10).select(x -> x + 1);
+        double[] expected = {51.0d, 31.0d, 81.0d};
+        assertEquals(Linq.of(expected), Linq.of(query.toArray()));
+        assertEquals(Linq.of(expected), query.boxed());
+        assertEquals(3, query.count());
+        assertEquals(163.0d, query.sum());
+
+        List<Double> list = new ArrayList<>();
+        query.forEach(list::add);
+        assertEquals(Linq.of(expected), Linq.of(list));
+
+        assertEquals(Linq.of(10L, 6L, 16L, 2L, 18L, 4L), source.selectLong(x -> (long) x * 2).boxed());
+        assertEquals(Linq.of(5d, 3d, 8d, 1d, 9d, 2d), source.select(x -> x).boxed());
+    }
+
+    @Test
+    void FromEnumerable() {
+        IEnumerable<String> source = Linq.of("a", "bb", "ccc");
+        IDoubleEnumerable lengths = source.selectDouble(x -> x.length());
+        assertEquals(6.0d, lengths.sum());
+        assertEquals(Linq.of(1.0d, 2.0d, 3.0d), lengths.boxed());
+        assertEquals(2d, lengths.average());
+    }
+
+    @Test
+    void Reenumerate() {
+        IDoubleEnumerable query = Linq.ofDouble(new double[]{5.0d, 3.0d, 8.0d, 1.0d, 9.0d, 2.0d}).where(x -> x % 2 == 0);
+        assertEquals(query.sum(), query.sum());
+        assertEquals(Linq.of(query.toArray()), Linq.of(query.toArray()));
+    }
+
+    @Test
+    void NaN() {
+        assertTrue(Double.isNaN(Linq.ofDouble(new double[]{1d, Double.NaN, 3d}).min()));
+        assertEquals(3d, Linq.ofDouble(new double[]{1d, Double.NaN, 3d}).max());
+        assertTrue(Double.isNaN(Linq.ofDouble(new double[]{Double.NaN, Double.NaN}).max()));
+    }
+}
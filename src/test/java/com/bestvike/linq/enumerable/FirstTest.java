@@ -8,6 +8,7 @@ import com.bestvike.linq.Linq;
 import com.bestvike.linq.entity.Department;
 import com.bestvike.linq.entity.Employee;
 import com.bestvike.linq.exception.ArgumentNullException;
+import com.bestvike.linq.exception.ArgumentOutOfRangeException;
 import com.bestvike.linq.exception.InvalidOperationException;
 import com.bestvike.linq.util.ArrayUtils;
 import org.junit.jupiter.api.Test;
@@ -224,4 +225,18 @@ class FirstTest extends TestCase {
         } catch (InvalidOperationException ignored) {
         }
     }
+
+    @Test
+    void NullElementOfPartition() {
+        IEnumerable<Integer> source = Linq.of(null, 1, null).skip(0);
+        assertNull(source.first());
+        assertNull(source.last());
+        assertNull(source.elementAt(2));
+        assertNull(source.select(x -> x).first());
+        assertNull(Linq.of(null, 1).orderBy(x -> x == null ? 0 : x).first());
+        assertThrows(InvalidOperationException.class, () -> source.skip(3).first());
+        assertThrows(InvalidOperationException.class, () -> source.skip(3).select(x -> x).last());
+        assertThrows(ArgumentOutOfRangeException.class, () -> source.elementAt(3));
+        assertNull(source.skip(3).elementAtOrDefault(0));
+    }
 }
@@ -0,0 +1,138 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.ArgumentNullException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+class ForEachTest extends TestCase {
+    @Test
+    void NullArguments() {
+        assertThrows(ArgumentNullException.class, () -> ForEach.forEach(null, x -> {
+        }));
+        assertThrows(ArgumentNullException.class, () -> Linq.range(0, 3).forEach(null));
+    }
+
+    @Test
+    void SameResultsAsEnumerator() {
+        List<Integer> list = new ArrayList<>(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10));
+        List<IEnumerable<Integer>> sources = Arrays.asList(
+                Linq.of(list),
+                Linq.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10),
+                Linq.of(new int[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10}),
+                NumberRangeGuaranteedNotCollectionType(1, 10));
+        for (IEnumerable<Integer> source : sources) {
+            assertForEach(source.where(x -> x % 2 == 0));
+            assertForEach(source.select(x -> x * 3));
+            assertForEach(source.where(x -> x > 2).select(x -> x + 1).where(x -> x < 9));
+            assertForEach(source.select(x -> x * 2).where(x -> x > 4).select(x -> -x));
+            assertForEach(source.skip(2).take(5));
+            assertForEach(source.where(x -> x != 3).skip(1).take(4).select(x -> x * 10));
+            assertForEach(source.select(x -> x).take(3).skip(1));
+
+            IEnumerable<Integer> query = source.where(x -> x > 3).select(x -> x * 2).skip(1).take(3);
+            assertEquals(3, query.count());
+            assertEquals(2, query.count(x -> x > 10));
+            assertEquals(3L, query.longCount());
+            assertEquals(36, query.sumInt());
+            assertEquals(36L, query.sumLong(x -> (long) x));
+            assertEquals(36d, query.sumDouble(x -> (double) x));
+            assertEquals(36, query.aggregate(Integer::sum));
+            assertEquals("36", query.aggregate(0, Integer::sum, String::valueOf));
+            assertEquals(Linq.of(10, 12, 14), Linq.of(query.toList()));
+            assertEquals(Linq.of(10, 12, 14), query.toArray());
+        }
+    }
+
+    @Test
+    void TakeStopsPullingSource() {
+        int[] pulled = new int[1];
+        IEnumerable<Integer> source = NumberRangeGuaranteedNotCollectionType(0, 100).select(x -> {
+            pulled[0]++;
+            return x;
+        });
+
+        List<Integer> result = new ArrayList<>();
+        source.skip(2).take(3).forEach((Consumer<Integer>) result::add);
+        assertEquals(Linq.of(2, 3, 4), Linq.of(result));
+        assertEquals(5, pulled[0]);
+
+        pulled[0] = 0;
+        assertEquals(3, source.where(x -> x % 2 == 0).take(3).toList().size());
+        assertEquals(5, pulled[0]);
+    }
+
+    @Test
+    void ListModifiedWhileEnumerating() {
+        List<Integer> list = new ArrayList<>(Arrays.asList(1, 2, 3));
+        assertThrows(ConcurrentModificationException.class, () -> Linq.of(list).aggregate(0, (acc, x) -> {
+            list.add(x);
+            return acc + x;
+        }));
+        assertThrows(ConcurrentModificationException.class, () -> Linq.of(list).forEach(x -> list.add(x)));
+        assertThrows(ConcurrentModificationException.class, () -> Linq.of(list).count(x -> list.add(x)));
+        assertThrows(ConcurrentModificationException.class, () -> Linq.of(list).where(x -> list.add(x)).forEach(x -> {
+        }));
+        assertThrows(ConcurrentModificationException.class, () -> Linq.of(list).select(x -> list.add(x)).forEach(x -> {
+        }));
+        assertThrows(ConcurrentModificationException.class, () -> Linq.of(list).sumInt(x -> {
+            list.add(x);
+            return x;
+        }));
+
+        // Same size afterwards, the list is still seen to change.
+        List<Integer> replaced = new ArrayList<>(Arrays.asList(1, 2, 3));
+        assertThrows(ConcurrentModificationException.class, () -> Linq.of(replaced).forEach(x -> {
+            replaced.remove(0);
+            replaced.add(x);
+        }));
+        assertThrows(ConcurrentModificationException.class, () -> Linq.of(replaced).sumInt(x -> {
+            replaced.remove(0);
+            replaced.add(x);
+            return x;
+        }));
+        assertThrows(ConcurrentModificationException.class, () -> Linq.of(replaced).aggregate(0, (acc, x) -> {
+            replaced.remove(0);
+            replaced.add(x);
+            return acc + x;
+        }));
+        List<Integer> linked = new LinkedList<>(Arrays.asList(1, 2, 3));
+        assertThrows(ConcurrentModificationException.class, () -> Linq.of(linked).sumInt(x -> {
+            linked.remove(0);
+            linked.add(x);
+            return x;
+        }));
+
+        // Copy on write lists enumerate a snapshot.
+        List<Integer> snapshot = new CopyOnWriteArrayList<>(Arrays.asList(1, 2, 3));
+        assertEquals(6, Linq.of(snapshot).sumInt(x -> {
+            snapshot.add(x);
+            return x;
+        }));
+        assertEquals(6, snapshot.size());
+    }
+
+    private static <T> void assertForEach(IEnumerable<T> source) {
+        List<T> pushed = new ArrayList<>();
+        source.forEach((Consumer<T>) pushed::add);
+        List<T> pulled = new ArrayList<>();
+        for (T item : source)
+            pulled.add(item);
+        assertEquals(Linq.of(pulled), Linq.of(pushed));
+        assertEquals(Linq.of(pulled), source.toArray());
+        assertEquals(Linq.of(pulled), Linq.of(source.toList()));
+        assertEquals(pulled.size(), source.count());
+    }
+}
@@ -771,6 +771,45 @@ class GroupByTest extends TestCase {
         assertNotNull(key);
     }
 
+    @Test
+    void GroupingsShareElementsInSourceOrder() {
+        IEnumerable<Integer> source = Linq.range(0, 100).select(x -> x * 7 % 100);
+        Array<IGrouping<Integer, Integer>> groupings = source.groupBy(x -> x % 3).toArray();
+        assertEquals(3, groupings._getCount());
+        for (IGrouping<Integer, Integer> grouping : groupings) {
+            IEnumerable<Integer> expected = source.where(x -> x % 3 == grouping.getKey());
+            assertEquals(expected, grouping);
+            assertEquals(expected, grouping.toArray());
+            assertEquals(expected, Linq.of(grouping.toList()));
+
+            IList<Integer> list = (IList<Integer>) grouping;
+            Integer first = expected.first();
+            Integer last = expected.last();
+            assertEquals(0, list._indexOf(first));
+            assertEquals(list._getCount() - 1, list._lastIndexOf(last));
+            assertEquals(-1, list._indexOf(-1));
+            assertEquals(1, list._findIndex(x -> x.equals(expected.elementAt(1))));
+            assertEquals(last, list.get(list._getCount() - 1));
+            assertTrue(list._contains(last));
+            assertFalse(list._contains(grouping.getKey() == 0 ? 1 : 0));
+            assertThrows(ArgumentOutOfRangeException.class, () -> list.get(list._getCount()));
+        }
+        assertEquals(source.where(x -> x % 3 == 1).sumInt(), source.groupBy(x -> x % 3, (k, e) -> e.sumInt()).elementAt(1));
+    }
+
+    @Test
+    void GroupByPrimitiveKeys() {
+        IEnumerable<Integer> source = Linq.range(-500, 1000).select(x -> x * 7919 % 173);
+        assertEquals(source.groupBy(x -> x % 13).select(g -> Tuple.create(g.getKey(), g.toList())), source.groupByInt(x -> x % 13).select(g -> Tuple.create(g.getKey(), g.toList())));
+        assertEquals(source.groupBy(x -> (long) x << 33, x -> -x).select(g -> Tuple.create(g.getKey(), g.toList())), source.groupByLong(x -> (long) x << 33, x -> -x).select(g -> Tuple.create(g.getKey(), g.toList())));
+        assertEquals(source.distinct().count(), source.groupByInt(x -> x).count());
+        assertEmpty(Linq.<Integer>empty().groupByLong(x -> x));
+
+        assertThrows(ArgumentNullException.class, () -> GroupBy.groupByInt(null, x -> 0));
+        assertThrows(ArgumentNullException.class, () -> source.groupByInt(null));
+        assertThrows(ArgumentNullException.class, () -> source.groupByLong(x -> x, (Func1<Integer, Integer>) null));
+    }
+
     @Test
     void testGroupByWithKeySelector() {
         String s = Linq.of(emps)
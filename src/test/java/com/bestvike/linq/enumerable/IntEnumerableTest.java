@@ -0,0 +1,95 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.linq.IIntEnumerable;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.ArgumentNullException;
+import com.bestvike.linq.exception.InvalidOperationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+class IntEnumerableTest extends TestCase {
+    @Test
+    void NullArguments() {
+        IIntEnumerable source = Linq.ofInt(new int[]{5, 3, 8, 1, 9, 2});
+        assertThrows(ArgumentNullException.class, () -> source.where(null));
+        assertThrows(ArgumentNullException.class, () -> source.select(null));
+        assertThrows(ArgumentNullException.class, () -> source.forEach(null));
+        assertThrows(ArgumentNullException.class, () -> Linq.of("a").selectInt(null));
+        assertThrows(ArgumentNullException.class, () -> IntEnumerable.sum(null));
+    }
+
+    @Test
+    void NullArrayIsEmpty() {
+        IIntEnumerable source = Linq.ofInt(null);
+        assertEquals(0, source.count());
+        assertEquals(0, source.toArray().length);
+        assertEmpty(source.boxed());
+    }
+
+    @Test
+    void Aggregates() {
+        IIntEnumerable source = Linq.ofInt(new int[]{5, 3, 8, 1, 9, 2});
+        assertEquals(6, source.count());
+        assertEquals(28, source.sum());
+        assertEquals(1, source.min());
+        assertEquals(9, source.max());
+        assertEquals(28d / 6, source.average());
+        assertEquals(Linq.of(5, 3, 8, 1, 9, 2), source.boxed());
+    }
+
+    @Test
+    void Empty() {
+        IIntEnumerable source = Linq.ofInt(new int[0]);
+        assertEquals(0, source.sum());
+        assertThrows(InvalidOperationException.class, () -> source.min());
+        assertThrows(InvalidOperationException.class, () -> source.max());
+        assertThrows(InvalidOperationException.class, () -> source.average());
+        assertThrows(InvalidOperationException.class, () -> source.where(x -> true).min());
+    }
+
+    @Test
+    void WhereSelect() {
+        IIntEnumerable source = Linq.ofInt(new int[]{5, 3, 8, 1, 9, 2});
+        IIntEnumerable query = source.where(x -> x > 2).where(x -> x < 9).select(x -> x * 10).select(x -> x + 1);
+        int[] expected = {51, 31, 81};
+        assertEquals(Linq.of(expected), Linq.of(query.toArray()));
+        assertEquals(Linq.of(expected), query.boxed());
+        assertEquals(3, query.count());
+        assertEquals(163, query.sum());
+
+        List<Integer> list = new ArrayList<>();
+        query.forEach(list::add);
+        assertEquals(Linq.of(expected), Linq.of(list));
+
+        assertEquals(Linq.of(10L, 6L, 16L, 2L, 18L, 4L), source.selectLong(x -> (long) x * 2).boxed());
+        assertEquals(Linq.of(5d, 3d, 8d, 1d, 9d, 2d), source.selectDouble(x -> (double) x).boxed());
+    }
+
+    @Test
+    void FromEnumerable() {
+        IEnumerable<String> source = Linq.of("a", "bb", "ccc");
+        IIntEnumerable lengths = source.selectInt(x -> x.length());
+        assertEquals(6, lengths.sum());
+        assertEquals(Linq.of(1, 2, 3), lengths.boxed());
+        assertEquals(2d, lengths.average());
+    }
+
+    @Test
+    void Reenumerate() {
+        IIntEnumerable query = Linq.ofInt(new int[]{5, 3, 8, 1, 9, 2}).where(x -> x % 2 == 0);
+        assertEquals(query.sum(), query.sum());
+        assertEquals(Linq.of(query.toArray()), Linq.of(query.toArray()));
+    }
+
+    @Test
+    void SumOverflow() {
+        assertThrows(ArithmeticException.class, () -> Linq.ofInt(new int[]{Integer.MAX_VALUE, 1}).sum());
+    }
+}
@@ -181,4 +181,14 @@ class IntersectTest extends TestCase {
                 .intersect(Linq.of(emps2), comparer)
                 .count());
     }
+
+    @Test
+    void LargeSecondFiltered() {
+        // Enough distinct items in second to put a Bloom filter in front of the set, most items of first miss.
+        IEnumerable<Integer> first = Linq.range(0, 200000);
+        IEnumerable<Integer> second = Linq.range(0, 100000).select(x -> x * 4);
+        assertEquals(first.where(x -> x % 4 == 0), first.intersect(second));
+        assertEquals(first.where(x -> x % 4 == 0), first.intersectBy(second, x -> x));
+        assertEquals(first.where(x -> x % 4 == 0).select(String::valueOf), first.select(String::valueOf).intersect(second.select(String::valueOf)));
+    }
 }
@@ -4,6 +4,7 @@ import com.bestvike.TestCase;
 import com.bestvike.ValueType;
 import com.bestvike.collections.generic.EqualityComparer;
 import com.bestvike.collections.generic.IEqualityComparer;
+import com.bestvike.collections.generic.StringComparer;
 import com.bestvike.function.Func2;
 import com.bestvike.linq.IEnumerable;
 import com.bestvike.linq.IEnumerator;
@@ -16,6 +17,7 @@ import com.bestvike.tuple.Tuple2;
 import org.junit.jupiter.api.Test;
 
 import java.util.Collections;
+import java.util.List;
 
 /**
  * Created by 许崇雷 on 2018-05-10.
@@ -866,6 +868,82 @@ class JoinTest extends TestCase {
         }
     }
 
+    @Test
+    void JoinPrimitiveKeys() {
+        IEnumerable<Integer> outer = Linq.range(0, 300).select(x -> x * 37 % 101);
+        IEnumerable<Integer> inner = Linq.range(0, 200).select(x -> x * 13 % 53);
+        assertEquals(outer.join(inner, x -> x % 29, y -> y % 29, Tuple::create), outer.joinInt(inner, x -> x % 29, y -> y % 29, Tuple::create));
+        assertEquals(outer.join(inner, x -> (long) x, y -> (long) y * 2, Tuple::create), outer.joinLong(inner, x -> x, y -> y * 2L, Tuple::create));
+        assertEmpty(outer.joinInt(Linq.<Integer>empty(), x -> x, y -> y, Tuple::create));
+        assertEmpty(Linq.<Integer>empty().joinLong(inner, x -> x, y -> y, Tuple::create));
+
+        assertThrows(ArgumentNullException.class, () -> Join.joinInt(null, inner, (Integer x) -> x, (Integer y) -> y, Tuple::create));
+        assertThrows(ArgumentNullException.class, () -> outer.joinInt(null, x -> x, (Integer y) -> y, Tuple::create));
+        assertThrows(ArgumentNullException.class, () -> outer.joinLong(inner, null, y -> y, Tuple::create));
+    }
+
+    @Test
+    void PlannedStrategiesStayLazy() {
+        // A small outer is filtered against a big inner, the outer keys must still be read one at a time.
+        int[] calls = {0};
+        IEnumerable<Integer> outer = Linq.of(new Integer[1000]).select(x -> {
+            calls[0]++;
+            return 1;
+        });
+        IEnumerable<Integer> inner = Linq.range(0, 10000).toArray();
+        assertEquals(Tuple.create(1, 1), outer.join(inner, x -> x, y -> y, Tuple::create).first());
+        assertEquals(1, calls[0]);
+
+        calls[0] = 0;
+        IEnumerable<Integer> tiny = Linq.of(new Integer[4]).select(x -> {
+            calls[0]++;
+            return 2;
+        });
+        assertEquals(Tuple.create(2, 2), tiny.join(Linq.range(0, 5).toArray(), x -> x, y -> y, Tuple::create).first());
+        assertEquals(1, calls[0]);
+
+        // Group joins hand the matches out, each one must stay intact after the next outer element.
+        List<IEnumerable<Integer>> groups = Linq.of(1, 2, 1).groupJoin(Linq.of(1, 2, 1), x -> x, y -> y, (x, g) -> g).toList();
+        assertEquals(Linq.of(1, 1), groups.get(0));
+        assertEquals(Linq.of(2), groups.get(1));
+        assertEquals(Linq.of(1, 1), groups.get(2));
+    }
+
+    @Test
+    void PlannedStrategiesKeepOrder() {
+        // Sizes pick a nested loop, a build filtered by the outer keys and a plain hash join when the counts are cheap.
+        int[][] sizes = {{3, 5}, {10, 1000}, {1000, 10}, {200, 200}};
+        for (int[] size : sizes) {
+            IEnumerable<Integer> outer = Linq.of(Linq.range(0, size[0]).select(x -> x * 17 % 23 == 0 ? null : x * 17 % 23).toList());
+            IEnumerable<Integer> inner = Linq.range(0, size[1]).select(x -> x * 7 % 29 == 0 ? null : x * 7 % 29).toArray();
+            IEnumerable<Integer> lazyOuter = ForceNotCollection(outer);
+            IEnumerable<Integer> lazyInner = ForceNotCollection(inner);
+            Func2<Integer, Integer, Tuple2<Integer, Integer>> pair = Tuple::create;
+            assertEquals(lazyOuter.join(lazyInner, x -> x, y -> y, pair), outer.join(inner, x -> x, y -> y, pair));
+            assertEquals(lazyOuter.leftJoin(lazyInner, x -> x, y -> y, pair), outer.leftJoin(inner, x -> x, y -> y, pair));
+            assertEquals(lazyOuter.rightJoin(lazyInner, x -> x, y -> y, pair), outer.rightJoin(inner, x -> x, y -> y, pair));
+            assertEquals(lazyOuter.groupJoin(lazyInner, x -> x, y -> y, (x, g) -> Tuple.create(x, g.toList())), outer.groupJoin(inner, x -> x, y -> y, (x, g) -> Tuple.create(x, g.toList())));
+        }
+        assertEmpty(Linq.of(1, 2).join(Linq.range(10, 100).toArray(), x -> x, y -> y, Tuple::create));
+        assertEquals(2, Linq.of("a", "B").join(Linq.of("A", "b", "c"), x -> x, y -> y, Tuple::create, StringComparer.OrdinalIgnoreCase).count());
+    }
+
+    @Test
+    void LargeBuildSideFiltered() {
+        // Enough distinct build keys to put a Bloom filter in front of the lookup, most probes miss.
+        IEnumerable<Integer> inner = Linq.range(0, 100000).select(x -> x * 3);
+        IEnumerable<Integer> outer = Linq.range(0, 50000).select(x -> x * 7);
+        IEnumerable<Integer> hits = outer.where(x -> x % 3 == 0 && x < 300000);
+        assertEquals(hits.select(x -> Tuple.create(x, x)), outer.join(inner, x -> x, y -> y, Tuple::create));
+        assertEquals(outer.select(x -> x % 3 == 0 && x < 300000), outer.leftJoin(inner, x -> x, y -> y, (x, y) -> y != null));
+        assertEquals(hits.count(), outer.groupJoin(inner, x -> x, y -> y, (x, g) -> g.count()).sumInt());
+
+        // Many distinct probe keys against a much larger build side filter the build side instead.
+        IEnumerable<Integer> probe = Linq.range(0, 70000).select(x -> x * 5).toArray();
+        IEnumerable<Integer> build = Linq.range(0, 300000).toArray();
+        assertEquals(probe.where(x -> x < 300000).select(x -> Tuple.create(x, x)), probe.join(build, x -> x, y -> y, Tuple::create));
+    }
+
     //struct
     private static final class CustomerRec extends ValueType {
         final String name;
@@ -0,0 +1,95 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.linq.ILongEnumerable;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.ArgumentNullException;
+import com.bestvike.linq.exception.InvalidOperationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+class LongEnumerableTest extends TestCase {
+    @Test
+    void NullArguments() {
+        ILongEnumerable source = Linq.ofLong(new long[]{5L, 3L, 8L, 1L, 9L, 2L});
+        assertThrows(ArgumentNullException.class, () -> source.where(null));
+        assertThrows(ArgumentNullException.class, () -> source.select(null));
+        assertThrows(ArgumentNullException.class, () -> source.forEach(null));
+        assertThrows(ArgumentNullException.class, () -> Linq.of("a").selectLong(null));
+        assertThrows(ArgumentNullException.class, () -> LongEnumerable.sum(null));
+    }
+
+    @Test
+    void NullArrayIsEmpty() {
+        ILongEnumerable source = Linq.ofLong(null);
+        assertEquals(0, source.count());
+        assertEquals(0, source.toArray().length);
+        assertEmpty(source.boxed());
+    }
+
+    @Test
+    void Aggregates() {
+        ILongEnumerable source = Linq.ofLong(new long[]{5L, 3L, 8L, 1L, 9L, 2L});
+        assertEquals(6, source.count());
+        assertEquals(28L, source.sum());
+        assertEquals(1L, source.min());
+        assertEquals(9L, source.max());
+        assertEquals(28d / 6, source.average());
+        assertEquals(Linq.of(5L, 3L, 8L, 1L, 9L, 2L), source.boxed());
+    }
+
+    @Test
+    void Empty() {
+        ILongEnumerable source = Linq.ofLong(new long[0]);
+        assertEquals(0L, source.sum());
+        assertThrows(InvalidOperationException.class, () -> source.min());
+        assertThrows(InvalidOperationException.class, () -> source.max());
+        assertThrows(InvalidOperationException.class, () -> source.average());
+        assertThrows(InvalidOperationException.class, () -> source.where(x -> true).min());
+    }
+
+    @Test
+    void WhereSelect() {
+        ILongEnumerable source = Linq.ofLong(new long[]{5L, 3L, 8L, 1L, 9L, 2L});
+        ILongEnumerable query = source.where(x -> x > 2).where(x -> x < 9).select(x -> x * 10).select(x -> x + 1);
+        long[] expected = {51L, 31L, 81L};
+        assertEquals(Linq.of(expected), Linq.of(query.toArray()));
+        assertEquals(Linq.of(expected), query.boxed());
+        assertEquals(3, query.count());
+        assertEquals(163L, query.sum());
+
+        List<Long> list = new ArrayList<>();
+        query.forEach(list::add);
+        assertEquals(Linq.of(expected), Linq.of(list));
+
+        assertEquals(Linq.of(10, 6, 16, 2, 18, 4), source.selectInt(x -> (int) x * 2).boxed());
+        assertEquals(Linq.of(5d, 3d, 8d, 1d, 9d, 2d), source.selectDouble(x -> (double) x).boxed());
+    }
+
+    @Test
+    void FromEnumerable() {
+        IEnumerable<String> source = Linq.of("a", "bb", "ccc");
+        ILongEnumerable lengths = source.selectLong(x -> x.length());
+        assertEquals(6L, lengths.sum());
+        assertEquals(Linq.of(1L, 2L, 3L), lengths.boxed());
+        assertEquals(2d, lengths.average());
+    }
+
+    @Test
+    void Reenumerate() {
+        ILongEnumerable query = Linq.ofLong(new long[]{5L, 3L, 8L, 1L, 9L, 2L}).where(x -> x % 2 == 0);
+        assertEquals(query.sum(), query.sum());
+        assertEquals(Linq.of(query.toArray()), Linq.of(query.toArray()));
+    }
+
+    @Test
+    void SumOverflow() {
+        assertThrows(ArithmeticException.class, () -> Linq.ofLong(new long[]{Long.MAX_VALUE, 1}).sum());
+    }
+}
@@ -0,0 +1,40 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.ArgumentNullException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+class MergeIntersectTest extends TestCase {
+    @Test
+    void SameResultsAsHashIntersect() {
+        IEnumerable<Integer> first = Linq.of(1, 1, 2, 4, 4, 4, 7, 9, 12);
+        IEnumerable<Integer> second = Linq.of(0, 2, 2, 3, 4, 9, 10, 12, 12, 15);
+        assertEquals(first.intersect(second).orderBy(x -> x), first.mergeIntersect(second, x -> x));
+        assertEquals(second.intersect(first).orderBy(x -> x), second.mergeIntersect(first, x -> x));
+        assertEquals(first.distinct(), first.mergeIntersect(first, x -> x));
+        assertEquals(first.intersect(Linq.<Integer>empty()).orderBy(x -> x), first.mergeIntersect(Linq.<Integer>empty(), x -> x));
+        assertEquals(Linq.<Integer>empty().intersect(second).orderBy(x -> x), Linq.<Integer>empty().mergeIntersect(second, x -> x));
+    }
+
+    @Test
+    void KeySelectorAndComparer() {
+        IEnumerable<String> first = Linq.of("dd", "ccc", "Bb", "a");
+        IEnumerable<String> second = Linq.of("EE", "bb", "bB", "A");
+        Comparator<String> descending = Comparator.<String>reverseOrder();
+        assertEquals(Linq.of("Bb", "a"), first.mergeIntersect(second, String::toLowerCase, descending));
+    }
+
+    @Test
+    void NullArguments() {
+        assertThrows(ArgumentNullException.class, () -> MergeIntersect.mergeIntersect(null, Linq.of(1), x -> x));
+        assertThrows(ArgumentNullException.class, () -> Linq.of(1).mergeIntersect(null, x -> x));
+        assertThrows(ArgumentNullException.class, () -> Linq.of(1).mergeIntersect(Linq.of(1), null));
+    }
+}
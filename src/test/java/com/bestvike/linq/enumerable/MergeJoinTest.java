@@ -0,0 +1,59 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.function.Func2;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.ArgumentNullException;
+import com.bestvike.tuple.Tuple;
+import com.bestvike.tuple.Tuple2;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+class MergeJoinTest extends TestCase {
+    private static final IEnumerable<Integer> Outer = Linq.of(null, null, 1, 2, 2, 4, 5, 5, 5, 8, 9);
+    private static final IEnumerable<Integer> Inner = Linq.of(null, 0, 2, 2, 3, 5, 5, 6, 9, 9, 10);
+
+    @Test
+    void SameResultsAsHashJoin() {
+        Func2<Integer, Integer, Tuple2<Integer, Integer>> pair = Tuple::create;
+        assertEquals(Outer.join(Inner, x -> x, y -> y, pair), Outer.mergeJoin(Inner, x -> x, y -> y, pair));
+        assertEquals(Outer.leftJoin(Inner, x -> x, y -> y, pair), Outer.mergeLeftJoin(Inner, x -> x, y -> y, pair));
+        assertEquals(Outer.rightJoin(Inner, x -> x, y -> y, -1, pair), Outer.mergeRightJoin(Inner, x -> x, y -> y, -1, pair));
+        assertEquals(Outer.fullJoin(Inner, x -> x, y -> y, -1, -2, pair).select(String::valueOf).orderBy(x -> x),
+                Outer.mergeFullJoin(Inner, x -> x, y -> y, -1, -2, pair).select(String::valueOf).orderBy(x -> x));
+        assertEquals(Linq.of("(null, -2)", "(null, -2)", "(-1, null)", "(-1, 0)", "(1, -2)"),
+                Outer.mergeFullJoin(Inner, x -> x, y -> y, -1, -2, pair).take(5).select(String::valueOf));
+    }
+
+    @Test
+    void Descending() {
+        Comparator<Integer> descending = Comparator.reverseOrder();
+        IEnumerable<Integer> outer = Linq.of(9, 7, 7, 3, 1);
+        IEnumerable<Integer> inner = Linq.of(8, 7, 3, 3, 0);
+        assertEquals(Linq.of(7, 7, 3, 3), outer.mergeJoin(inner, x -> x, y -> y, (x, y) -> x, descending));
+        assertEquals(Linq.of(9, 7, 7, 3, 3, 1), outer.mergeLeftJoin(inner, x -> x, y -> y, (x, y) -> x, descending));
+        assertEquals(Linq.of(0, 7, 7, 3, 3, 0), outer.mergeRightJoin(inner, x -> x, y -> y, 0, (x, y) -> x, descending));
+    }
+
+    @Test
+    void EmptySides() {
+        assertEmpty(Outer.mergeJoin(Linq.<Integer>empty(), x -> x, y -> y, Tuple::create));
+        assertEmpty(Linq.<Integer>empty().mergeJoin(Inner, x -> x, y -> y, Tuple::create));
+        assertEquals(Outer.count(), Outer.mergeLeftJoin(Linq.<Integer>empty(), x -> x, y -> y, Tuple::create).count());
+        assertEquals(Inner.count(), Linq.<Integer>empty().mergeFullJoin(Inner, x -> x, y -> y, Tuple::create).count());
+    }
+
+    @Test
+    void NullArguments() {
+        assertThrows(ArgumentNullException.class, () -> MergeJoin.mergeJoin(null, Inner, x -> x, y -> y, Tuple::create));
+        assertThrows(ArgumentNullException.class, () -> Outer.mergeJoin(null, x -> x, y -> y, Tuple::create));
+        assertThrows(ArgumentNullException.class, () -> Outer.mergeLeftJoin(Inner, null, y -> y, Tuple::create));
+        assertThrows(ArgumentNullException.class, () -> Outer.mergeRightJoin(Inner, x -> x, null, Tuple::create));
+        assertThrows(ArgumentNullException.class, () -> Outer.mergeFullJoin(Inner, x -> x, y -> y, null));
+    }
+}
@@ -0,0 +1,40 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.ArgumentNullException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+class MergeUnionTest extends TestCase {
+    @Test
+    void SameResultsAsHashUnion() {
+        IEnumerable<Integer> first = Linq.of(1, 1, 2, 4, 4, 4, 7, 9, 12);
+        IEnumerable<Integer> second = Linq.of(0, 2, 2, 3, 4, 9, 10, 12, 12, 15);
+        assertEquals(first.union(second).orderBy(x -> x), first.mergeUnion(second, x -> x));
+        assertEquals(second.union(first).orderBy(x -> x), second.mergeUnion(first, x -> x));
+        assertEquals(first.distinct(), first.mergeUnion(first, x -> x));
+        assertEquals(first.union(Linq.<Integer>empty()).orderBy(x -> x), first.mergeUnion(Linq.<Integer>empty(), x -> x));
+        assertEquals(Linq.<Integer>empty().union(second).orderBy(x -> x), Linq.<Integer>empty().mergeUnion(second, x -> x));
+    }
+
+    @Test
+    void KeySelectorAndComparer() {
+        IEnumerable<String> first = Linq.of("dd", "ccc", "Bb", "a");
+        IEnumerable<String> second = Linq.of("EE", "bb", "bB", "A");
+        Comparator<String> descending = Comparator.<String>reverseOrder();
+        assertEquals(Linq.of("EE", "dd", "ccc", "Bb", "a"), first.mergeUnion(second, String::toLowerCase, descending));
+    }
+
+    @Test
+    void NullArguments() {
+        assertThrows(ArgumentNullException.class, () -> MergeUnion.mergeUnion(null, Linq.of(1), x -> x));
+        assertThrows(ArgumentNullException.class, () -> Linq.of(1).mergeUnion(null, x -> x));
+        assertThrows(ArgumentNullException.class, () -> Linq.of(1).mergeUnion(Linq.of(1), null));
+    }
+}
@@ -0,0 +1,124 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.exception.InvalidOperationException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+class MoveNextBatchTest extends TestCase {
+    private static final Integer[] Array = Linq.range(0, 300).toArray(Integer.class);
+
+    private static <T> List<T> readBatches(IEnumerable<T> source, int batchSize) {
+        List<T> list = new ArrayList<>();
+        Object[] buffer = new Object[batchSize + 2];
+        try (IEnumerator<T> e = source.enumerator()) {
+            int count;
+            while ((count = e.moveNextBatch(buffer, 2, batchSize)) > 0) {
+                assertTrue(count <= batchSize);
+                for (int i = 0; i < count; i++)
+                    list.add((T) buffer[2 + i]);
+            }
+            assertEquals(0, e.moveNextBatch(buffer, 2, batchSize));
+        }
+        return list;
+    }
+
+    private static <T> void assertBatches(IEnumerable<T> source) {
+        List<T> expected = source.toList();
+        for (int batchSize : new int[]{1, 2, 7, 64, 1000})
+            assertEquals(Linq.of(expected), Linq.of(readBatches(source, batchSize)));
+    }
+
+    private static <T> void assertMixed(IEnumerable<T> source) {
+        List<T> list = new ArrayList<>();
+        Object[] buffer = new Object[5];
+        try (IEnumerator<T> e = source.enumerator()) {
+            while (true) {
+                if (!e.moveNext())
+                    break;
+                list.add(e.current());
+                int count = e.moveNextBatch(buffer, 0, buffer.length);
+                if (count == 0)
+                    break;
+                for (int i = 0; i < count; i++)
+                    list.add((T) buffer[i]);
+            }
+        }
+        assertEquals(source, Linq.of(list));
+    }
+
+    @Test
+    void Sources() {
+        assertBatches(Linq.of(Array));
+        assertBatches(Linq.of(new int[]{1, 2, 3, 4, 5, 6, 7, 8, 9}));
+        assertBatches(Linq.of(Arrays.asList(Array)));
+        assertBatches(Linq.of(new LinkedList<>(Arrays.asList(Array))));
+        assertBatches(Linq.range(0, 300));
+        assertBatches(Linq.<Integer>empty());
+        assertBatches(Linq.of(new Integer[0]));
+    }
+
+    @Test
+    void Operators() {
+        assertBatches(Linq.of(Array).select(x -> x * 2));
+        assertBatches(Linq.of(Arrays.asList(Array)).select(x -> x * 2));
+        assertBatches(Linq.range(0, 300).select(x -> x * 2).select(x -> x + 1));
+        assertBatches(Linq.of(Array).where(x -> x % 3 == 0));
+        assertBatches(Linq.of(Arrays.asList(Array)).where(x -> x % 3 == 0));
+        assertBatches(Linq.range(0, 300).where(x -> x % 3 == 0).where(x -> x % 2 == 0));
+        assertBatches(Linq.range(0, 300).where(x -> x > 1000));
+        assertBatches(Linq.of(Array).concat(Linq.range(0, 50)).concat(Linq.of(Arrays.asList(Array))));
+        assertBatches(Linq.of(Arrays.asList(Array)).skip(10).take(100));
+        assertBatches(Linq.range(0, 300).where(x -> x % 2 == 0).skip(10).take(50));
+        assertBatches(Linq.range(0, 300).where(x -> x % 2 == 0).skip(10));
+        assertBatches(Linq.range(0, 300).where(x -> x % 2 == 0).skip(500));
+    }
+
+    @Test
+    void MixedWithMoveNext() {
+        assertMixed(Linq.of(Array));
+        assertMixed(Linq.of(Array).select(x -> x * 2));
+        assertMixed(Linq.of(Arrays.asList(Array)));
+        assertMixed(Linq.range(0, 300).where(x -> x % 3 == 0));
+        assertMixed(Linq.of(Array).concat(Linq.range(0, 50)));
+        assertMixed(Linq.range(0, 300).where(x -> x % 2 == 0).skip(10).take(50));
+    }
+
+    @Test
+    void TakeDoesNotReadPastLimit() {
+        AtomicInteger evaluated = new AtomicInteger();
+        IEnumerable<Integer> source = Linq.range(0, 1000).where(x -> evaluated.incrementAndGet() > 0).skip(3).take(10);
+        assertEquals(10, readBatches(source, 64).size());
+        assertEquals(13, evaluated.get());
+    }
+
+    @Test
+    void Aggregates() {
+        IEnumerable<Integer> source = Linq.range(0, 1000).where(x -> x % 7 != 0).select(x -> (x * 7919) % 1000 - 500);
+        assertEquals(Linq.of(source.toList()).sumInt(), source.sumInt());
+        List<Integer> list = source.toList();
+        assertEquals((int) list.stream().min(Integer::compare).get(), source.minInt());
+        assertEquals((int) list.stream().max(Integer::compare).get(), source.maxInt());
+        assertEquals((long) list.stream().min(Integer::compare).get(), source.minLong(x -> (long) x));
+        assertEquals(Linq.of(source.toList()).toArray(), source.toArray());
+
+        IEnumerable<Double> doubles = Linq.range(0, 200).select(x -> x == 150 ? Double.NaN : x);
+        assertEquals(Double.NaN, doubles.minDouble());
+        assertEquals(199d, doubles.maxDouble());
+        assertEquals(Double.NaN, Linq.of(Double.NaN, Double.NaN).maxDouble());
+        assertEquals(3d, Linq.range(0, 100).select(x -> x < 99 ? Double.NaN : 3d).maxDouble());
+        assertEquals(Float.NaN, Linq.range(0, 100).select(x -> x < 99 ? x : Float.NaN).minFloat());
+        assertThrows(InvalidOperationException.class, () -> Linq.range(0, 10).where(x -> x > 10).maxInt());
+    }
+}
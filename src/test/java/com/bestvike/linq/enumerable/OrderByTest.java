@@ -12,6 +12,7 @@ import com.bestvike.linq.IEnumerator;
 import com.bestvike.linq.IOrderedEnumerable;
 import com.bestvike.linq.Linq;
 import com.bestvike.linq.exception.ArgumentNullException;
+import com.bestvike.linq.exception.ArgumentOutOfRangeException;
 import com.bestvike.linq.exception.InvalidOperationException;
 import com.bestvike.linq.util.ArgsList;
 import com.bestvike.ref;
@@ -596,6 +597,106 @@ class OrderByTest extends TestCase {
         }
     }
 
+    @Test
+    void TopKMatchesFullSort() {
+        Random r = new Random(42);
+        IEnumerable<Tuple2<Integer, Integer>> items = Linq.range(0, 2000).select(i -> Tuple.create(r.nextInt(50), i)).toArray();
+        for (IEnumerable<Tuple2<Integer, Integer>> source : Arrays.asList(items, ForceNotCollection(items))) {
+            IOrderedEnumerable<Tuple2<Integer, Integer>> byKey = source.orderBy(t -> t.getItem1());
+            IOrderedEnumerable<Tuple2<Integer, Integer>> byKeyDescending = source.orderByDescending(t -> t.getItem1());
+            IOrderedEnumerable<Tuple2<Integer, Integer>> thenBy = source.orderBy(t -> t.getItem1() % 7).thenByDescending(t -> t.getItem1());
+            for (IOrderedEnumerable<Tuple2<Integer, Integer>> ordered : Arrays.asList(byKey, byKeyDescending, thenBy)) {
+                IEnumerable<Tuple2<Integer, Integer>> expected = Linq.of(ordered.toList());
+                for (int k : new int[]{1, 2, 10, 100}) {
+                    IEnumerable<Tuple2<Integer, Integer>> top = expected.take(k);
+                    assertEquals(top, ordered.take(k));
+                    assertEquals(top, Linq.of(ordered.take(k).toArray()));
+                    assertEquals(top, Linq.of(ordered.take(k).toList()));
+                    assertEquals(top.skip(k / 2), ordered.take(k).skip(k / 2));
+                    assertEquals(top.skip(1), Linq.of(ordered.skip(1).take(k - 1).toList()));
+                }
+            }
+        }
+    }
+
+    @Test
+    void OrderByPrimitiveKeys() {
+        Random r = new Random(42);
+        IEnumerable<Tuple2<Integer, Integer>> items = Linq.range(0, 5000).select(i -> Tuple.create(r.nextInt(100) - 50, i)).toArray();
+        for (IEnumerable<Tuple2<Integer, Integer>> source : Arrays.asList(items, ForceNotCollection(items))) {
+            assertEquals(source.orderBy(t -> t.getItem1()), source.orderByInt(t -> t.getItem1()));
+            assertEquals(source.orderByDescending(t -> t.getItem1()), source.orderByIntDescending(t -> t.getItem1()));
+            assertEquals(source.orderBy(t -> (long) t.getItem1()), source.orderByLong(t -> (long) t.getItem1()));
+            assertEquals(source.orderByDescending(t -> (long) t.getItem1()), source.orderByLongDescending(t -> (long) t.getItem1()));
+            assertEquals(source.orderBy(t -> t.getItem1() / 3d), source.orderByDouble(t -> t.getItem1() / 3d));
+            assertEquals(source.orderByDescending(t -> t.getItem1() / 3d), source.orderByDoubleDescending(t -> t.getItem1() / 3d));
+            assertEquals(source.orderBy(t -> t.getItem1() % 7).thenByDescending(t -> t.getItem2()), source.orderByInt(t -> t.getItem1() % 7).thenByDescending(t -> t.getItem2()));
+            assertEquals(source.orderBy(t -> t.getItem1()).take(10), source.orderByInt(t -> t.getItem1()).take(10));
+            assertEquals(source.orderBy(t -> t.getItem1()).skip(100).take(1000), source.orderByLong(t -> (long) t.getItem1()).skip(100).take(1000));
+            assertEquals(source.orderBy(t -> t.getItem1()).elementAt(2500), source.orderByDouble(t -> (double) t.getItem1()).elementAt(2500));
+            assertEquals(source.orderBy(t -> t.getItem1()).first(), source.orderByInt(t -> t.getItem1()).first());
+            assertEquals(source.orderBy(t -> t.getItem1()).last(), source.orderByInt(t -> t.getItem1()).last());
+        }
+
+        double[] doubles = {3d, Double.NaN, -0d, 0d, Double.NEGATIVE_INFINITY, 1d};
+        assertEquals(Linq.of(doubles).orderBy(d -> d), Linq.of(doubles).orderByDouble(d -> d));
+        assertThrows(ArgumentNullException.class, () -> Linq.range(0, 3).orderByInt(null));
+    }
+
+    @Test
+    void RadixSortMatchesComparisonSort() {
+        Random r = new Random(42);
+        IEnumerable<Tuple2<Integer, Integer>> items = Linq.range(0, 3000).select(i -> Tuple.create(r.nextInt(), i)).toArray();
+        assertRadixSort(items, t -> t.getItem1());
+        assertRadixSort(items, t -> t.getItem1() % 100);
+        assertRadixSort(items, t -> (long) t.getItem1() * t.getItem1() * (t.getItem1() % 3 - 1));
+        assertRadixSort(items, t -> (double) (t.getItem1() % 50) / 7);
+        assertRadixSort(items, t -> t.getItem1() % 10 == 0 ? Double.NaN : t.getItem1() % 9 == 0 ? -0d : t.getItem1() % 8 == 0 ? 0d : t.getItem1() / 3d);
+        assertRadixSort(items, t -> (float) (t.getItem1() % 1000) / 3);
+        assertRadixSort(items, t -> (short) t.getItem1().intValue());
+        assertRadixSort(items, t -> (byte) t.getItem1().intValue());
+        assertRadixSort(items, t -> (char) t.getItem1().intValue());
+        assertRadixSort(items, t -> t.getItem1() % 10 == 0 ? null : t.getItem1() % 100);
+        assertThrows(ClassCastException.class, () -> items.orderBy(t -> t.getItem1() % 2 == 0 ? (Object) t.getItem1() : (Object) (long) t.getItem1()).toList());
+
+        Comparator<Integer> natural = Integer::compare;
+        assertEquals(items.orderBy(t -> t.getItem1() % 7, natural).thenByDescending(t -> t.getItem1() % 13, natural), items.orderBy(t -> t.getItem1() % 7).thenByDescending(t -> t.getItem1() % 13));
+        assertEquals(items.orderByDescending(t -> t.getItem1() % 7, natural).thenBy(t -> (long) (t.getItem1() % 13)), items.orderByIntDescending(t -> t.getItem1() % 7).thenBy(t -> (long) (t.getItem1() % 13)));
+        assertEquals(items.orderBy(t -> (double) (t.getItem1() % 7), Double::compare), items.orderByDouble(t -> (double) (t.getItem1() % 7)));
+    }
+
+    private static <T, TKey> void assertRadixSort(IEnumerable<T> source, Func1<T, TKey> keySelector) {
+        Comparator<TKey> comparer = Comparer.Default();
+        Comparator<TKey> custom = comparer::compare;
+        assertEquals(source.orderBy(keySelector, custom), source.orderBy(keySelector));
+        assertEquals(source.orderByDescending(keySelector, custom), source.orderByDescending(keySelector));
+        assertEquals(Linq.of(source.orderBy(keySelector, custom).toList()), Linq.of(source.orderBy(keySelector).toList()));
+    }
+
+    @Test
+    void ParallelSortMatchesSerial() {
+        Random r = new Random(42);
+        IEnumerable<Tuple2<Integer, Integer>> items = Linq.range(0, 50000).select(i -> Tuple.create(r.nextInt(1000), i)).toArray();
+        IEnumerable<Tuple2<Integer, Integer>> parallel = items.asParallel().withDegreeOfParallelism(4).asOrdered();
+        assertEquals(items.orderBy(t -> t.getItem1()), parallel.orderBy(t -> t.getItem1()));
+        assertEquals(items.orderByDescending(t -> t.getItem1() % 10).thenBy(t -> -t.getItem1()), parallel.orderByDescending(t -> t.getItem1() % 10).thenBy(t -> -t.getItem1()));
+        assertEquals(items.orderByInt(t -> t.getItem1() % 3).thenByDescending(t -> t.getItem1() % 7), parallel.orderByInt(t -> t.getItem1() % 3).thenByDescending(t -> t.getItem1() % 7));
+        assertEquals(Linq.of(items.orderBy(t -> t.getItem1() / 10).toList()), Linq.of(parallel.orderBy(t -> t.getItem1() / 10).toList()));
+
+        int threshold = OrderBy.getParallelSortThreshold();
+        assertEquals(Integer.MAX_VALUE, threshold);
+        try {
+            OrderBy.setParallelSortThreshold(0);
+            IEnumerable<Tuple2<Integer, Integer>> lazy = ForceNotCollection(items);
+            assertEquals(items.orderBy(t -> t.getItem1(), Integer::compare), lazy.orderBy(t -> t.getItem1()));
+            assertEquals(items.orderByDescending(t -> t.getItem1(), Integer::compare).thenBy(t -> t.getItem2(), Integer::compare), lazy.orderByDescending(t -> t.getItem1()).thenBy(t -> t.getItem2()));
+            assertEquals(Linq.range(0, 3), Linq.of(2, 0, 1).orderBy(x -> x));
+        } finally {
+            OrderBy.setParallelSortThreshold(threshold);
+        }
+        assertThrows(ArgumentOutOfRangeException.class, () -> OrderBy.setParallelSortThreshold(-1));
+    }
+
     @Test
     void testOrderBy() {
         //null 在前,值相等的按原始顺序
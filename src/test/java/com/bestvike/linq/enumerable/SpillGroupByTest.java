@@ -0,0 +1,91 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.collections.generic.StringComparer;
+import com.bestvike.function.Func1;
+import com.bestvike.function.Func2;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IGrouping;
+import com.bestvike.linq.ISerializer;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.Serializer;
+import com.bestvike.linq.SpillOptions;
+import com.bestvike.linq.exception.ArgumentNullException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+class SpillGroupByTest extends SpillTestCase {
+    @Override
+    IEnumerable<?> spill(IEnumerable<Integer> source, SpillOptions options) {
+        return source.spillGroupBy(x -> x % 1000, IntSerializer, options);
+    }
+
+    @Override
+    IEnumerable<?> expected(IEnumerable<Integer> source) {
+        return source.groupBy(x -> x % 1000);
+    }
+
+    @Override
+    IEnumerable<String> describe(IEnumerable<?> result) {
+        return result.select(x -> {
+            IGrouping<?, ?> grouping = (IGrouping<?, ?>) x;
+            return grouping.getKey() + ":" + grouping.joining(",");
+        }).orderBy(x -> x);
+    }
+
+    @Test
+    void SelectorsInMemoryKeepOrder() {
+        SpillOptions options = this.options(10000);
+        assertEquals(Source.groupBy(x -> x % 10), Source.spillGroupBy(x -> x % 10, IntSerializer, options));
+        assertEquals(Source.groupBy(x -> x % 10, x -> -x), Source.spillGroupBy(x -> x % 10, x -> -x, IntSerializer, options));
+        assertEquals(Source.groupBy(x -> x % 10, (k, g) -> k + g.count()), Source.spillGroupBy(x -> x % 10, (k, g) -> k + g.count(), IntSerializer, options));
+        this.assertNoFiles();
+    }
+
+    @Test
+    void SelectorsSpill() {
+        SpillOptions options = this.options(200);
+        this.assertSpillEquals(Source.groupBy(x -> x % 1000, x -> x * 2), Source.spillGroupBy(x -> x % 1000, x -> x * 2, IntSerializer, options));
+        assertEquals(Source.groupBy(x -> x % 1000, (k, g) -> k + "=" + g.sumInt()).orderBy(x -> x),
+                Source.spillGroupBy(x -> x % 1000, (k, g) -> k + "=" + g.sumInt(), IntSerializer, options).orderBy(x -> x));
+        assertEquals(Source.groupBy(x -> x % 1000, x -> x * 2, (k, g) -> k + "=" + g.sumInt()).orderBy(x -> x),
+                Source.spillGroupBy(x -> x % 1000, x -> x * 2, (k, g) -> k + "=" + g.sumInt(), Serializer.Default(), options).orderBy(x -> x));
+        this.assertNoFiles();
+    }
+
+    @Test
+    void SkewedKeyIsLoadedAnyway() {
+        // One key has more elements than the limit, splitting can't help it.
+        IEnumerable<Integer> source = Linq.range(0, 1000).select(x -> x < 600 ? 7 : x);
+        this.assertSpillEquals(source.groupBy(x -> x), source.spillGroupBy(x -> x, IntSerializer, this.options(100)));
+        this.assertNoFiles();
+    }
+
+    @Test
+    void NullKeys() {
+        IEnumerable<Integer> source = Linq.range(0, 1000).select(x -> x % 3 == 0 ? null : x % 50);
+        this.assertSpillEquals(source.groupBy(x -> x), source.spillGroupBy(x -> x, IntSerializer, this.options(100)));
+        this.assertNoFiles();
+    }
+
+    @Test
+    void Comparer() {
+        IEnumerable<String> source = Linq.range(0, 1000).select(x -> (x / 100 % 2 == 0 ? "k" : "K") + x % 100);
+        SpillOptions options = this.options(50);
+        assertEquals(100, source.spillGroupBy(x -> x, Serializer.Default(), options, StringComparer.OrdinalIgnoreCase).count());
+        assertEquals(200, source.spillGroupBy(x -> x, Serializer.Default(), options).count());
+        this.assertNoFiles();
+    }
+
+    @Test
+    void InvalidArguments() {
+        SpillOptions options = this.options(200);
+        assertThrows(ArgumentNullException.class, () -> SpillGroupBy.spillGroupBy(null, x -> x, IntSerializer, options));
+        assertThrows(ArgumentNullException.class, () -> Source.spillGroupBy(null, IntSerializer, options));
+        assertThrows(ArgumentNullException.class, () -> Source.spillGroupBy(x -> x, (ISerializer<Integer>) null, options));
+        assertThrows(ArgumentNullException.class, () -> Source.spillGroupBy(x -> x, IntSerializer, null));
+        assertThrows(ArgumentNullException.class, () -> Source.spillGroupBy(x -> x, (Func1<Integer, Integer>) null, IntSerializer, options));
+        assertThrows(ArgumentNullException.class, () -> Source.spillGroupBy(x -> x, (Func2<Integer, IEnumerable<Integer>, Integer>) null, IntSerializer, options));
+    }
+}
@@ -0,0 +1,80 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.collections.generic.StringComparer;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.Serializer;
+import com.bestvike.linq.SpillOptions;
+import com.bestvike.linq.exception.ArgumentNullException;
+import com.bestvike.tuple.Tuple;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+class SpillJoinTest extends SpillTestCase {
+    private static final IEnumerable<Integer> Outer = Linq.range(0, 3000).select(x -> x % 11 == 0 ? null : x * 7 % 1500);
+    private static final IEnumerable<Integer> Inner = Linq.range(0, 2000).select(x -> x % 13 == 0 ? null : x * 3 % 1000);
+
+    @Override
+    IEnumerable<?> spill(IEnumerable<Integer> source, SpillOptions options) {
+        return source.spillFullJoin(Inner, x -> x % 1500, y -> y, Tuple::create, IntSerializer, IntSerializer, options);
+    }
+
+    @Override
+    IEnumerable<?> expected(IEnumerable<Integer> source) {
+        return source.fullJoin(Inner, x -> x % 1500, y -> y, Tuple::create);
+    }
+
+    @Override
+    IEnumerable<String> describe(IEnumerable<?> result) {
+        return result.select(String::valueOf).orderBy(x -> x);
+    }
+
+    @Test
+    void JoinsInMemoryKeepOrder() {
+        SpillOptions options = this.options(10000);
+        assertEquals(Outer.join(Inner, x -> x, y -> y, Tuple::create), Outer.spillJoin(Inner, x -> x, y -> y, Tuple::create, IntSerializer, IntSerializer, options));
+        assertEquals(Outer.leftJoin(Inner, x -> x, y -> y, -1, Tuple::create), Outer.spillLeftJoin(Inner, x -> x, y -> y, -1, Tuple::create, IntSerializer, IntSerializer, options));
+        assertEquals(Outer.fullJoin(Inner, x -> x, y -> y, -1, -2, Tuple::create), Outer.spillFullJoin(Inner, x -> x, y -> y, -1, -2, Tuple::create, IntSerializer, IntSerializer, options));
+        this.assertNoFiles();
+    }
+
+    @Test
+    void JoinsSpill() {
+        SpillOptions options = this.options(200);
+        this.assertSpillEquals(Outer.join(Inner, x -> x, y -> y, Tuple::create), Outer.spillJoin(Inner, x -> x, y -> y, Tuple::create, IntSerializer, IntSerializer, options));
+        this.assertSpillEquals(Outer.leftJoin(Inner, x -> x, y -> y, -1, Tuple::create), Outer.spillLeftJoin(Inner, x -> x, y -> y, -1, Tuple::create, Serializer.Default(), Serializer.Default(), options));
+        this.assertSpillEquals(Outer.fullJoin(Inner, x -> x, y -> y, -1, -2, Tuple::create), Outer.spillFullJoin(Inner, x -> x, y -> y, -1, -2, Tuple::create, IntSerializer, IntSerializer, options));
+        this.assertNoFiles();
+    }
+
+    @Test
+    void SkewedKeyIsLoadedAnyway() {
+        // One key has more inner elements than the limit, splitting can't help it.
+        IEnumerable<Integer> inner = Linq.range(0, 500).select(x -> x < 400 ? 7 : x);
+        IEnumerable<Integer> outer = Linq.range(0, 600);
+        this.assertSpillEquals(outer.fullJoin(inner, x -> x, y -> y, Tuple::create),
+                outer.spillFullJoin(inner, x -> x, y -> y, Tuple::create, IntSerializer, IntSerializer, this.options(100)));
+        this.assertNoFiles();
+    }
+
+    @Test
+    void Comparer() {
+        IEnumerable<String> outer = Linq.range(0, 200).select(x -> x % 2 == 0 ? "k" + x : "K" + x);
+        IEnumerable<String> inner = Linq.range(0, 300).select(x -> "k" + x);
+        SpillOptions options = this.options(10);
+        assertEquals(200, outer.spillJoin(inner, x -> x, y -> y, Tuple::create, Serializer.Default(), Serializer.Default(), options, StringComparer.OrdinalIgnoreCase).count());
+        assertEquals(100, outer.spillJoin(inner, x -> x, y -> y, Tuple::create, Serializer.Default(), Serializer.Default(), options).count());
+    }
+
+    @Test
+    void InvalidArguments() {
+        SpillOptions options = this.options(200);
+        assertThrows(ArgumentNullException.class, () -> SpillJoin.spillJoin(null, Inner, x -> x, y -> y, Tuple::create, IntSerializer, IntSerializer, options));
+        assertThrows(ArgumentNullException.class, () -> Outer.spillJoin(null, x -> x, y -> y, Tuple::create, IntSerializer, IntSerializer, options));
+        assertThrows(ArgumentNullException.class, () -> Outer.spillJoin(Inner, x -> x, y -> y, Tuple::create, null, IntSerializer, options));
+        assertThrows(ArgumentNullException.class, () -> Outer.spillLeftJoin(Inner, x -> x, y -> y, Tuple::create, IntSerializer, null, options));
+        assertThrows(ArgumentNullException.class, () -> Outer.spillFullJoin(Inner, x -> x, y -> y, Tuple::create, IntSerializer, IntSerializer, null));
+    }
+}
@@ -0,0 +1,92 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.collections.generic.StringComparer;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.Serializer;
+import com.bestvike.linq.SpillOptions;
+import com.bestvike.linq.exception.ArgumentNullException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+class SpillOrderByTest extends SpillTestCase {
+    @Override
+    IEnumerable<?> spill(IEnumerable<Integer> source, SpillOptions options) {
+        return source.spillOrderBy(x -> x, IntSerializer, options);
+    }
+
+    @Override
+    IEnumerable<?> expected(IEnumerable<Integer> source) {
+        return source.orderBy(x -> x);
+    }
+
+    @Test
+    void Descending() {
+        SpillOptions inMemory = this.options(10000);
+        assertEquals(Source.orderBy(x -> x % 10), Source.spillOrderBy(x -> x % 10, IntSerializer, inMemory));
+        assertEquals(Source.orderByDescending(x -> x % 10), Source.spillOrderByDescending(x -> x % 10, IntSerializer, inMemory));
+        assertEquals(Source.orderByDescending(x -> x), Source.spillOrderByDescending(x -> x, IntSerializer, this.options(300)));
+        this.assertNoFiles();
+    }
+
+    @Test
+    void Terminals() {
+        SpillOptions options = this.options(300);
+        assertEquals(Source.orderBy(x -> x).toArray(), Source.spillOrderBy(x -> x, IntSerializer, options).toArray());
+        assertEquals(Source.orderBy(x -> x).toList(), Source.spillOrderBy(x -> x, IntSerializer, options).toList());
+        assertEquals(5000, Source.spillOrderBy(x -> x, IntSerializer, options).count());
+        try (IEnumerator<Integer> e = Source.spillOrderBy(x -> x, IntSerializer, options).enumerator()) {
+            assertTrue(e.moveNext());
+            assertEquals(0, e.current());
+        }
+        this.assertNoFiles();
+    }
+
+    @Test
+    void Stable() {
+        // Few distinct keys, equal elements keep their source order across runs.
+        SpillOptions options = this.options(100);
+        assertEquals(Source.orderBy(x -> x % 7), Source.spillOrderBy(x -> x % 7, IntSerializer, options));
+        assertEquals(Source.orderByDescending(x -> x % 7), Source.spillOrderByDescending(x -> x % 7, IntSerializer, options));
+        this.assertNoFiles();
+    }
+
+    @Test
+    void ThenBy() {
+        SpillOptions options = this.options(100);
+        assertEquals(Source.orderBy(x -> x % 7).thenByDescending(x -> x % 13).thenBy(x -> x),
+                Source.spillOrderBy(x -> x % 7, IntSerializer, options).thenByDescending(x -> x % 13).thenBy(x -> x));
+        assertEquals(Source.orderByDescending(x -> x % 3).thenBy(x -> x % 11),
+                Source.spillOrderByDescending(x -> x % 3, IntSerializer, options).thenBy(x -> x % 11));
+        this.assertNoFiles();
+    }
+
+    @Test
+    void ManyRuns() {
+        // More runs than are merged at once.
+        assertEquals(Source.orderBy(x -> x % 100), Source.spillOrderBy(x -> x % 100, IntSerializer, this.options(20)));
+        this.assertNoFiles();
+    }
+
+    @Test
+    void Comparer() {
+        IEnumerable<String> source = Linq.range(0, 1000).select(x -> (x % 2 == 0 ? "k" : "K") + x % 10);
+        SpillOptions options = this.options(50);
+        assertEquals(source.orderBy(x -> x, StringComparer.OrdinalIgnoreCase), source.spillOrderBy(x -> x, Serializer.Default(), options, StringComparer.OrdinalIgnoreCase));
+        assertEquals(source.orderByDescending(x -> x, StringComparer.Ordinal), source.spillOrderByDescending(x -> x, Serializer.Default(), options, StringComparer.Ordinal));
+        this.assertNoFiles();
+    }
+
+    @Test
+    void InvalidArguments() {
+        SpillOptions options = this.options(300);
+        assertThrows(ArgumentNullException.class, () -> SpillOrderBy.spillOrderBy(null, x -> x, IntSerializer, options));
+        assertThrows(ArgumentNullException.class, () -> Source.spillOrderBy(null, IntSerializer, options));
+        assertThrows(ArgumentNullException.class, () -> Source.spillOrderBy(x -> x, null, options));
+        assertThrows(ArgumentNullException.class, () -> Source.spillOrderByDescending(x -> x, IntSerializer, null));
+        assertThrows(ArgumentNullException.class, () -> Source.spillOrderBy(x -> x, IntSerializer, options).thenBy(null));
+    }
+}
@@ -0,0 +1,97 @@
+package com.bestvike.linq.enumerable;
+
+import com.bestvike.TestCase;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.IEnumerator;
+import com.bestvike.linq.ISerializer;
+import com.bestvike.linq.Linq;
+import com.bestvike.linq.SpillOptions;
+import com.bestvike.linq.exception.ArgumentNullException;
+import com.bestvike.linq.exception.ArgumentOutOfRangeException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+// Cases every spilling operator shares. A test names its operator in spill and expected, and keeps only its own cases.
+abstract class SpillTestCase extends TestCase {
+    static final IEnumerable<Integer> Source = Linq.range(0, 5000).select(x -> x * 7919 % 5000);
+    static final ISerializer<Integer> IntSerializer = new ISerializer<Integer>() {
+        @Override
+        public void write(ObjectOutput output, Integer value) throws IOException {
+            output.writeBoolean(value != null);
+            if (value != null)
+                output.writeInt(value);
+        }
+
+        @Override
+        public Integer read(ObjectInput input) throws IOException {
+            return input.readBoolean() ? input.readInt() : null;
+        }
+    };
+
+    @TempDir
+    File directory;
+
+    // The spilling operator over source.
+    abstract IEnumerable<?> spill(IEnumerable<Integer> source, SpillOptions options);
+
+    // The in memory operator spill must agree with.
+    abstract IEnumerable<?> expected(IEnumerable<Integer> source);
+
+    // Brings a result to a form that compares equal for both operators. Unordered operators sort it here.
+    IEnumerable<String> describe(IEnumerable<?> result) {
+        return result.select(String::valueOf);
+    }
+
+    SpillOptions options(int memoryLimit) {
+        return new SpillOptions(memoryLimit, this.directory);
+    }
+
+    void assertSpillEquals(IEnumerable<?> expected, IEnumerable<?> actual) {
+        assertEquals(this.describe(expected), this.describe(actual));
+    }
+
+    void assertNoFiles() {
+        assertEquals(0, this.directory.list().length);
+    }
+
+    @Test
+    void FitsInMemory() {
+        SpillOptions options = this.options(10000);
+        this.assertSpillEquals(this.expected(Source), this.spill(Source, options));
+        this.assertSpillEquals(this.expected(Linq.empty()), this.spill(Linq.empty(), options));
+        this.assertNoFiles();
+    }
+
+    @Test
+    void Spills() {
+        SpillOptions options = this.options(200);
+        this.assertSpillEquals(this.expected(Source), this.spill(Source, options));
+        this.assertNoFiles();
+    }
+
+    @Test
+    void EarlyCloseDeletesFiles() {
+        IEnumerable<String> expected = this.describe(this.expected(Source));
+        try (IEnumerator<?> e = this.spill(Source, this.options(200)).enumerator()) {
+            assertTrue(e.moveNext());
+            assertTrue(expected.contains(this.describe(Linq.singleton(e.current())).single()));
+            assertTrue(this.directory.list().length > 0);
+        }
+        this.assertNoFiles();
+    }
+
+    @Test
+    void InvalidOptions() {
+        assertThrows(ArgumentOutOfRangeException.class, () -> new SpillOptions(0));
+        assertThrows(ArgumentNullException.class, () -> new SpillOptions(1, null));
+        assertThrows(ArgumentNullException.class, () -> this.spill(Source, null));
+    }
+}
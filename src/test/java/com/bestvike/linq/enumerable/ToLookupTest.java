@@ -458,6 +458,29 @@ class ToLookupTest extends TestCase {
     }
 
 
+    @Test
+    void ToLookupPrimitiveKeys() {
+        IEnumerable<Integer> source = Linq.range(0, 1000).select(x -> x * 31 % 257);
+        ILookup<Integer, Integer> expected = source.toLookup(x -> x % 17);
+        ILookup<Integer, Integer> actual = source.toLookupInt(x -> x % 17);
+        assertEquals(expected.getCount(), actual.getCount());
+        for (int key = -1; key <= 17; key++) {
+            assertEquals(expected.containsKey(key), actual.containsKey(key));
+            assertEquals(expected.get(key), actual.get(key));
+        }
+        assertFalse(actual.containsKey(null));
+        assertEmpty(actual.get(null));
+
+        ILookup<Long, String> longs = source.toLookupLong(x -> Long.MIN_VALUE + x % 5, String::valueOf);
+        assertEquals(5, longs.getCount());
+        assertEquals(source.where(x -> x % 5 == 3).select(String::valueOf), longs.get(Long.MIN_VALUE + 3));
+        assertEquals(Linq.range(0, 5).select(x -> Long.MIN_VALUE + x), longs.select(IGrouping::getKey));
+
+        assertThrows(ArgumentNullException.class, () -> ToLookup.toLookupInt(null, x -> 0));
+        assertThrows(ArgumentNullException.class, () -> source.toLookupLong(null));
+        assertThrows(ArgumentNullException.class, () -> source.toLookupInt(x -> x, (Func1<Integer, Integer>) null));
+    }
+
     private static class NameScore extends ValueType {
         private final String Name;
         private final int Score;
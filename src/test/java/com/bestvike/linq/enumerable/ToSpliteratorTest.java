@@ -12,8 +12,13 @@ import com.bestvike.tuple.Tuple2;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Created by 许崇雷 on 2019-04-25.
@@ -261,6 +266,75 @@ class ToSpliteratorTest extends TestCase {
         assertEquals(Linq.of(objects).cast(Double.class), Linq.of(2d, 4d, 6d));
     }
 
+    @Test
+    void testSplitByIndex() {
+        Integer[] array = Linq.range(0, 1000).toArray(Integer.class);
+        List<Integer> list = new ArrayList<>(Arrays.asList(array));
+        List<IEnumerable<Integer>> sources = Arrays.asList(
+                Linq.of(array).select(x -> x * 2),
+                Linq.of(list).select(x -> x * 2),
+                Linq.of(list).skip(10).take(500),
+                Linq.of(list).skip(10).take(500).select(x -> x + 1),
+                Linq.of(array).skip(3).select(x -> -x).select(x -> x + 1),
+                Linq.range(5, 1000),
+                Linq.range(5, 1000).select(x -> x * 3),
+                Linq.repeat(7, 1000),
+                Linq.repeat(1, 1000).select(x -> x + 1),
+                Linq.of(list));
+        for (IEnumerable<Integer> source : sources) {
+            Spliterator<Integer> spliterator = source.spliterator();
+            int count = source.count();
+            assertEquals(count, (int) spliterator.getExactSizeIfKnown());
+            assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+            Spliterator<Integer> prefix = spliterator.trySplit();
+            assertEquals(count, (int) (prefix.getExactSizeIfKnown() + spliterator.getExactSizeIfKnown()));
+            assertEquals(source.toList(), source.parallelStream().collect(Collectors.toList()));
+        }
+
+        IEnumerable<Integer> maxRange = Linq.range(Integer.MAX_VALUE - 9, 10);
+        assertEquals(maxRange.toList(), maxRange.parallelStream().collect(Collectors.toList()));
+    }
+
+    @Test
+    void testListBindsLateAndFailsFast() {
+        List<Integer> list = new ArrayList<>(Arrays.asList(1, 2, 3));
+        List<IEnumerable<Integer>> sources = Arrays.asList(
+                Linq.of(list),
+                Linq.of(list).select(x -> x),
+                Linq.of(list).skip(1),
+                Linq.of(list).skip(1).select(x -> x));
+        for (IEnumerable<Integer> source : sources) {
+            Spliterator<Integer> spliterator = source.spliterator();
+            assertFalse(spliterator.hasCharacteristics(Spliterator.IMMUTABLE));
+            Stream<Integer> stream = source.stream();
+            list.add(list.size() + 1);
+            List<Integer> expected = source.toList();
+            assertEquals(expected, StreamSupport.stream(spliterator, false).collect(Collectors.toList()));
+            assertEquals(expected, stream.collect(Collectors.toList()));
+
+            assertThrows(ConcurrentModificationException.class, () -> source.spliterator().forEachRemaining(x -> list.add(x)));
+            assertThrows(ConcurrentModificationException.class, () -> source.spliterator().tryAdvance(x -> list.remove(0)));
+            Spliterator<Integer> split = source.spliterator();
+            Spliterator<Integer> prefix = split.trySplit();
+            list.remove(0);
+            assertThrows(ConcurrentModificationException.class, () -> prefix.forEachRemaining(x -> {
+            }));
+        }
+    }
+
+    @Test
+    void testSelectKeepsCharacteristics() {
+        IEnumerable<Integer> filtered = Linq.range(0, 100).where(x -> x % 2 == 0).select(x -> x + 1);
+        Spliterator<Integer> spliterator = filtered.spliterator();
+        assertFalse(spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+        assertEquals(filtered.toList(), filtered.parallelStream().collect(Collectors.toList()));
+
+        IEnumerable<Integer> sized = Linq.range(0, 100).reverse().select(x -> x + 1);
+        assertEquals(100L, sized.spliterator().getExactSizeIfKnown());
+        assertEquals(sized.toList(), sized.parallelStream().collect(Collectors.toList()));
+    }
+
     @Test
     void testStreamGrouping() {
         int[] element = {60, -10, 40, 100};
@@ -0,0 +1,64 @@
+package com.bestvike.linq.util;
+
+import com.bestvike.TestCase;
+import com.bestvike.function.Func1;
+import com.bestvike.function.Predicate1;
+import com.bestvike.linq.IEnumerable;
+import com.bestvike.linq.Linq;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Created by agent on 2026-10-18.
+ */
+class UtilitiesTest extends TestCase {
+    @Test
+    void combinePredicates() {
+        List<Integer> called = new ArrayList<>();
+        Predicate1<Integer> predicate = x -> called.add(0) && x > 0;
+        for (int i = 1; i < 6; i++) {
+            int stage = i;
+            predicate = Utilities.combinePredicates(predicate, x -> called.add(stage) && x > stage);
+        }
+        assertIsType(CombinedPredicate.class, predicate);
+        assertEquals(6, ((CombinedPredicate<Integer>) predicate).getCount());
+
+        assertTrue(predicate.apply(10));
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5), called);
+        called.clear();
+        assertFalse(predicate.apply(2));
+        assertEquals(Arrays.asList(0, 1, 2), called);
+
+        Predicate1<Integer> both = Utilities.combinePredicates(predicate, predicate);
+        assertEquals(12, ((CombinedPredicate<Integer>) both).getCount());
+        assertEquals(6, ((CombinedPredicate<Integer>) predicate).getCount());
+    }
+
+    @Test
+    void combineSelectors() {
+        Func1<Integer, Integer> selector = x -> x + 1;
+        for (int i = 0; i < 5; i++)
+            selector = Utilities.combineSelectors(selector, x -> x * 2);
+        Func1<Integer, String> toString = Utilities.combineSelectors(selector, x -> "v" + x);
+        assertIsType(CombinedSelector.class, toString);
+        assertEquals(7, ((CombinedSelector<Integer, String>) toString).getCount());
+        assertEquals(64, selector.apply(1));
+        assertEquals("v64", toString.apply(1));
+    }
+
+    @Test
+    void DeepChains() {
+        IEnumerable<Integer> where = Linq.range(0, 1000);
+        IEnumerable<Integer> select = Linq.range(0, 1000);
+        for (int i = 0; i < 1000; i++) {
+            int removed = (i + 1) * 2;
+            where = where.where(x -> x != removed);
+            select = select.select(x -> x + 1);
+        }
+        assertEquals(Linq.of(0, 1, 3, 5), where.take(4));
+        assertEquals(Linq.of(1000, 1001, 1002), select.take(3));
+    }
+}